@@ -18,6 +18,8 @@
 package ar.com.quark.backend.lwjgl.opengl;
 
 import ar.com.quark.system.utility.array.*;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.PointerBuffer;
 import org.lwjgl.opengl.*;
 import org.lwjgl.system.MemoryUtil;
 import ar.com.quark.backend.lwjgl.utility.array.DesktopArrayFactory;
@@ -39,6 +41,11 @@ import static ar.com.quark.render.Render.GLES3.GL_UNSIGNED_INT;
 public class DesktopGLES20 implements Render.GLES2 {
     protected final GLCapabilities mCapabilities;
 
+    /**
+     * Hold the offset of every draw (as pointer(s)) of {@link Render.GLESExtension#glMultiDrawElements}.
+     */
+    private PointerBuffer mMultiDrawOffset = BufferUtils.createPointerBuffer(64);
+
     /**
      * Hold {@link EXT_Frame_Buffer_Object} extension.
      */
@@ -132,12 +139,34 @@ public class DesktopGLES20 implements Render.GLES2 {
 
         extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_OBJECT,
                 capabilities.GL_ARB_vertex_array_object);
+        extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_INSTANCING,
+                capabilities.OpenGL33 || (capabilities.GL_ARB_draw_instanced && capabilities.GL_ARB_instanced_arrays));
+        extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_BASE_VERTEX,
+                capabilities.OpenGL32 || capabilities.GL_ARB_draw_elements_base_vertex);
+        extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_MULTI_DRAW,
+                capabilities.OpenGL14 || capabilities.GL_EXT_multi_draw_arrays);
+
+        extension.put(RenderCapabilities.Extension.UNIFORM_BUFFER,
+                capabilities.OpenGL31 || capabilities.GL_ARB_uniform_buffer_object);
+
+        extension.put(RenderCapabilities.Extension.PIXEL_BUFFER,
+                capabilities.OpenGL21 || capabilities.GL_ARB_pixel_buffer_object);
+
+        extension.put(RenderCapabilities.Extension.QUERY_TIMER,
+                capabilities.OpenGL33 || capabilities.GL_ARB_timer_query);
+
+        extension.put(RenderCapabilities.Extension.QUERY_OCCLUSION,
+                capabilities.OpenGL33 || capabilities.GL_ARB_occlusion_query2);
+
+        extension.put(RenderCapabilities.Extension.QUERY_CONDITIONAL,
+                capabilities.OpenGL30 || capabilities.GL_NV_conditional_render);
 
         extension.put(RenderCapabilities.Extension.TEXTURE_3D, true);
         extension.put(RenderCapabilities.Extension.TEXTURE_COMPRESSION_S3TC,
                 capabilities.GL_EXT_texture_compression_s3tc);
         extension.put(RenderCapabilities.Extension.TEXTURE_FILTER_ANISOTROPIC,
                 capabilities.GL_EXT_texture_filter_anisotropic);
+        extension.put(RenderCapabilities.Extension.TEXTURE_LEVEL_CLAMP, capabilities.OpenGL12);
 
         extension.put(RenderCapabilities.Extension.GLSL_PRECISION,
                 capabilities.GL_ARB_shader_precision);
@@ -147,9 +176,21 @@ public class DesktopGLES20 implements Render.GLES2 {
                 capabilities.GL_ARB_explicit_uniform_location);
         extension.put(RenderCapabilities.Extension.GLSL_GEOMETRY,
                 capabilities.GL_ARB_geometry_shader4);
+        extension.put(RenderCapabilities.Extension.GLSL_PROGRAM_BINARY,
+                capabilities.OpenGL41 || capabilities.GL_ARB_get_program_binary);
+        extension.put(RenderCapabilities.Extension.GLSL_PARALLEL_COMPILE,
+                capabilities.GL_ARB_parallel_shader_compile);
         return new RenderCapabilities(version, extension, limit);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String glGetString(int property) {
+        return GL11.glGetString(property);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -326,6 +367,22 @@ public class DesktopGLES20 implements Render.GLES2 {
         GL15.glDeleteBuffers(name);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteTextures(Int32Array names) {
+        GL11.glDeleteTextures(names.<ByteBuffer>data().asIntBuffer());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteBuffers(Int32Array names) {
+        GL15.glDeleteBuffers(names.<ByteBuffer>data().asIntBuffer());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -606,7 +663,8 @@ public class DesktopGLES20 implements Render.GLES2 {
     @Override
     public void glTexImage2D(int target, int level, int internal, int width, int height, int border,
             int format, int type, Int8Array data) {
-        GL11.glTexImage2D(target, level, internal, width, height, border, format, type, data.<ByteBuffer>data());
+        GL11.glTexImage2D(target, level, internal, width, height, border, format, type,
+                data != null ? data.<ByteBuffer>data() : null);
     }
 
     /**
@@ -618,6 +676,23 @@ public class DesktopGLES20 implements Render.GLES2 {
         GL13.glCompressedTexImage2D(target, level, internal, width, height, border, data.data());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format,
+            int type, Int8Array data) {
+        GL11.glTexSubImage2D(target, level, x, y, width, height, format, type, data.<ByteBuffer>data());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, Int8Array data) {
+        GL11.glReadPixels(x, y, width, height, format, type, data.<ByteBuffer>data());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -852,6 +927,36 @@ public class DesktopGLES20 implements Render.GLES2 {
         GL30.glBindFragDataLocation(name, index, attribute);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glMultiDrawElements(int primitive, Int32Array count, int format, Int32Array offset) {
+        final int length = count.remaining() >> 2;
+
+        if (mMultiDrawOffset.capacity() < length) {
+            mMultiDrawOffset = BufferUtils.createPointerBuffer(length);
+        }
+        mMultiDrawOffset.clear();
+
+        for (int i = 0; i < length; ++i) {
+            mMultiDrawOffset.put(i, offset.readInt32(offset.position() + (i << 2)));
+        }
+        mMultiDrawOffset.limit(length);
+
+        GL14.glMultiDrawElements(primitive, count.<ByteBuffer>data().asIntBuffer(), format, mMultiDrawOffset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glMaxShaderCompilerThreads(int count) {
+        if (mCapabilities.GL_ARB_parallel_shader_compile) {
+            ARBParallelShaderCompile.glMaxShaderCompilerThreadsARB(count);
+        }
+    }
+
     /**
      * @see <a href="https://www.opengl.org/registry/specs/ARB/framebuffer_object.txt">Link</a>
      */
@@ -22,11 +22,13 @@ import ar.com.quark.system.utility.Manageable;
 import ar.com.quark.system.utility.array.UInt32Array;
 import ar.com.quark.system.utility.array.Array;
 import ar.com.quark.system.utility.array.Int8Array;
+import org.lwjgl.BufferUtils;
 import org.lwjgl.opengl.*;
 import org.lwjgl.system.MemoryUtil;
 import ar.com.quark.backend.lwjgl.utility.array.DesktopArrayFactory;
 
 import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 
 /**
  * Implementation for {@link Render.GLES3}.
@@ -47,6 +49,42 @@ public class DesktopGLES30 extends DesktopGLES20 implements Render.GLES3 {
      */
     protected final EXT_Frame_Buffer_Multisample_Object mFrameBufferMultisampleExtension;
 
+    /**
+     * Hold {@link EXT_Instanced_Arrays} extension.
+     */
+    protected final EXT_Instanced_Arrays mInstancedArraysExtension;
+
+    /**
+     * Hold {@link EXT_Uniform_Buffer_Object} extension.
+     */
+    protected final EXT_Uniform_Buffer_Object mUniformBufferObjectExtension;
+
+    /**
+     * Hold {@link EXT_Sync} extension.
+     */
+    protected final EXT_Sync mSyncExtension;
+
+    /**
+     * Hold {@link EXT_Timer_Query} extension.
+     */
+    protected final EXT_Timer_Query mTimerQueryExtension;
+
+    /**
+     * Hold {@link EXT_Conditional_Render} extension.
+     */
+    protected final EXT_Conditional_Render mConditionalRenderExtension;
+
+    /**
+     * Hold {@link EXT_Program_Binary} extension.
+     */
+    protected final EXT_Program_Binary mProgramBinaryExtension;
+
+    /**
+     * Hold the length and format of {@link Render.GLES3#glGetProgramBinary(int, Int8Array)}.
+     */
+    private final IntBuffer mProgramBinaryLength = BufferUtils.createIntBuffer(1);
+    private final IntBuffer mProgramBinaryFormat = BufferUtils.createIntBuffer(1);
+
     /**
      * <p>Constructor</p>
      */
@@ -80,6 +118,48 @@ public class DesktopGLES30 extends DesktopGLES20 implements Render.GLES3 {
         } else {
             mFrameBufferMultisampleExtension = EXT_Frame_Buffer_Multisample_Object.NONE;
         }
+        if (mCapabilities.OpenGL33) {
+            mInstancedArraysExtension = EXT_Instanced_Arrays.CORE;
+        } else if (mCapabilities.GL_ARB_draw_instanced && mCapabilities.GL_ARB_instanced_arrays) {
+            mInstancedArraysExtension = EXT_Instanced_Arrays.ARB;
+        } else {
+            mInstancedArraysExtension = EXT_Instanced_Arrays.NONE;
+        }
+        if (mCapabilities.OpenGL31) {
+            mUniformBufferObjectExtension = EXT_Uniform_Buffer_Object.CORE;
+        } else if (mCapabilities.GL_ARB_uniform_buffer_object) {
+            mUniformBufferObjectExtension = EXT_Uniform_Buffer_Object.ARB;
+        } else {
+            mUniformBufferObjectExtension = EXT_Uniform_Buffer_Object.NONE;
+        }
+        if (mCapabilities.OpenGL32) {
+            mSyncExtension = EXT_Sync.CORE;
+        } else if (mCapabilities.GL_ARB_sync) {
+            mSyncExtension = EXT_Sync.ARB;
+        } else {
+            mSyncExtension = EXT_Sync.NONE;
+        }
+        if (mCapabilities.OpenGL33) {
+            mTimerQueryExtension = EXT_Timer_Query.CORE;
+        } else if (mCapabilities.GL_ARB_timer_query) {
+            mTimerQueryExtension = EXT_Timer_Query.ARB;
+        } else {
+            mTimerQueryExtension = EXT_Timer_Query.NONE;
+        }
+        if (mCapabilities.OpenGL30) {
+            mConditionalRenderExtension = EXT_Conditional_Render.CORE;
+        } else if (mCapabilities.GL_NV_conditional_render) {
+            mConditionalRenderExtension = EXT_Conditional_Render.NV;
+        } else {
+            mConditionalRenderExtension = EXT_Conditional_Render.NONE;
+        }
+        if (mCapabilities.OpenGL41) {
+            mProgramBinaryExtension = EXT_Program_Binary.CORE;
+        } else if (mCapabilities.GL_ARB_get_program_binary) {
+            mProgramBinaryExtension = EXT_Program_Binary.ARB;
+        } else {
+            mProgramBinaryExtension = EXT_Program_Binary.NONE;
+        }
     }
 
     /**
@@ -146,7 +226,8 @@ public class DesktopGLES30 extends DesktopGLES20 implements Render.GLES3 {
     @Override
     public void glTexImage3D(int target, int level, int internal, int width, int height, int depth, int border,
             int format, int type, Int8Array data) {
-        GL12.glTexImage3D(target, level, internal, width, height, depth, border, format, type, data.<ByteBuffer>data());
+        GL12.glTexImage3D(target, level, internal, width, height, depth, border, format, type,
+                data != null ? data.<ByteBuffer>data() : null);
     }
 
     /**
@@ -158,6 +239,41 @@ public class DesktopGLES30 extends DesktopGLES20 implements Render.GLES3 {
         GL13.glCompressedTexImage3D(target, level, internal, width, height, depth, border, data.data());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth,
+            int format, int type, Int8Array data) {
+        GL12.glTexSubImage3D(target, level, x, y, z, width, height, depth, format, type, data.<ByteBuffer>data());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format,
+            int type, long offset) {
+        GL11.glTexSubImage2D(target, level, x, y, width, height, format, type, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth,
+            int format, int type, long offset) {
+        GL12.glTexSubImage3D(target, level, x, y, z, width, height, depth, format, type, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, long offset) {
+        GL11.glReadPixels(x, y, width, height, format, type, offset);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -206,6 +322,168 @@ public class DesktopGLES30 extends DesktopGLES20 implements Render.GLES3 {
         GL30.nglUniform1uiv(name, buffer.remaining(), MemoryUtil.memAddress(buffer.<ByteBuffer>data()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawArraysInstanced(int primitive, int offset, int count, int instances) {
+        mInstancedArraysExtension.glDrawArraysInstanced(primitive, offset, count, instances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElementsInstanced(int primitive, int count, int format, int offset, int instances) {
+        mInstancedArraysExtension.glDrawElementsInstanced(primitive, count, format, offset, instances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glVertexAttribDivisor(int name, int divisor) {
+        mInstancedArraysExtension.glVertexAttribDivisor(name, divisor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBufferBase(int target, int index, int name) {
+        mUniformBufferObjectExtension.glBindBufferBase(target, index, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetUniformBlockIndex(int name, String block) {
+        return mUniformBufferObjectExtension.glGetUniformBlockIndex(name, block);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformBlockBinding(int name, int block, int binding) {
+        mUniformBufferObjectExtension.glUniformBlockBinding(name, block, binding);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long glFenceSync(int condition, int flags) {
+        return mSyncExtension.glFenceSync(condition, flags);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glClientWaitSync(long sync, int flags, long timeout) {
+        return mSyncExtension.glClientWaitSync(sync, flags, timeout);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteSync(long sync) {
+        mSyncExtension.glDeleteSync(sync);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenQueries() {
+        return GL15.glGenQueries();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteQueries(int name) {
+        GL15.glDeleteQueries(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginQuery(int target, int name) {
+        GL15.glBeginQuery(target, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndQuery(int target) {
+        GL15.glEndQuery(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetQueryObjecti(int name, int parameter) {
+        return GL15.glGetQueryObjecti(name, parameter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long glGetQueryObjectui64(int name, int parameter) {
+        return mTimerQueryExtension.glGetQueryObjectui64(name, parameter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginConditionalRender(int name, int mode) {
+        mConditionalRenderExtension.glBeginConditionalRender(name, mode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndConditionalRender() {
+        mConditionalRenderExtension.glEndConditionalRender();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glProgramParameteri(int name, int property, int value) {
+        mProgramBinaryExtension.glProgramParameteri(name, property, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetProgramBinary(int name, Int8Array binary) {
+        mProgramBinaryExtension.glGetProgramBinary(name,
+                mProgramBinaryLength, mProgramBinaryFormat, binary.data());
+        return mProgramBinaryFormat.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glProgramBinary(int name, int format, Int8Array binary) {
+        mProgramBinaryExtension.glProgramBinary(name, format, binary.data());
+    }
+
     /**
      * @see <a href="https://www.opengl.org/registry/specs/ARB/vertex_array_object.txt">Link</a>
      */
@@ -333,4 +611,330 @@ public class DesktopGLES30 extends DesktopGLES20 implements Render.GLES3 {
             }
         }
     }
+
+    /**
+     * @see <a href="https://www.opengl.org/registry/specs/ARB/instanced_arrays.txt">Link</a>
+     */
+    private enum EXT_Instanced_Arrays {
+        /**
+         * Handle when {@link EXT_Instanced_Arrays} is not supported.
+         */
+        NONE,
+
+        /**
+         * Handle when {@link EXT_Instanced_Arrays} is supported by extension.
+         */
+        ARB,
+
+        /**
+         * Handle when {@link EXT_Instanced_Arrays} is fully supported.
+         */
+        CORE;
+
+        /**
+         * @see Render.GLES3#glDrawArraysInstanced(int, int, int, int)
+         */
+        public void glDrawArraysInstanced(int primitive, int offset, int count, int instances) {
+            switch (this) {
+                case ARB:
+                    ARBDrawInstanced.glDrawArraysInstancedARB(primitive, offset, count, instances);
+                    break;
+                case CORE:
+                    GL31.glDrawArraysInstanced(primitive, offset, count, instances);
+                    break;
+            }
+        }
+
+        /**
+         * @see Render.GLES3#glDrawElementsInstanced(int, int, int, int, int)
+         */
+        public void glDrawElementsInstanced(int primitive, int count, int format, int offset, int instances) {
+            switch (this) {
+                case ARB:
+                    ARBDrawInstanced.glDrawElementsInstancedARB(primitive, count, format, offset, instances);
+                    break;
+                case CORE:
+                    GL31.glDrawElementsInstanced(primitive, count, format, offset, instances);
+                    break;
+            }
+        }
+
+        /**
+         * @see Render.GLES3#glVertexAttribDivisor(int, int)
+         */
+        public void glVertexAttribDivisor(int name, int divisor) {
+            switch (this) {
+                case ARB:
+                    ARBInstancedArrays.glVertexAttribDivisorARB(name, divisor);
+                    break;
+                case CORE:
+                    GL33.glVertexAttribDivisor(name, divisor);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @see <a href="https://www.opengl.org/registry/specs/ARB/uniform_buffer_object.txt">Link</a>
+     */
+    private enum EXT_Uniform_Buffer_Object {
+        /**
+         * Handle when {@link EXT_Uniform_Buffer_Object} is not supported.
+         */
+        NONE,
+
+        /**
+         * Handle when {@link EXT_Uniform_Buffer_Object} is supported by extension.
+         */
+        ARB,
+
+        /**
+         * Handle when {@link EXT_Uniform_Buffer_Object} is fully supported.
+         */
+        CORE;
+
+        /**
+         * @see Render.GLES3#glBindBufferBase(int, int, int)
+         */
+        public void glBindBufferBase(int target, int index, int name) {
+            switch (this) {
+                case ARB:
+                    ARBUniformBufferObject.glBindBufferBase(target, index, name);
+                    break;
+                case CORE:
+                    GL30.glBindBufferBase(target, index, name);
+                    break;
+            }
+        }
+
+        /**
+         * @see Render.GLES3#glGetUniformBlockIndex(int, String)
+         */
+        public int glGetUniformBlockIndex(int name, String block) {
+            switch (this) {
+                case ARB:
+                    return ARBUniformBufferObject.glGetUniformBlockIndex(name, block);
+                case CORE:
+                    return GL31.glGetUniformBlockIndex(name, block);
+            }
+            return Render.GLES3.GL_INVALID_INDEX;
+        }
+
+        /**
+         * @see Render.GLES3#glUniformBlockBinding(int, int, int)
+         */
+        public void glUniformBlockBinding(int name, int block, int binding) {
+            switch (this) {
+                case ARB:
+                    ARBUniformBufferObject.glUniformBlockBinding(name, block, binding);
+                    break;
+                case CORE:
+                    GL31.glUniformBlockBinding(name, block, binding);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @see <a href="https://www.opengl.org/registry/specs/ARB/sync.txt">Link</a>
+     */
+    private enum EXT_Sync {
+        /**
+         * Handle when {@link EXT_Sync} is not supported.
+         */
+        NONE,
+
+        /**
+         * Handle when {@link EXT_Sync} is supported by extension.
+         */
+        ARB,
+
+        /**
+         * Handle when {@link EXT_Sync} is fully supported.
+         */
+        CORE;
+
+        /**
+         * @see Render.GLES3#glFenceSync(int, int)
+         */
+        public long glFenceSync(int condition, int flags) {
+            switch (this) {
+                case ARB:
+                    return ARBSync.glFenceSync(condition, flags);
+                case CORE:
+                    return GL32.glFenceSync(condition, flags);
+            }
+            return 0L;
+        }
+
+        /**
+         * @see Render.GLES3#glClientWaitSync(long, int, long)
+         */
+        public int glClientWaitSync(long sync, int flags, long timeout) {
+            switch (this) {
+                case ARB:
+                    return ARBSync.glClientWaitSync(sync, flags, timeout);
+                case CORE:
+                    return GL32.glClientWaitSync(sync, flags, timeout);
+            }
+            return Render.GLES3.GL_ALREADY_SIGNALED;
+        }
+
+        /**
+         * @see Render.GLES3#glDeleteSync(long)
+         */
+        public void glDeleteSync(long sync) {
+            switch (this) {
+                case ARB:
+                    ARBSync.glDeleteSync(sync);
+                    break;
+                case CORE:
+                    GL32.glDeleteSync(sync);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @see <a href="https://www.opengl.org/registry/specs/ARB/timer_query.txt">Link</a>
+     */
+    private enum EXT_Timer_Query {
+        /**
+         * Handle when {@link EXT_Timer_Query} is not supported.
+         */
+        NONE,
+
+        /**
+         * Handle when {@link EXT_Timer_Query} is supported by extension.
+         */
+        ARB,
+
+        /**
+         * Handle when {@link EXT_Timer_Query} is fully supported.
+         */
+        CORE;
+
+        /**
+         * @see Render.GLES3#glGetQueryObjectui64(int, int)
+         */
+        public long glGetQueryObjectui64(int name, int parameter) {
+            switch (this) {
+                case ARB:
+                    return ARBTimerQuery.glGetQueryObjectui64(name, parameter);
+                case CORE:
+                    return GL33.glGetQueryObjectui64(name, parameter);
+            }
+            return GL15.glGetQueryObjecti(name, parameter) & 0xFFFFFFFFL;
+        }
+    }
+
+    /**
+     * @see <a href="https://www.opengl.org/registry/specs/NV/conditional_render.txt">Link</a>
+     */
+    private enum EXT_Conditional_Render {
+        /**
+         * Handle when {@link EXT_Conditional_Render} is not supported.
+         */
+        NONE,
+
+        /**
+         * Handle when {@link EXT_Conditional_Render} is supported by extension.
+         */
+        NV,
+
+        /**
+         * Handle when {@link EXT_Conditional_Render} is fully supported.
+         */
+        CORE;
+
+        /**
+         * @see Render.GLES3#glBeginConditionalRender(int, int)
+         */
+        public void glBeginConditionalRender(int name, int mode) {
+            switch (this) {
+                case NV:
+                    NVConditionalRender.glBeginConditionalRenderNV(name, mode);
+                    break;
+                case CORE:
+                    GL30.glBeginConditionalRender(name, mode);
+                    break;
+            }
+        }
+
+        /**
+         * @see Render.GLES3#glEndConditionalRender()
+         */
+        public void glEndConditionalRender() {
+            switch (this) {
+                case NV:
+                    NVConditionalRender.glEndConditionalRenderNV();
+                    break;
+                case CORE:
+                    GL30.glEndConditionalRender();
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @see <a href="https://www.opengl.org/registry/specs/ARB/get_program_binary.txt">Link</a>
+     */
+    private enum EXT_Program_Binary {
+        /**
+         * Handle when {@link EXT_Program_Binary} is not supported.
+         */
+        NONE,
+
+        /**
+         * Handle when {@link EXT_Program_Binary} is supported by extension.
+         */
+        ARB,
+
+        /**
+         * Handle when {@link EXT_Program_Binary} is fully supported.
+         */
+        CORE;
+
+        /**
+         * @see Render.GLES3#glProgramParameteri(int, int, int)
+         */
+        public void glProgramParameteri(int name, int property, int value) {
+            switch (this) {
+                case ARB:
+                    ARBGetProgramBinary.glProgramParameteri(name, property, value);
+                    break;
+                case CORE:
+                    GL41.glProgramParameteri(name, property, value);
+                    break;
+            }
+        }
+
+        /**
+         * @see Render.GLES3#glGetProgramBinary(int, Int8Array)
+         */
+        public void glGetProgramBinary(int name, IntBuffer length, IntBuffer format, ByteBuffer binary) {
+            switch (this) {
+                case ARB:
+                    ARBGetProgramBinary.glGetProgramBinary(name, length, format, binary);
+                    break;
+                case CORE:
+                    GL41.glGetProgramBinary(name, length, format, binary);
+                    break;
+            }
+        }
+
+        /**
+         * @see Render.GLES3#glProgramBinary(int, int, Int8Array)
+         */
+        public void glProgramBinary(int name, int format, ByteBuffer binary) {
+            switch (this) {
+                case ARB:
+                    ARBGetProgramBinary.glProgramBinary(name, format, binary);
+                    break;
+                case CORE:
+                    GL41.glProgramBinary(name, format, binary);
+                    break;
+            }
+        }
+    }
 }
@@ -18,9 +18,78 @@
 package ar.com.quark.backend.lwjgl.opengl;
 
 import ar.com.quark.render.Render;
+import org.lwjgl.opengl.ARBDrawElementsBaseVertex;
+import org.lwjgl.opengl.GL32;
 
 /**
  * Implementation for {@link Render.GLES32}.
  */
 public class DesktopGLES32 extends DesktopGLES31 implements Render.GLES32 {
+    /**
+     * Hold {@link EXT_Draw_Elements_Base_Vertex} extension.
+     */
+    protected final EXT_Draw_Elements_Base_Vertex mDrawElementsBaseVertexExtension;
+
+    /**
+     * <p>Constructor</p>
+     */
+    public DesktopGLES32() {
+        //!
+        //! Ensure we have the capabilities.
+        //!
+        super();
+
+        //!
+        //! Attach the extension(s).
+        //!
+        if (mCapabilities.OpenGL32) {
+            mDrawElementsBaseVertexExtension = EXT_Draw_Elements_Base_Vertex.CORE;
+        } else if (mCapabilities.GL_ARB_draw_elements_base_vertex) {
+            mDrawElementsBaseVertexExtension = EXT_Draw_Elements_Base_Vertex.ARB;
+        } else {
+            mDrawElementsBaseVertexExtension = EXT_Draw_Elements_Base_Vertex.NONE;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElementsBaseVertex(int primitive, int count, int format, int offset, int base) {
+        mDrawElementsBaseVertexExtension.glDrawElementsBaseVertex(primitive, count, format, offset, base);
+    }
+
+    /**
+     * @see <a href="https://www.opengl.org/registry/specs/ARB/draw_elements_base_vertex.txt">Link</a>
+     */
+    private enum EXT_Draw_Elements_Base_Vertex {
+        /**
+         * Handle when {@link EXT_Draw_Elements_Base_Vertex} is not supported.
+         */
+        NONE,
+
+        /**
+         * Handle when {@link EXT_Draw_Elements_Base_Vertex} is supported by extension.
+         */
+        ARB,
+
+        /**
+         * Handle when {@link EXT_Draw_Elements_Base_Vertex} is fully supported.
+         */
+        CORE;
+
+        /**
+         * @see Render.GLES32#glDrawElementsBaseVertex(int, int, int, int, int)
+         */
+        public void glDrawElementsBaseVertex(int primitive, int count, int format, int offset, int base) {
+            switch (this) {
+                case ARB:
+                    ARBDrawElementsBaseVertex.glDrawElementsBaseVertex(primitive, count, format, offset, base);
+                    break;
+                case CORE:
+                    GL32.glDrawElementsBaseVertex(primitive, count, format, offset, base);
+                    break;
+            }
+        }
+    }
 }
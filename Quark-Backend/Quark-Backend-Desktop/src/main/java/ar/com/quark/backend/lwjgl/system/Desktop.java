@@ -26,6 +26,7 @@ import ar.com.quark.backend.lwjgl.opengl.DesktopGLES32;
 import ar.com.quark.input.DefaultInputManager;
 import ar.com.quark.render.DefaultRender;
 import ar.com.quark.render.Render;
+import ar.com.quark.render.texture.AtlasRegion;
 import ar.com.quark.resource.DefaultAssetManager;
 import ar.com.quark.resource.loader.*;
 import ar.com.quark.resource.locator.FilesAssetLocator;
@@ -174,10 +175,17 @@ public final class Desktop {
 
         mResources.registerAssetLoader(new TexturePNGAssetLoader(), "png");
         mResources.registerAssetLoader(new TextureDDSAssetLoader(), "dds", "s3tc");
+        mResources.registerAssetLoader(new AtlasRegionAssetLoader(new TexturePNGAssetLoader()),
+                AtlasRegion.Descriptor.class, "png");
+        mResources.registerAssetLoader(new AtlasRegionAssetLoader(new TextureDDSAssetLoader()),
+                AtlasRegion.Descriptor.class, "dds", "s3tc");
         mResources.registerAssetLoader(new AudioWAVAssetLoader(), "wav");
         mResources.registerAssetLoader(new AudioOGGAssetLoader(), "ogg");
         mResources.registerAssetLoader(new FontBinaryAssetLoader(), "fnt");
-        mResources.registerAssetLoader(new ShaderBinaryAssetLoader(QKRender.getCapabilities()), "shader");
+
+        final ShaderBinaryAssetLoader shaderLoader = new ShaderBinaryAssetLoader(QKRender.getCapabilities());
+        mResources.registerAssetLoader(shaderLoader, "shader");
+        mResources.registerEventListener(shaderLoader);
 
         //!
         //! Handle the create notification.
@@ -0,0 +1,116 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.backend.headless.input;
+
+import ar.com.quark.backend.headless.utility.array.HeadlessArrayFactory;
+import ar.com.quark.input.device.InputKey;
+import ar.com.quark.input.device.InputKeyboard;
+import ar.com.quark.system.utility.array.Int32Array;
+
+/**
+ * Implementation for {@link InputKeyboard} that is driven by a script (instead of a device).
+ */
+public final class HeadlessInputKeyboard implements InputKeyboard {
+    /**
+     * Hold the mutex for allowing scripting from another thread.
+     */
+    private final Object mLock = new Object();
+
+    /**
+     * Hold the device buffer.
+     */
+    private Int32Array mBuffer = HeadlessArrayFactory.allocateInt32Array(512);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void create() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(Int32Array buffer) {
+        synchronized (mLock) {
+            buffer.write(mBuffer.flip());
+
+            //!
+            //! Change the buffer mode to write-mode.
+            //!
+            mBuffer.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy() {
+        synchronized (mLock) {
+            mBuffer.clear();
+        }
+    }
+
+    /**
+     * <p>Simulate a key being pressed</p>
+     *
+     * @param key the key
+     */
+    public void press(InputKey key) {
+        synchronized (mLock) {
+            InputKeyboard.onFactoryKeyDown(mBuffer, key);
+        }
+    }
+
+    /**
+     * <p>Simulate a key being released</p>
+     *
+     * @param key the key
+     */
+    public void release(InputKey key) {
+        synchronized (mLock) {
+            InputKeyboard.onFactoryKeyUp(mBuffer, key);
+        }
+    }
+
+    /**
+     * <p>Simulate a character being typed</p>
+     *
+     * @param character the character
+     */
+    public void type(char character) {
+        synchronized (mLock) {
+            InputKeyboard.onFactoryKeyType(mBuffer, character);
+        }
+    }
+
+    /**
+     * <p>Simulate every character of a text being typed</p>
+     *
+     * @param text the text
+     */
+    public void type(CharSequence text) {
+        synchronized (mLock) {
+            for (int i = 0; i < text.length(); ++i) {
+                InputKeyboard.onFactoryKeyType(mBuffer, text.charAt(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.backend.headless.input;
+
+import ar.com.quark.backend.headless.utility.array.HeadlessArrayFactory;
+import ar.com.quark.input.device.InputMouse;
+import ar.com.quark.input.device.InputMouseButton;
+import ar.com.quark.system.utility.array.Int32Array;
+
+/**
+ * Implementation for {@link InputMouse} that is driven by a script (instead of a device).
+ */
+public final class HeadlessInputMouse implements InputMouse {
+    /**
+     * Hold the mutex for allowing scripting from another thread.
+     */
+    private final Object mLock = new Object();
+
+    /**
+     * Hold the device buffer.
+     */
+    private Int32Array mBuffer = HeadlessArrayFactory.allocateInt32Array(512);
+
+    /**
+     * Hold the position of the cursor.
+     */
+    private int mX;
+    private int mY;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void create() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(Int32Array buffer) {
+        synchronized (mLock) {
+            buffer.write(mBuffer.flip());
+
+            //!
+            //! Change the buffer mode to write-mode.
+            //!
+            mBuffer.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy() {
+        synchronized (mLock) {
+            mBuffer.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCursorMode(boolean activate) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCursorPosition(int x, int y) {
+        move(x, y);
+    }
+
+    /**
+     * <p>Simulate the cursor being moved</p>
+     *
+     * @param x the new x coordinate of the cursor
+     * @param y the new y coordinate of the cursor
+     */
+    public void move(int x, int y) {
+        synchronized (mLock) {
+            if (mX != x || mY != y) {
+                mX = x;
+                mY = y;
+
+                InputMouse.onFactoryMove(mBuffer, x, y);
+            }
+        }
+    }
+
+    /**
+     * <p>Simulate a button being pressed</p>
+     *
+     * @param button the button
+     */
+    public void press(InputMouseButton button) {
+        synchronized (mLock) {
+            InputMouse.onFactoryButtonDown(mBuffer, button);
+        }
+    }
+
+    /**
+     * <p>Simulate a button being released</p>
+     *
+     * @param button the button
+     */
+    public void release(InputMouseButton button) {
+        synchronized (mLock) {
+            InputMouse.onFactoryButtonUp(mBuffer, button);
+        }
+    }
+
+    /**
+     * <p>Simulate the wheel being scrolled</p>
+     *
+     * @param delta the delta of the wheel
+     */
+    public void scroll(int delta) {
+        synchronized (mLock) {
+            InputMouse.onFactoryWheel(mBuffer, delta);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.backend.headless.openal;
+
+import ar.com.quark.audio.AudioManager;
+import ar.com.quark.system.utility.array.Float32Array;
+import ar.com.quark.system.utility.array.Int8Array;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation for {@link AudioManager.ALES10} that doesn't output any sound.
+ * <p>
+ * NOTE: Every source is reported as stopped, so any sound finish as soon as it is played.
+ */
+public final class HeadlessALES10 implements AudioManager.ALES10 {
+    /**
+     * Hold the next name to generate.
+     */
+    private int mName = 1;
+
+    /**
+     * Hold the buffer(s) queued into each source.
+     */
+    private final Map<Integer, Deque<Integer>> mQueues = new HashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean alcCreateContext() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alcDestroyContext() {
+        mQueues.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int alGenBuffers() {
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int alGenSources() {
+        final int name = mName++;
+        mQueues.put(name, new ArrayDeque<>());
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alDeleteBuffers(int name) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alDeleteSources(int name) {
+        mQueues.remove(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alSourcePause(int name) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alSourcePlay(int name) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alSourceStop(int name) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alSourcei(int name, int type, int value) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alSourcef(int name, int type, float value) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alSourcef(int name, int type, float value1, float value2, float value3) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alListenerf(int type, float value) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alListenerf(int type, float value1, float value2, float value3) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alListenerf(int type, Float32Array value) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int alGetSourcei(int name, int type) {
+        return type == AL_SOURCE_STATE ? AL_STOPPED : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int alSourceUnqueueBuffers(int name) {
+        final Deque<Integer> queue = mQueues.get(name);
+        final Integer buffer = (queue != null ? queue.poll() : null);
+        return buffer != null ? buffer : AL_NONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alSourceQueueBuffers(int name, int id) {
+        final Deque<Integer> queue = mQueues.get(name);
+
+        if (queue != null) {
+            queue.add(id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void alBufferData(int name, int format, Int8Array data, int rate) {
+    }
+}
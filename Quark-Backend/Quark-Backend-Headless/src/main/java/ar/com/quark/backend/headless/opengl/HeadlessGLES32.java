@@ -0,0 +1,1307 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.backend.headless.opengl;
+
+import ar.com.quark.backend.headless.utility.array.HeadlessArrayFactory;
+import ar.com.quark.render.Render;
+import ar.com.quark.render.RenderCapabilities;
+import ar.com.quark.system.utility.array.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementation for {@link Render.GLES32} that doesn't render anything.
+ * <p>
+ * Every object is given a unique fake name, every call is counted, and buffer(s) are backed by memory so they can
+ * be mapped. Queries and fences are always complete.
+ */
+public final class HeadlessGLES32 implements Render.GLES32 {
+    /**
+     * Represent the format of every program binary (any other format is rejected).
+     */
+    public final static int BINARY_FORMAT = 0x51414B;
+
+    /**
+     * Represent the length (in bytes) of every program binary.
+     */
+    public final static int BINARY_LENGTH = 4;
+
+    private final RenderCapabilities mCapabilities;
+
+    /**
+     * Hold the next name to generate.
+     */
+    private int mName = 1;
+    private long mSync = 1L;
+
+    /**
+     * Hold the number of call(s) issued.
+     */
+    private long mCalls;
+    private long mDrawCalls;
+
+    /**
+     * Hold the memory of every buffer (by name), and the buffer bound to every target.
+     */
+    private final Map<Integer, ByteBuffer> mStorage = new HashMap<>();
+    private final Map<Integer, Integer> mBinding = new HashMap<>();
+
+    /**
+     * Hold every program whose binary has been rejected.
+     */
+    private final Set<Integer> mRejected = new HashSet<>();
+
+    /**
+     * <p>Constructor</p>
+     */
+    public HeadlessGLES32() {
+        this(createCapabilities());
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param capabilities the capabilities reported by the implementation (to emulate a particular device)
+     */
+    public HeadlessGLES32(RenderCapabilities capabilities) {
+        mCapabilities = capabilities;
+    }
+
+    /**
+     * <p>Get the number of call(s) issued</p>
+     *
+     * @return the number of call(s) issued
+     */
+    public long getCalls() {
+        return mCalls;
+    }
+
+    /**
+     * <p>Get the number of draw call(s) issued</p>
+     *
+     * @return the number of draw call(s) issued
+     */
+    public long getDrawCalls() {
+        return mDrawCalls;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderCapabilities glCapabilities() {
+        return mCapabilities;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String glGetString(int property) {
+        mCalls++;
+
+        switch (property) {
+            case GL_VENDOR:
+                return "Quark";
+            case GL_RENDERER:
+                return "Headless";
+            case GL_VERSION:
+                return "OpenGL ES 3.2";
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEnable(int value) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDisable(int value) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBlendFunc(int source, int destination) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBlendEquationSeparate(int rgb, int alpha) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCullFace(int mode) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDepthMask(boolean activate) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDepthRange(float near, float far) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDepthFunc(int mode) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glColorMask(boolean red, boolean green, boolean blue, boolean alpha) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glScissor(int x1, int y1, int x2, int y2) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glStencilOpSeparate(int face, int stencilFail, int depthFail, int depthPass) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glStencilFuncSeparate(int face, int func, int ref, int mask) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glClear(int value) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glClearColor(float red, float green, float blue, float alpha) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glViewport(int x, int y, int width, int height) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenTextures() {
+        mCalls++;
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenBuffers() {
+        mCalls++;
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glCreateProgram() {
+        mCalls++;
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glCreateShader(int type) {
+        mCalls++;
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenFramebuffers() {
+        mCalls++;
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenRenderbuffers() {
+        mCalls++;
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteTextures(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteBuffers(int name) {
+        mCalls++;
+        mStorage.remove(name);
+        mBinding.values().removeIf(value -> value == name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteTextures(Int32Array names) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteBuffers(Int32Array names) {
+        mCalls++;
+
+        for (int i = names.position(); i < names.limit(); i += 4) {
+            final int name = names.readInt32(i);
+
+            mStorage.remove(name);
+            mBinding.values().removeIf(value -> value == name);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteProgram(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteFramebuffers(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteRenderbuffers(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteShader(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glActiveTexture(int stage) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindTexture(int target, int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBuffer(int target, int name) {
+        mCalls++;
+        mBinding.put(target, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUseProgram(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindFramebuffer(int type, int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindRenderbuffer(int type, int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawArrays(int primitive, int offset, int count) {
+        mCalls++;
+        mDrawCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElements(int primitive, int count, int format, int offset) {
+        mCalls++;
+        mDrawCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, int capacity, int usage) {
+        mCalls++;
+        onStorage(target, capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Int8Array data, int usage) {
+        mCalls++;
+        onStorage(target, data.remaining());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Int16Array data, int usage) {
+        mCalls++;
+        onStorage(target, data.remaining());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Int32Array data, int usage) {
+        mCalls++;
+        onStorage(target, data.remaining());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, UInt8Array data, int usage) {
+        mCalls++;
+        onStorage(target, data.remaining());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, UInt16Array data, int usage) {
+        mCalls++;
+        onStorage(target, data.remaining());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, UInt32Array data, int usage) {
+        mCalls++;
+        onStorage(target, data.remaining());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Float16Array data, int usage) {
+        mCalls++;
+        onStorage(target, data.remaining());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Float32Array data, int usage) {
+        mCalls++;
+        onStorage(target, data.remaining());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Int8Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Int16Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Int32Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, UInt8Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, UInt16Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, UInt32Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Float16Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Float32Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUnmapBuffer(int target) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Array<?>> T glMapBuffer(int target, int access, int format) {
+        mCalls++;
+        return (T) create(onMap(target, 0, -1), format);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexParameter(int target, int type, int value) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexParameter(int target, int type, float value) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexImage2D(int target, int level, int internal, int width, int height, int border, int format,
+            int type, Int8Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompressedTexImage2D(int target, int level, int internal, int width, int height, int border,
+            Int8Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format, int type,
+            Int8Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, Int8Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glGenerateMipmap(int target) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glFramebufferTexture2D(int target, int attachment, int texture, int name, int level) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEnableVertexAttribArray(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDisableVertexAttribArray(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glVertexAttribPointer(int name, int component, int type, boolean normalised, int stride, int offset) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glLinkProgram(int name) {
+        mCalls++;
+        mRejected.remove(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetProgram(int name, int property) {
+        mCalls++;
+
+        switch (property) {
+            case GL_LINK_STATUS:
+                return mRejected.contains(name) ? GL_FALSE : GL_TRUE;
+            case GL_PROGRAM_BINARY_LENGTH:
+                return BINARY_LENGTH;
+            case GL_COMPLETION_STATUS:
+                return GL_TRUE;
+        }
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glShaderSource(int name, String source) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompileShader(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glAttachShader(int name, int shader) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindAttribLocation(int name, int id, String attribute) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetUniformLocation(int name, String uniform) {
+        mCalls++;
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String glGetProgramInfoLog(int name) {
+        mCalls++;
+        return "";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glRenderbufferStorage(int target, int format, int width, int height) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1f(int name, float i1) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform2f(int name, float i1, float i2) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform3f(int name, float i1, float i2, float i3) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform4f(int name, float i1, float i2, float i3, float i4) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1fv(int name, Float32Array buffer) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1i(int name, int i1) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform2i(int name, int i1, int i2) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform3i(int name, int i1, int i2, int i3) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform4i(int name, int i1, int i2, int i3, int i4) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1iv(int name, Int32Array buffer) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformMatrix3fv(int name, boolean transpose, Float32Array buffer) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformMatrix4fv(int name, boolean transpose, Float32Array buffer) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenVertexArrays() {
+        mCalls++;
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteVertexArrays(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindVertexArray(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Array<?>> T glMapBufferRange(int target, int offset, int size, int access, int format) {
+        mCalls++;
+        return (T) create(onMap(target, offset, size), format);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexImage3D(int target, int level, int internal, int width, int height, int depth, int border,
+            int format, int type, Int8Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompressedTexImage3D(int target, int level, int internal, int width, int height, int depth,
+            int border, Int8Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth,
+            int format, int type, Int8Array data) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glRenderbufferStorageMultisample(int target, int samples, int format, int width, int height) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1ui(int name, int i1) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform2ui(int name, int i1, int i2) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform3ui(int name, int i1, int i2, int i3) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform4ui(int name, int i1, int i2, int i3, int i4) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1uiv(int name, UInt32Array buffer) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawArraysInstanced(int primitive, int offset, int count, int instances) {
+        mCalls++;
+        mDrawCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElementsInstanced(int primitive, int count, int format, int offset, int instances) {
+        mCalls++;
+        mDrawCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glVertexAttribDivisor(int name, int divisor) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBufferBase(int target, int index, int name) {
+        mCalls++;
+        mBinding.put(target, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetUniformBlockIndex(int name, String block) {
+        mCalls++;
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformBlockBinding(int name, int block, int binding) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long glFenceSync(int condition, int flags) {
+        mCalls++;
+        return mSync++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glClientWaitSync(long sync, int flags, long timeout) {
+        mCalls++;
+        return GL_ALREADY_SIGNALED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteSync(long sync) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format, int type,
+            long offset) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth,
+            int format, int type, long offset) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, long offset) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenQueries() {
+        mCalls++;
+        return mName++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteQueries(int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginQuery(int target, int name) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndQuery(int target) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetQueryObjecti(int name, int parameter) {
+        mCalls++;
+        return parameter == GL_QUERY_RESULT_AVAILABLE ? GL_TRUE : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long glGetQueryObjectui64(int name, int parameter) {
+        mCalls++;
+        return 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginConditionalRender(int name, int mode) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndConditionalRender() {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glProgramParameteri(int name, int property, int value) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetProgramBinary(int name, Int8Array binary) {
+        mCalls++;
+
+        binary.writeInt32(0, name);
+        return BINARY_FORMAT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glProgramBinary(int name, int format, Int8Array binary) {
+        mCalls++;
+
+        if (format == BINARY_FORMAT && binary.remaining() == BINARY_LENGTH) {
+            mRejected.remove(name);
+        } else {
+            mRejected.add(name);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElementsBaseVertex(int primitive, int count, int format, int offset, int base) {
+        mCalls++;
+        mDrawCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindFragDataLocation(int name, int index, String attribute) {
+        mCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glMultiDrawElements(int primitive, Int32Array count, int format, Int32Array offset) {
+        mCalls++;
+        mDrawCalls++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glMaxShaderCompilerThreads(int count) {
+        mCalls++;
+    }
+
+    /**
+     * <p>Handle when the storage of the buffer bound to the given target is (re)created</p>
+     */
+    private void onStorage(int target, int capacity) {
+        final Integer name = mBinding.get(target);
+
+        if (name != null && name != 0) {
+            mStorage.put(name, HeadlessArrayFactory.allocate(capacity));
+        }
+    }
+
+    /**
+     * <p>Handle when the buffer bound to the given target is mapped</p>
+     */
+    private ByteBuffer onMap(int target, int offset, int size) {
+        final Integer name = mBinding.get(target);
+        final ByteBuffer storage = (name != null ? mStorage.get(name) : null);
+
+        if (storage == null) {
+            return HeadlessArrayFactory.allocate(Math.max(size, 0));
+        }
+        final ByteBuffer view = storage.duplicate();
+        view.position(offset);
+        view.limit(size < 0 ? view.capacity() : Math.min(offset + size, view.capacity()));
+        return view.slice().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * <p>Create an {@link Array} of the given format over the memory given</p>
+     */
+    private static Array<?> create(ByteBuffer buffer, int format) {
+        switch (format) {
+            case GL_UNSIGNED_BYTE:
+                return new HeadlessArrayFactory.HeadlessUInt8Array(buffer);
+            case GL_UNSIGNED_SHORT:
+                return new HeadlessArrayFactory.HeadlessUInt16Array(buffer);
+            case GL_UNSIGNED_INT:
+                return new HeadlessArrayFactory.HeadlessUInt32Array(buffer);
+            case GL_BYTE:
+                return new HeadlessArrayFactory.HeadlessInt8Array(buffer);
+            case GL_SHORT:
+                return new HeadlessArrayFactory.HeadlessInt16Array(buffer);
+            case GL_INT:
+                return new HeadlessArrayFactory.HeadlessInt32Array(buffer);
+            case GL_HALF_FLOAT:
+                return new HeadlessArrayFactory.HeadlessFloat16Array(buffer);
+            case GL_FLOAT:
+                return new HeadlessArrayFactory.HeadlessFloat32Array(buffer);
+        }
+        throw new IllegalArgumentException("Format unsupported");
+    }
+
+    /**
+     * <p>Create the default capabilities (every extension supported with common desktop limit(s))</p>
+     *
+     * @return the default capabilities of the implementation
+     */
+    public static RenderCapabilities createCapabilities() {
+        final Map<RenderCapabilities.Limit, Float> limit = new EnumMap<>(RenderCapabilities.Limit.class);
+        limit.put(RenderCapabilities.Limit.FRAME_ATTACHMENT, 8.0f);
+        limit.put(RenderCapabilities.Limit.FRAME_MULTIPLE_RENDER_ATTACHMENT, 8.0f);
+        limit.put(RenderCapabilities.Limit.FRAME_SAMPLE, 8.0f);
+        limit.put(RenderCapabilities.Limit.TEXTURE_ANISOTROPIC, 16.0f);
+        limit.put(RenderCapabilities.Limit.TEXTURE_SIZE, 16384.0f);
+        limit.put(RenderCapabilities.Limit.TEXTURE_STAGE, 16.0f);
+        limit.put(RenderCapabilities.Limit.GLSL_MAX_VERTEX_ATTRIBUTES, 16.0f);
+
+        final Map<RenderCapabilities.Extension, Boolean> extension
+                = new EnumMap<>(RenderCapabilities.Extension.class);
+
+        for (final RenderCapabilities.Extension value : RenderCapabilities.Extension.values()) {
+            extension.put(value, true);
+        }
+        return new RenderCapabilities(RenderCapabilities.LanguageVersion.GL33, extension, limit);
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.backend.headless.system;
+
+import ar.com.quark.audio.AudioManager;
+import ar.com.quark.audio.DefaultAudioManager;
+import ar.com.quark.backend.headless.input.HeadlessInputKeyboard;
+import ar.com.quark.backend.headless.input.HeadlessInputMouse;
+import ar.com.quark.backend.headless.openal.HeadlessALES10;
+import ar.com.quark.backend.headless.opengl.HeadlessGLES32;
+import ar.com.quark.backend.headless.utility.array.HeadlessArrayFactory;
+import ar.com.quark.input.DefaultInputManager;
+import ar.com.quark.input.InputManager;
+import ar.com.quark.render.DefaultRender;
+import ar.com.quark.render.Render;
+import ar.com.quark.render.texture.AtlasRegion;
+import ar.com.quark.resource.DefaultAssetManager;
+import ar.com.quark.resource.loader.*;
+import ar.com.quark.resource.locator.ClassAssetLocator;
+import ar.com.quark.resource.locator.FilesAssetLocator;
+import ar.com.quark.system.Display;
+import ar.com.quark.system.DisplayLifecycle;
+import ar.com.quark.system.utility.array.ArrayFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static ar.com.quark.Quark.*;
+
+/**
+ * <code>Headless</code> represent the entry-point for any application that run without a window, a GPU or an
+ * audio device (simulation(s), continuous integration and server(s)).
+ * <p>
+ * Every frame is executed with a fixed delta and without any throttling (as fast as possible), and every module
+ * (including input and audio) is updated from the same thread in a deterministic order.
+ */
+public final class Headless {
+    /**
+     * Hold the running instance.
+     */
+    private static Headless instance;
+
+    /**
+     * Hold the lifecycle.
+     */
+    private final DisplayLifecycle mLifecycle;
+
+    /**
+     * Hold the fixed delta time of each frame and the number of frame(s) executed.
+     */
+    private final float mStep;
+    private long mFrame = 0L;
+
+    /**
+     * Hold the dimension notified to the lifecycle.
+     */
+    private int mWidth;
+    private int mHeight;
+
+    /**
+     * Hold all scripted device(s).
+     */
+    private final HeadlessInputKeyboard mKeyboard = new HeadlessInputKeyboard();
+    private final HeadlessInputMouse mMouse = new HeadlessInputMouse();
+
+    /**
+     * Hold the implementation of {@link Render.GLES32}.
+     */
+    private final HeadlessGLES32 mGL;
+
+    /**
+     * Hold {@link Display} module.
+     */
+    private final HeadlessDisplay mDisplay = (HeadlessDisplay) (QKDisplay = new HeadlessDisplay());
+
+    /**
+     * Hold {@link Render} module.
+     */
+    private final DefaultRender mRender = (DefaultRender) (QKRender = new DefaultRender());
+
+    /**
+     * Hold {@link AudioManager} module.
+     */
+    private final DefaultAudioManager mAudio = (DefaultAudioManager) (QKAudio = new DefaultAudioManager());
+
+    /**
+     * Hold {@link InputManager} module.
+     */
+    private final DefaultInputManager mInput = (DefaultInputManager) (QKInput = new DefaultInputManager());
+
+    /**
+     * Hold {@link DefaultAssetManager} module.
+     */
+    private final DefaultAssetManager mResources
+            = (DefaultAssetManager) (QKResources = new DefaultAssetManager(new ThreadGroupService()));
+
+    /**
+     * <p>Constructor</p>
+     */
+    private Headless(DisplayLifecycle lifecycle, HeadlessGLES32 gl, float step) {
+        mLifecycle = lifecycle;
+        mGL = gl;
+        mStep = step;
+    }
+
+    /**
+     * <p>Handle when the module create</p>
+     */
+    private void onModuleCreate(Display.Preference preference) {
+        //!
+        //! Create display module.
+        //!
+        mDisplay.onModuleCreate(preference);
+
+        //!
+        //! Create audio module.
+        //!
+        mAudio.onModuleCreate(new HeadlessALES10());
+
+        //!
+        //! Create input module.
+        //!
+        mInput.onModuleCreate(mKeyboard, mMouse);
+
+        //!
+        //! Create render module.
+        //!
+        mRender.onModuleCreate(mGL);
+
+        //!
+        //! Create resource module.
+        //!
+        mResources.registerAssetLocator("INTERNAL", new ClassAssetLocator());
+        mResources.registerAssetLocator("EXTERNAL", new FilesAssetLocator());
+
+        mResources.registerAssetLoader(new TexturePNGAssetLoader(), "png");
+        mResources.registerAssetLoader(new TextureDDSAssetLoader(), "dds", "s3tc");
+        mResources.registerAssetLoader(new AtlasRegionAssetLoader(new TexturePNGAssetLoader()),
+                AtlasRegion.Descriptor.class, "png");
+        mResources.registerAssetLoader(new AtlasRegionAssetLoader(new TextureDDSAssetLoader()),
+                AtlasRegion.Descriptor.class, "dds", "s3tc");
+        mResources.registerAssetLoader(new AudioWAVAssetLoader(), "wav");
+        mResources.registerAssetLoader(new AudioOGGAssetLoader(), "ogg");
+        mResources.registerAssetLoader(new FontBinaryAssetLoader(), "fnt");
+
+        final ShaderBinaryAssetLoader shaderLoader = new ShaderBinaryAssetLoader(QKRender.getCapabilities());
+        mResources.registerAssetLoader(shaderLoader, "shader");
+        mResources.registerEventListener(shaderLoader);
+
+        //!
+        //! Handle the create notification.
+        //!
+        mLifecycle.onCreate();
+        mLifecycle.onResize(mWidth = mDisplay.getWidth(), mHeight = mDisplay.getHeight());
+    }
+
+    /**
+     * <p>Handle when the module destroy</p>
+     */
+    private void onModuleDestroy() {
+        //!
+        //! Handle the destroy notification.
+        //!
+        mLifecycle.onPause();
+        mLifecycle.onDispose();
+
+        //!
+        //! Unload resource module.
+        //!
+        mResources.onModuleDestroy();
+        mResources.unloadAll();
+
+        //!
+        //! Unload input module.
+        //!
+        mInput.onModuleDestroy();
+
+        //!
+        //! Unload audio module.
+        //!
+        mAudio.onModuleDestroy();
+
+        //!
+        //! Unload render module.
+        //!
+        //! NOTE: Update the render to destroy all render component(s)
+        //!
+        mRender.onModuleDestroy();
+
+        //!
+        //! Unload display module.
+        //!
+        mDisplay.onModuleDestroy();
+    }
+
+    /**
+     * <p>Handle when the module update</p>
+     */
+    private void onModuleUpdate(long frames) {
+        while (mDisplay.isActive() && (frames <= 0L || mFrame < frames)) {
+            //!
+            //! Render until the display is not active or every frame requested has been executed.
+            //!
+            onModuleRender();
+        }
+    }
+
+    /**
+     * <p>Handle when the module render</p>
+     */
+    private void onModuleRender() {
+        //!
+        //! Update the input and audio.
+        //!
+        //! NOTE: Done on the same thread (instead of a timer) to keep every frame deterministic.
+        //!
+        mInput.onModuleUpdate();
+        mAudio.onModuleUpdate();
+
+        //!
+        //! Handle the resize notification (if the dimension of the display has changed).
+        //!
+        if (mWidth != mDisplay.getWidth() || mHeight != mDisplay.getHeight()) {
+            mLifecycle.onResize(mWidth = mDisplay.getWidth(), mHeight = mDisplay.getHeight());
+        }
+
+        //!
+        //! Handle the render notification.
+        //!
+        mLifecycle.onRender(mStep);
+
+        //!
+        //! Update the render.
+        //!
+        //! NOTE: House-keeping of render component(s).
+        //!
+        mRender.onModuleUpdate();
+
+        mFrame++;
+    }
+
+    /**
+     * <p>Get the scripted keyboard of the running application</p>
+     *
+     * @return the scripted keyboard
+     */
+    public static HeadlessInputKeyboard getKeyboard() {
+        return instance.mKeyboard;
+    }
+
+    /**
+     * <p>Get the scripted mouse of the running application</p>
+     *
+     * @return the scripted mouse
+     */
+    public static HeadlessInputMouse getMouse() {
+        return instance.mMouse;
+    }
+
+    /**
+     * <p>Get the implementation of {@link Render.GLES32} of the running application</p>
+     *
+     * @return the implementation of {@link Render.GLES32} (to inspect the number of call(s) issued)
+     */
+    public static HeadlessGLES32 getGL() {
+        return instance.mGL;
+    }
+
+    /**
+     * <p>Get the number of frame(s) executed by the running application</p>
+     *
+     * @return the number of frame(s) executed
+     */
+    public static long getFrame() {
+        return instance.mFrame;
+    }
+
+    /**
+     * <p>Initialise <code>Headless</code></p>
+     * <p>
+     * NOTE: The application run until {@link HeadlessDisplay#close()} is called.
+     *
+     * @param lifecycle  the lifecycle of the application
+     * @param preference the preference of the display (only its mode is used)
+     * @param step       the fixed delta time of each frame (in second(s))
+     */
+    public static void create(DisplayLifecycle lifecycle, Display.Preference preference, float step) {
+        create(lifecycle, preference, step, 0L, new HeadlessGLES32());
+    }
+
+    /**
+     * <p>Initialise <code>Headless</code></p>
+     *
+     * @param lifecycle  the lifecycle of the application
+     * @param preference the preference of the display (only its mode is used)
+     * @param step       the fixed delta time of each frame (in second(s))
+     * @param frames     the number of frame(s) to execute (or <code>0</code> to run until the display is closed)
+     * @param gl         the implementation of {@link Render.GLES32} (to emulate a particular device)
+     */
+    public static void create(DisplayLifecycle lifecycle, Display.Preference preference, float step, long frames,
+            HeadlessGLES32 gl) {
+        if (step <= 0.0f) {
+            throw new IllegalArgumentException("The step of each frame must be positive");
+        }
+
+        //!
+        //! Create memory factory.
+        //!
+        //! NOTE: Most module requires this module.
+        //!
+        ArrayFactory.instance = new HeadlessArrayFactory();
+
+        //!
+        //! Create entry
+        //!
+        final Headless entry = instance = new Headless(lifecycle, gl, step);
+        entry.onModuleCreate(preference);
+        entry.onModuleUpdate(frames);
+        entry.onModuleDestroy();
+    }
+
+    /**
+     * Implementation for {@link DefaultAssetManager.Service}.
+     */
+    private final static class ThreadGroupService implements DefaultAssetManager.Service {
+        private final ExecutorService mExecutor
+                = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void shutdown() {
+            mExecutor.shutdown();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void execute(Runnable command) {
+            mExecutor.execute(command);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.backend.headless.system;
+
+import ar.com.quark.render.texture.Image;
+import ar.com.quark.system.Display;
+import ar.com.quark.system.DisplayMode;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Implementation for {@link Display} without any window.
+ */
+public final class HeadlessDisplay implements Display {
+    /**
+     * Hold the preference of the display.
+     */
+    private Display.Preference mPreference;
+
+    /**
+     * Hold the dimension of the display.
+     */
+    private int mWidth;
+    private int mHeight;
+
+    /**
+     * Hold the state of the display.
+     */
+    private volatile boolean mActive;
+    private boolean mFullscreen;
+
+    /**
+     * <p>Handle when the module create</p>
+     */
+    public void onModuleCreate(Display.Preference preference) {
+        mPreference = preference;
+        mWidth = preference.getMode().getWidth();
+        mHeight = preference.getMode().getHeight();
+        mFullscreen = preference.isFullscreen();
+        mActive = true;
+    }
+
+    /**
+     * <p>Handle when the module destroy</p>
+     */
+    public void onModuleDestroy() {
+        mActive = false;
+    }
+
+    /**
+     * <p>Close the display</p>
+     * <p>
+     * NOTE: This method can be called from any thread, the application will stop after the current frame.
+     */
+    public void close() {
+        mActive = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDimension(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setTitle(String title) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSynchronised(boolean activate) {
+        //!
+        //! NOTE: The display is never synchronised, frame(s) are executed as fast as possible.
+        //!
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCursor(Image image, int xHotspot, int yHotspot) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void switchToWindowed(DisplayMode mode) {
+        mWidth = mode.getWidth();
+        mHeight = mode.getHeight();
+        mFullscreen = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void switchToFullscreen(DisplayMode mode) {
+        mWidth = mode.getWidth();
+        mHeight = mode.getHeight();
+        mFullscreen = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void switchToFullscreen() {
+        mFullscreen = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getWidth() {
+        return mWidth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHeight() {
+        return mHeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isResizable() {
+        return mPreference.isResizable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDecorated() {
+        return mPreference.isDecorated();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isWindowed() {
+        return !mFullscreen;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFullscreen() {
+        return mFullscreen;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isActive() {
+        return mActive;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DisplayMode getDisplayMode() {
+        return mPreference.getMode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<DisplayMode> getAvailableDisplayModes() {
+        return Collections.singletonList(mPreference.getMode());
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.backend.headless.utility.array;
+
+import ar.com.quark.system.utility.array.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Implementation for {@link ArrayFactory} (backed by direct {@link ByteBuffer}).
+ */
+public final class HeadlessArrayFactory extends ArrayFactory {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Int8Array nAllocateInt8Array(int capacity) {
+        return new HeadlessInt8Array(allocate(capacity));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Int16Array nAllocateInt16Array(int capacity) {
+        return new HeadlessInt16Array(allocate(capacity * 0x02));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Int32Array nAllocateInt32Array(int capacity) {
+        return new HeadlessInt32Array(allocate(capacity * 0x04));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected UInt8Array nAllocateUInt8Array(int capacity) {
+        return new HeadlessUInt8Array(allocate(capacity));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected UInt16Array nAllocateUInt16Array(int capacity) {
+        return new HeadlessUInt16Array(allocate(capacity * 0x02));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected UInt32Array nAllocateUInt32Array(int capacity) {
+        return new HeadlessUInt32Array(allocate(capacity * 0x04));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Float16Array nAllocateFloat16Array(int capacity) {
+        return new HeadlessFloat16Array(allocate(capacity * 0x02));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Float32Array nAllocateFloat32Array(int capacity) {
+        return new HeadlessFloat32Array(allocate(capacity * 0x04));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void nFree(Array<?> view) {
+        //!
+        //! NOTE: Direct buffer(s) are released by the garbage collector.
+        //!
+    }
+
+    /**
+     * <p>Allocate a direct {@link ByteBuffer} (in native order)</p>
+     *
+     * @param capacity the capacity of the buffer (in bytes)
+     *
+     * @return a new direct {@link ByteBuffer}
+     */
+    public static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Specialised implementation for {@link Int8Array}.
+     */
+    public final static class HeadlessInt8Array extends HeadlessArray<Int8Array> implements Int8Array {
+        /**
+         * <p>Constructor</p>
+         */
+        public HeadlessInt8Array(ByteBuffer buffer) {
+            super(buffer);
+        }
+    }
+
+    /**
+     * Specialised implementation for {@link Int16Array}.
+     */
+    public final static class HeadlessInt16Array extends HeadlessArray<Int16Array> implements Int16Array {
+        /**
+         * <p>Constructor</p>
+         */
+        public HeadlessInt16Array(ByteBuffer buffer) {
+            super(buffer);
+        }
+    }
+
+    /**
+     * Specialised implementation for {@link Int32Array}.
+     */
+    public final static class HeadlessInt32Array extends HeadlessArray<Int32Array> implements Int32Array {
+        /**
+         * <p>Constructor</p>
+         */
+        public HeadlessInt32Array(ByteBuffer buffer) {
+            super(buffer);
+        }
+    }
+
+    /**
+     * Specialised implementation for {@link UInt8Array}.
+     */
+    public final static class HeadlessUInt8Array extends HeadlessArray<UInt8Array> implements UInt8Array {
+        /**
+         * <p>Constructor</p>
+         */
+        public HeadlessUInt8Array(ByteBuffer buffer) {
+            super(buffer);
+        }
+    }
+
+    /**
+     * Specialised implementation for {@link UInt16Array}.
+     */
+    public final static class HeadlessUInt16Array extends HeadlessArray<UInt16Array> implements UInt16Array {
+        /**
+         * <p>Constructor</p>
+         */
+        public HeadlessUInt16Array(ByteBuffer buffer) {
+            super(buffer);
+        }
+    }
+
+    /**
+     * Specialised implementation for {@link UInt32Array}.
+     */
+    public final static class HeadlessUInt32Array extends HeadlessArray<UInt32Array> implements UInt32Array {
+        /**
+         * <p>Constructor</p>
+         */
+        public HeadlessUInt32Array(ByteBuffer buffer) {
+            super(buffer);
+        }
+    }
+
+    /**
+     * Specialised implementation for {@link Float16Array}.
+     */
+    public final static class HeadlessFloat16Array extends HeadlessArray<Float16Array> implements Float16Array {
+        /**
+         * <p>Constructor</p>
+         */
+        public HeadlessFloat16Array(ByteBuffer buffer) {
+            super(buffer);
+        }
+    }
+
+    /**
+     * Specialised implementation for {@link Float32Array}.
+     */
+    public final static class HeadlessFloat32Array extends HeadlessArray<Float32Array> implements Float32Array {
+        /**
+         * <p>Constructor</p>
+         */
+        public HeadlessFloat32Array(ByteBuffer buffer) {
+            super(buffer);
+        }
+    }
+}
@@ -91,6 +91,14 @@ public class WebOpenGLES20 implements Render.GLES2 {
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String glGetString(int property) {
+        return mGL.getParameterString(property);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -287,6 +295,32 @@ public class WebOpenGLES20 implements Render.GLES2 {
         mGL.deleteBuffer(mBufferFactory.remove(name));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteTextures(Int32Array names) {
+        //!
+        //! NOTE: WebGL doesn't support deleting many texture(s) at once.
+        //!
+        for (int i = names.position(); i < names.limit(); i += 4) {
+            glDeleteTextures(names.readInt32(i));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteBuffers(Int32Array names) {
+        //!
+        //! NOTE: WebGL doesn't support deleting many buffer(s) at once.
+        //!
+        for (int i = names.position(); i < names.limit(); i += 4) {
+            glDeleteBuffers(names.readInt32(i));
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -452,7 +486,7 @@ public class WebOpenGLES20 implements Render.GLES2 {
      */
     @Override
     public void glBufferSubData(int target, int offset, ar.com.quark.system.utility.array.Int8Array data) {
-        mGL.bufferSubData(target, offset, data.<ArrayBuffer>data());
+        mGL.bufferSubData(target, offset, getRange(data));
     }
 
     /**
@@ -460,7 +494,7 @@ public class WebOpenGLES20 implements Render.GLES2 {
      */
     @Override
     public void glBufferSubData(int target, int offset, ar.com.quark.system.utility.array.Int16Array data) {
-        mGL.bufferSubData(target, offset, data.<ArrayBuffer>data());
+        mGL.bufferSubData(target, offset, getRange(data));
     }
 
     /**
@@ -468,7 +502,7 @@ public class WebOpenGLES20 implements Render.GLES2 {
      */
     @Override
     public void glBufferSubData(int target, int offset, ar.com.quark.system.utility.array.Int32Array data) {
-        mGL.bufferSubData(target, offset, data.<ArrayBuffer>data());
+        mGL.bufferSubData(target, offset, getRange(data));
     }
 
     /**
@@ -476,7 +510,7 @@ public class WebOpenGLES20 implements Render.GLES2 {
      */
     @Override
     public void glBufferSubData(int target, int offset, UInt8Array data) {
-        mGL.bufferSubData(target, offset, data.<ArrayBuffer>data());
+        mGL.bufferSubData(target, offset, getRange(data));
     }
 
     /**
@@ -484,7 +518,7 @@ public class WebOpenGLES20 implements Render.GLES2 {
      */
     @Override
     public void glBufferSubData(int target, int offset, UInt16Array data) {
-        mGL.bufferSubData(target, offset, data.<ArrayBuffer>data());
+        mGL.bufferSubData(target, offset, getRange(data));
     }
 
     /**
@@ -492,7 +526,7 @@ public class WebOpenGLES20 implements Render.GLES2 {
      */
     @Override
     public void glBufferSubData(int target, int offset, UInt32Array data) {
-        mGL.bufferSubData(target, offset, data.<ArrayBuffer>data());
+        mGL.bufferSubData(target, offset, getRange(data));
     }
 
     /**
@@ -500,7 +534,7 @@ public class WebOpenGLES20 implements Render.GLES2 {
      */
     @Override
     public void glBufferSubData(int target, int offset, Float16Array data) {
-        mGL.bufferSubData(target, offset, data.<ArrayBuffer>data());
+        mGL.bufferSubData(target, offset, getRange(data));
     }
 
     /**
@@ -508,7 +542,7 @@ public class WebOpenGLES20 implements Render.GLES2 {
      */
     @Override
     public void glBufferSubData(int target, int offset, ar.com.quark.system.utility.array.Float32Array data) {
-        mGL.bufferSubData(target, offset, data.<ArrayBuffer>data());
+        mGL.bufferSubData(target, offset, getRange(data));
     }
 
     /**
@@ -556,30 +590,70 @@ public class WebOpenGLES20 implements Render.GLES2 {
             int border, int format, int type, ar.com.quark.system.utility.array.Int8Array data) {
         final ArrayBufferView view;
 
-        switch (format) {
-            case WebGLRenderingContext.UNSIGNED_BYTE:
-                view = Uint8Array.create(data.<DataView>data().getBuffer());
-                break;
+        if (data == null) {
+            //!
+            //! Only allocate the image (its pixel(s) will be uploaded later).
+            //!
+            view = null;
+        } else {
+            switch (format) {
+                case WebGLRenderingContext.UNSIGNED_BYTE:
+                    view = Uint8Array.create(data.<DataView>data().getBuffer());
+                    break;
+                case WebGLRenderingContext.UNSIGNED_SHORT:
+                    view = Uint16Array.create(data.<DataView>data().getBuffer());
+                    break;
+                case WebGLRenderingContext.FLOAT:
+                    view = org.teavm.jso.typedarrays.Float32Array.create(data.<DataView>data().getBuffer());
+                    break;
+                default:
+                    view = Uint8Array.create(data.<DataView>data().getBuffer());
+                    break;
+            }
+        }
+        mGL.texImage2D(target, level, format /* WebGL 1.0 */, width, height, border, format, type, view);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompressedTexImage2D(int target, int level, int internal, int width, int height,
+            int border, ar.com.quark.system.utility.array.Int8Array data) {
+        mGL.compressedTexImage2D(target, level, internal, width, height, border, data.data());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format,
+            int type, ar.com.quark.system.utility.array.Int8Array data) {
+        final ArrayBuffer buffer = data.<DataView>data().getBuffer();
+        final ArrayBufferView view;
+
+        switch (type) {
             case WebGLRenderingContext.UNSIGNED_SHORT:
-                view = Uint16Array.create(data.<DataView>data().getBuffer());
+                view = Uint16Array.create(buffer, data.position(), data.remaining() / 0x02);
                 break;
             case WebGLRenderingContext.FLOAT:
-                view = org.teavm.jso.typedarrays.Float32Array.create(data.<DataView>data().getBuffer());
+                view = org.teavm.jso.typedarrays.Float32Array.create(buffer, data.position(), data.remaining() / 0x04);
                 break;
             default:
-                view = Uint8Array.create(data.<DataView>data().getBuffer());
+                view = Uint8Array.create(buffer, data.position(), data.remaining());
                 break;
         }
-        mGL.texImage2D(target, level, format /* WebGL 1.0 */, width, height, border, format, type, view);
+        mGL.texSubImage2D(target, level, x, y, width, height, format, type, view);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void glCompressedTexImage2D(int target, int level, int internal, int width, int height,
-            int border, ar.com.quark.system.utility.array.Int8Array data) {
-        mGL.compressedTexImage2D(target, level, internal, width, height, border, data.data());
+    public void glReadPixels(int x, int y, int width, int height, int format, int type,
+            ar.com.quark.system.utility.array.Int8Array data) {
+        mGL.readPixels(x, y, width, height, format, type,
+                Uint8Array.create(data.<DataView>data().getBuffer(), data.position(), data.remaining()));
     }
 
     /**
@@ -828,6 +902,36 @@ public class WebOpenGLES20 implements Render.GLES2 {
         //!
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glMultiDrawElements(int primitive, Int32Array count, int format, Int32Array offset) {
+        //!
+        //! NOTE: WebGL doesn't support many draw(s) with a single call.
+        //!
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glMaxShaderCompilerThreads(int count) {
+        //!
+        //! NOTE: WebGL doesn't support changing the number of compiler thread(s) (the browser decide).
+        //!
+    }
+
+    /**
+     * (non-Javadoc)
+     * <p>
+     * NOTE: The view only covers the remaining byte(s) of the array (from its position to its limit).
+     */
+    protected ArrayBufferView getRange(ar.com.quark.system.utility.array.Array<?> data) {
+        return org.teavm.jso.typedarrays.Int8Array.create(
+                data.<DataView>data().getBuffer(), data.position(), data.remaining());
+    }
+
     /**
      * (non-Javadoc)
      */
@@ -35,6 +35,7 @@ import java.util.Map;
  */
 public class WebOpenGLES30 extends WebOpenGLES20 implements Render.GLES3 {
     private final OES_vertex_array_object mVertexArrayObjectExtension;
+    private final ANGLE_instanced_arrays mInstancedArraysExtension;
 
     /**
      * Hold all factories for all WebGL component(s).
@@ -56,6 +57,7 @@ public class WebOpenGLES30 extends WebOpenGLES20 implements Render.GLES3 {
         //! Attach the extension(s).
         //!
         mVertexArrayObjectExtension = getExtension(OES_vertex_array_object.NAMES);
+        mInstancedArraysExtension = getExtension(ANGLE_instanced_arrays.NAMES);
     }
 
     /**
@@ -75,17 +77,31 @@ public class WebOpenGLES30 extends WebOpenGLES20 implements Render.GLES3 {
 
         extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_OBJECT,
                 isExtension(OES_vertex_array_object.NAMES));
+        extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_INSTANCING,
+                isExtension(ANGLE_instanced_arrays.NAMES));
+        extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_BASE_VERTEX, false);
+        extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_MULTI_DRAW, false);
 
+        extension.put(RenderCapabilities.Extension.UNIFORM_BUFFER, false);
+
+        extension.put(RenderCapabilities.Extension.PIXEL_BUFFER, false);
+        extension.put(RenderCapabilities.Extension.QUERY_TIMER, false);
+        extension.put(RenderCapabilities.Extension.QUERY_OCCLUSION, false);
+        extension.put(RenderCapabilities.Extension.QUERY_CONDITIONAL, false);
         extension.put(RenderCapabilities.Extension.TEXTURE_3D, false);
         extension.put(RenderCapabilities.Extension.TEXTURE_COMPRESSION_S3TC,
                 isExtension(OES_texture_compression_s3tc.NAMES));
         extension.put(RenderCapabilities.Extension.TEXTURE_FILTER_ANISOTROPIC,
                 isExtension(OES_texture_filter_anisotropic.NAMES));
+        extension.put(RenderCapabilities.Extension.TEXTURE_LEVEL_CLAMP, false);
 
         extension.put(RenderCapabilities.Extension.GLSL_PRECISION, true);
         extension.put(RenderCapabilities.Extension.GLSL_EXPLICIT_ATTRIBUTE, false);
         extension.put(RenderCapabilities.Extension.GLSL_EXPLICIT_UNIFORM, false);
         extension.put(RenderCapabilities.Extension.GLSL_GEOMETRY, false);
+        extension.put(RenderCapabilities.Extension.GLSL_PROGRAM_BINARY, false);
+        extension.put(RenderCapabilities.Extension.GLSL_PARALLEL_COMPILE,
+                isExtension(KHR_parallel_shader_compile.NAMES));
 
         //!
         //! Retrieves the limitation from the context.
@@ -164,6 +180,43 @@ public class WebOpenGLES30 extends WebOpenGLES20 implements Render.GLES3 {
             int border, Int8Array data) {
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth,
+            int format, int type, Int8Array data) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format,
+            int type, long offset) {
+        //!
+        //! WebGL 1.0 doesn't support pixel buffer object(s).
+        //!
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth,
+            int format, int type, long offset) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, long offset) {
+        //!
+        //! WebGL 1.0 doesn't support pixel buffer object(s).
+        //!
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -206,6 +259,168 @@ public class WebOpenGLES30 extends WebOpenGLES20 implements Render.GLES3 {
     public void glUniform1uiv(int name, UInt32Array buffer) {
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawArraysInstanced(int primitive, int offset, int count, int instances) {
+        mInstancedArraysExtension.drawArraysInstancedANGLE(primitive, offset, count, instances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElementsInstanced(int primitive, int count, int format, int offset, int instances) {
+        mInstancedArraysExtension.drawElementsInstancedANGLE(primitive, count, format, offset, instances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glVertexAttribDivisor(int name, int divisor) {
+        mInstancedArraysExtension.vertexAttribDivisorANGLE(name, divisor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBufferBase(int target, int index, int name) {
+        //!
+        //! NOTE: WebGL 1.0 doesn't support uniform buffer(s).
+        //!
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetUniformBlockIndex(int name, String block) {
+        return GL_INVALID_INDEX;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformBlockBinding(int name, int block, int binding) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long glFenceSync(int condition, int flags) {
+        //!
+        //! NOTE: WebGL 1.0 doesn't support sync object(s).
+        //!
+        return 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glClientWaitSync(long sync, int flags, long timeout) {
+        return GL_ALREADY_SIGNALED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteSync(long sync) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenQueries() {
+        //!
+        //! NOTE: WebGL 1.0 doesn't support query object(s).
+        //!
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteQueries(int name) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginQuery(int target, int name) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndQuery(int target) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetQueryObjecti(int name, int parameter) {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long glGetQueryObjectui64(int name, int parameter) {
+        return 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginConditionalRender(int name, int mode) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndConditionalRender() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glProgramParameteri(int name, int property, int value) {
+        //!
+        //! NOTE: WebGL doesn't support program binaries.
+        //!
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetProgramBinary(int name, Int8Array binary) {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glProgramBinary(int name, int format, Int8Array binary) {
+    }
+
     /**
      * @see <a href="https://www.khronos.org/registry/webgl/extensions/OES_vertex_array_object/">Extension</a>
      */
@@ -225,6 +440,25 @@ public class WebOpenGLES30 extends WebOpenGLES20 implements Render.GLES3 {
         JSObject createVertexArrayOES();
     }
 
+    /**
+     * @see <a href="https://www.khronos.org/registry/webgl/extensions/ANGLE_instanced_arrays/">Extension</a>
+     */
+    public interface ANGLE_instanced_arrays extends JSObject {
+        String[] NAMES = {
+                "ANGLE_instanced_arrays", "O_ANGLE_instanced_arrays",
+                "IE_ANGLE_instanced_arrays", "MOZ_ANGLE_instanced_arrays",
+                "WEBKIT_ANGLE_instanced_arrays"};
+
+        @JSMethod
+        void drawArraysInstancedANGLE(int mode, int first, int count, int primcount);
+
+        @JSMethod
+        void drawElementsInstancedANGLE(int mode, int count, int type, int offset, int primcount);
+
+        @JSMethod
+        void vertexAttribDivisorANGLE(int index, int divisor);
+    }
+
     /**
      * @see <a href="https://www.khronos.org/registry/webgl/extensions/OES_compressed_texture_s3tc/">Extension</a>
      */
@@ -244,4 +478,12 @@ public class WebOpenGLES30 extends WebOpenGLES20 implements Render.GLES3 {
                 "IE_EXT_texture_filter_anisotropic", "MOZ_EXT_texture_filter_anisotropic",
                 "WEBKIT_EXT_texture_filter_anisotropic"};
     }
+
+    /**
+     * @see <a href="https://www.khronos.org/registry/webgl/extensions/KHR_parallel_shader_compile/">Extension</a>
+     */
+    public interface KHR_parallel_shader_compile extends JSObject {
+        String[] NAMES = {
+                "KHR_parallel_shader_compile"};
+    }
 }
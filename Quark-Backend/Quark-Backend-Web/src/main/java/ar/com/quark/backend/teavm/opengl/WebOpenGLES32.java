@@ -30,4 +30,14 @@ public final class WebOpenGLES32 extends WebOpenGLES31 implements Render.GLES32
     public WebOpenGLES32(HTMLCanvasElement canvas) {
         super(canvas);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElementsBaseVertex(int primitive, int count, int format, int offset, int base) {
+        //!
+        //! NOTE: WebGL doesn't support drawing with a base vertex.
+        //!
+    }
 }
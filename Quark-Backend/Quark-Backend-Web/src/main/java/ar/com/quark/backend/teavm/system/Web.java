@@ -31,6 +31,7 @@ import ar.com.quark.resource.DefaultAssetManager;
 import ar.com.quark.backend.teavm.input.WebInputKeyboard;
 import ar.com.quark.render.DefaultRender;
 import ar.com.quark.render.Render;
+import ar.com.quark.render.texture.AtlasRegion;
 import ar.com.quark.system.Display;
 import ar.com.quark.system.DisplayLifecycle;
 import ar.com.quark.system.utility.array.ArrayFactory;
@@ -163,10 +164,17 @@ public final class Web {
 
         mResources.registerAssetLoader(new TexturePNGAssetLoader(), "png");
         mResources.registerAssetLoader(new TextureDDSAssetLoader(), "dds", "s3tc");
+        mResources.registerAssetLoader(new AtlasRegionAssetLoader(new TexturePNGAssetLoader()),
+                AtlasRegion.Descriptor.class, "png");
+        mResources.registerAssetLoader(new AtlasRegionAssetLoader(new TextureDDSAssetLoader()),
+                AtlasRegion.Descriptor.class, "dds", "s3tc");
         mResources.registerAssetLoader(new AudioWAVAssetLoader(), "wav");
         mResources.registerAssetLoader(new AudioOGGAssetLoader(), "ogg");
         mResources.registerAssetLoader(new FontBinaryAssetLoader(), "fnt");
-        mResources.registerAssetLoader(new ShaderBinaryAssetLoader(QKRender.getCapabilities()), "shader");
+
+        final ShaderBinaryAssetLoader shaderLoader = new ShaderBinaryAssetLoader(QKRender.getCapabilities());
+        mResources.registerAssetLoader(shaderLoader, "shader");
+        mResources.registerEventListener(shaderLoader);
 
         //!
         //! Handle the create notification.
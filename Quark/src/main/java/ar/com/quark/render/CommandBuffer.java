@@ -0,0 +1,646 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render;
+
+import ar.com.quark.render.shader.Shader;
+import ar.com.quark.render.shader.Uniform;
+import ar.com.quark.render.shader.UniformType;
+import ar.com.quark.render.storage.*;
+import ar.com.quark.render.texture.Texture;
+import ar.com.quark.render.texture.frame.Frame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <code>CommandBuffer</code> encapsulate a list of {@link Render} operation(s) recorded for deferred execution.
+ * <p>
+ * A buffer can be recorded from any thread (one thread per buffer) and is replayed on the thread that owns the
+ * context once it has been submitted using {@link Render#submit(CommandBuffer)}. Buffer(s) are replayed in the
+ * same order they were submitted.
+ * <p>
+ * NOTE: The value of every {@link Uniform} and {@link RenderState} is copied when recorded, therefore it can be
+ * modified (or recorded again with another value) right after. Every other object is recorded by reference.
+ * <p>
+ * NOTE: {@link #update(Uniform)} and {@link #update(Shader)} read the value held by the (shared) uniform, buffer(s)
+ * recorded from more than one thread must use {@link #update(Uniform, float...)} or {@link #update(Uniform, int...)}
+ * which never read nor modify the uniform.
+ */
+public final class CommandBuffer {
+    /**
+     * Represent all operation(s) supported.
+     */
+    private final static int OP_APPLY = 0x00;
+    private final static int OP_COLOUR = 0x01;
+    private final static int OP_CLEAR = 0x02;
+    private final static int OP_VIEWPORT = 0x03;
+    private final static int OP_ACQUIRE_TEXTURE = 0x04;
+    private final static int OP_ACQUIRE_STORAGE = 0x05;
+    private final static int OP_ACQUIRE_SHADER = 0x06;
+    private final static int OP_ACQUIRE_DESCRIPTOR = 0x07;
+    private final static int OP_ACQUIRE_FRAME = 0x08;
+    private final static int OP_UPDATE_TEXTURE = 0x09;
+    private final static int OP_UPDATE_STORAGE = 0x0A;
+    private final static int OP_UPDATE_UNIFORM = 0x0B;
+    private final static int OP_RELEASE_TEXTURE = 0x0D;
+    private final static int OP_RELEASE_STORAGE = 0x0E;
+    private final static int OP_RELEASE_SHADER = 0x0F;
+    private final static int OP_RELEASE_DESCRIPTOR = 0x10;
+    private final static int OP_RELEASE_FRAME = 0x11;
+    private final static int OP_DRAW = 0x12;
+    private final static int OP_DRAW_ELEMENTS = 0x13;
+    private final static int OP_DRAW_INSTANCED = 0x14;
+    private final static int OP_DRAW_ELEMENTS_INSTANCED = 0x15;
+    private final static int OP_CREATE_SHADER = 0x16;
+
+    /**
+     * Hold the operation(s) and their integer argument(s).
+     */
+    private int[] mCommands;
+    private int mCommandsCount;
+
+    /**
+     * Hold the object argument(s) of each operation.
+     */
+    private Object[] mObjects;
+    private int mObjectsCount;
+
+    /**
+     * Hold the floating argument(s) of each operation.
+     */
+    private float[] mFloats;
+    private int mFloatsCount;
+
+    /**
+     * Hold the raw value of every uniform recorded.
+     */
+    private int[] mValues;
+    private int mValuesCount;
+
+    /**
+     * Hold a copy of every state recorded (re-used after reset).
+     */
+    private final List<RenderState> mStates = new ArrayList<>();
+    private int mStatesCount;
+
+    /**
+     * Hold <code>true</code> if the buffer has been submitted but not replayed.
+     */
+    private volatile boolean mPending;
+
+    /**
+     * <p>Constructor</p>
+     */
+    public CommandBuffer() {
+        this(256);
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param capacity the initial number of operation(s) the buffer can hold (will grow if required)
+     */
+    public CommandBuffer(int capacity) {
+        mCommands = new int[Math.max(1, capacity) * 2];
+        mObjects = new Object[Math.max(1, capacity)];
+        mFloats = new float[4];
+        mValues = new int[16];
+    }
+
+    /**
+     * <p>Check if the buffer has been submitted but not yet replayed</p>
+     *
+     * @return <code>true</code> if the buffer is waiting to be replayed, <code>false</code> otherwise
+     */
+    public boolean isPending() {
+        return mPending;
+    }
+
+    /**
+     * <p>Check if the buffer doesn't contain any operation</p>
+     *
+     * @return <code>true</code> if the buffer is empty, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return mCommandsCount == 0;
+    }
+
+    /**
+     * <p>Remove all operation(s) recorded</p>
+     */
+    public void reset() {
+        checkRecording();
+
+        for (int i = 0; i < mObjectsCount; ++i) {
+            mObjects[i] = null;
+        }
+        mCommandsCount = 0;
+        mObjectsCount = 0;
+        mFloatsCount = 0;
+        mValuesCount = 0;
+        mStatesCount = 0;
+    }
+
+    /**
+     * @see Render#apply(RenderState)
+     */
+    public void apply(RenderState states) {
+        if (states.isInterned()) {
+            //!
+            //! NOTE: Interned state(s) cannot be modified.
+            //!
+            onRecord(OP_APPLY, states);
+        } else {
+            if (mStatesCount == mStates.size()) {
+                mStates.add(new RenderState());
+            }
+            final RenderState copy = mStates.get(mStatesCount++);
+            copy.merge(states);
+
+            onRecord(OP_APPLY, copy);
+        }
+    }
+
+    /**
+     * @see Render#colour(float, float, float, float)
+     */
+    public void colour(float red, float green, float blue, float alpha) {
+        onRecord(OP_COLOUR);
+        onRecordFloat(red);
+        onRecordFloat(green);
+        onRecordFloat(blue);
+        onRecordFloat(alpha);
+    }
+
+    /**
+     * @see Render#clear(boolean, boolean, boolean)
+     */
+    public void clear(boolean colour, boolean depth, boolean stencil) {
+        onRecord(OP_CLEAR);
+        onRecordInt((colour ? 1 : 0) | (depth ? 2 : 0) | (stencil ? 4 : 0));
+    }
+
+    /**
+     * @see Render#viewport(int, int, int, int)
+     */
+    public void viewport(int x, int y, int width, int height) {
+        onRecord(OP_VIEWPORT);
+        onRecordInt(x);
+        onRecordInt(y);
+        onRecordInt(width);
+        onRecordInt(height);
+    }
+
+    /**
+     * @see Render#acquire(Texture)
+     */
+    public void acquire(Texture texture) {
+        acquire(texture, 0);
+    }
+
+    /**
+     * @see Render#acquire(Texture, int)
+     */
+    public void acquire(Texture texture, int stage) {
+        onRecord(OP_ACQUIRE_TEXTURE, texture);
+        onRecordInt(stage);
+    }
+
+    /**
+     * @see Render#acquire(Storage)
+     */
+    public void acquire(Storage<?> storage) {
+        onRecord(OP_ACQUIRE_STORAGE, storage);
+    }
+
+    /**
+     * @see Render#create(Shader)
+     */
+    public void create(Shader shader) {
+        onRecord(OP_CREATE_SHADER, shader);
+    }
+
+    /**
+     * @see Render#acquire(Shader)
+     */
+    public void acquire(Shader shader) {
+        onRecord(OP_ACQUIRE_SHADER, shader);
+    }
+
+    /**
+     * @see Render#acquire(VertexDescriptor)
+     */
+    public void acquire(VertexDescriptor descriptor) {
+        onRecord(OP_ACQUIRE_DESCRIPTOR, descriptor);
+    }
+
+    /**
+     * @see Render#acquire(Frame)
+     */
+    public void acquire(Frame frame) {
+        onRecord(OP_ACQUIRE_FRAME, frame);
+    }
+
+    /**
+     * @see Render#update(Texture)
+     */
+    public void update(Texture texture) {
+        onRecord(OP_UPDATE_TEXTURE, texture);
+    }
+
+    /**
+     * @see Render#update(Storage)
+     */
+    public void update(Storage<?> storage) {
+        onRecord(OP_UPDATE_STORAGE, storage);
+    }
+
+    /**
+     * @see Render#update(Uniform)
+     */
+    public void update(Uniform uniform) {
+        final int offset = onRecordUniform(uniform);
+
+        uniform.read(mValues, offset);
+    }
+
+    /**
+     * <p>Record the update of a uniform with the given value (the uniform is neither read nor modified)</p>
+     *
+     * @param uniform the uniform (of a floating type)
+     * @param value   the value of every component of the uniform
+     *
+     * @see Render#update(Uniform, int[], int)
+     */
+    public void update(Uniform uniform, float... value) {
+        if (!isFloatingType(uniform.getType())) {
+            throw new IllegalArgumentException("The uniform isn't of a floating type");
+        }
+        if (value.length != uniform.getLength()) {
+            throw new IllegalArgumentException("The value doesn't match the number of component(s) of the uniform");
+        }
+        final int offset = onRecordUniform(uniform);
+
+        for (int i = 0; i < value.length; ++i) {
+            mValues[offset + i] = Float.floatToRawIntBits(value[i]);
+        }
+    }
+
+    /**
+     * <p>Record the update of a uniform with the given value (the uniform is neither read nor modified)</p>
+     *
+     * @param uniform the uniform (of an integer or sampler type)
+     * @param value   the value of every component of the uniform
+     *
+     * @see Render#update(Uniform, int[], int)
+     */
+    public void update(Uniform uniform, int... value) {
+        if (isFloatingType(uniform.getType())) {
+            throw new IllegalArgumentException("The uniform is of a floating type");
+        }
+        if (value.length != uniform.getLength()) {
+            throw new IllegalArgumentException("The value doesn't match the number of component(s) of the uniform");
+        }
+        final int offset = onRecordUniform(uniform);
+
+        System.arraycopy(value, 0, mValues, offset, value.length);
+    }
+
+    /**
+     * @see Shader#update(CommandBuffer)
+     */
+    public void update(Shader shader) {
+        checkRecording();
+
+        shader.update(this);
+    }
+
+    /**
+     * @see Render#release(Texture)
+     */
+    public void release(Texture texture) {
+        release(texture, 0);
+    }
+
+    /**
+     * @see Render#release(Texture, int)
+     */
+    public void release(Texture texture, int stage) {
+        onRecord(OP_RELEASE_TEXTURE, texture);
+        onRecordInt(stage);
+    }
+
+    /**
+     * @see Render#release(Storage)
+     */
+    public void release(Storage<?> storage) {
+        onRecord(OP_RELEASE_STORAGE, storage);
+    }
+
+    /**
+     * @see Render#release(Shader)
+     */
+    public void release(Shader shader) {
+        onRecord(OP_RELEASE_SHADER, shader);
+    }
+
+    /**
+     * @see Render#release(VertexDescriptor)
+     */
+    public void release(VertexDescriptor descriptor) {
+        onRecord(OP_RELEASE_DESCRIPTOR, descriptor);
+    }
+
+    /**
+     * @see Render#release(Frame)
+     */
+    public void release(Frame frame) {
+        onRecord(OP_RELEASE_FRAME, frame);
+    }
+
+    /**
+     * @see Render#draw(Primitive, int, int)
+     */
+    public void draw(Primitive primitive, int offset, int count) {
+        onRecord(OP_DRAW, primitive);
+        onRecordInt(offset);
+        onRecordInt(count);
+    }
+
+    /**
+     * @see Render#draw(Primitive, int, int, VertexFormat)
+     */
+    public void draw(Primitive primitive, int offset, int count, VertexFormat format) {
+        onRecord(OP_DRAW_ELEMENTS, primitive);
+        onRecordObject(format);
+        onRecordInt(offset);
+        onRecordInt(count);
+    }
+
+    /**
+     * @see Render#drawInstanced(Primitive, int, int, int)
+     */
+    public void drawInstanced(Primitive primitive, int offset, int count, int instances) {
+        onRecord(OP_DRAW_INSTANCED, primitive);
+        onRecordInt(offset);
+        onRecordInt(count);
+        onRecordInt(instances);
+    }
+
+    /**
+     * @see Render#drawInstanced(Primitive, int, int, VertexFormat, int)
+     */
+    public void drawInstanced(Primitive primitive, int offset, int count, VertexFormat format, int instances) {
+        onRecord(OP_DRAW_ELEMENTS_INSTANCED, primitive);
+        onRecordObject(format);
+        onRecordInt(offset);
+        onRecordInt(count);
+        onRecordInt(instances);
+    }
+
+    /**
+     * @see Mesh#draw(Primitive, int, int)
+     */
+    public void draw(Mesh mesh, Primitive primitive, int offset, int count) {
+        acquire(mesh.getDescriptor());
+        draw(primitive, offset, count);
+    }
+
+    /**
+     * @see Mesh#draw(Primitive, int, int, VertexFormat)
+     */
+    public void draw(Mesh mesh, Primitive primitive, int offset, int count, VertexFormat format) {
+        if (!mesh.getDescriptor().hasIndices()) {
+            throw new IllegalStateException("Cannot draw the mesh without an indices storage");
+        }
+        acquire(mesh.getDescriptor());
+        draw(primitive, offset, count, format);
+    }
+
+    /**
+     * <p>Mark the buffer as submitted</p>
+     */
+    void onSubmit() {
+        checkRecording();
+
+        mPending = true;
+    }
+
+    /**
+     * <p>Replay all operation(s) recorded using the given {@link Render}</p>
+     * <p>
+     * NOTE: Must be called from the thread that owns the context.
+     */
+    void onExecute(Render render) {
+        int iCommand = 0, iObject = 0, iFloat = 0, iValue = 0;
+
+        while (iCommand < mCommandsCount) {
+            switch (mCommands[iCommand++]) {
+                case OP_APPLY:
+                    render.apply((RenderState) mObjects[iObject++]);
+                    break;
+                case OP_COLOUR:
+                    render.colour(mFloats[iFloat], mFloats[iFloat + 1], mFloats[iFloat + 2], mFloats[iFloat + 3]);
+                    iFloat += 4;
+                    break;
+                case OP_CLEAR:
+                    final int mask = mCommands[iCommand++];
+                    render.clear((mask & 1) != 0, (mask & 2) != 0, (mask & 4) != 0);
+                    break;
+                case OP_VIEWPORT:
+                    render.viewport(
+                            mCommands[iCommand], mCommands[iCommand + 1],
+                            mCommands[iCommand + 2], mCommands[iCommand + 3]);
+                    iCommand += 4;
+                    break;
+                case OP_ACQUIRE_TEXTURE:
+                    render.acquire((Texture) mObjects[iObject++], mCommands[iCommand++]);
+                    break;
+                case OP_ACQUIRE_STORAGE:
+                    render.acquire((Storage<?>) mObjects[iObject++]);
+                    break;
+                case OP_ACQUIRE_SHADER:
+                    render.acquire((Shader) mObjects[iObject++]);
+                    break;
+                case OP_ACQUIRE_DESCRIPTOR:
+                    render.acquire((VertexDescriptor) mObjects[iObject++]);
+                    break;
+                case OP_ACQUIRE_FRAME:
+                    render.acquire((Frame) mObjects[iObject++]);
+                    break;
+                case OP_UPDATE_TEXTURE:
+                    render.update((Texture) mObjects[iObject++]);
+                    break;
+                case OP_UPDATE_STORAGE:
+                    render.update((Storage<?>) mObjects[iObject++]);
+                    break;
+                case OP_UPDATE_UNIFORM:
+                    render.update((Uniform) mObjects[iObject++], mValues, iValue);
+                    iValue += mCommands[iCommand++];
+                    break;
+                case OP_RELEASE_TEXTURE:
+                    render.release((Texture) mObjects[iObject++], mCommands[iCommand++]);
+                    break;
+                case OP_RELEASE_STORAGE:
+                    render.release((Storage<?>) mObjects[iObject++]);
+                    break;
+                case OP_RELEASE_SHADER:
+                    render.release((Shader) mObjects[iObject++]);
+                    break;
+                case OP_RELEASE_DESCRIPTOR:
+                    render.release((VertexDescriptor) mObjects[iObject++]);
+                    break;
+                case OP_RELEASE_FRAME:
+                    render.release((Frame) mObjects[iObject++]);
+                    break;
+                case OP_DRAW:
+                    render.draw((Primitive) mObjects[iObject++], mCommands[iCommand], mCommands[iCommand + 1]);
+                    iCommand += 2;
+                    break;
+                case OP_DRAW_ELEMENTS:
+                    render.draw(
+                            (Primitive) mObjects[iObject], mCommands[iCommand], mCommands[iCommand + 1],
+                            (VertexFormat) mObjects[iObject + 1]);
+                    iObject += 2;
+                    iCommand += 2;
+                    break;
+                case OP_DRAW_INSTANCED:
+                    render.drawInstanced(
+                            (Primitive) mObjects[iObject++],
+                            mCommands[iCommand], mCommands[iCommand + 1], mCommands[iCommand + 2]);
+                    iCommand += 3;
+                    break;
+                case OP_DRAW_ELEMENTS_INSTANCED:
+                    render.drawInstanced(
+                            (Primitive) mObjects[iObject], mCommands[iCommand], mCommands[iCommand + 1],
+                            (VertexFormat) mObjects[iObject + 1], mCommands[iCommand + 2]);
+                    iObject += 2;
+                    iCommand += 3;
+                    break;
+                case OP_CREATE_SHADER:
+                    render.create((Shader) mObjects[iObject++]);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operation in command buffer");
+            }
+        }
+        mPending = false;
+    }
+
+    /**
+     * <p>Check if the buffer can be recorded</p>
+     */
+    private void checkRecording() {
+        if (mPending) {
+            throw new IllegalStateException("Cannot record a command buffer that is pending execution");
+        }
+    }
+
+    /**
+     * <p>Record an operation</p>
+     */
+    private void onRecord(int operation) {
+        checkRecording();
+        onRecordInt(operation);
+    }
+
+    /**
+     * <p>Record an operation with an object argument</p>
+     */
+    private void onRecord(int operation, Object object) {
+        onRecord(operation);
+        onRecordObject(object);
+    }
+
+    /**
+     * <p>Record an integer argument</p>
+     */
+    private void onRecordInt(int value) {
+        if (mCommandsCount == mCommands.length) {
+            final int[] commands = new int[mCommands.length << 1];
+            System.arraycopy(mCommands, 0, commands, 0, mCommandsCount);
+            mCommands = commands;
+        }
+        mCommands[mCommandsCount++] = value;
+    }
+
+    /**
+     * <p>Record an object argument</p>
+     */
+    private void onRecordObject(Object value) {
+        if (mObjectsCount == mObjects.length) {
+            final Object[] objects = new Object[mObjects.length << 1];
+            System.arraycopy(mObjects, 0, objects, 0, mObjectsCount);
+            mObjects = objects;
+        }
+        mObjects[mObjectsCount++] = value;
+    }
+
+    /**
+     * <p>Record the update of a uniform and reserve the space of its value</p>
+     *
+     * @return the offset (in component(s)) of the value
+     */
+    private int onRecordUniform(Uniform uniform) {
+        final int length = uniform.getLength();
+
+        onRecord(OP_UPDATE_UNIFORM, uniform);
+        onRecordInt(length);
+
+        if (mValuesCount + length > mValues.length) {
+            final int[] values = new int[Math.max(mValuesCount + length, mValues.length << 1)];
+            System.arraycopy(mValues, 0, values, 0, mValuesCount);
+            mValues = values;
+        }
+        final int offset = mValuesCount;
+
+        mValuesCount += length;
+
+        return offset;
+    }
+
+    /**
+     * <p>Check if the given uniform type hold floating component(s)</p>
+     */
+    private static boolean isFloatingType(UniformType type) {
+        switch (type) {
+            case Float:
+            case Float2:
+            case Float3:
+            case Float4:
+            case FloatArray:
+            case Matrix3x3:
+            case Matrix4x4:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * <p>Record a floating argument</p>
+     */
+    private void onRecordFloat(float value) {
+        if (mFloatsCount == mFloats.length) {
+            final float[] floats = new float[mFloats.length << 1];
+            System.arraycopy(mFloats, 0, floats, 0, mFloatsCount);
+            mFloats = floats;
+        }
+        mFloats[mFloatsCount++] = value;
+    }
+}
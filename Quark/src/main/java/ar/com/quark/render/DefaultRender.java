@@ -25,7 +25,9 @@ import ar.com.quark.render.texture.*;
 import ar.com.quark.system.utility.array.*;
 import ar.com.quark.render.shader.Attribute;
 import ar.com.quark.render.shader.Shader;
+import ar.com.quark.render.shader.ShaderCache;
 import ar.com.quark.render.shader.Uniform;
+import ar.com.quark.render.shader.UniformBlock;
 import ar.com.quark.render.storage.factory.FactoryArrayStorage;
 import ar.com.quark.render.texture.frame.FrameAttachment;
 import ar.com.quark.system.utility.Manageable;
@@ -35,14 +37,30 @@ import ar.com.quark.render.texture.frame.Frame;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingDeque;
 
 /**
  * <b>Default</b> implementation for {@link Render}.
  */
 public final class DefaultRender implements Render {
+    /**
+     * Represent the default time (in nanoseconds) spent deleting component(s) every frame.
+     */
+    private static final long DEFAULT_DISPOSE_BUDGET = 2000000L;
+
+    /**
+     * Represent the number of name(s) deleted at once.
+     */
+    private static final int DELETE_BATCH = 256;
+
     /**
      * Hold {@link GLES32} context.
      */
@@ -58,21 +76,92 @@ public final class DefaultRender implements Render {
      */
     private final RenderState mStates = new RenderState();
 
+    /**
+     * Hold the packed key of the states of the renderer.
+     */
+    private long mStatesKey = mStates.getKey();
+
     /**
      * Hold all object(s) acquired (cache).
      */
     private int mTexture[], mTextureActive, mStorage[], mShader, mDescriptor, mFrame;
 
+    /**
+     * Hold the descriptor acquired (to source the segment offset of its {@link StorageType#STREAMING} storage(s)).
+     */
+    private VertexDescriptor mDescriptorActive;
+
+    /**
+     * Hold the last value uploaded to each uniform location of every program.
+     */
+    private final Map<Integer, UniformShadow> mUniformShadows = new HashMap<>();
+    private UniformShadow mUniformShadow;
+    private int mUniformShadowProgram = Manageable.INVALID_HANDLE;
+    private int mUniformScratch[] = new int[16];
+
+    /**
+     * Hold the array(s) used to upload a copy of an array (or matrix) uniform.
+     */
+    private Float32Array mUniformFloats;
+    private Int32Array mUniformInts;
+    private UInt32Array mUniformUInts;
+
+    /**
+     * Hold the array used to upload the modified region(s) of every texture.
+     */
+    private Int8Array mRegionScratch;
+
     /**
      * Hold all object(s) that is being removed.
+     * <p>
+     * NOTE: Object(s) are disposed from any thread but only deleted by the thread that owns the context.
+     */
+    private final Queue<Manageable> mManageable = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Hold the maximum time (in nanoseconds) spent deleting object(s) every frame.
+     */
+    private long mDisposeBudget = DEFAULT_DISPOSE_BUDGET;
+
+    /**
+     * Hold the name(s) of every texture and buffer being deleted (deleted at once).
+     */
+    private Int32Array mDeleteTextures;
+    private Int32Array mDeleteBuffers;
+
+    /**
+     * Hold the cache of program binaries, and the vendor, renderer and version of the driver.
+     */
+    private ShaderCache mShaderCache;
+    private String mVendor, mRenderer, mVersion;
+
+    /**
+     * Hold every shader being compiled (in background) whose link status hasn't been checked yet.
+     */
+    private final Map<Shader, ShaderPending> mShaderPending = new LinkedHashMap<>();
+
+    /**
+     * Hold all command buffer(s) that is being replayed.
      */
-    private final Queue<Manageable> mManageable = new LinkedBlockingDeque<>();
+    private final Queue<CommandBuffer> mCommandBuffers = new LinkedBlockingDeque<>();
 
     /**
      * Hold all emulated feature(s).
      */
     private VertexArrayObjectExtension mVertexArrayObjectExtension;
 
+    /**
+     * Hold the number of byte(s) and component(s) of every category of memory.
+     */
+    private final long[] mMemory = new long[MemoryReport.Category.values().length];
+    private final int[] mMemoryCount = new int[MemoryReport.Category.values().length];
+
+    /**
+     * Hold the statistics of the frame being rendered and the last frame rendered.
+     */
+    private RenderStatistics mStatistics = new RenderStatistics();
+    private RenderStatistics mStatisticsLast = new RenderStatistics();
+
     /**
      * <p>Handle when the module initialise</p>
      */
@@ -84,9 +173,23 @@ public final class DefaultRender implements Render {
         //!
         mCapabilities = mGL.glCapabilities();
 
+        mVendor = mGL.glGetString(GLES2.GL_VENDOR);
+        mRenderer = mGL.glGetString(GLES2.GL_RENDERER);
+        mVersion = mGL.glGetString(GLES2.GL_VERSION);
+
         mTexture = new int[mCapabilities.getInteger(RenderCapabilities.Limit.TEXTURE_STAGE)];
         mStorage = new int[StorageTarget.values().length];
 
+        mDeleteTextures = ArrayFactory.allocateInt32Array(DELETE_BATCH);
+        mDeleteBuffers = ArrayFactory.allocateInt32Array(DELETE_BATCH);
+
+        //!
+        //! Let the driver use as many compiler thread(s) as it wants.
+        //!
+        if (hasExtension(RenderCapabilities.Extension.GLSL_PARALLEL_COMPILE)) {
+            mGL.glMaxShaderCompilerThreads(0xFFFFFFFF);
+        }
+
         //!
         //! Get all emulated feature(s).
         //!
@@ -105,23 +208,62 @@ public final class DefaultRender implements Render {
         //! clean-up all object(s).
         //!
         onModuleUpdate();
+        onDelete(0L);
 
         //!
         //! Remove all reference(s).
         //!
         mVertexArrayObjectExtension = null;
+        mRegionScratch = ArrayFactory.free(mRegionScratch);
+        mDeleteTextures = ArrayFactory.free(mDeleteTextures);
+        mDeleteBuffers = ArrayFactory.free(mDeleteBuffers);
+        mUniformFloats = ArrayFactory.free(mUniformFloats);
+        mUniformInts = ArrayFactory.free(mUniformInts);
+        mUniformUInts = ArrayFactory.free(mUniformUInts);
     }
 
     /**
      * <p>Handle when the module update</p>
      */
     public void onModuleUpdate() {
-        while (mManageable.size() > 0) {
+        while (mCommandBuffers.size() > 0) {
             //!
-            //! Manage the delete all component(s) on the correct thread.
+            //! Replay all command buffer(s) on the correct thread (in submission order).
             //!
-            mManageable.poll().delete();
+            mCommandBuffers.poll().onExecute(this);
         }
+
+        //!
+        //! Check the status of every shader that has been compiled in background (without blocking).
+        //!
+        if (!mShaderPending.isEmpty() && hasExtension(RenderCapabilities.Extension.GLSL_PARALLEL_COMPILE)) {
+            final Iterator<Map.Entry<Shader, ShaderPending>> iterator = mShaderPending.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                final Map.Entry<Shader, ShaderPending> entry = iterator.next();
+                final Shader shader = entry.getKey();
+
+                if (mGL.glGetProgram(shader.getHandle(), GLESExtension.GL_COMPLETION_STATUS) == GLES2.GL_TRUE) {
+                    iterator.remove();
+
+                    onLinkShader(shader, entry.getValue().mKey, entry.getValue().mStages);
+                    onUpdateShaderUniforms(shader);
+                }
+            }
+        }
+
+        //!
+        //! Manage the delete of the component(s) on the correct thread (within the budget of the frame).
+        //!
+        onDelete(mDisposeBudget);
+
+        //!
+        //! Swap the statistics of the frame (the oldest one is re-used).
+        //!
+        final RenderStatistics statistics = mStatisticsLast;
+        mStatisticsLast = mStatistics;
+        mStatistics = statistics;
+        mStatistics.reset();
     }
 
     /**
@@ -132,6 +274,116 @@ public final class DefaultRender implements Render {
         mManageable.add(manageable);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDisposeBudget(long budget) {
+        mDisposeBudget = budget;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setShaderCache(ShaderCache cache) {
+        mShaderCache = cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long createFence() {
+        return mGL.glFenceSync(GLES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean waitFence(long fence, long timeout) {
+        return fence == 0L
+                || mGL.glClientWaitSync(fence, GLES3.GL_SYNC_FLUSH_COMMANDS_BIT, timeout) != GLES3.GL_TIMEOUT_EXPIRED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteFence(long fence) {
+        if (fence != 0L) {
+            mGL.glDeleteSync(fence);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createQuery() {
+        return mGL.glGenQueries();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteQuery(int query) {
+        if (query != Manageable.INVALID_HANDLE) {
+            mGL.glDeleteQueries(query);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginQuery(QueryType type, int query) {
+        mGL.glBeginQuery(type.eValue, query);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endQuery(QueryType type) {
+        mGL.glEndQuery(type.eValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasQueryResult(int query) {
+        return query == Manageable.INVALID_HANDLE
+                || mGL.glGetQueryObjecti(query, GLES3.GL_QUERY_RESULT_AVAILABLE) != GLES2.GL_FALSE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getQueryResult(int query) {
+        return query != Manageable.INVALID_HANDLE ? mGL.glGetQueryObjectui64(query, GLES3.GL_QUERY_RESULT) : 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginConditional(int query) {
+        mGL.glBeginConditionalRender(query, GLES3.GL_QUERY_NO_WAIT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endConditional() {
+        mGL.glEndConditionalRender();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -140,115 +392,125 @@ public final class DefaultRender implements Render {
         return mCapabilities;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderStatistics getStatistics() {
+        return mStatisticsLast;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemoryReport getMemoryReport() {
+        return new MemoryReport(mMemory, mMemoryCount);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void apply(RenderState states) {
+        //!
+        //! Only dispatch the group(s) that differ from the current state(s) (ignoring those that inherit).
+        //!
+        final long requested = states.getKey();
+        final long inherit = states.getKeyInherit();
+        final long changed = (mStatesKey ^ requested) & ~inherit;
+        final long resolved = (mStatesKey & inherit) | (requested & ~inherit);
+
+        long commit = 0L;
+
         //!
         //! ALPHA_TO_COVERAGE
         //!
-        if (states.getAlphaToCoverage() != mStates.getAlphaToCoverage()) {
+        if ((changed & RenderState.GROUP_ALPHA_TO_COVERAGE) != 0) {
             onUpdateState(states.getAlphaToCoverage(), GLES2.GL_SAMPLE_ALPHA_TO_COVERAGE);
 
-            mStates.setAlphaToCoverage(states.getAlphaToCoverage());
+            commit |= RenderState.GROUP_ALPHA_TO_COVERAGE;
         }
 
         //!
         //! BLEND
         //!
-        final boolean isBlend = RenderState.isFlagEnabled(states.getBlend(), mStates.getBlend());
+        final int blend = RenderState.getGroup(resolved, RenderState.SHIFT_BLEND, 0xF);
+        final boolean isBlend = blend != RenderState.Blend.NONE.ordinal();
 
-        if (RenderState.isFlagDirty(states.getBlend(), mStates.getBlend())) {
-            if (onUpdateState(isBlend, GLES2.GL_BLEND) && states.getBlend() != RenderState.Blend.NONE) {
+        if ((changed & RenderState.GROUP_BLEND) != 0) {
+            if (onUpdateState(isBlend, GLES2.GL_BLEND) && isBlend) {
                 mGL.glBlendFunc(states.getBlend().eSource, states.getBlend().eDestination);
             }
-
-            mStates.setBlend(states.getBlend());
+            commit |= RenderState.GROUP_BLEND;
         }
 
         //!
         //! BLEND_EQUATION
         //!
-        if (isBlend
-                && (states.getBlendEquationColour() != mStates.getBlendEquationColour()
-                || states.getBlendEquationAlpha() != mStates.getBlendEquationAlpha())) {
+        if (isBlend && (changed & RenderState.GROUP_BLEND_EQUATION) != 0) {
             mGL.glBlendEquationSeparate(
                     states.getBlendEquationColour().eValue,
                     states.getBlendEquationAlpha().eValue);
 
-            mStates.setBlendEquation(states.getBlendEquationColour(), states.getBlendEquationAlpha());
+            commit |= RenderState.GROUP_BLEND_EQUATION;
         }
 
         //!
         //! COLOR_MASK
         //!
-        if (RenderState.isFlagDirty(states.getRedMask(), mStates.getRedMask())
-                || RenderState.isFlagDirty(states.getGreenMask(), mStates.getGreenMask())
-                || RenderState.isFlagDirty(states.getBlueMask(), mStates.getBlueMask())
-                || RenderState.isFlagDirty(states.getAlphaMask(), mStates.getAlphaMask())) {
+        if ((changed & RenderState.GROUP_COLOUR_MASK) != 0) {
+            final int disable = RenderState.Flag.DISABLE.ordinal();
 
-            final boolean red
-                    = RenderState.isFlagEnabled(states.getRedMask(), mStates.getRedMask());
-            final boolean green
-                    = RenderState.isFlagEnabled(states.getGreenMask(), mStates.getGreenMask());
-            final boolean blue
-                    = RenderState.isFlagEnabled(states.getBlueMask(), mStates.getBlueMask());
-            final boolean alpha
-                    = RenderState.isFlagEnabled(states.getAlphaMask(), mStates.getAlphaMask());
+            mGL.glColorMask(
+                    RenderState.getGroup(resolved, RenderState.SHIFT_COLOUR_MASK, 0x3) != disable,
+                    RenderState.getGroup(resolved, RenderState.SHIFT_COLOUR_MASK + 2, 0x3) != disable,
+                    RenderState.getGroup(resolved, RenderState.SHIFT_COLOUR_MASK + 4, 0x3) != disable,
+                    RenderState.getGroup(resolved, RenderState.SHIFT_COLOUR_MASK + 6, 0x3) != disable);
 
-            mGL.glColorMask(red, green, blue, alpha);
-
-            final RenderState.Flag fRed = (states.getRedMask() != RenderState.Flag.INHERIT)
-                    ? states.getRedMask() : mStates.getRedMask();
-            final RenderState.Flag fGreen = (states.getGreenMask() != RenderState.Flag.INHERIT)
-                    ? states.getGreenMask() : mStates.getGreenMask();
-            final RenderState.Flag fBlue = (states.getBlueMask() != RenderState.Flag.INHERIT)
-                    ? states.getBlueMask() : mStates.getBlueMask();
-            final RenderState.Flag fAlpha = (states.getAlphaMask() != RenderState.Flag.INHERIT)
-                    ? states.getAlphaMask() : mStates.getAlphaMask();
-            mStates.setColourMask(fRed, fGreen, fBlue, fAlpha);
+            commit |= RenderState.GROUP_COLOUR_MASK;
         }
 
         //!
         //! CULL
         //!
-        final boolean isCull = RenderState.isFlagEnabled(states.getCullFace(), mStates.getCullFace());
+        if ((changed & RenderState.GROUP_CULL) != 0) {
+            final boolean isCull = states.getCullFace() != RenderState.Cull.NONE;
 
-        if (RenderState.isFlagDirty(states.getCullFace(), mStates.getCullFace())) {
-            if (onUpdateState(isCull, GLES2.GL_CULL_FACE) && states.getCullFace() != RenderState.Cull.NONE) {
+            if (onUpdateState(isCull, GLES2.GL_CULL_FACE) && isCull) {
                 mGL.glCullFace(states.getCullFace().eValue);
             }
-            mStates.setCullFace(states.getCullFace());
+            commit |= RenderState.GROUP_CULL;
         }
 
         //!
         //! DEPTH
         //!
-        final boolean isDepth = RenderState.isFlagEnabled(states.getDepth(), mStates.getDepth());
+        final boolean isDepth = RenderState.getGroup(resolved, RenderState.SHIFT_DEPTH, 0x3)
+                != RenderState.Flag.DISABLE.ordinal();
 
-        if (RenderState.isFlagDirty(states.getDepth(), mStates.getDepth())) {
+        if ((changed & RenderState.GROUP_DEPTH) != 0) {
             onUpdateState(states.getDepth(), GLES2.GL_DEPTH_TEST);
 
-            mStates.setDepth(states.getDepth());
+            commit |= RenderState.GROUP_DEPTH;
         }
 
         //!
         //! DEPTH_MASK
         //!
-        if (isDepth && RenderState.isFlagDirty(states.getDepthMask(), mStates.getDepthMask())) {
+        if (isDepth && (changed & RenderState.GROUP_DEPTH_MASK) != 0) {
             mGL.glDepthMask(states.getDepthMask() == RenderState.Flag.ENABLE);
 
-            mStates.setDepthMask(states.getDepthMask());
+            commit |= RenderState.GROUP_DEPTH_MASK;
         }
 
         //!
         //! DEPTH_OP
         //!
-        if (isDepth && states.getDepthOp() != mStates.getDepthOp()) {
+        if (isDepth && (changed & RenderState.GROUP_DEPTH_OP) != 0) {
             mGL.glDepthFunc(states.getDepthOp().eValue);
 
-            mStates.setDepthOp(states.getDepthOp());
+            commit |= RenderState.GROUP_DEPTH_OP;
         }
 
         //!
@@ -265,12 +527,13 @@ public final class DefaultRender implements Render {
         //!
         //! SCISSOR
         //!
-        final boolean isScissor = RenderState.isFlagEnabled(states.getScissor(), mStates.getScissor());
+        final boolean isScissor = RenderState.getGroup(resolved, RenderState.SHIFT_SCISSOR, 0x3)
+                != RenderState.Flag.DISABLE.ordinal();
 
-        if (RenderState.isFlagDirty(states.getScissor(), mStates.getScissor())) {
+        if ((changed & RenderState.GROUP_SCISSOR) != 0) {
             onUpdateState(states.getScissor(), GLES2.GL_SCISSOR_TEST);
 
-            mStates.setScissor(states.getScissor());
+            commit |= RenderState.GROUP_SCISSOR;
         }
 
         //!
@@ -287,26 +550,31 @@ public final class DefaultRender implements Render {
         //!
         //! STENCIL
         //!
-        final boolean isStencil = RenderState.isFlagEnabled(states.getStencil(), mStates.getStencil());
+        final boolean isStencil = RenderState.getGroup(resolved, RenderState.SHIFT_STENCIL, 0x3)
+                != RenderState.Flag.DISABLE.ordinal();
 
-        if (RenderState.isFlagDirty(states.getStencil(), mStates.getStencil())) {
+        if ((changed & RenderState.GROUP_STENCIL) != 0) {
             onUpdateState(states.getStencil(), GLES2.GL_STENCIL_TEST);
 
-            mStates.setStencil(states.getStencil());
+            commit |= RenderState.GROUP_STENCIL;
         }
 
         //!
-        //! STENCIL_OP
+        //! STENCIL_FUNC
         //!
-        if (isStencil && states.getStencilFrontOp() != mStates.getStencilFrontOp()
-                || states.getStencilFrontFailOp() != mStates.getStencilFrontFailOp()
-                || states.getStencilFrontDepthFailOp() != mStates.getStencilFrontDepthFailOp()
-                || states.getStencilFrontDepthPassOp() != mStates.getStencilFrontDepthPassOp()
-                || states.getStencilBackOp() != mStates.getStencilBackOp()
-                || states.getStencilBackFailOp() != mStates.getStencilBackFailOp()
-                || states.getStencilBackDepthFailOp() != mStates.getStencilBackDepthFailOp()
-                || states.getStencilBackDepthPassOp() != mStates.getStencilBackDepthPassOp()) {
+        if (isStencil && (changed & RenderState.GROUP_STENCIL_FUNC) != 0) {
+            mGL.glStencilFuncSeparate(GLES2.GL_FRONT,
+                    states.getStencilFrontOp().eValue, 1, Integer.MAX_VALUE);
+            mGL.glStencilFuncSeparate(GLES2.GL_BACK,
+                    states.getStencilBackOp().eValue, 1, Integer.MAX_VALUE);
+
+            commit |= RenderState.GROUP_STENCIL_FUNC;
+        }
 
+        //!
+        //! STENCIL_OP
+        //!
+        if (isStencil && (changed & RenderState.GROUP_STENCIL_OP) != 0) {
             mGL.glStencilOpSeparate(GLES2.GL_FRONT,
                     states.getStencilFrontFailOp().eValue,
                     states.getStencilFrontDepthFailOp().eValue,
@@ -317,19 +585,13 @@ public final class DefaultRender implements Render {
                     states.getStencilBackDepthFailOp().eValue,
                     states.getStencilBackDepthPassOp().eValue);
 
-            mGL.glStencilFuncSeparate(GLES2.GL_FRONT,
-                    states.getStencilFrontOp().eValue, 1, Integer.MAX_VALUE);
-            mGL.glStencilFuncSeparate(GLES2.GL_BACK,
-                    states.getStencilBackOp().eValue, 1, Integer.MAX_VALUE);
-
-            mStates.setStencilOp(states.getStencilFrontOp(), states.getStencilBackOp());
-            mStates.setStencilFrontOp(states.getStencilFrontFailOp(),
-                    states.getStencilFrontDepthFailOp(),
-                    states.getStencilFrontDepthPassOp());
-            mStates.setStencilBackOp(states.getStencilBackFailOp(),
-                    states.getStencilBackDepthFailOp(),
-                    states.getStencilBackDepthPassOp());
+            commit |= RenderState.GROUP_STENCIL_OP;
         }
+
+        //!
+        //! Store the resolved state(s) (a group may be partially inherited, e.g each channel of the colour mask).
+        //!
+        mStatesKey = (mStatesKey & ~commit) | (resolved & commit);
     }
 
     /**
@@ -363,6 +625,16 @@ public final class DefaultRender implements Render {
         mGL.glViewport(x, y, width, height);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submit(CommandBuffer buffer) {
+        buffer.onSubmit();
+
+        mCommandBuffers.add(buffer);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -461,6 +733,30 @@ public final class DefaultRender implements Render {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void createAll(Collection<Shader> shaders) {
+        for (final Shader shader : shaders) {
+            if (shader.getHandle() != Manageable.INVALID_HANDLE) {
+                continue;
+            }
+            shader.setHandle(mGL.glCreateProgram());
+
+            //!
+            //! Load the program from its binary (if it has been cached), otherwise only issue its compilation.
+            //!
+            final String key = onGetShaderKey(shader);
+
+            if (key != null && onUpdateShaderBinary(shader, key)) {
+                onUpdateShaderUniforms(shader);
+            } else {
+                mShaderPending.put(shader, new ShaderPending(key, onCompileShader(shader, key)));
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -503,13 +799,17 @@ public final class DefaultRender implements Render {
         if (texture.getHandle() == Manageable.INVALID_HANDLE) {
             return;
         }
-        for (int i = 0; i < mTexture.length; ++i) {
+        for (int i = 0, handle = texture.getHandle(); i < mTexture.length; ++i) {
             //!
             //! Proceed to release the component if is acquired
             //!
-            release(texture, i);
+            if (mTexture[i] == handle) {
+                release(texture, i);
+            }
         }
-        mGL.glDeleteTextures(texture.setHandle(Manageable.INVALID_HANDLE));
+        onUpdateMemory(texture, MemoryReport.Category.TEXTURE, 0L);
+
+        onDeleteName(mDeleteTextures, texture.setHandle(Manageable.INVALID_HANDLE));
     }
 
     /**
@@ -525,7 +825,15 @@ public final class DefaultRender implements Render {
             //!
             release(storage);
         }
-        mGL.glDeleteBuffers(storage.setHandle(Manageable.INVALID_HANDLE));
+        if (storage.getType() == StorageType.STREAMING) {
+            //!
+            //! Release the fence(s) guarding each segment of the storage.
+            //!
+            storage.deleteAllMemory();
+        }
+        onUpdateMemory(storage, MemoryReport.Category.STORAGE, 0L);
+
+        onDeleteName(mDeleteBuffers, storage.setHandle(Manageable.INVALID_HANDLE));
     }
 
     /**
@@ -541,6 +849,17 @@ public final class DefaultRender implements Render {
             //!
             release(shader);
         }
+        onDeleteUniformShadow(shader.getHandle());
+
+        //!
+        //! Dispose all intermediary shader compiled (if the status was never checked).
+        //!
+        final ShaderPending pending = mShaderPending.remove(shader);
+
+        if (pending != null) {
+            Emulation.forEach(pending.mStages, mGL::glDeleteShader);
+        }
+
         mGL.glDeleteProgram(shader.setHandle(Manageable.INVALID_HANDLE));
     }
 
@@ -579,6 +898,8 @@ public final class DefaultRender implements Render {
         //!
         Emulation.forEach(frame.getAttachment(), (name, attachment) -> onDeleteFrameTarget(frame, attachment));
 
+        onUpdateMemory(frame, MemoryReport.Category.RENDER_BUFFER, 0L);
+
         //!
         //! Delete all frame-buffer.
         //!
@@ -611,6 +932,10 @@ public final class DefaultRender implements Render {
                 mTextureActive = stage;
             }
             mGL.glBindTexture(texture.getType().eValue, mTexture[stage] = texture.getHandle());
+
+            mStatistics.mTextureBinds++;
+        } else if (texture.getHandle() != Manageable.INVALID_HANDLE) {
+            mStatistics.mAcquireSkipped++;
         }
     }
 
@@ -624,6 +949,10 @@ public final class DefaultRender implements Render {
             //! Prevent acquiring the component if isn't needed.
             //!
             mGL.glBindBuffer(storage.getTarget().eValue, mStorage[storage.getTarget().ordinal()] = storage.getHandle());
+
+            mStatistics.mBufferBinds++;
+        } else if (storage.getHandle() != Manageable.INVALID_HANDLE) {
+            mStatistics.mAcquireSkipped++;
         }
     }
 
@@ -632,11 +961,27 @@ public final class DefaultRender implements Render {
      */
     @Override
     public void acquire(Shader shader) {
+        if (!mShaderPending.isEmpty()) {
+            //!
+            //! Check the status of the shader (if it was compiled in background), before its first use.
+            //!
+            final ShaderPending pending = mShaderPending.remove(shader);
+
+            if (pending != null) {
+                onLinkShader(shader, pending.mKey, pending.mStages);
+                onUpdateShaderUniforms(shader);
+            }
+        }
+
         if (!isActive(shader) && shader.getHandle() != Manageable.INVALID_HANDLE) {
             //!
             //! Prevent acquiring the component if isn't needed.
             //!
             mGL.glUseProgram(mShader = shader.getHandle());
+
+            mStatistics.mProgramBinds++;
+        } else if (shader.getHandle() != Manageable.INVALID_HANDLE) {
+            mStatistics.mAcquireSkipped++;
         }
     }
 
@@ -650,7 +995,12 @@ public final class DefaultRender implements Render {
             //! Prevent acquiring the component if isn't needed.
             //!
             mVertexArrayObjectExtension.glBindVertexArray(descriptor);
+
+            mStatistics.mDescriptorBinds++;
+        } else {
+            mStatistics.mAcquireSkipped++;
         }
+        mDescriptorActive = descriptor;
     }
 
     /**
@@ -663,6 +1013,10 @@ public final class DefaultRender implements Render {
             //! Prevent acquiring the component if isn't needed.
             //!
             mGL.glBindFramebuffer(GLES2.GL_FRAMEBUFFER, mFrame = frame.getHandle());
+
+            mStatistics.mFrameBinds++;
+        } else if (frame.getHandle() != Manageable.INVALID_HANDLE) {
+            mStatistics.mAcquireSkipped++;
         }
     }
 
@@ -713,11 +1067,65 @@ public final class DefaultRender implements Render {
             //!
             if (texture.hasUpdate(Texture.CONCEPT_IMAGE)) {
                 onUpdateTextureImage(texture, texture.getImage());
+            } else if (texture.hasUpdate(Texture.CONCEPT_LEVEL)) {
+                onUpdateTextureLevel(texture, texture.getImage());
+            }
+
+            //!
+            //! Check if region(s) of the image require(s) update.
+            //!
+            if (texture.hasUpdate(Texture.CONCEPT_REGION)) {
+                onUpdateTextureRegion(texture, texture.getImage());
             }
             texture.setUpdated();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(Texture texture, Storage<?> storage, int offset,
+            int x, int y, int z, int width, int height, int depth) {
+        if (storage.getTarget() != StorageTarget.PIXEL_UNPACK) {
+            throw new IllegalArgumentException("Trying to update a texture from a non pixel unpack storage");
+        }
+        acquire(texture);
+        update(texture);
+
+        //!
+        //! NOTE: While the storage is bound every upload source its pixel(s) from it.
+        //!
+        acquire(storage);
+
+        switch (texture.getType()) {
+            case TEXTURE_2D:
+                mGL.glTexSubImage2D(texture.getType().eValue, 0, x, y, width, height,
+                        texture.getImage().getFormat().eValue, texture.getFormat().eType, (long) offset);
+                break;
+            case TEXTURE_3D:
+                mGL.glTexSubImage3D(texture.getType().eValue, 0, x, y, z, width, height, depth,
+                        texture.getImage().getFormat().eValue, texture.getFormat().eType, (long) offset);
+                break;
+            case TEXTURE_CUBE:
+                mGL.glTexSubImage2D(GLES2.GL_TEXTURE_CUBE_MAP_POSITIVE_X + z, 0, x, y, width, height,
+                        texture.getImage().getFormat().eValue, texture.getFormat().eType, (long) offset);
+                break;
+        }
+        release(storage);
+
+        mStatistics.mTextureBytes += (long) width * height * depth * texture.getImage().getFormat().eComponent;
+
+        //!
+        //! Re-generate mip-map(s) if the image generate them (will use hardware feature to generate it).
+        //!
+        final Image.Layer layer = texture.getImage().getLayer().get(0);
+
+        if (layer.mipmap && layer.images.length <= 1) {
+            mGL.glGenerateMipmap(texture.getType().eValue);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -741,10 +1149,14 @@ public final class DefaultRender implements Render {
                     storage.deleteAllMemory();
                     break;
                 case SERVER_MAPPED:
+                case STREAMING:
                     mGL.glBufferData(storage.getTarget().eValue, storage.getCapacity(), storage.getMode().eValue);
 
                     break;
             }
+            onUpdateMemory(storage, MemoryReport.Category.STORAGE, storage.getCapacity());
+
+            storage.setRangeUpdated();
             storage.setUpdated();
         } else if (storage.hasUpdate(Storage.CONCEPT_DATA_CHANGE)) {
             //!
@@ -758,6 +1170,7 @@ public final class DefaultRender implements Render {
                 case SERVER:
                     onUpdateStorageAgain(storage);
             }
+            storage.setRangeUpdated();
             storage.setUpdated();
         }
     }
@@ -767,7 +1180,9 @@ public final class DefaultRender implements Render {
      */
     @Override
     public void update(Uniform uniform) {
-        if (uniform.hasUpdate()) {
+        if (uniform.hasUpdate() && onUpdateUniformShadow(uniform)) {
+            mStatistics.mUniformUploads++;
+
             switch (uniform.getType()) {
                 case Float: {
                     final Float value = ((UniformFloat) uniform).getValue();
@@ -830,22 +1245,22 @@ public final class DefaultRender implements Render {
                 }
                 break;
                 case UInt: {
-                    final int value = ((UniformInt) uniform).getValue();
+                    final int value = ((UniformUnsignedInt) uniform).getValue();
                     mGL.glUniform1ui(uniform.getHandle(), value);
                 }
                 break;
                 case UInt2: {
-                    final Vector2i value = ((UniformInt2) uniform).getValue();
+                    final Vector2i value = ((UniformUnsignedInt2) uniform).getValue();
                     mGL.glUniform2ui(uniform.getHandle(), value.getX(), value.getY());
                 }
                 break;
                 case UInt3: {
-                    final Vector3i value = ((UniformInt3) uniform).getValue();
+                    final Vector3i value = ((UniformUnsignedInt3) uniform).getValue();
                     mGL.glUniform3ui(uniform.getHandle(), value.getX(), value.getY(), value.getZ());
                 }
                 break;
                 case UInt4: {
-                    final Vector4i value = ((UniformInt4) uniform).getValue();
+                    final Vector4i value = ((UniformUnsignedInt4) uniform).getValue();
                     mGL.glUniform4ui(uniform.getHandle(), value.getX(), value.getY(), value.getZ(), value.getW());
                 }
                 break;
@@ -855,10 +1270,117 @@ public final class DefaultRender implements Render {
                 }
                 break;
             }
-            uniform.setUpdated();
+        }
+        uniform.setUpdated();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(Uniform uniform, int[] value, int offset) {
+        final int length = uniform.getLength();
+
+        if (!onUpdateUniformShadow(uniform.getHandle(), value, offset, length)) {
+            return;
+        }
+        mStatistics.mUniformUploads++;
+
+        final int handle = uniform.getHandle();
+
+        switch (uniform.getType()) {
+            case Float:
+                mGL.glUniform1f(handle, Float.intBitsToFloat(value[offset]));
+                break;
+            case Float2:
+                mGL.glUniform2f(handle,
+                        Float.intBitsToFloat(value[offset]), Float.intBitsToFloat(value[offset + 1]));
+                break;
+            case Float3:
+                mGL.glUniform3f(handle,
+                        Float.intBitsToFloat(value[offset]), Float.intBitsToFloat(value[offset + 1]),
+                        Float.intBitsToFloat(value[offset + 2]));
+                break;
+            case Float4:
+                mGL.glUniform4f(handle,
+                        Float.intBitsToFloat(value[offset]), Float.intBitsToFloat(value[offset + 1]),
+                        Float.intBitsToFloat(value[offset + 2]), Float.intBitsToFloat(value[offset + 3]));
+                break;
+            case FloatArray:
+                mGL.glUniform1fv(handle, onScatterUniform(value, offset, length));
+                break;
+            case Int:
+                mGL.glUniform1i(handle, value[offset]);
+                break;
+            case Int2:
+                mGL.glUniform2i(handle, value[offset], value[offset + 1]);
+                break;
+            case Int3:
+                mGL.glUniform3i(handle, value[offset], value[offset + 1], value[offset + 2]);
+                break;
+            case Int4:
+                mGL.glUniform4i(handle, value[offset], value[offset + 1], value[offset + 2], value[offset + 3]);
+                break;
+            case IntArray:
+                if (mUniformInts == null || mUniformInts.capacity() < (length << 2)) {
+                    ArrayFactory.free(mUniformInts);
+
+                    mUniformInts = ArrayFactory.allocateInt32Array(length);
+                }
+                mGL.glUniform1iv(handle, onScatterUniform(mUniformInts, value, offset, length));
+                break;
+            case Matrix3x3:
+                mGL.glUniformMatrix3fv(handle, false, onScatterUniform(value, offset, length));
+                break;
+            case Matrix4x4:
+                mGL.glUniformMatrix4fv(handle, false, onScatterUniform(value, offset, length));
+                break;
+            case UInt:
+                mGL.glUniform1ui(handle, value[offset]);
+                break;
+            case UInt2:
+                mGL.glUniform2ui(handle, value[offset], value[offset + 1]);
+                break;
+            case UInt3:
+                mGL.glUniform3ui(handle, value[offset], value[offset + 1], value[offset + 2]);
+                break;
+            case UInt4:
+                mGL.glUniform4ui(handle, value[offset], value[offset + 1], value[offset + 2], value[offset + 3]);
+                break;
+            case UIntArray:
+                if (mUniformUInts == null || mUniformUInts.capacity() < (length << 2)) {
+                    ArrayFactory.free(mUniformUInts);
+
+                    mUniformUInts = ArrayFactory.allocateUInt32Array(length);
+                }
+                mGL.glUniform1uiv(handle, onScatterUniform(mUniformUInts, value, offset, length));
+                break;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(UniformBlock block) {
+        if (!hasExtension(RenderCapabilities.Extension.UNIFORM_BUFFER)) {
+            throw new IllegalStateException("Uniform block(s) are not supported");
+        }
+        final Storage<?> storage = block.getStorage();
+
+        storage.create();
+
+        acquire(storage);
+        update(storage);
+
+        //!
+        //! NOTE: Binding a storage to an indexed point also bind it to the generic point (already acquired).
+        //!
+        mGL.glBindBufferBase(storage.getTarget().eValue, block.getBinding(), storage.getHandle());
+
+        mStatistics.mBufferBinds++;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -885,6 +1407,8 @@ public final class DefaultRender implements Render {
                 mTextureActive = stage;
             }
             mGL.glBindTexture(texture.getType().eValue, mTexture[stage] = Manageable.INVALID_HANDLE);
+
+            mStatistics.mTextureBinds++;
         }
     }
 
@@ -899,6 +1423,8 @@ public final class DefaultRender implements Render {
             //!
             mGL.glBindBuffer(storage.getTarget().eValue,
                     mStorage[storage.getTarget().ordinal()] = Manageable.INVALID_HANDLE);
+
+            mStatistics.mBufferBinds++;
         }
     }
 
@@ -912,6 +1438,8 @@ public final class DefaultRender implements Render {
             //! Prevent releasing the component if not acquired.
             //!
             mGL.glUseProgram(mShader = Manageable.INVALID_HANDLE);
+
+            mStatistics.mProgramBinds++;
         }
     }
 
@@ -925,9 +1453,40 @@ public final class DefaultRender implements Render {
             //! Prevent acquiring the component if isn't needed.
             //!
             mVertexArrayObjectExtension.glUnbindVertexArray(descriptor);
+
+            mStatistics.mDescriptorBinds++;
+
+            mDescriptorActive = null;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(Frame frame, Storage<?> storage, int x, int y, int width, int height) {
+        if (storage.getTarget() != StorageTarget.PIXEL_PACK) {
+            throw new IllegalArgumentException("Trying to read a frame into a non pixel pack storage");
+        }
+
+        //!
+        //! NOTE: While the storage is bound the pixel(s) are written into it (the copy is asynchronous).
+        //!
+        acquire(storage);
+
+        onReadFrame(frame, x, y, width, height, null);
+
+        release(storage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(Frame frame, Int8Array data, int x, int y, int width, int height) {
+        onReadFrame(frame, x, y, width, height, data);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -938,6 +1497,8 @@ public final class DefaultRender implements Render {
             //! Prevent releasing the component if not acquired.
             //!
             mGL.glBindFramebuffer(GLES2.GL_FRAMEBUFFER, mFrame = Manageable.INVALID_HANDLE);
+
+            mStatistics.mFrameBinds++;
         }
     }
 
@@ -946,7 +1507,11 @@ public final class DefaultRender implements Render {
      */
     @Override
     public void draw(Primitive primitive, int offset, int count) {
+        onUpdateDescriptorOffset();
+
         mGL.glDrawArrays(primitive.eValue, offset, count);
+
+        mStatistics.onDraw(primitive, count, 1);
     }
 
     /**
@@ -954,7 +1519,93 @@ public final class DefaultRender implements Render {
      */
     @Override
     public void draw(Primitive primitive, int offset, int count, VertexFormat format) {
-        mGL.glDrawElements(primitive.eValue, count, format.eValue, offset);
+        onUpdateDescriptorOffset();
+
+        mGL.glDrawElements(primitive.eValue, count, format.eValue, getIndicesOffset() + offset);
+
+        mStatistics.onDraw(primitive, count, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void draw(Primitive primitive, int offset, int count, VertexFormat format, int base) {
+        onUpdateDescriptorOffset();
+
+        if (base == 0) {
+            mGL.glDrawElements(primitive.eValue, count, format.eValue, getIndicesOffset() + offset);
+        } else if (hasExtension(RenderCapabilities.Extension.VERTEX_ARRAY_BASE_VERTEX)) {
+            mGL.glDrawElementsBaseVertex(
+                    primitive.eValue, count, format.eValue, getIndicesOffset() + offset, base);
+        } else {
+            throw new IllegalStateException("Cannot draw with a base vertex (not supported)");
+        }
+        mStatistics.onDraw(primitive, count, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void draw(Primitive primitive, Int32Array offset, Int32Array count, VertexFormat format) {
+        final int length = count.remaining() >> 2;
+
+        onUpdateDescriptorOffset();
+
+        //!
+        //! NOTE: The offset(s) cannot be rebased into a segment of the indices without modifying them.
+        //!
+        if (hasExtension(RenderCapabilities.Extension.VERTEX_ARRAY_MULTI_DRAW) && getIndicesOffset() == 0) {
+            mGL.glMultiDrawElements(primitive.eValue, count, format.eValue, offset);
+
+            mStatistics.mDrawCalls++;
+
+            for (int i = 0; i < length; ++i) {
+                mStatistics.mPrimitives += RenderStatistics.getPrimitives(
+                        primitive, count.readInt32(count.position() + (i << 2)));
+            }
+        } else {
+            //!
+            //! Fallback into a call per draw.
+            //!
+            for (int i = 0; i < length; ++i) {
+                draw(primitive,
+                        offset.readInt32(offset.position() + (i << 2)),
+                        count.readInt32(count.position() + (i << 2)), format);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawInstanced(Primitive primitive, int offset, int count, int instances) {
+        if (!hasExtension(RenderCapabilities.Extension.VERTEX_ARRAY_INSTANCING)) {
+            throw new IllegalStateException("Cannot draw instanced (not supported)");
+        }
+        onUpdateDescriptorOffset();
+
+        mGL.glDrawArraysInstanced(primitive.eValue, offset, count, instances);
+
+        mStatistics.onDraw(primitive, count, instances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void drawInstanced(Primitive primitive, int offset, int count, VertexFormat format, int instances) {
+        if (!hasExtension(RenderCapabilities.Extension.VERTEX_ARRAY_INSTANCING)) {
+            throw new IllegalStateException("Cannot draw instanced (not supported)");
+        }
+        onUpdateDescriptorOffset();
+
+        mGL.glDrawElementsInstanced(
+                primitive.eValue, count, format.eValue, getIndicesOffset() + offset, instances);
+
+        mStatistics.onDraw(primitive, count, instances);
     }
 
     /**
@@ -1011,6 +1662,7 @@ public final class DefaultRender implements Render {
         } else {
             return false;
         }
+        mStatistics.mStateChanges++;
         return true;
     }
 
@@ -1075,12 +1727,47 @@ public final class DefaultRender implements Render {
         }
     }
 
+    /**
+     * <p>Read the colour pixel(s) of {@link Frame}</p>
+     */
+    private void onReadFrame(Frame frame, int x, int y, int width, int height, Int8Array data) {
+        final int handle = (frame != null ? frame.getHandle() : Manageable.INVALID_HANDLE);
+
+        //!
+        //! Temporally bind the frame being read (if isn't the current one).
+        //!
+        if (handle != mFrame) {
+            mGL.glBindFramebuffer(GLES2.GL_FRAMEBUFFER, handle);
+
+            mStatistics.mFrameBinds++;
+        }
+
+        if (data != null) {
+            mGL.glReadPixels(x, y, width, height, GLES2.GL_RGBA, GLES2.GL_UNSIGNED_BYTE, data);
+        } else {
+            mGL.glReadPixels(x, y, width, height, GLES2.GL_RGBA, GLES2.GL_UNSIGNED_BYTE, 0L);
+        }
+
+        if (handle != mFrame) {
+            mGL.glBindFramebuffer(GLES2.GL_FRAMEBUFFER, mFrame);
+
+            mStatistics.mFrameBinds++;
+        }
+    }
+
     /**
      * <p>Update {@link Image}</p>
      */
-    private void onUpdateTextureImage(Texture texture, Image image) {   /* TODO: Improve this function */
+    private void onUpdateTextureImage(Texture texture, Image image) {
         final List<Image.Layer> layers = image.getLayer();
 
+        //!
+        //! Only upload from the base level (requires TEXTURE_LEVEL_CLAMP extension).
+        //!
+        final int levels = texture.getLevels();
+        final int base = (hasExtension(RenderCapabilities.Extension.TEXTURE_LEVEL_CLAMP)
+                ? Math.min(texture.getBaseLevel(), levels - 1) : 0);
+
         //!
         //! Iterate over all layer(s) in the image.
         //!
@@ -1088,114 +1775,279 @@ public final class DefaultRender implements Render {
             final Image.Layer imageLayer = layers.get(layer);
 
             //!
-            //! Iterate over all mipmap(s) in the layer.
+            //! Upload every mip-map in the layer.
             //!
-            for (int mipmap = 0; mipmap < imageLayer.images.length; mipmap++) {
-                //!
-                //! Handle each mip-map
-                //!
-                final int width = Math.max(1, image.getWidth() >> mipmap);
-                final int height = Math.max(1, image.getHeight() >> mipmap);
-                final int depth = Math.max(1, image.getDepth() >> mipmap);
+            onUpdateTextureLevel(texture, image, layer, base, levels);
 
-                //!
-                //! Limit the length of the buffer.
-                //!
-                if (imageLayer.data != null) {
-                    imageLayer.data.limit(
-                            imageLayer.data.position() + imageLayer.images[mipmap]);
-                }
+            //!
+            //! Generate mip-map if required (will use hardware feature to generate it).
+            //!
+            if (imageLayer.mipmap && imageLayer.images.length <= 1) {
+                mGL.glGenerateMipmap(texture.getType().eValue);
+            }
+
+            //!
+            //! Delete the image from memory (unless its level(s) are being streamed).
+            //!
+            if (!texture.isStreaming()) {
+                imageLayer.delete();
+            }
+        }
+
+        if (base > 0 || texture.isStreaming()) {
+            mGL.glTexParameter(texture.getType().eValue, GLES3.GL_TEXTURE_BASE_LEVEL, base);
+            mGL.glTexParameter(texture.getType().eValue, GLES3.GL_TEXTURE_MAX_LEVEL, levels - 1);
+        }
+        texture.setResidentLevel(base);
+
+        onUpdateMemory(texture, MemoryReport.Category.TEXTURE, onMeasureTexture(texture, base));
+    }
+
+    /**
+     * <p>Update the resident mip-map level(s) of {@link Image}</p>
+     */
+    private void onUpdateTextureLevel(Texture texture, Image image) {
+        if (!hasExtension(RenderCapabilities.Extension.TEXTURE_LEVEL_CLAMP)) {
+            return;
+        }
+        final int base = Math.min(texture.getBaseLevel(), texture.getLevels() - 1);
+        final int resident = texture.getResidentLevel();
+
+        if (base == resident) {
+            return;
+        }
 
+        for (int layer = 0, j = image.getLayer().size(); layer < j; ++layer) {
+            if (base < resident) {
                 //!
-                //! Upload the image.
+                //! Stream the level(s) above the resident level.
                 //!
-                switch (texture.getType()) {
-                    case TEXTURE_2D:
-                        if (image.getFormat().eCompressed) {
-                            mGL.glCompressedTexImage2D(texture.getType().eValue,
-                                    mipmap,
-                                    image.getFormat().eValue,
-                                    width,
-                                    height,
-                                    0,
-                                    imageLayer.data);
-                        } else {
-                            mGL.glTexImage2D(texture.getType().eValue,
-                                    mipmap,
-                                    texture.getFormat().eValue,
-                                    width,
-                                    height,
-                                    0,
-                                    image.getFormat().eValue,
-                                    texture.getFormat().eType,
-                                    imageLayer.data);
-                        }
-                        break;
-                    case TEXTURE_3D:
-                        if (image.getFormat().eCompressed) {
-                            mGL.glCompressedTexImage3D(texture.getType().eValue,
-                                    mipmap,
-                                    image.getFormat().eValue,
-                                    width,
-                                    height,
-                                    depth,
-                                    0,
-                                    imageLayer.data);
-                        } else {
-                            mGL.glTexImage3D(texture.getType().eValue,
-                                    mipmap,
-                                    texture.getFormat().eValue,
-                                    width,
-                                    height,
-                                    depth,
-                                    0,
-                                    image.getFormat().eValue,
-                                    texture.getFormat().eType,
-                                    imageLayer.data);
-                        }
-                        break;
-                    case TEXTURE_CUBE:
-                        if (image.getFormat().eCompressed) {
-                            mGL.glCompressedTexImage2D(GLES2.GL_TEXTURE_CUBE_MAP_POSITIVE_X + layer,
-                                    mipmap,
-                                    image.getFormat().eValue,
-                                    width,
-                                    height,
-                                    0,
-                                    imageLayer.data);
-                        } else {
-                            mGL.glTexImage2D(GLES2.GL_TEXTURE_CUBE_MAP_POSITIVE_X + layer,
-                                    mipmap,
-                                    texture.getFormat().eValue,
-                                    width,
-                                    height,
-                                    0,
-                                    image.getFormat().eValue,
-                                    texture.getFormat().eType,
-                                    imageLayer.data);
-                        }
-                        break;
+                if (!image.getLayer().get(layer).hasData()) {
+                    throw new IllegalStateException("Trying to stream a texture whose image isn't in memory");
                 }
-
+                onUpdateTextureLevel(texture, image, layer, base, resident);
+            } else {
                 //!
-                //! Change the position of the buffer.
+                //! Evict the level(s) above the base level (by re-defining them as empty image(s)).
                 //!
-                if (imageLayer.data != null) {
-                    imageLayer.data.position(imageLayer.data.limit());
+                for (int mipmap = resident; mipmap < base; ++mipmap) {
+                    onUpdateTextureLevel(texture, image, layer, mipmap, 0, 0, 0,
+                            image.getFormat().eCompressed ? onAllocateEmpty() : null);
                 }
             }
+        }
+        mGL.glTexParameter(texture.getType().eValue, GLES3.GL_TEXTURE_BASE_LEVEL, base);
+
+        texture.setResidentLevel(base);
+
+        onUpdateMemory(texture, MemoryReport.Category.TEXTURE, onMeasureTexture(texture, base));
+    }
+
+    /**
+     * <p>Upload a range of mip-map level(s) of a layer of {@link Image}</p>
+     */
+    private void onUpdateTextureLevel(Texture texture, Image image, int layer, int first, int last) {
+        final Image.Layer imageLayer = image.getLayer().get(layer);
+        final Int8Array data = imageLayer.data;
+
+        //!
+        //! Skip every level above the first level being uploaded.
+        //!
+        final int position = (data != null ? data.position() : 0);
+        final int limit = (data != null ? data.limit() : 0);
+
+        if (data != null) {
+            int offset = position;
+
+            for (int mipmap = 0; mipmap < first; ++mipmap) {
+                offset += imageLayer.images[mipmap];
+            }
+            data.limit(data.capacity()).position(offset);
+        }
 
+        for (int mipmap = first; mipmap < last; ++mipmap) {
             //!
-            //! Generate mip-map if required (will use hardware feature to generate it).
+            //! Limit the length of the buffer.
             //!
-            if (imageLayer.mipmap && imageLayer.images.length <= 1) {
-                mGL.glGenerateMipmap(texture.getType().eValue);
+            if (data != null) {
+                data.limit(data.position() + imageLayer.images[mipmap]);
             }
 
+            onUpdateTextureLevel(texture, image, layer, mipmap,
+                    Math.max(1, image.getWidth() >> mipmap),
+                    Math.max(1, image.getHeight() >> mipmap),
+                    Math.max(1, image.getDepth() >> mipmap), data);
+
             //!
-            //! Delete the image from memory.
+            //! Change the position of the buffer.
             //!
-            imageLayer.delete();
+            if (data != null) {
+                data.position(data.limit());
+
+                mStatistics.mTextureBytes += imageLayer.images[mipmap];
+            }
+        }
+
+        //!
+        //! Restore the buffer (it may be uploaded again).
+        //!
+        if (data != null) {
+            data.limit(limit).position(position);
+        }
+    }
+
+    /**
+     * <p>Upload a mip-map level of a layer of {@link Image}</p>
+     */
+    private void onUpdateTextureLevel(Texture texture, Image image, int layer, int mipmap,
+            int width, int height, int depth, Int8Array data) {
+        switch (texture.getType()) {
+            case TEXTURE_2D:
+                if (image.getFormat().eCompressed) {
+                    mGL.glCompressedTexImage2D(texture.getType().eValue,
+                            mipmap,
+                            image.getFormat().eValue,
+                            width,
+                            height,
+                            0,
+                            data);
+                } else {
+                    mGL.glTexImage2D(texture.getType().eValue,
+                            mipmap,
+                            texture.getFormat().eValue,
+                            width,
+                            height,
+                            0,
+                            image.getFormat().eValue,
+                            texture.getFormat().eType,
+                            data);
+                }
+                break;
+            case TEXTURE_3D:
+                if (image.getFormat().eCompressed) {
+                    mGL.glCompressedTexImage3D(texture.getType().eValue,
+                            mipmap,
+                            image.getFormat().eValue,
+                            width,
+                            height,
+                            depth,
+                            0,
+                            data);
+                } else {
+                    mGL.glTexImage3D(texture.getType().eValue,
+                            mipmap,
+                            texture.getFormat().eValue,
+                            width,
+                            height,
+                            depth,
+                            0,
+                            image.getFormat().eValue,
+                            texture.getFormat().eType,
+                            data);
+                }
+                break;
+            case TEXTURE_CUBE:
+                if (image.getFormat().eCompressed) {
+                    mGL.glCompressedTexImage2D(GLES2.GL_TEXTURE_CUBE_MAP_POSITIVE_X + layer,
+                            mipmap,
+                            image.getFormat().eValue,
+                            width,
+                            height,
+                            0,
+                            data);
+                } else {
+                    mGL.glTexImage2D(GLES2.GL_TEXTURE_CUBE_MAP_POSITIVE_X + layer,
+                            mipmap,
+                            texture.getFormat().eValue,
+                            width,
+                            height,
+                            0,
+                            image.getFormat().eValue,
+                            texture.getFormat().eType,
+                            data);
+                }
+                break;
+        }
+    }
+
+    /**
+     * <p>Get an empty array (used to re-define compressed image(s) as empty)</p>
+     */
+    private Int8Array onAllocateEmpty() {
+        if (mRegionScratch == null) {
+            mRegionScratch = ArrayFactory.allocateInt8Array(1);
+        }
+        return mRegionScratch.clear().limit(0);
+    }
+
+    /**
+     * <p>Update every modified region of {@link Image}</p>
+     */
+    private void onUpdateTextureRegion(Texture texture, Image image) {
+        final List<Texture.Region> regions = texture.getRegion();
+
+        for (int i = 0, j = regions.size(); i < j; ++i) {
+            final Texture.Region region = regions.get(i);
+
+            //!
+            //! Copy the pixel(s) of the region into the (reusable) upload array.
+            //!
+            if (mRegionScratch == null || mRegionScratch.capacity() < region.data.length) {
+                ArrayFactory.free(mRegionScratch);
+
+                mRegionScratch = ArrayFactory.allocateInt8Array(region.data.length);
+            }
+            mRegionScratch.clear();
+            mRegionScratch.write(region.data).flip();
+
+            switch (texture.getType()) {
+                case TEXTURE_2D:
+                    mGL.glTexSubImage2D(texture.getType().eValue,
+                            0,
+                            region.x,
+                            region.y,
+                            region.width,
+                            region.height,
+                            image.getFormat().eValue,
+                            texture.getFormat().eType,
+                            mRegionScratch);
+                    break;
+                case TEXTURE_3D:
+                    mGL.glTexSubImage3D(texture.getType().eValue,
+                            0,
+                            region.x,
+                            region.y,
+                            region.z,
+                            region.width,
+                            region.height,
+                            region.depth,
+                            image.getFormat().eValue,
+                            texture.getFormat().eType,
+                            mRegionScratch);
+                    break;
+                case TEXTURE_CUBE:
+                    mGL.glTexSubImage2D(GLES2.GL_TEXTURE_CUBE_MAP_POSITIVE_X + region.z,
+                            0,
+                            region.x,
+                            region.y,
+                            region.width,
+                            region.height,
+                            image.getFormat().eValue,
+                            texture.getFormat().eType,
+                            mRegionScratch);
+                    break;
+            }
+            mStatistics.mTextureBytes += region.data.length;
+        }
+        texture.deleteRegion();
+
+        //!
+        //! Re-generate mip-map(s) if the image generate them (will use hardware feature to generate it).
+        //!
+        final Image.Layer layer = image.getLayer().get(0);
+
+        if (layer.mipmap && layer.images.length <= 1) {
+            mGL.glGenerateMipmap(texture.getType().eValue);
         }
     }
 
@@ -1203,30 +2055,34 @@ public final class DefaultRender implements Render {
      * <p>Update {@link Storage}</p>
      */
     private void onUpdateStorage(Storage storage) {
+        final Array<?> array = storage.map();
+
+        mStatistics.mBufferBytes += array.remaining();
+
         switch (storage.getFormat()) {
             case BYTE:
-                mGL.glBufferData(storage.getTarget().eValue, (Int8Array) storage.map(), storage.getMode().eValue);
+                mGL.glBufferData(storage.getTarget().eValue, (Int8Array) array, storage.getMode().eValue);
                 break;
             case UNSIGNED_BYTE:
-                mGL.glBufferData(storage.getTarget().eValue, (UInt8Array) storage.map(), storage.getMode().eValue);
+                mGL.glBufferData(storage.getTarget().eValue, (UInt8Array) array, storage.getMode().eValue);
                 break;
             case SHORT:
-                mGL.glBufferData(storage.getTarget().eValue, (Int16Array) storage.map(), storage.getMode().eValue);
+                mGL.glBufferData(storage.getTarget().eValue, (Int16Array) array, storage.getMode().eValue);
                 break;
             case UNSIGNED_SHORT:
-                mGL.glBufferData(storage.getTarget().eValue, (UInt16Array) storage.map(), storage.getMode().eValue);
+                mGL.glBufferData(storage.getTarget().eValue, (UInt16Array) array, storage.getMode().eValue);
                 break;
             case INT:
-                mGL.glBufferData(storage.getTarget().eValue, (Int32Array) storage.map(), storage.getMode().eValue);
+                mGL.glBufferData(storage.getTarget().eValue, (Int32Array) array, storage.getMode().eValue);
                 break;
             case UNSIGNED_INT:
-                mGL.glBufferData(storage.getTarget().eValue, (UInt32Array) storage.map(), storage.getMode().eValue);
+                mGL.glBufferData(storage.getTarget().eValue, (UInt32Array) array, storage.getMode().eValue);
                 break;
             case HALF_FLOAT:
-                mGL.glBufferData(storage.getTarget().eValue, (Float16Array) storage.map(), storage.getMode().eValue);
+                mGL.glBufferData(storage.getTarget().eValue, (Float16Array) array, storage.getMode().eValue);
                 break;
             case FLOAT:
-                mGL.glBufferData(storage.getTarget().eValue, (Float32Array) storage.map(), storage.getMode().eValue);
+                mGL.glBufferData(storage.getTarget().eValue, (Float32Array) array, storage.getMode().eValue);
                 break;
         }
     }
@@ -1234,39 +2090,138 @@ public final class DefaultRender implements Render {
     /**
      * <p>Update {@link Storage}</p>
      */
-    private void onUpdateStorageAgain(Storage storage) { // TODO: Allow offset specification
+    private void onUpdateStorageAgain(Storage storage) {
+        final Array<?> array = storage.map();
+
+        if (storage.getRangeCount() == 0) {
+            onUpdateStorageRange(storage, array, 0, array.capacity());
+        } else {
+            //!
+            //! Upload only the range(s) that has been written since the last update.
+            //!
+            for (int i = 0, j = storage.getRangeCount(); i < j; ++i) {
+                onUpdateStorageRange(storage, array, storage.getRangeOffset(i), storage.getRangeLength(i));
+            }
+        }
+        array.clear();
+    }
+
+    /**
+     * <p>Update a range of {@link Storage}</p>
+     */
+    private void onUpdateStorageRange(Storage storage, Array<?> array, int offset, int length) {
+        array.limit(offset + length).position(offset);
+
         switch (storage.getFormat()) {
             case BYTE:
-                mGL.glBufferSubData(storage.getTarget().eValue, 0, (Int8Array) storage.map());
+                mGL.glBufferSubData(storage.getTarget().eValue, offset, (Int8Array) array);
                 break;
             case UNSIGNED_BYTE:
-                mGL.glBufferSubData(storage.getTarget().eValue, 0, (UInt8Array) storage.map());
+                mGL.glBufferSubData(storage.getTarget().eValue, offset, (UInt8Array) array);
                 break;
             case SHORT:
-                mGL.glBufferSubData(storage.getTarget().eValue, 0, (Int16Array) storage.map());
+                mGL.glBufferSubData(storage.getTarget().eValue, offset, (Int16Array) array);
                 break;
             case UNSIGNED_SHORT:
-                mGL.glBufferSubData(storage.getTarget().eValue, 0, (UInt16Array) storage.map());
+                mGL.glBufferSubData(storage.getTarget().eValue, offset, (UInt16Array) array);
                 break;
             case INT:
-                mGL.glBufferSubData(storage.getTarget().eValue, 0, (Int32Array) storage.map());
+                mGL.glBufferSubData(storage.getTarget().eValue, offset, (Int32Array) array);
                 break;
             case UNSIGNED_INT:
-                mGL.glBufferSubData(storage.getTarget().eValue, 0, (UInt32Array) storage.map());
+                mGL.glBufferSubData(storage.getTarget().eValue, offset, (UInt32Array) array);
                 break;
             case HALF_FLOAT:
-                mGL.glBufferSubData(storage.getTarget().eValue, 0, (Float16Array) storage.map());
+                mGL.glBufferSubData(storage.getTarget().eValue, offset, (Float16Array) array);
                 break;
             case FLOAT:
-                mGL.glBufferSubData(storage.getTarget().eValue, 0, (Float32Array) storage.map());
+                mGL.glBufferSubData(storage.getTarget().eValue, offset, (Float32Array) array);
                 break;
         }
+        mStatistics.mBufferBytes += length;
     }
 
     /**
      * <p>Update {@link Shader}</p>
      */
     private void onUpdateShader(Shader shader) {
+        //!
+        //! Load the program from its binary (if it has been cached), otherwise compile it from source.
+        //!
+        final String key = onGetShaderKey(shader);
+
+        if (key == null || !onUpdateShaderBinary(shader, key)) {
+            onLinkShader(shader, key, onCompileShader(shader, key));
+        }
+        onUpdateShaderUniforms(shader);
+    }
+
+    /**
+     * <p>Get the key of {@link Shader} in the cache of program binaries</p>
+     *
+     * @return the key of the shader (or <code>null</code> if its binary isn't cached)
+     */
+    private String onGetShaderKey(Shader shader) {
+        return mShaderCache != null && hasExtension(RenderCapabilities.Extension.GLSL_PROGRAM_BINARY)
+                ? ShaderCache.getKey(shader, mCapabilities, mVendor, mRenderer, mVersion)
+                : null;
+    }
+
+    /**
+     * <p>Update each {@link Uniform} and {@link UniformBlock} of {@link Shader}</p>
+     */
+    private void onUpdateShaderUniforms(Shader shader) {
+        //!
+        //! Bind each uniform.
+        //!
+        final boolean force = !hasExtension(RenderCapabilities.Extension.GLSL_EXPLICIT_UNIFORM);
+
+        Emulation.forEach(shader.getUniforms(), (name, uniform) -> onUpdateShaderUniform(shader, name, uniform, force));
+
+        //!
+        //! Bind each uniform block to its binding point.
+        //!
+        if (hasExtension(RenderCapabilities.Extension.UNIFORM_BUFFER)) {
+            Emulation.forEach(shader.getBlocks(), (name, binding) -> onUpdateShaderBlock(shader, name, binding));
+        }
+    }
+
+    /**
+     * <p>Update {@link Shader} from its cached binary</p>
+     *
+     * @return <code>true</code> if the binary has been accepted, <code>false</code> otherwise
+     */
+    private boolean onUpdateShaderBinary(Shader shader, String key) {
+        final ShaderCache.Binary binary = mShaderCache.read(key);
+
+        if (binary == null) {
+            return false;
+        }
+        final Int8Array data = ArrayFactory.allocateInt8Array(binary.getData().length);
+        data.writeInt8(binary.getData()).flip();
+
+        mGL.glProgramBinary(shader.getHandle(), binary.getFormat(), data);
+
+        ArrayFactory.free(data);
+
+        //!
+        //! A driver rejects a binary created by another driver (or version), remove it so it's stored again.
+        //!
+        if (mGL.glGetProgram(shader.getHandle(), GLES2.GL_LINK_STATUS) == GLES2.GL_FALSE) {
+            mShaderCache.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * <p>Compile (and link) {@link Shader} from the source of its stage(s)</p>
+     * <p>
+     * NOTE: The status of the program isn't checked, since checking it block until the driver finish.
+     *
+     * @return the name of every stage compiled
+     */
+    private List<Integer> onCompileShader(Shader shader, String key) {
         final int handle = shader.getHandle();
 
         //!
@@ -1292,11 +2247,27 @@ public final class DefaultRender implements Render {
                     shader.getAttributes(), (name, attachment) -> onUpdateShaderAttribute(shader, name, attachment));
         }
 
+        if (key != null) {
+            mGL.glProgramParameteri(handle, GLES3.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GLES2.GL_TRUE);
+        }
+
         //!
-        //! Link the program and check if there was any error.
+        //! Link the program.
         //!
         mGL.glLinkProgram(handle);
 
+        return stages;
+    }
+
+    /**
+     * <p>Check the status of {@link Shader} once linked</p>
+     */
+    private void onLinkShader(Shader shader, String key, List<Integer> stages) {
+        final int handle = shader.getHandle();
+
+        //!
+        //! Check if there was any error.
+        //!
         if (mGL.glGetProgram(handle, GLES2.GL_LINK_STATUS) == GLES2.GL_FALSE) {
             //!
             //! Notify the user why failed to compile.
@@ -1305,11 +2276,22 @@ public final class DefaultRender implements Render {
         }
 
         //!
-        //! Bind each uniform.
+        //! Store the binary of the program (so it isn't compiled again).
         //!
-        final boolean force = !hasExtension(RenderCapabilities.Extension.GLSL_EXPLICIT_UNIFORM);
+        final int length = key != null ? mGL.glGetProgram(handle, GLES3.GL_PROGRAM_BINARY_LENGTH) : 0;
 
-        Emulation.forEach(shader.getUniforms(), (name, uniform) -> onUpdateShaderUniform(shader, name, uniform, force));
+        if (length > 0) {
+            final Int8Array data = ArrayFactory.allocateInt8Array(length);
+            final int format = mGL.glGetProgramBinary(handle, data);
+
+            final byte[] binary = new byte[length];
+            data.clear();
+            data.read(binary);
+
+            ArrayFactory.free(data);
+
+            mShaderCache.write(key, format, binary);
+        }
 
         //!
         //! Dispose all intermediary shader compiled.
@@ -1337,6 +2319,89 @@ public final class DefaultRender implements Render {
         }
     }
 
+    /**
+     * <p>Update the shadow copy of the given {@link Uniform} (of the program being used)</p>
+     *
+     * @return <code>true</code> if the value differ from the last value uploaded, <code>false</code> otherwise
+     */
+    private boolean onUpdateUniformShadow(Uniform uniform) {
+        final int length = uniform.getLength();
+
+        if (length > mUniformScratch.length) {
+            mUniformScratch = new int[length];
+        }
+        uniform.read(mUniformScratch, 0);
+
+        return onUpdateUniformShadow(uniform.getHandle(), mUniformScratch, 0, length);
+    }
+
+    /**
+     * <p>Update the shadow copy of the given location (of the program being used)</p>
+     *
+     * @return <code>true</code> if the value differ from the last value uploaded, <code>false</code> otherwise
+     */
+    private boolean onUpdateUniformShadow(int location, int[] value, int offset, int length) {
+        if (mUniformShadowProgram != mShader) {
+            mUniformShadow = mUniformShadows.get(mShader);
+
+            if (mUniformShadow == null) {
+                mUniformShadows.put(mShader, mUniformShadow = new UniformShadow());
+            }
+            mUniformShadowProgram = mShader;
+        }
+        return mUniformShadow.update(location, value, offset, length);
+    }
+
+    /**
+     * <p>Delete the shadow copy of all uniform(s) of the given program</p>
+     */
+    private void onDeleteUniformShadow(int program) {
+        mUniformShadows.remove(program);
+
+        if (mUniformShadowProgram == program) {
+            mUniformShadow = null;
+            mUniformShadowProgram = Manageable.INVALID_HANDLE;
+        }
+    }
+
+    /**
+     * <p>Copy the raw value of a floating uniform (or matrix) into an array that can be uploaded</p>
+     */
+    private Float32Array onScatterUniform(int[] value, int offset, int length) {
+        if (mUniformFloats == null || mUniformFloats.capacity() < (length << 2)) {
+            ArrayFactory.free(mUniformFloats);
+
+            mUniformFloats = ArrayFactory.allocateFloat32Array(length);
+        }
+        return onScatterUniform(mUniformFloats, value, offset, length);
+    }
+
+    /**
+     * <p>Copy the raw value of an uniform into the array given</p>
+     *
+     * @return the array given (covering only the value copied)
+     */
+    private static <A extends Array<A>> A onScatterUniform(A array, int[] value, int offset, int length) {
+        array.clear();
+        array.writeInt32(value, offset, length);
+
+        //!
+        //! NOTE: A bulk write may not move the position of the array (depends on the platform).
+        //!
+        return array.position(0).limit(length << 2);
+    }
+
+    /**
+     * <p>Update {@link UniformBlock}</p>
+     */
+    private void onUpdateShaderBlock(Shader shader, String name, int binding) {
+        final int index = mGL.glGetUniformBlockIndex(shader.getHandle(), name);
+
+        if (index != GLES3.GL_INVALID_INDEX) {
+            mGL.glUniformBlockBinding(shader.getHandle(), index, binding);
+        }
+    }
+
     /**
      * <p>Update {@link VertexDescriptor}</p>
      */
@@ -1345,7 +2410,13 @@ public final class DefaultRender implements Render {
         //! Bind all storage that contain(s) attribute(s).
         //!
         if (descriptor.hasVertices()) {
-            Emulation.forEach(descriptor.getVertices(), this::onUpdateDescriptorVertices);
+            final List<FactoryArrayStorage<?>> vertices = descriptor.getVertices();
+
+            for (int i = 0; i < vertices.size(); ++i) {
+                onUpdateDescriptorVertices(vertices.get(i));
+
+                descriptor.setOffset(i, vertices.get(i).getOffset());
+            }
         }
 
         //!
@@ -1356,6 +2427,37 @@ public final class DefaultRender implements Render {
         }
     }
 
+    /**
+     * <p>Update {@link VertexDescriptor} (being acquired) if a segment of any of its storage(s) has changed</p>
+     * <p>
+     * NOTE: The attribute(s) of a {@link StorageType#STREAMING} storage must point to the segment being written.
+     */
+    private void onUpdateDescriptorOffset() {
+        final VertexDescriptor descriptor = mDescriptorActive;
+
+        if (descriptor == null || !descriptor.hasVertices()) {
+            return;
+        }
+
+        final List<FactoryArrayStorage<?>> vertices = descriptor.getVertices();
+
+        for (int i = 0; i < vertices.size(); ++i) {
+            if (vertices.get(i).getOffset() != descriptor.getOffset(i)) {
+                onUpdateDescriptor(descriptor);
+                break;
+            }
+        }
+    }
+
+    /**
+     * <p>Get the segment offset (in bytes) of the indices of the {@link VertexDescriptor} being acquired</p>
+     */
+    private int getIndicesOffset() {
+        final VertexDescriptor descriptor = mDescriptorActive;
+
+        return (descriptor != null && descriptor.hasIndices() ? descriptor.getIndices().getOffset() : 0);
+    }
+
     /**
      * <p>Update {@link FactoryElementStorage} in {@link VertexDescriptor}</p>
      */
@@ -1368,6 +2470,8 @@ public final class DefaultRender implements Render {
             //!
             mGL.glBindBuffer(
                     StorageTarget.ELEMENT.eValue, mStorage[StorageTarget.ELEMENT.ordinal()] = indices.getHandle());
+
+            mStatistics.mBufferBinds++;
         } else {
             //!
             //! NOTE: Update it normally if fallback to legacy
@@ -1393,6 +2497,8 @@ public final class DefaultRender implements Render {
             //!
             mGL.glBindBuffer(
                     StorageTarget.ARRAY.eValue, mStorage[StorageTarget.ARRAY.ordinal()] = vertices.getHandle());
+
+            mStatistics.mBufferBinds++;
         } else {
             //!
             //! NOTE: Update it normally if fallback to legacy
@@ -1401,7 +2507,7 @@ public final class DefaultRender implements Render {
         }
         mVertexArrayObjectExtension.glUpdateVertexArrayAttributes(
                 vertices.getAttributes(),
-                vertices.getAttributesLength());
+                vertices.getAttributesLength(), vertices.getOffset());
 
         //!
         //! Force an update on the storage.
@@ -1418,6 +2524,23 @@ public final class DefaultRender implements Render {
             Emulation.forEach(frame.getAttachment(), (name, attachment) -> onUpdateFrameTarget(frame, name, attachment));
         }
         frame.release();
+
+        //!
+        //! Measure every render buffer (texture(s) attached are measured by themselves).
+        //!
+        final int samples = (hasExtension(RenderCapabilities.Extension.FRAME_BUFFER_MULTIPLE_SAMPLE)
+                ? Math.max(1, Math.min(frame.getSamples(),
+                mCapabilities.getInteger(RenderCapabilities.Limit.FRAME_SAMPLE))) : 1);
+
+        long memory = 0L;
+
+        for (final Frame.Target target : frame.getAttachment().values()) {
+            if (!target.isTexture()) {
+                memory += (long) frame.getWidth() * frame.getHeight() * samples
+                        * ((Frame.RenderTarget) target).format.getLength();
+            }
+        }
+        onUpdateMemory(frame, MemoryReport.Category.RENDER_BUFFER, memory);
     }
 
     /**
@@ -1519,6 +2642,105 @@ public final class DefaultRender implements Render {
         mGL.glDeleteRenderbuffers(target.setHandle(Manageable.INVALID_HANDLE));
     }
 
+    /**
+     * <p>Delete the object(s) disposed (until the given budget is exhausted)</p>
+     *
+     * @param budget the time (in nanoseconds), or <code>0</code> for no limit
+     */
+    private void onDelete(long budget) {
+        final long deadline = System.nanoTime() + budget;
+
+        Manageable manageable;
+
+        while ((manageable = mManageable.poll()) != null) {
+            manageable.delete();
+
+            if (budget > 0L && System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        onDeleteFlush();
+    }
+
+    /**
+     * <p>Add a name into the given batch (deleting the batch once is full)</p>
+     */
+    private void onDeleteName(Int32Array batch, int name) {
+        batch.writeInt32(name);
+
+        if (!batch.hasRemaining()) {
+            onDeleteFlush();
+        }
+    }
+
+    /**
+     * <p>Delete every name of all batch(es)</p>
+     */
+    private void onDeleteFlush() {
+        if (mDeleteTextures.position() > 0) {
+            mGL.glDeleteTextures(mDeleteTextures.flip());
+            mDeleteTextures.clear();
+        }
+        if (mDeleteBuffers.position() > 0) {
+            mGL.glDeleteBuffers(mDeleteBuffers.flip());
+            mDeleteBuffers.clear();
+        }
+    }
+
+    /**
+     * <p>Change the number of byte(s) allocated by a component</p>
+     */
+    private void onUpdateMemory(Manageable manageable, MemoryReport.Category category, long memory) {
+        final long previous = manageable.setMemory(memory);
+
+        mMemory[category.ordinal()] += memory - previous;
+
+        if (previous == 0L && memory > 0L) {
+            mMemoryCount[category.ordinal()]++;
+        } else if (previous > 0L && memory == 0L) {
+            mMemoryCount[category.ordinal()]--;
+        }
+    }
+
+    /**
+     * <p>Measure the number of byte(s) allocated by the resident mip-map level(s) of {@link Texture}</p>
+     */
+    private long onMeasureTexture(Texture texture, int base) {
+        final Image image = texture.getImage();
+        final List<Image.Layer> layers = image.getLayer();
+        final Image.Layer first = layers.get(0);
+
+        //!
+        //! Mip-map(s) generated by the hardware extend until the image is a single pixel.
+        //!
+        int levels = first.images.length;
+
+        if (first.mipmap && levels <= 1) {
+            final int dimension = Math.max(image.getWidth(), Math.max(image.getHeight(), image.getDepth()));
+
+            levels = 32 - Integer.numberOfLeadingZeros(Math.max(1, dimension));
+        }
+
+        long memory = 0L;
+
+        for (int level = base; level < levels; ++level) {
+            final long pixels = (long) Math.max(1, image.getWidth() >> level)
+                    * Math.max(1, image.getHeight() >> level)
+                    * Math.max(1, image.getDepth() >> level);
+
+            for (int layer = 0, j = layers.size(); layer < j; ++layer) {
+                final Image.Layer imageLayer = layers.get(layer);
+
+                if (image.getFormat().eCompressed && level < imageLayer.images.length && imageLayer.images[level] > 0) {
+                    memory += imageLayer.images[level];
+                } else {
+                    memory += pixels * texture.getFormat().getLength();
+                }
+            }
+        }
+        return memory;
+    }
+
     /**
      * <p>Short-hand method to check for extension</p>
      */
@@ -1540,7 +2762,7 @@ public final class DefaultRender implements Render {
 
         void glUpdateVertexArray(VertexDescriptor name);
 
-        void glUpdateVertexArrayAttributes(List<Vertex> vertex, int length);
+        void glUpdateVertexArrayAttributes(List<Vertex> vertex, int length, int offset);
     }
 
     /**
@@ -1554,6 +2776,11 @@ public final class DefaultRender implements Render {
          */
         private final boolean mAttributes[], mTemp[];
 
+        /**
+         * Hold the instance divisor of all attribute(s).
+         */
+        private final int mDivisors[];
+
         /**
          * <p>Constructor</p>
          */
@@ -1562,6 +2789,8 @@ public final class DefaultRender implements Render {
                     = new boolean[mCapabilities.getInteger(RenderCapabilities.Limit.GLSL_MAX_VERTEX_ATTRIBUTES)];
             mTemp
                     = new boolean[mCapabilities.getInteger(RenderCapabilities.Limit.GLSL_MAX_VERTEX_ATTRIBUTES)];
+            mDivisors
+                    = new int[mCapabilities.getInteger(RenderCapabilities.Limit.GLSL_MAX_VERTEX_ATTRIBUTES)];
         }
 
         /**
@@ -1612,7 +2841,7 @@ public final class DefaultRender implements Render {
          * {@inheritDoc}
          */
         @Override
-        public void glUpdateVertexArrayAttributes(List<Vertex> vertex, int length) {
+        public void glUpdateVertexArrayAttributes(List<Vertex> vertex, int length, int offset) {
             //!
             //! Clear all previous values.
             //!
@@ -1627,7 +2856,14 @@ public final class DefaultRender implements Render {
                         attribute.getType().eValue,
                         attribute.isNormalised(),
                         length,
-                        attribute.getOffset());
+                        offset + attribute.getOffset());
+
+                //!
+                //! Update the divisor only if different (the divisor is a global state).
+                //!
+                if (mDivisors[attribute.getID()] != attribute.getDivisor()) {
+                    mGL.glVertexAttribDivisor(attribute.getID(), mDivisors[attribute.getID()] = attribute.getDivisor());
+                }
             }
 
             for (int i = 0; i < mAttributes.length; i++) {
@@ -1698,7 +2934,7 @@ public final class DefaultRender implements Render {
          * {@inheritDoc}
          */
         @Override
-        public void glUpdateVertexArrayAttributes(List<Vertex> vertex, int length) {
+        public void glUpdateVertexArrayAttributes(List<Vertex> vertex, int length, int offset) {
             for (final Vertex attribute : vertex) {
                 mGL.glEnableVertexAttribArray(
                         attribute.getID());
@@ -1708,8 +2944,71 @@ public final class DefaultRender implements Render {
                         attribute.getType().eValue,
                         attribute.isNormalised(),
                         length,
-                        attribute.getOffset());
+                        offset + attribute.getOffset());
+
+                //!
+                //! NOTE: The divisor is stored inside the VAO (default to zero).
+                //!
+                if (attribute.getDivisor() != 0) {
+                    mGL.glVertexAttribDivisor(attribute.getID(), attribute.getDivisor());
+                }
+            }
+        }
+    }
+
+    /**
+     * <code>ShaderPending</code> encapsulate a {@link Shader} being compiled whose link status hasn't been checked.
+     */
+    private final static class ShaderPending {
+        private final String mKey;
+        private final List<Integer> mStages;
+
+        /**
+         * <p>Constructor</p>
+         */
+        public ShaderPending(String key, List<Integer> stages) {
+            mKey = key;
+            mStages = stages;
+        }
+    }
+
+    /**
+     * <code>UniformShadow</code> encapsulate a copy of the last value uploaded to each uniform location of a program.
+     */
+    private final static class UniformShadow {
+        private int[][] mValues = new int[16][];
+
+        /**
+         * <p>Update the copy of the given location</p>
+         *
+         * @return <code>true</code> if the value differ from the copy, <code>false</code> otherwise
+         */
+        public boolean update(int location, int[] value, int offset, int length) {
+            if (location < 0) {
+                //!
+                //! NOTE: The location doesn't exist (or has been optimised away).
+                //!
+                return false;
+            }
+            if (location >= mValues.length) {
+                mValues = Arrays.copyOf(mValues, Math.max(location + 1, mValues.length << 1));
+            }
+            final int[] shadow = mValues[location];
+
+            if (shadow != null && shadow.length == length) {
+                int index = 0;
+
+                while (index < length && shadow[index] == value[offset + index]) {
+                    index++;
+                }
+                if (index == length) {
+                    return false;
+                }
+                System.arraycopy(value, offset + index, shadow, index, length - index);
+            } else {
+                mValues[location] = Arrays.copyOfRange(value, offset, offset + length);
             }
+            return true;
         }
     }
 }
@@ -0,0 +1,294 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render;
+
+import ar.com.quark.system.utility.Disposable;
+
+import java.util.*;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>GpuProfiler</code> encapsulate a profiler that measure the time spent by the GPU on named scope(s).
+ * <p>
+ * Each scope is measured with a {@link QueryType#TIME_ELAPSED} query, and its result is only read a few frame(s)
+ * later (when the GPU already finished it) so the render thread never stall waiting for it.
+ * <p>
+ * NOTE: Scope(s) cannot be nested (only one timer query can be active at the same time).
+ */
+public final class GpuProfiler implements Disposable {
+    private final int mWindow;
+
+    /**
+     * Hold every scope measured (in the order they were first measured).
+     */
+    private final Map<String, Scope> mScopes = new LinkedHashMap<>();
+
+    /**
+     * Hold the sample(s) of each frame in flight.
+     */
+    private final List<List<Sample>> mFrames;
+    private int mFrameIndex;
+
+    /**
+     * Hold every query that can be re-used.
+     */
+    private final Deque<Integer> mPool = new ArrayDeque<>();
+
+    private Sample mActive;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param latency the number of frame(s) between measuring a scope and reading its result (2 or 3)
+     * @param window  the number of frame(s) used to average the time of each scope
+     */
+    public GpuProfiler(int latency, int window) {
+        if (latency <= 0 || window <= 0) {
+            throw new IllegalArgumentException("The latency and window of the profiler must be positive");
+        }
+        mWindow = window;
+        mFrames = new ArrayList<>(latency);
+
+        for (int i = 0; i < latency; ++i) {
+            mFrames.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * <p>Check if the profiler is supported by the render</p>
+     *
+     * @return <code>true</code> if the profiler is supported, <code>false</code> otherwise
+     */
+    public boolean isSupported() {
+        return QKRender.getCapabilities().hasExtension(RenderCapabilities.Extension.QUERY_TIMER);
+    }
+
+    /**
+     * <p>Get a scope of the profiler</p>
+     *
+     * @param name the name of the scope
+     *
+     * @return the scope or <code>null</code> if it was never measured
+     */
+    public Scope getScope(String name) {
+        return mScopes.get(name);
+    }
+
+    /**
+     * <p>Get every scope of the profiler</p>
+     *
+     * @return every scope of the profiler (in the order they were first measured)
+     */
+    public Collection<Scope> getScopes() {
+        return Collections.unmodifiableCollection(mScopes.values());
+    }
+
+    /**
+     * <p>Begin measuring a scope</p>
+     * <p>
+     * NOTE: This method must be called from the render thread, and does nothing if the profiler isn't supported.
+     *
+     * @param name the name of the scope
+     */
+    public void begin(String name) {
+        if (mActive != null) {
+            throw new IllegalStateException("Cannot begin a scope while another scope is being measured");
+        }
+        if (!isSupported()) {
+            return;
+        }
+
+        Scope scope = mScopes.get(name);
+
+        if (scope == null) {
+            mScopes.put(name, scope = new Scope(name, mWindow));
+        }
+        final Integer query = mPool.poll();
+
+        mActive = new Sample(scope, query != null ? query : QKRender.createQuery());
+
+        QKRender.beginQuery(QueryType.TIME_ELAPSED, mActive.mQuery);
+    }
+
+    /**
+     * <p>End measuring the active scope</p>
+     * <p>
+     * NOTE: This method must be called from the render thread, and does nothing if the profiler isn't supported.
+     */
+    public void end() {
+        if (mActive == null) {
+            if (isSupported()) {
+                throw new IllegalStateException("Cannot end a scope that hasn't begun");
+            }
+            return;
+        }
+        QKRender.endQuery(QueryType.TIME_ELAPSED);
+
+        mFrames.get(mFrameIndex).add(mActive);
+
+        mActive = null;
+    }
+
+    /**
+     * <p>Collect the result(s) of the oldest frame in flight and begin a new frame</p>
+     * <p>
+     * NOTE: This method must be called from the render thread (once per frame, outside of any scope).
+     */
+    public void update() {
+        if (mActive != null) {
+            throw new IllegalStateException("Cannot update the profiler while a scope is being measured");
+        }
+        mFrameIndex = (mFrameIndex + 1) % mFrames.size();
+
+        final List<Sample> samples = mFrames.get(mFrameIndex);
+
+        for (final Sample sample : samples) {
+            //!
+            //! Drop the sample (instead of stalling) if the GPU is still behind.
+            //!
+            if (QKRender.hasQueryResult(sample.mQuery)) {
+                sample.mScope.mAccumulator += QKRender.getQueryResult(sample.mQuery);
+                sample.mScope.mAccumulated = true;
+            }
+            mPool.add(sample.mQuery);
+        }
+
+        for (final Sample sample : samples) {
+            sample.mScope.onCommit();
+        }
+        samples.clear();
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        if (mActive != null) {
+            QKRender.endQuery(QueryType.TIME_ELAPSED);
+            QKRender.deleteQuery(mActive.mQuery);
+
+            mActive = null;
+        }
+
+        for (final List<Sample> samples : mFrames) {
+            for (final Sample sample : samples) {
+                QKRender.deleteQuery(sample.mQuery);
+            }
+            samples.clear();
+        }
+
+        for (final Integer query : mPool) {
+            QKRender.deleteQuery(query);
+        }
+        mPool.clear();
+        mScopes.clear();
+    }
+
+    /**
+     * <code>Scope</code> encapsulate the measured time of a named scope.
+     */
+    public final static class Scope {
+        private final String mName;
+        private final long[] mHistory;
+        private int mHistoryIndex;
+        private int mHistoryCount;
+        private long mHistorySum;
+        private long mLast;
+
+        /**
+         * Hold the time of the frame being collected (a scope can be measured many time(s) per frame).
+         */
+        private long mAccumulator;
+        private boolean mAccumulated;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Scope(String name, int window) {
+            mName = name;
+            mHistory = new long[window];
+        }
+
+        /**
+         * <p>Get the name of the scope</p>
+         *
+         * @return the name of the scope
+         */
+        public String getName() {
+            return mName;
+        }
+
+        /**
+         * <p>Get the time of the scope on the last frame collected</p>
+         *
+         * @return the time of the scope (expressed in ms)
+         */
+        public double getLast() {
+            return mLast / 1.0E6;
+        }
+
+        /**
+         * <p>Get the average time of the scope over the window of the profiler</p>
+         *
+         * @return the average time of the scope (expressed in ms)
+         */
+        public double getAverage() {
+            return mHistoryCount > 0 ? mHistorySum / (mHistoryCount * 1.0E6) : 0.0;
+        }
+
+        /**
+         * <p>Push the time accumulated on the frame being collected into the window</p>
+         */
+        private void onCommit() {
+            if (!mAccumulated) {
+                return;
+            }
+            mLast = mAccumulator;
+
+            if (mHistoryCount == mHistory.length) {
+                mHistorySum -= mHistory[mHistoryIndex];
+            } else {
+                mHistoryCount++;
+            }
+            mHistory[mHistoryIndex] = mLast;
+            mHistorySum += mLast;
+            mHistoryIndex = (mHistoryIndex + 1) % mHistory.length;
+
+            mAccumulator = 0L;
+            mAccumulated = false;
+        }
+    }
+
+    /**
+     * <code>Sample</code> encapsulate a query issued for a {@link Scope}.
+     */
+    private final static class Sample {
+        private final Scope mScope;
+        private final int mQuery;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Sample(Scope scope, int query) {
+            mScope = scope;
+            mQuery = query;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render;
+
+import ar.com.quark.render.storage.Storage;
+import ar.com.quark.render.texture.Texture;
+import ar.com.quark.render.texture.frame.Frame;
+import ar.com.quark.system.utility.Manageable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <code>MemoryReport</code> contain(s) the number of byte(s) allocated by {@link Render} (GPU-side memory).
+ * <p>
+ * NOTE: The number of byte(s) is an estimation (driver(s) may pad or compress the memory allocated).
+ */
+public final class MemoryReport {
+    /**
+     * <code>Category</code> enumerates every category of memory.
+     */
+    public enum Category {
+        /**
+         * Memory allocated by {@link Texture}(s) (including every resident mip-map level).
+         */
+        TEXTURE,
+
+        /**
+         * Memory allocated by {@link Storage}(s).
+         */
+        STORAGE,
+
+        /**
+         * Memory allocated by the render buffer(s) of {@link Frame}(s).
+         */
+        RENDER_BUFFER
+    }
+
+    /**
+     * Hold the number of byte(s) and component(s) of every category.
+     */
+    private final long[] mMemory = new long[Category.values().length];
+    private final int[] mCount = new int[Category.values().length];
+
+    /**
+     * Hold the number of byte(s) of every asset (by category).
+     */
+    private final Map<String, long[]> mAssets = new HashMap<>();
+
+    /**
+     * <p>Constructor</p>
+     */
+    MemoryReport(long[] memory, int[] count) {
+        System.arraycopy(memory, 0, mMemory, 0, mMemory.length);
+        System.arraycopy(count, 0, mCount, 0, mCount.length);
+    }
+
+    /**
+     * <p>Record the memory allocated by an asset</p>
+     *
+     * @param name       the name of the asset
+     * @param manageable the component of the asset
+     */
+    public void record(String name, Manageable manageable) {
+        final Category category = getCategory(manageable);
+
+        if (category != null) {
+            mAssets.computeIfAbsent(name, key -> new long[mMemory.length])[category.ordinal()]
+                    += manageable.getMemory();
+        }
+    }
+
+    /**
+     * <p>Get the number of byte(s) allocated</p>
+     *
+     * @return the number of byte(s) allocated
+     */
+    public long getMemory() {
+        long memory = 0L;
+
+        for (final long value : mMemory) {
+            memory += value;
+        }
+        return memory;
+    }
+
+    /**
+     * <p>Get the number of byte(s) allocated by a category</p>
+     *
+     * @param category the category
+     *
+     * @return the number of byte(s) allocated by the category
+     */
+    public long getMemory(Category category) {
+        return mMemory[category.ordinal()];
+    }
+
+    /**
+     * <p>Get the number of component(s) that allocated memory of a category</p>
+     *
+     * @param category the category
+     *
+     * @return the number of component(s) that allocated memory of the category
+     */
+    public int getCount(Category category) {
+        return mCount[category.ordinal()];
+    }
+
+    /**
+     * <p>Get the name of every asset recorded</p>
+     *
+     * @return the name of every asset recorded
+     */
+    public Set<String> getAssets() {
+        return Collections.unmodifiableSet(mAssets.keySet());
+    }
+
+    /**
+     * <p>Get the number of byte(s) allocated by an asset</p>
+     *
+     * @param name the name of the asset
+     *
+     * @return the number of byte(s) allocated by the asset
+     */
+    public long getMemory(String name) {
+        final long[] memory = mAssets.get(name);
+
+        long total = 0L;
+
+        if (memory != null) {
+            for (final long value : memory) {
+                total += value;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * <p>Get the number of byte(s) allocated by an asset of a category</p>
+     *
+     * @param name     the name of the asset
+     * @param category the category
+     *
+     * @return the number of byte(s) allocated by the asset of the category
+     */
+    public long getMemory(String name, Category category) {
+        final long[] memory = mAssets.get(name);
+        return memory != null ? memory[category.ordinal()] : 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "MemoryReport{" +
+                "textures=" + mMemory[Category.TEXTURE.ordinal()] +
+                ", storages=" + mMemory[Category.STORAGE.ordinal()] +
+                ", renderBuffers=" + mMemory[Category.RENDER_BUFFER.ordinal()] +
+                ", assets=" + mAssets.size() +
+                '}';
+    }
+
+    /**
+     * <p>Get the category of the memory allocated by a component</p>
+     *
+     * @param manageable the component
+     *
+     * @return the category of the memory allocated by the component (or <code>null</code> if it doesn't allocate)
+     */
+    public static Category getCategory(Manageable manageable) {
+        if (manageable instanceof Texture) {
+            return Category.TEXTURE;
+        } else if (manageable instanceof Storage) {
+            return Category.STORAGE;
+        } else if (manageable instanceof Frame) {
+            return Category.RENDER_BUFFER;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render;
+
+/**
+ * <code>QueryType</code> enumerate query type(s).
+ */
+public enum QueryType {
+    /**
+     * Represent a query for the time spent by the GPU executing the command(s) (expressed in ns).
+     */
+    TIME_ELAPSED(Render.GLES3.GL_TIME_ELAPSED),
+
+    /**
+     * Represent a query for any sample passing the depth and stencil test(s).
+     */
+    ANY_SAMPLES_PASSED(Render.GLES3.GL_ANY_SAMPLES_PASSED),
+
+    /**
+     * Represent a query for any sample passing the depth and stencil test(s) (may be a false positive).
+     */
+    ANY_SAMPLES_PASSED_CONSERVATIVE(Render.GLES3.GL_ANY_SAMPLES_PASSED_CONSERVATIVE);
+
+    public final int eValue;
+
+    /**
+     * <p>Constructor</p>
+     */
+    QueryType(int value) {
+        eValue = value;
+    }
+}
@@ -23,11 +23,16 @@ import ar.com.quark.render.storage.VertexFormat;
 import ar.com.quark.system.utility.ManageableManager;
 import ar.com.quark.system.utility.array.*;
 import ar.com.quark.render.shader.Shader;
+import ar.com.quark.render.shader.ShaderCache;
 import ar.com.quark.render.shader.Uniform;
+import ar.com.quark.render.shader.UniformBlock;
 import ar.com.quark.render.storage.Storage;
+import ar.com.quark.render.storage.StorageTarget;
 import ar.com.quark.render.texture.Texture;
 import ar.com.quark.render.texture.frame.Frame;
 
+import java.util.Collection;
+
 /**
  * <code>Render</code> encapsulate the render module.
  */
@@ -97,6 +102,7 @@ public interface Render extends ManageableManager {
         int GL_POINTS = 0x00;
         int GL_READ_WRITE = 0x88BA;
         int GL_RENDERBUFFER = 0x8D41;
+        int GL_RENDERER = 0x1F01;
         int GL_REPEAT = 0x2901;
         int GL_REPLACE = 0x1E01;
         int GL_RGB = 0x1907;
@@ -126,12 +132,16 @@ public interface Render extends ManageableManager {
         int GL_TRUE = 0x0001;
         int GL_UNSIGNED_BYTE = 0x1401;
         int GL_UNSIGNED_SHORT = 0x1403;
+        int GL_VENDOR = 0x1F00;
+        int GL_VERSION = 0x1F02;
         int GL_VERTEX_SHADER = 0x8B31;
         int GL_WRITE_ONLY = 0x88B9;
         int GL_ZERO = 0x0000;
 
         RenderCapabilities glCapabilities();
 
+        String glGetString(int property);
+
         void glEnable(int value);
 
         void glDisable(int value);
@@ -178,6 +188,10 @@ public interface Render extends ManageableManager {
 
         void glDeleteBuffers(int name);
 
+        void glDeleteTextures(Int32Array names);
+
+        void glDeleteBuffers(Int32Array names);
+
         void glDeleteProgram(int name);
 
         void glDeleteFramebuffers(int name);
@@ -250,6 +264,11 @@ public interface Render extends ManageableManager {
         void glCompressedTexImage2D(int target, int level, int internal, int width, int height,
                 int border, Int8Array data);
 
+        void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format,
+                int type, Int8Array data);
+
+        void glReadPixels(int x, int y, int width, int height, int format, int type, Int8Array data);
+
         void glGenerateMipmap(int target);
 
         void glFramebufferTexture2D(int target, int attachment, int texture, int name, int level);
@@ -321,6 +340,8 @@ public interface Render extends ManageableManager {
         int GL_MIN = 0x8007;
         int GL_PIXEL_PACK_BUFFER = 0x88EB;
         int GL_PIXEL_UNPACK_BUFFER = 0x88EC;
+        int GL_PROGRAM_BINARY_LENGTH = 0x8741;
+        int GL_PROGRAM_BINARY_RETRIEVABLE_HINT = 0x8257;
         int GL_R16 = 0x822A;
         int GL_R16F = 0x822D;
         int GL_R32F = 0x822E;
@@ -344,8 +365,24 @@ public interface Render extends ManageableManager {
         int GL_STREAM_COPY = 0x88E2;
         int GL_STREAM_READ = 0x88E1;
         int GL_TEXTURE_3D = 0x806F;
+        int GL_TEXTURE_BASE_LEVEL = 0x813C;
+        int GL_TEXTURE_MAX_LEVEL = 0x813D;
         int GL_TRANSFORM_FEEDBACK_BUFFER = 0x8C8E;
         int GL_UNIFORM_BUFFER = 0x8A11;
+        int GL_INVALID_INDEX = 0xFFFFFFFF;
+        int GL_SYNC_GPU_COMMANDS_COMPLETE = 0x9117;
+        int GL_SYNC_FLUSH_COMMANDS_BIT = 0x00000001;
+        int GL_ALREADY_SIGNALED = 0x911A;
+        int GL_TIMEOUT_EXPIRED = 0x911B;
+        int GL_CONDITION_SATISFIED = 0x911C;
+        int GL_WAIT_FAILED = 0x911D;
+        int GL_ANY_SAMPLES_PASSED = 0x8C2F;
+        int GL_ANY_SAMPLES_PASSED_CONSERVATIVE = 0x8D6A;
+        int GL_TIME_ELAPSED = 0x88BF;
+        int GL_QUERY_RESULT = 0x8866;
+        int GL_QUERY_RESULT_AVAILABLE = 0x8867;
+        int GL_QUERY_WAIT = 0x8E13;
+        int GL_QUERY_NO_WAIT = 0x8E14;
         int GL_UNSIGNED_INT = 0x1405;
         int GL_ACCESS_INVALIDATE = 0x0004;
         int GL_ACCESS_INVALIDATE_ALL = 0x0008;
@@ -365,6 +402,9 @@ public interface Render extends ManageableManager {
         void glCompressedTexImage3D(int target, int level, int internal, int width, int height, int depth,
                 int border, Int8Array data);
 
+        void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth,
+                int format, int type, Int8Array data);
+
         void glRenderbufferStorageMultisample(int target, int samples, int format, int width, int height);
 
         void glUniform1ui(int name, int i1);
@@ -376,6 +416,54 @@ public interface Render extends ManageableManager {
         void glUniform4ui(int name, int i1, int i2, int i3, int i4);
 
         void glUniform1uiv(int name, UInt32Array buffer);
+
+        void glDrawArraysInstanced(int primitive, int offset, int count, int instances);
+
+        void glDrawElementsInstanced(int primitive, int count, int format, int offset, int instances);
+
+        void glVertexAttribDivisor(int name, int divisor);
+
+        void glBindBufferBase(int target, int index, int name);
+
+        int glGetUniformBlockIndex(int name, String block);
+
+        void glUniformBlockBinding(int name, int block, int binding);
+
+        long glFenceSync(int condition, int flags);
+
+        int glClientWaitSync(long sync, int flags, long timeout);
+
+        void glDeleteSync(long sync);
+
+        void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format,
+                int type, long offset);
+
+        void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth,
+                int format, int type, long offset);
+
+        void glReadPixels(int x, int y, int width, int height, int format, int type, long offset);
+
+        int glGenQueries();
+
+        void glDeleteQueries(int name);
+
+        void glBeginQuery(int target, int name);
+
+        void glEndQuery(int target);
+
+        int glGetQueryObjecti(int name, int parameter);
+
+        long glGetQueryObjectui64(int name, int parameter);
+
+        void glBeginConditionalRender(int name, int mode);
+
+        void glEndConditionalRender();
+
+        void glProgramParameteri(int name, int property, int value);
+
+        int glGetProgramBinary(int name, Int8Array binary);
+
+        void glProgramBinary(int name, int format, Int8Array binary);
     }
 
     /**
@@ -394,6 +482,8 @@ public interface Render extends ManageableManager {
         int GL_TEXTURE_BUFFER = 0x8C2A;
         int GL_TRIANGLES_ADJACENCY = 0x0C;
         int GL_TRIANGLE_STRIP_ADJACENCY = 0x0D;
+
+        void glDrawElementsBaseVertex(int primitive, int count, int format, int offset, int base);
     }
 
     /**
@@ -409,8 +499,13 @@ public interface Render extends ManageableManager {
         int S3TC_RGBA_DXT3 = 0x83F2;
         int S3TC_RGBA_DXT5 = 0x83F3;
         int S3TC_RGB_DXT1 = 0x83F0;
+        int GL_COMPLETION_STATUS = 0x91B1;
 
         void glBindFragDataLocation(int name, int index, String attribute);
+
+        void glMultiDrawElements(int primitive, Int32Array count, int format, Int32Array offset);
+
+        void glMaxShaderCompilerThreads(int count);
     }
 
     /**
@@ -420,6 +515,24 @@ public interface Render extends ManageableManager {
      */
     RenderCapabilities getCapabilities();
 
+    /**
+     * <p>Get the statistics of the last frame rendered</p>
+     * <p>
+     * NOTE: The statistics are replaced on every frame, copy any value that must outlive it.
+     *
+     * @return the statistics of the last frame rendered
+     */
+    RenderStatistics getStatistics();
+
+    /**
+     * <p>Get a report of the memory allocated (GPU-side memory)</p>
+     * <p>
+     * NOTE: The report is a snapshot, its value(s) aren't updated.
+     *
+     * @return a report of the memory allocated
+     */
+    MemoryReport getMemoryReport();
+
     /**
      * <p>Apply new states</p>
      *
@@ -458,6 +571,120 @@ public interface Render extends ManageableManager {
      */
     void viewport(int x, int y, int width, int height);
 
+    /**
+     * <p>Submit a <code>CommandBuffer</code> to be replayed on the thread that owns the context</p>
+     * <p>
+     * NOTE: This method is thread-safe, buffer(s) are replayed in the same order they were submitted.
+     *
+     * @param buffer the buffer
+     */
+    void submit(CommandBuffer buffer);
+
+    /**
+     * <p>Changes the maximum time spent deleting disposed component(s) every frame</p>
+     * <p>
+     * NOTE: Component(s) that doesn't fit in the budget are deleted during the following frame(s).
+     *
+     * @param budget the time (in nanoseconds), or <code>0</code> for no limit
+     */
+    void setDisposeBudget(long budget);
+
+    /**
+     * <p>Changes the cache of program binaries used when a {@link Shader} is created</p>
+     * <p>
+     * NOTE: Requires {@link RenderCapabilities.Extension#GLSL_PROGRAM_BINARY}, otherwise the cache is never used.
+     *
+     * @param cache the cache of program binaries, or <code>null</code> to always compile from source
+     */
+    void setShaderCache(ShaderCache cache);
+
+    /**
+     * <p>Insert a fence into the command stream</p>
+     *
+     * @return the fence or <code>0</code> if fence(s) are not supported
+     */
+    long createFence();
+
+    /**
+     * <p>Wait until the given fence has been signalled</p>
+     *
+     * @param fence   the fence
+     * @param timeout the maximum time to wait (expressed in ns)
+     *
+     * @return <code>true</code> if the fence has been signalled (or cannot be waited), <code>false</code> otherwise
+     */
+    boolean waitFence(long fence, long timeout);
+
+    /**
+     * <p>Delete the given fence</p>
+     *
+     * @param fence the fence
+     */
+    void deleteFence(long fence);
+
+    /**
+     * <p>Create a query</p>
+     *
+     * @return the query
+     */
+    int createQuery();
+
+    /**
+     * <p>Delete the given query</p>
+     *
+     * @param query the query
+     */
+    void deleteQuery(int query);
+
+    /**
+     * <p>Begin measuring the command(s) issued into the given query</p>
+     * <p>
+     * NOTE: Only one query of each type can be active at the same time.
+     *
+     * @param type  the type of the query
+     * @param query the query
+     */
+    void beginQuery(QueryType type, int query);
+
+    /**
+     * <p>End measuring the command(s) issued into the active query of the given type</p>
+     *
+     * @param type the type of the query
+     */
+    void endQuery(QueryType type);
+
+    /**
+     * <p>Check if the result of the given query is available (without waiting for it)</p>
+     *
+     * @param query the query
+     *
+     * @return <code>true</code> if the result is available, <code>false</code> otherwise
+     */
+    boolean hasQueryResult(int query);
+
+    /**
+     * <p>Get the result of the given query (waiting for it if isn't available)</p>
+     *
+     * @param query the query
+     *
+     * @return the result of the query (expressed in ns for {@link QueryType#TIME_ELAPSED})
+     */
+    long getQueryResult(int query);
+
+    /**
+     * <p>Begin discarding every draw call if the given occlusion query didn't pass any sample</p>
+     * <p>
+     * NOTE: If the result of the query isn't available the draw call(s) are executed (never wait).
+     *
+     * @param query the query
+     */
+    void beginConditional(int query);
+
+    /**
+     * <p>End discarding draw call(s)</p>
+     */
+    void endConditional();
+
     /**
      * <p>Check if the given <code>Texture</code> is active</p>
      *
@@ -534,6 +761,19 @@ public interface Render extends ManageableManager {
      */
     void create(Shader shader);
 
+    /**
+     * <p>Create every <code>Shader</code> given</p>
+     * <p>
+     * Every compile and link command is issued first, and the status of each shader is checked later (when it has
+     * been compiled in background, or when it's acquired for the first time), so the driver can compile many shader(s)
+     * in parallel while loading continues.
+     * <p>
+     * NOTE: {@link RenderCapabilities.Extension#GLSL_PARALLEL_COMPILE} allows checking without blocking.
+     *
+     * @param shaders the shader(s)
+     */
+    void createAll(Collection<Shader> shaders);
+
     /**
      * <p>Create the <code>VertexDescriptor</code> given</p>
      *
@@ -640,6 +880,24 @@ public interface Render extends ManageableManager {
      */
     void update(Storage<?> storage);
 
+    /**
+     * <p>Update a region of the <code>Texture</code> given from a pixel unpack <code>Storage</code></p>
+     * <p>
+     * NOTE: The storage must be unmapped and its target must be {@link StorageTarget#PIXEL_UNPACK}.
+     *
+     * @param texture the texture
+     * @param storage the storage that contain(s) the pixel(s) of the region
+     * @param offset  the offset of the pixel(s) within the storage (in bytes)
+     * @param x       the x coordinate of the region (expressed in px)
+     * @param y       the y coordinate of the region (expressed in px)
+     * @param z       the z coordinate of the region (expressed in px, or the face of a cube texture)
+     * @param width   the width of the region (expressed in px)
+     * @param height  the height of the region (expressed in px)
+     * @param depth   the depth of the region (expressed in px)
+     */
+    void update(Texture texture, Storage<?> storage, int offset,
+            int x, int y, int z, int width, int height, int depth);
+
     /**
      * <p>Update the <code>Uniform</code> given</p>
      *
@@ -647,6 +905,53 @@ public interface Render extends ManageableManager {
      */
     void update(Uniform uniform);
 
+    /**
+     * <p>Update the <code>Uniform</code> given with a copy of its value</p>
+     * <p>
+     * NOTE: The value is uploaded even if the uniform hasn't been modified (the uniform itself is never read).
+     *
+     * @param uniform the uniform
+     * @param value   the raw value of the uniform (as copied by {@link Uniform#read(int[], int)})
+     * @param offset  the offset (in component(s)) of the value
+     */
+    void update(Uniform uniform, int[] value, int offset);
+
+    /**
+     * <p>Update the <code>UniformBlock</code> given and bind it to its binding point</p>
+     *
+     * @param block the uniform block
+     */
+    void update(UniformBlock block);
+
+    /**
+     * <p>Read the colour pixel(s) of the <code>Frame</code> given into a pixel pack <code>Storage</code></p>
+     * <p>
+     * NOTE: The pixel(s) are read as RGBA (one byte per component) from the bottom row to the top row, and the
+     *       target of the storage must be {@link StorageTarget#PIXEL_PACK}.
+     *
+     * @param frame   the frame (<code>null</code> for the default frame)
+     * @param storage the storage where the pixel(s) are written
+     * @param x       the x coordinate of the region (expressed in px)
+     * @param y       the y coordinate of the region (expressed in px)
+     * @param width   the width of the region (expressed in px)
+     * @param height  the height of the region (expressed in px)
+     */
+    void read(Frame frame, Storage<?> storage, int x, int y, int width, int height);
+
+    /**
+     * <p>Read the colour pixel(s) of the <code>Frame</code> given into an array (synchronously)</p>
+     *
+     * @param frame  the frame (<code>null</code> for the default frame)
+     * @param data   the array where the pixel(s) are written
+     * @param x      the x coordinate of the region (expressed in px)
+     * @param y      the y coordinate of the region (expressed in px)
+     * @param width  the width of the region (expressed in px)
+     * @param height the height of the region (expressed in px)
+     *
+     * @see #read(Frame, Storage, int, int, int, int)
+     */
+    void read(Frame frame, Int8Array data, int x, int y, int width, int height);
+
     /**
      * <p>Unbind the <code>Texture</code> given</p>
      *
@@ -709,6 +1014,57 @@ public interface Render extends ManageableManager {
      */
     void draw(Primitive primitive, int offset, int count, VertexFormat format);
 
+    /**
+     * <p>Perform a draw operation using element(s) with a base vertex added to every element</p>
+     * <p>
+     * NOTE: A base vertex other than zero requires {@link RenderCapabilities.Extension#VERTEX_ARRAY_BASE_VERTEX}.
+     *
+     * @param primitive the action primitive
+     * @param offset    the action offset
+     * @param count     the action count
+     * @param format    the action vertex's format(s)
+     * @param base      the action base vertex
+     */
+    void draw(Primitive primitive, int offset, int count, VertexFormat format, int base);
+
+    /**
+     * <p>Perform many draw operation(s) using element(s)</p>
+     * <p>
+     * NOTE: Every draw is issued with a single call if {@link RenderCapabilities.Extension#VERTEX_ARRAY_MULTI_DRAW}
+     *       is supported, otherwise with a call per draw.
+     *
+     * @param primitive the action primitive
+     * @param offset    the action offset of every draw
+     * @param count     the action count of every draw
+     * @param format    the action vertex's format(s)
+     */
+    void draw(Primitive primitive, Int32Array offset, Int32Array count, VertexFormat format);
+
+    /**
+     * <p>Perform an instanced draw operation</p>
+     * <p>
+     * NOTE: Requires {@link RenderCapabilities.Extension#VERTEX_ARRAY_INSTANCING}.
+     *
+     * @param primitive the action's primitive
+     * @param offset    the action's offset
+     * @param count     the action's count
+     * @param instances the action's number of instance(s)
+     */
+    void drawInstanced(Primitive primitive, int offset, int count, int instances);
+
+    /**
+     * <p>Perform an instanced draw operation using element(s)</p>
+     * <p>
+     * NOTE: Requires {@link RenderCapabilities.Extension#VERTEX_ARRAY_INSTANCING}.
+     *
+     * @param primitive the action primitive
+     * @param offset    the action offset
+     * @param count     the action count
+     * @param format    the action vertex's format(s)
+     * @param instances the action's number of instance(s)
+     */
+    void drawInstanced(Primitive primitive, int offset, int count, VertexFormat format, int instances);
+
     /**
      * <p>Map a <code>Storage</code></p>
      *
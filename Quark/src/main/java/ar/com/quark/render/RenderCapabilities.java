@@ -18,6 +18,8 @@
 package ar.com.quark.render;
 
 import ar.com.quark.render.shader.Shader;
+import ar.com.quark.render.shader.UniformBlock;
+import ar.com.quark.render.storage.Storage;
 import ar.com.quark.render.storage.VertexDescriptor;
 import ar.com.quark.render.texture.Texture;
 import ar.com.quark.render.texture.frame.Frame;
@@ -57,6 +59,46 @@ public final class RenderCapabilities {
          */
         VERTEX_ARRAY_OBJECT,
 
+        /**
+         * Indicates if {@link VertexDescriptor} support instanced draw(s) and per-instance attribute(s).
+         */
+        VERTEX_ARRAY_INSTANCING,
+
+        /**
+         * Indicates if {@link VertexDescriptor} support draw(s) with a base vertex added to every element.
+         */
+        VERTEX_ARRAY_BASE_VERTEX,
+
+        /**
+         * Indicates if {@link VertexDescriptor} support many draw(s) using element(s) with a single call.
+         */
+        VERTEX_ARRAY_MULTI_DRAW,
+
+        /**
+         * Indicates if {@link UniformBlock} is supported.
+         */
+        UNIFORM_BUFFER,
+
+        /**
+         * Indicates if {@link Storage} can source pixel(s) of a {@link Texture} (pixel buffer object).
+         */
+        PIXEL_BUFFER,
+
+        /**
+         * Indicates if {@link QueryType#TIME_ELAPSED} query(s) are supported.
+         */
+        QUERY_TIMER,
+
+        /**
+         * Indicates if {@link QueryType#ANY_SAMPLES_PASSED} query(s) are supported.
+         */
+        QUERY_OCCLUSION,
+
+        /**
+         * Indicates if draw call(s) can be discarded by the result of an occlusion query.
+         */
+        QUERY_CONDITIONAL,
+
         /**
          * Indicates if {@link Texture} support 3D.
          */
@@ -72,6 +114,11 @@ public final class RenderCapabilities {
          */
         TEXTURE_FILTER_ANISOTROPIC,
 
+        /**
+         * Indicates if {@link Texture} support clamping the range of mip-map level(s) being sampled.
+         */
+        TEXTURE_LEVEL_CLAMP,
+
         /**
          * Indicates if geometry stage is supported by GLSL.
          */
@@ -90,7 +137,17 @@ public final class RenderCapabilities {
         /**
          * Indicates if explicit precision is supported by GLSL.
          */
-        GLSL_PRECISION
+        GLSL_PRECISION,
+
+        /**
+         * Indicates if a linked program can be retrieved (and loaded back) as a binary blob.
+         */
+        GLSL_PROGRAM_BINARY,
+
+        /**
+         * Indicates if shader(s) can be compiled (and linked) in background by the driver.
+         */
+        GLSL_PARALLEL_COMPILE
     }
 
     /**
@@ -0,0 +1,489 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render;
+
+import ar.com.quark.render.shader.Shader;
+import ar.com.quark.render.storage.Mesh;
+import ar.com.quark.render.storage.Primitive;
+import ar.com.quark.render.storage.VertexFormat;
+import ar.com.quark.render.texture.Texture;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>RenderQueue</code> encapsulate a queue of draw command(s) sorted by a packed 64-bit key.
+ * <p>
+ * Command(s) are recorded in any order and replayed through {@link Render} once {@link #flush()} is called, sorted
+ * by pass, translucency, depth, {@link Shader}, {@link Texture} and {@link RenderState}. Opaque command(s) are sorted
+ * by material first and front-to-back after, while translucent command(s) are sorted back-to-front.
+ */
+public final class RenderQueue {
+    /**
+     * Encapsulate the layout of the sort key.
+     * <p>
+     * [PASS:4][TRANSLUCENT:1][DEPTH:24][SHADER:12][TEXTURE:12][STATE:11] (translucent)
+     * [PASS:4][TRANSLUCENT:1][SHADER:12][TEXTURE:12][STATE:11][DEPTH:24] (opaque)
+     */
+    private final static int KEY_PASS_SHIFT = 60;
+    private final static int KEY_TRANSLUCENT_SHIFT = 59;
+    private final static int KEY_DEPTH_BITS = 24;
+    private final static int KEY_SHADER_BITS = 12;
+    private final static int KEY_TEXTURE_BITS = 12;
+    private final static int KEY_STATE_BITS = 11;
+
+    /**
+     * Represent the bit of the state identifier reserved for state(s) assigned an identifier per frame (not interned).
+     */
+    private final static int KEY_STATE_FRAME = 1 << (KEY_STATE_BITS - 1);
+
+    /**
+     * Represent the maximum pass supported by the queue.
+     */
+    public final static int MAX_PASS = (1 << 4) - 1;
+
+    /**
+     * Hold all command(s) recorded (pooled).
+     */
+    private Command[] mCommands;
+
+    /**
+     * Hold the sort key(s) and the index of each command (double buffered for sorting).
+     */
+    private long[] mKeys, mKeysTemp;
+    private int[] mIndices, mIndicesTemp;
+
+    /**
+     * Hold the number of command(s) recorded.
+     */
+    private int mCount;
+
+    /**
+     * Hold the unique identifier of each {@link RenderState} recorded.
+     */
+    private final Map<RenderState, Integer> mStates = new HashMap<>();
+
+    /**
+     * Hold the histogram used for sorting.
+     */
+    private final int[] mHistogram = new int[256];
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param capacity the initial number of command(s) the queue can hold (will grow if required)
+     */
+    public RenderQueue(int capacity) {
+        onResize(Math.max(1, capacity));
+    }
+
+    /**
+     * <p>Get the number of command(s) recorded</p>
+     *
+     * @return the number of command(s) recorded
+     */
+    public int size() {
+        return mCount;
+    }
+
+    /**
+     * <p>Record a new command</p>
+     *
+     * @return the new command (pooled) that should be filled before calling {@link #flush()}
+     */
+    public Command push() {
+        if (mCount == mCommands.length) {
+            onResize(mCount << 1);
+        }
+        final Command command = mCommands[mCount++];
+        command.reset();
+        return command;
+    }
+
+    /**
+     * <p>Discard all command(s) recorded</p>
+     */
+    public void clear() {
+        for (int i = 0; i < mCount; ++i) {
+            mCommands[i].reset();
+        }
+        mCount = 0;
+
+        mStates.clear();
+    }
+
+    /**
+     * <p>Sort all command(s) recorded and replay them using {@link Render}</p>
+     * <p>
+     * NOTE: The queue is cleared after replaying.
+     */
+    public void flush() {
+        if (mCount == 0) {
+            return;
+        }
+
+        //!
+        //! Calculate the key of each command.
+        //!
+        for (int i = 0; i < mCount; ++i) {
+            mKeys[i] = getKey(mCommands[i]);
+            mIndices[i] = i;
+        }
+
+        //!
+        //! Sort all command(s) by their key.
+        //!
+        onSort();
+
+        //!
+        //! Replay each command (the render will discard any redundant change).
+        //!
+        RenderState lastState = null;
+
+        for (int i = 0; i < mCount; ++i) {
+            final Command command = mCommands[mIndices[i]];
+
+            if (command.mState != null && command.mState != lastState) {
+                QKRender.apply(lastState = command.mState);
+            }
+
+            if (command.mShader != null) {
+                QKRender.acquire(command.mShader);
+
+                if (command.mCallback != null) {
+                    command.mCallback.onCommand(command.mShader);
+                }
+                command.mShader.update();
+            }
+
+            for (int stage = 0; stage < command.mTextures.length; ++stage) {
+                final Texture texture = command.mTextures[stage];
+
+                if (texture != null) {
+                    QKRender.acquire(texture, stage);
+                }
+            }
+
+            if (command.mFormat != null) {
+                command.mMesh.draw(command.mPrimitive, command.mOffset, command.mCount, command.mFormat);
+            } else {
+                command.mMesh.draw(command.mPrimitive, command.mOffset, command.mCount);
+            }
+        }
+        clear();
+    }
+
+    /**
+     * <p>Calculate the sort key of the given {@link Command}</p>
+     */
+    private long getKey(Command command) {
+        final long depth = (long) (Math.min(1.0f, Math.max(0.0f, command.mDepth)) * ((1 << KEY_DEPTH_BITS) - 1));
+        final long shader = (command.mShader != null ? command.mShader.getHandle() : 0)
+                & ((1 << KEY_SHADER_BITS) - 1);
+        final long texture = (command.mTextures.length > 0 && command.mTextures[0] != null
+                ? command.mTextures[0].getHandle() : 0) & ((1 << KEY_TEXTURE_BITS) - 1);
+        final long state = getStateID(command.mState) & ((1 << KEY_STATE_BITS) - 1);
+
+        final long material = (shader << (KEY_TEXTURE_BITS + KEY_STATE_BITS)) | (texture << KEY_STATE_BITS) | state;
+
+        long key = ((long) command.mPass << KEY_PASS_SHIFT);
+
+        if (command.mTranslucent) {
+            //!
+            //! Translucent command(s) are sorted back-to-front.
+            //!
+            final long inverted = ((1 << KEY_DEPTH_BITS) - 1) - depth;
+
+            key |= (1L << KEY_TRANSLUCENT_SHIFT)
+                    | (inverted << (KEY_SHADER_BITS + KEY_TEXTURE_BITS + KEY_STATE_BITS))
+                    | material;
+        } else {
+            //!
+            //! Opaque command(s) are sorted by material and then front-to-back.
+            //!
+            key |= (material << KEY_DEPTH_BITS) | depth;
+        }
+        return key;
+    }
+
+    /**
+     * <p>Get the unique identifier of the given {@link RenderState} within the queue</p>
+     * <p>
+     * NOTE: Interned state(s) already have a unique identifier, any other state is assigned one per frame (with
+     *       {@link #KEY_STATE_FRAME} set, so it never match the identifier of an interned state).
+     */
+    private int getStateID(RenderState state) {
+        if (state == null) {
+            return 0;
+        }
+        if (state.isInterned()) {
+            return state.getID() & (KEY_STATE_FRAME - 1);
+        }
+        Integer id = mStates.get(state);
+
+        if (id == null) {
+            mStates.put(state, id = KEY_STATE_FRAME | ((mStates.size() + 1) & (KEY_STATE_FRAME - 1)));
+        }
+        return id;
+    }
+
+    /**
+     * <p>Sort all key(s) using a LSD radix sort (8-bit per pass)</p>
+     */
+    private void onSort() {
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            Arrays.fill(mHistogram, 0);
+
+            for (int i = 0; i < mCount; ++i) {
+                mHistogram[(int) ((mKeys[i] >>> shift) & 0xFF)]++;
+            }
+
+            //!
+            //! Skip the pass if every key share the same digit.
+            //!
+            if (mHistogram[(int) ((mKeys[0] >>> shift) & 0xFF)] == mCount) {
+                continue;
+            }
+
+            for (int i = 0, sum = 0; i < mHistogram.length; ++i) {
+                final int value = mHistogram[i];
+                mHistogram[i] = sum;
+                sum += value;
+            }
+
+            for (int i = 0; i < mCount; ++i) {
+                final int digit = (int) ((mKeys[i] >>> shift) & 0xFF);
+                final int index = mHistogram[digit]++;
+
+                mKeysTemp[index] = mKeys[i];
+                mIndicesTemp[index] = mIndices[i];
+            }
+
+            final long[] keys = mKeys;
+            mKeys = mKeysTemp;
+            mKeysTemp = keys;
+
+            final int[] indices = mIndices;
+            mIndices = mIndicesTemp;
+            mIndicesTemp = indices;
+        }
+    }
+
+    /**
+     * <p>Resize all buffer(s) of the queue</p>
+     */
+    private void onResize(int capacity) {
+        final Command[] commands = new Command[capacity];
+
+        if (mCommands != null) {
+            System.arraycopy(mCommands, 0, commands, 0, mCommands.length);
+        }
+        for (int i = (mCommands != null ? mCommands.length : 0); i < capacity; ++i) {
+            commands[i] = new Command();
+        }
+        mCommands = commands;
+
+        mKeys = new long[capacity];
+        mKeysTemp = new long[capacity];
+        mIndices = new int[capacity];
+        mIndicesTemp = new int[capacity];
+    }
+
+    /**
+     * <code>Callback</code> encapsulate a callback invoked before a {@link Command} is drawn.
+     */
+    public interface Callback {
+        /**
+         * <p>Handle when the command is about to be drawn</p>
+         * <p>
+         * NOTE: Useful to change per-command {@link ar.com.quark.render.shader.Uniform}(s).
+         *
+         * @param shader the shader (already acquired) of the command
+         */
+        void onCommand(Shader shader);
+    }
+
+    /**
+     * <code>Command</code> encapsulate a draw command recorded in {@link RenderQueue}.
+     */
+    public final static class Command {
+        private final static Texture[] EMPTY = new Texture[0];
+
+        private int mPass;
+        private boolean mTranslucent;
+        private float mDepth;
+        private Shader mShader;
+        private Texture[] mTextures = EMPTY;
+        private RenderState mState;
+        private Callback mCallback;
+        private Mesh mMesh;
+        private Primitive mPrimitive;
+        private int mOffset;
+        private int mCount;
+        private VertexFormat mFormat;
+
+        /**
+         * <p>Change the pass of the command</p>
+         *
+         * @param pass the pass of the command (lower pass(es) are drawn first)
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Command setPass(int pass) {
+            if (pass < 0 || pass > MAX_PASS) {
+                throw new IllegalArgumentException("Maximum pass is " + MAX_PASS);
+            }
+            mPass = pass;
+            return this;
+        }
+
+        /**
+         * <p>Change whether the command is translucent</p>
+         *
+         * @param translucent <code>true</code> if the command is translucent, <code>false</code> otherwise
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Command setTranslucent(boolean translucent) {
+            mTranslucent = translucent;
+            return this;
+        }
+
+        /**
+         * <p>Change the depth of the command</p>
+         *
+         * @param depth the normalised depth of the command (from 0.0 to 1.0)
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Command setDepth(float depth) {
+            mDepth = depth;
+            return this;
+        }
+
+        /**
+         * <p>Change the shader of the command</p>
+         *
+         * @param shader the shader of the command
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Command setShader(Shader shader) {
+            mShader = shader;
+            return this;
+        }
+
+        /**
+         * <p>Change the texture of the command</p>
+         *
+         * @param stage   the stage of the texture
+         * @param texture the texture
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Command setTexture(int stage, Texture texture) {
+            if (stage >= mTextures.length) {
+                final Texture[] textures = new Texture[stage + 1];
+                System.arraycopy(mTextures, 0, textures, 0, mTextures.length);
+                mTextures = textures;
+            }
+            mTextures[stage] = texture;
+            return this;
+        }
+
+        /**
+         * <p>Change the state(s) of the command</p>
+         *
+         * @param state the state(s) of the command
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Command setState(RenderState state) {
+            mState = state;
+            return this;
+        }
+
+        /**
+         * <p>Change the callback of the command</p>
+         *
+         * @param callback the callback of the command
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Command setCallback(Callback callback) {
+            mCallback = callback;
+            return this;
+        }
+
+        /**
+         * <p>Change the geometry of the command</p>
+         *
+         * @param mesh      the mesh
+         * @param primitive the render primitive
+         * @param offset    the render offset
+         * @param count     the render primitive count
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Command setMesh(Mesh mesh, Primitive primitive, int offset, int count) {
+            return setMesh(mesh, primitive, offset, count, null);
+        }
+
+        /**
+         * <p>Change the geometry of the command (using indices)</p>
+         *
+         * @param mesh      the mesh
+         * @param primitive the render primitive
+         * @param offset    the render offset
+         * @param count     the render primitive count
+         * @param format    the indices format
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Command setMesh(Mesh mesh, Primitive primitive, int offset, int count, VertexFormat format) {
+            mMesh = mesh;
+            mPrimitive = primitive;
+            mOffset = offset;
+            mCount = count;
+            mFormat = format;
+            return this;
+        }
+
+        /**
+         * <p>Reset the command (remove all reference(s))</p>
+         */
+        private void reset() {
+            mPass = 0;
+            mTranslucent = false;
+            mDepth = 0.0f;
+            mShader = null;
+            mState = null;
+            mCallback = null;
+            mMesh = null;
+            mPrimitive = null;
+            mFormat = null;
+
+            for (int i = 0; i < mTextures.length; ++i) {
+                mTextures[i] = null;
+            }
+        }
+    }
+}
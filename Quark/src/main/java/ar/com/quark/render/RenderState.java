@@ -22,10 +22,49 @@ import ar.com.quark.mathematic.MutableVector4i;
 import ar.com.quark.mathematic.Vector2f;
 import ar.com.quark.mathematic.Vector4i;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <code>RenderState</code> contain(s) all render state(s) of {@link Render}.
  */
 public final class RenderState {
+    /**
+     * Represent the layout of the packed key of the state(s) (the offset and length of each group).
+     */
+    final static int SHIFT_ALPHA_TO_COVERAGE = 0;
+    final static int SHIFT_BLEND = 2;
+    final static int SHIFT_BLEND_EQUATION = 6;
+    final static int SHIFT_COLOUR_MASK = 12;
+    final static int SHIFT_CULL = 20;
+    final static int SHIFT_SCISSOR = 23;
+    final static int SHIFT_DEPTH = 25;
+    final static int SHIFT_DEPTH_MASK = 27;
+    final static int SHIFT_DEPTH_OP = 29;
+    final static int SHIFT_STENCIL = 32;
+    final static int SHIFT_STENCIL_FUNC = 34;
+    final static int SHIFT_STENCIL_OP = 40;
+
+    final static long GROUP_ALPHA_TO_COVERAGE = 0x3L << SHIFT_ALPHA_TO_COVERAGE;
+    final static long GROUP_BLEND = 0xFL << SHIFT_BLEND;
+    final static long GROUP_BLEND_EQUATION = 0x3FL << SHIFT_BLEND_EQUATION;
+    final static long GROUP_COLOUR_MASK = 0xFFL << SHIFT_COLOUR_MASK;
+    final static long GROUP_CULL = 0x7L << SHIFT_CULL;
+    final static long GROUP_SCISSOR = 0x3L << SHIFT_SCISSOR;
+    final static long GROUP_DEPTH = 0x3L << SHIFT_DEPTH;
+    final static long GROUP_DEPTH_MASK = 0x3L << SHIFT_DEPTH_MASK;
+    final static long GROUP_DEPTH_OP = 0x7L << SHIFT_DEPTH_OP;
+    final static long GROUP_STENCIL = 0x3L << SHIFT_STENCIL;
+    final static long GROUP_STENCIL_FUNC = 0x3FL << SHIFT_STENCIL_FUNC;
+    final static long GROUP_STENCIL_OP = 0x3FFFFL << SHIFT_STENCIL_OP;
+
+    /**
+     * Hold all state(s) being interned.
+     */
+    private final static Map<List<Object>, RenderState> INTERNED = new HashMap<>();
+
     /**
      * Enumerate flag mode(s).
      */
@@ -433,24 +472,108 @@ public final class RenderState {
      */
     private StencilOp mStencilBackDepthPassOp = StencilOp.KEEP;
 
+    /**
+     * Hold the packed key of all state(s) and the mask of every group that inherit.
+     */
+    private long mKey, mKeyInherit;
+
+    /**
+     * Hold the unique identifier of the state(s) (only if interned).
+     */
+    private int mID;
+
+    /**
+     * <p>Constructor</p>
+     */
+    public RenderState() {
+        onUpdateKey();
+    }
+
+    /**
+     * <p>Get an immutable and shared instance with the same state(s)</p>
+     * <p>
+     * NOTE: Interned instance(s) have a unique identifier and cannot be modified.
+     *
+     * @return the interned instance of the state(s)
+     */
+    public RenderState intern() {
+        if (isInterned()) {
+            return this;
+        }
+        final List<Object> key = Arrays.asList(mKey,
+                mDepthRange.getX(), mDepthRange.getY(),
+                mScissorViewport.getX(), mScissorViewport.getY(), mScissorViewport.getZ(), mScissorViewport.getW());
+
+        synchronized (INTERNED) {
+            RenderState state = INTERNED.get(key);
+
+            if (state == null) {
+                state = new RenderState();
+                state.merge(this);
+                state.mID = INTERNED.size() + 1;
+
+                INTERNED.put(key, state);
+            }
+            return state;
+        }
+    }
+
+    /**
+     * <p>Check if the state(s) are interned</p>
+     *
+     * @return <code>true</code> if the state(s) are interned (immutable), <code>false</code> otherwise
+     */
+    public boolean isInterned() {
+        return mID != 0;
+    }
+
+    /**
+     * <p>Get the unique identifier of the state(s)</p>
+     *
+     * @return the unique identifier of the state(s) or <code>0</code> if not interned
+     */
+    public int getID() {
+        return mID;
+    }
+
+    /**
+     * <p>Get the packed key of all state(s)</p>
+     *
+     * @return the packed key of all state(s)
+     */
+    long getKey() {
+        return mKey;
+    }
+
+    /**
+     * <p>Get the mask of every group (in the packed key) that inherit</p>
+     *
+     * @return the mask of every group that inherit
+     */
+    long getKeyInherit() {
+        return mKeyInherit;
+    }
+
     /**
      * <p>Merge the state(s) with other state(s)</p>
      *
      * @param other the other state to merge
      */
     public void merge(RenderState other) {
+        checkMutable();
+
         mAlphaToCoverage = other.mAlphaToCoverage;
-        mAlphaMask = other.mRedMask;
+        mAlphaMask = other.mAlphaMask;
         mBlend = other.mBlend;
         mBlendAlphaEquation = other.mBlendAlphaEquation;
         mBlendColourEquation = other.mBlendColourEquation;
-        mBlueMask = other.mRedMask;
+        mBlueMask = other.mBlueMask;
         mCull = other.mCull;
         mDepth = other.mDepth;
         mDepthMask = other.mDepthMask;
         mDepthOp = other.mDepthOp;
         mDepthRange.set(other.mDepthRange);
-        mGreenMask = other.mRedMask;
+        mGreenMask = other.mGreenMask;
         mRedMask = other.mRedMask;
         mScissor = other.mScissor;
         mScissorViewport.set(other.mScissorViewport);
@@ -463,6 +586,8 @@ public final class RenderState {
         mStencilFrontFailOp = other.mStencilFrontFailOp;
         mStencilFrontDepthFailOp = other.mStencilFrontDepthFailOp;
         mStencilFrontDepthPassOp = other.mStencilFrontDepthPassOp;
+
+        onUpdateKey();
     }
 
     /**
@@ -473,7 +598,10 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setAlphaToCoverage(Flag flag) {
+        checkMutable();
+
         mAlphaToCoverage = flag;
+        onUpdateKey();
         return this;
     }
 
@@ -485,7 +613,10 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setBlend(Blend blend) {
+        checkMutable();
+
         mBlend = blend;
+        onUpdateKey();
         return this;
     }
 
@@ -509,8 +640,11 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setBlendEquation(BlendEquation colour, BlendEquation alpha) {
+        checkMutable();
+
         mBlendColourEquation = colour;
         mBlendAlphaEquation = alpha;
+        onUpdateKey();
         return this;
     }
 
@@ -536,10 +670,13 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setColourMask(Flag red, Flag green, Flag blue, Flag alpha) {
+        checkMutable();
+
         mRedMask = red;
         mGreenMask = green;
         mBlueMask = blue;
         mAlphaMask = alpha;
+        onUpdateKey();
         return this;
     }
 
@@ -551,7 +688,10 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setCullFace(Cull op) {
+        checkMutable();
+
         mCull = op;
+        onUpdateKey();
         return this;
     }
 
@@ -563,7 +703,10 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setDepth(Flag flag) {
+        checkMutable();
+
         mDepth = flag;
+        onUpdateKey();
         return this;
     }
 
@@ -575,7 +718,10 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setDepthMask(Flag flag) {
+        checkMutable();
+
         mDepthMask = flag;
+        onUpdateKey();
         return this;
     }
 
@@ -599,6 +745,8 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setDepthRange(float near, float far) {
+        checkMutable();
+
         mDepthRange.setXY(near, far);
         return this;
     }
@@ -611,7 +759,10 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setDepthOp(TestOp op) {
+        checkMutable();
+
         mDepthOp = op;
+        onUpdateKey();
         return this;
     }
 
@@ -623,7 +774,10 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setScissor(Flag flag) {
+        checkMutable();
+
         mScissor = flag;
+        onUpdateKey();
         return this;
     }
 
@@ -638,6 +792,8 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setScissorViewport(int x1, int y1, int x2, int y2) {
+        checkMutable();
+
         mScissorViewport.setXYZW(x1, y1, x2, y2);
         return this;
     }
@@ -650,7 +806,10 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setStencil(Flag flag) {
+        checkMutable();
+
         mStencil = flag;
+        onUpdateKey();
         return this;
     }
 
@@ -674,8 +833,11 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setStencilOp(TestOp front, TestOp back) {
+        checkMutable();
+
         mStencilFrontOp = front;
         mStencilBackOp = back;
+        onUpdateKey();
         return this;
     }
 
@@ -700,9 +862,12 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setStencilFrontOp(StencilOp sfail, StencilOp dfail, StencilOp dpass) {
+        checkMutable();
+
         mStencilFrontFailOp = sfail;
         mStencilFrontDepthFailOp = dfail;
         mStencilFrontDepthPassOp = dpass;
+        onUpdateKey();
         return this;
     }
 
@@ -727,9 +892,12 @@ public final class RenderState {
      * @return <code>this</code> for chain operation(s)
      */
     public RenderState setStencilBackOp(StencilOp sfail, StencilOp dfail, StencilOp dpass) {
+        checkMutable();
+
         mStencilBackFailOp = sfail;
         mStencilBackDepthFailOp = dfail;
         mStencilBackDepthPassOp = dpass;
+        onUpdateKey();
         return this;
     }
 
@@ -949,6 +1117,92 @@ public final class RenderState {
         return mStencilBackDepthPassOp;
     }
 
+    /**
+     * <p>Check if the state(s) can be modified</p>
+     */
+    private void checkMutable() {
+        if (isInterned()) {
+            throw new IllegalStateException("Cannot modify an interned state");
+        }
+    }
+
+    /**
+     * <p>Encode all state(s) into the packed key</p>
+     */
+    private void onUpdateKey() {
+        mKey = (long) mAlphaToCoverage.ordinal() << SHIFT_ALPHA_TO_COVERAGE
+                | (long) mBlend.ordinal() << SHIFT_BLEND
+                | (long) mBlendColourEquation.ordinal() << SHIFT_BLEND_EQUATION
+                | (long) mBlendAlphaEquation.ordinal() << (SHIFT_BLEND_EQUATION + 3)
+                | (long) mRedMask.ordinal() << SHIFT_COLOUR_MASK
+                | (long) mGreenMask.ordinal() << (SHIFT_COLOUR_MASK + 2)
+                | (long) mBlueMask.ordinal() << (SHIFT_COLOUR_MASK + 4)
+                | (long) mAlphaMask.ordinal() << (SHIFT_COLOUR_MASK + 6)
+                | (long) mCull.ordinal() << SHIFT_CULL
+                | (long) mScissor.ordinal() << SHIFT_SCISSOR
+                | (long) mDepth.ordinal() << SHIFT_DEPTH
+                | (long) mDepthMask.ordinal() << SHIFT_DEPTH_MASK
+                | (long) mDepthOp.ordinal() << SHIFT_DEPTH_OP
+                | (long) mStencil.ordinal() << SHIFT_STENCIL
+                | (long) mStencilFrontOp.ordinal() << SHIFT_STENCIL_FUNC
+                | (long) mStencilBackOp.ordinal() << (SHIFT_STENCIL_FUNC + 3)
+                | (long) mStencilFrontFailOp.ordinal() << SHIFT_STENCIL_OP
+                | (long) mStencilFrontDepthFailOp.ordinal() << (SHIFT_STENCIL_OP + 3)
+                | (long) mStencilFrontDepthPassOp.ordinal() << (SHIFT_STENCIL_OP + 6)
+                | (long) mStencilBackFailOp.ordinal() << (SHIFT_STENCIL_OP + 9)
+                | (long) mStencilBackDepthFailOp.ordinal() << (SHIFT_STENCIL_OP + 12)
+                | (long) mStencilBackDepthPassOp.ordinal() << (SHIFT_STENCIL_OP + 15);
+
+        long inherit = 0L;
+        if (mAlphaToCoverage == Flag.INHERIT) {
+            inherit |= GROUP_ALPHA_TO_COVERAGE;
+        }
+        if (mBlend == Blend.INHERIT) {
+            inherit |= GROUP_BLEND;
+        }
+        if (mRedMask == Flag.INHERIT) {
+            inherit |= 0x3L << SHIFT_COLOUR_MASK;
+        }
+        if (mGreenMask == Flag.INHERIT) {
+            inherit |= 0x3L << (SHIFT_COLOUR_MASK + 2);
+        }
+        if (mBlueMask == Flag.INHERIT) {
+            inherit |= 0x3L << (SHIFT_COLOUR_MASK + 4);
+        }
+        if (mAlphaMask == Flag.INHERIT) {
+            inherit |= 0x3L << (SHIFT_COLOUR_MASK + 6);
+        }
+        if (mCull == Cull.INHERIT) {
+            inherit |= GROUP_CULL;
+        }
+        if (mScissor == Flag.INHERIT) {
+            inherit |= GROUP_SCISSOR;
+        }
+        if (mDepth == Flag.INHERIT) {
+            inherit |= GROUP_DEPTH;
+        }
+        if (mDepthMask == Flag.INHERIT) {
+            inherit |= GROUP_DEPTH_MASK;
+        }
+        if (mStencil == Flag.INHERIT) {
+            inherit |= GROUP_STENCIL;
+        }
+        mKeyInherit = inherit;
+    }
+
+    /**
+     * <p>Decode a group from a packed key</p>
+     *
+     * @param key   the packed key
+     * @param shift the offset of the group
+     * @param mask  the mask of the group (without offset)
+     *
+     * @return the ordinal of the value of the group
+     */
+    static int getGroup(long key, int shift, int mask) {
+        return (int) ((key >>> shift) & mask);
+    }
+
     /**
      * <p>Check whether the given {@link Flag} is dirty</p>
      *
@@ -0,0 +1,234 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render;
+
+import ar.com.quark.render.storage.Primitive;
+
+/**
+ * <code>RenderStatistics</code> contain(s) the number of command(s) issued by {@link Render} during a frame.
+ */
+public final class RenderStatistics {
+    int mDrawCalls;
+    long mPrimitives;
+    int mProgramBinds;
+    int mTextureBinds;
+    int mBufferBinds;
+    int mDescriptorBinds;
+    int mFrameBinds;
+    int mStateChanges;
+    int mUniformUploads;
+    long mBufferBytes;
+    long mTextureBytes;
+    int mAcquireSkipped;
+
+    /**
+     * <p>Get the number of draw call(s)</p>
+     *
+     * @return the number of draw call(s)
+     */
+    public int getDrawCalls() {
+        return mDrawCalls;
+    }
+
+    /**
+     * <p>Get the number of primitive(s) drawn (including every instance)</p>
+     *
+     * @return the number of primitive(s) drawn
+     */
+    public long getPrimitives() {
+        return mPrimitives;
+    }
+
+    /**
+     * <p>Get the number of program bind(s)</p>
+     *
+     * @return the number of program bind(s)
+     */
+    public int getProgramBinds() {
+        return mProgramBinds;
+    }
+
+    /**
+     * <p>Get the number of texture bind(s)</p>
+     *
+     * @return the number of texture bind(s)
+     */
+    public int getTextureBinds() {
+        return mTextureBinds;
+    }
+
+    /**
+     * <p>Get the number of buffer bind(s)</p>
+     *
+     * @return the number of buffer bind(s)
+     */
+    public int getBufferBinds() {
+        return mBufferBinds;
+    }
+
+    /**
+     * <p>Get the number of vertex array bind(s)</p>
+     *
+     * @return the number of vertex array bind(s)
+     */
+    public int getDescriptorBinds() {
+        return mDescriptorBinds;
+    }
+
+    /**
+     * <p>Get the number of frame-buffer bind(s)</p>
+     *
+     * @return the number of frame-buffer bind(s)
+     */
+    public int getFrameBinds() {
+        return mFrameBinds;
+    }
+
+    /**
+     * <p>Get the number of <code>glEnable</code> and <code>glDisable</code> call(s)</p>
+     *
+     * @return the number of state change(s)
+     */
+    public int getStateChanges() {
+        return mStateChanges;
+    }
+
+    /**
+     * <p>Get the number of uniform(s) uploaded</p>
+     *
+     * @return the number of uniform(s) uploaded
+     */
+    public int getUniformUploads() {
+        return mUniformUploads;
+    }
+
+    /**
+     * <p>Get the number of byte(s) uploaded into buffer(s)</p>
+     *
+     * @return the number of byte(s) uploaded into buffer(s)
+     */
+    public long getBufferBytes() {
+        return mBufferBytes;
+    }
+
+    /**
+     * <p>Get the number of byte(s) uploaded into texture(s)</p>
+     *
+     * @return the number of byte(s) uploaded into texture(s)
+     */
+    public long getTextureBytes() {
+        return mTextureBytes;
+    }
+
+    /**
+     * <p>Get the number of acquire(s) skipped because the component was already active</p>
+     *
+     * @return the number of acquire(s) skipped
+     */
+    public int getAcquireSkipped() {
+        return mAcquireSkipped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "RenderStatistics{" +
+                "draws=" + mDrawCalls +
+                ", primitives=" + mPrimitives +
+                ", programBinds=" + mProgramBinds +
+                ", textureBinds=" + mTextureBinds +
+                ", bufferBinds=" + mBufferBinds +
+                ", descriptorBinds=" + mDescriptorBinds +
+                ", frameBinds=" + mFrameBinds +
+                ", stateChanges=" + mStateChanges +
+                ", uniformUploads=" + mUniformUploads +
+                ", bufferBytes=" + mBufferBytes +
+                ", textureBytes=" + mTextureBytes +
+                ", acquireSkipped=" + mAcquireSkipped +
+                '}';
+    }
+
+    /**
+     * <p>Record a draw call</p>
+     */
+    void onDraw(Primitive primitive, int count, int instances) {
+        mDrawCalls++;
+        mPrimitives += getPrimitives(primitive, count) * instances;
+    }
+
+    /**
+     * <p>Get the number of primitive(s) assembled from the given number of vertices</p>
+     */
+    static long getPrimitives(Primitive primitive, int count) {
+        final long primitives;
+
+        switch (primitive) {
+            case POINTS:
+                primitives = count;
+                break;
+            case LINES:
+                primitives = count / 2;
+                break;
+            case LINE_LOOP:
+                primitives = count > 1 ? count : 0;
+                break;
+            case LINE_STRIP:
+                primitives = Math.max(0, count - 1);
+                break;
+            case TRIANGLES:
+                primitives = count / 3;
+                break;
+            case LINES_ADJACENCY:
+                primitives = count / 4;
+                break;
+            case LINE_STRIP_ADJACENCY:
+                primitives = Math.max(0, count - 3);
+                break;
+            case TRIANGLES_ADJACENCY:
+                primitives = count / 6;
+                break;
+            case TRIANGLE_STRIP_ADJACENCY:
+                primitives = Math.max(0, (count - 4) / 2);
+                break;
+            default:
+                primitives = Math.max(0, count - 2);
+                break;
+        }
+        return primitives;
+    }
+
+    /**
+     * <p>Reset every counter</p>
+     */
+    void reset() {
+        mDrawCalls = 0;
+        mPrimitives = 0L;
+        mProgramBinds = 0;
+        mTextureBinds = 0;
+        mBufferBinds = 0;
+        mDescriptorBinds = 0;
+        mFrameBinds = 0;
+        mStateChanges = 0;
+        mUniformUploads = 0;
+        mBufferBytes = 0L;
+        mTextureBytes = 0L;
+        mAcquireSkipped = 0;
+    }
+}
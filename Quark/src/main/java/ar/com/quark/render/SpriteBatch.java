@@ -0,0 +1,321 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render;
+
+import ar.com.quark.mathematic.Colour;
+import ar.com.quark.render.storage.*;
+import ar.com.quark.render.storage.factory.FactoryArrayStorage;
+import ar.com.quark.render.storage.factory.FactoryElementStorage;
+import ar.com.quark.render.texture.Texture;
+import ar.com.quark.system.utility.Manageable;
+import ar.com.quark.system.utility.array.Float32Array;
+import ar.com.quark.system.utility.array.UInt16Array;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>SpriteBatch</code> encapsulate a batch renderer of textured quad(s) using multiple texture stage(s).
+ * <p>
+ * Each vertex is composed of [POSITION:2][COLOUR:4][TEXTURE:2][SLOT:1], where the slot is the texture stage the
+ * quad samples from. The shader being used must declare a sampler per stage and select it using the slot
+ * attribute (location 3). The batch is only flushed when all slot(s) are exhausted, the {@link RenderState} is
+ * changed or the storage is full.
+ */
+public class SpriteBatch extends Mesh {
+    /**
+     * Represent the number of component(s) per vertex.
+     */
+    private final static int VERTEX_COMPONENT = 6;
+
+    /**
+     * Represent the maximum number of quad(s) addressable by 16-bit indices.
+     */
+    public final static int MAX_QUAD = 0x10000 / 4;
+
+    /**
+     * Hold the storage that contains the {@linkplain #mVertices}.
+     */
+    private final FactoryArrayStorage.Float32 mStorage;
+
+    /**
+     * Hold a buffer being mapped to the GPU that hold(s) all vertices of the batch.
+     */
+    private Float32Array mVertices;
+
+    /**
+     * Hold the texture bound to each slot.
+     */
+    private final Texture[] mSlots;
+
+    /**
+     * Hold the number of slot(s) being used.
+     */
+    private int mSlotsCount;
+
+    /**
+     * Hold the states being applied to the batch.
+     */
+    private RenderState mState;
+
+    /**
+     * Hold the maximum and current number of quad(s) in the batch.
+     */
+    private final int mCapacity;
+    private int mCount;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param count the max number of sprite(s) being batched at once
+     */
+    public SpriteBatch(int count) {
+        this(count, QKRender.getCapabilities().getInteger(RenderCapabilities.Limit.TEXTURE_STAGE));
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param count the max number of sprite(s) being batched at once
+     * @param slots the max number of texture(s) being batched at once
+     */
+    public SpriteBatch(int count, int slots) {
+        super(
+                new FactoryArrayStorage.Float32(StorageType.CLIENT, StorageMode.STREAM_DRAW,
+                        VERTEX_COMPONENT * 4 * count,
+                        new Vertex.Builder()
+                                .add(0, 2, VertexFormat.FLOAT)
+                                .add(1, 4, VertexFormat.UNSIGNED_BYTE, true)
+                                .add(2, 2, VertexFormat.FLOAT)
+                                .add(3, 1, VertexFormat.FLOAT).build()),
+                new FactoryElementStorage.UInt16(StorageType.SERVER, StorageMode.STATIC_DRAW, 6 * count));
+
+        if (count <= 0 || count > MAX_QUAD) {
+            throw new IllegalArgumentException("Number of sprite(s) must be between 1 and " + MAX_QUAD);
+        }
+        final int limit = QKRender.getCapabilities().getInteger(RenderCapabilities.Limit.TEXTURE_STAGE);
+
+        mStorage = (FactoryArrayStorage.Float32) getVertices(0);
+        mCapacity = count;
+        mSlots = new Texture[Math.max(1, Math.min(slots, limit))];
+    }
+
+    /**
+     * <p>Initialise the batch</p>
+     */
+    public void initialise() {
+        //!
+        //! Allocate the indices storage.
+        //!
+        final UInt16Array indices = (UInt16Array) getIndices().map();
+        for (int i = 0, j = 0; i < mCapacity; ++i, j += 4) {
+            indices.write(j);
+            indices.write(j + 1);
+            indices.write(j + 2);
+            indices.write(j + 2);
+            indices.write(j + 3);
+            indices.write(j);
+        }
+        getIndices().unmap();
+
+        //!
+        //! Allocate the descriptor.
+        //!
+        mDescriptor.create();
+    }
+
+    /**
+     * <p>Get the number of texture slot(s) of the batch</p>
+     *
+     * @return the number of texture slot(s) of the batch
+     */
+    public final int getSlots() {
+        return mSlots.length;
+    }
+
+    /**
+     * <p>Begin the batch</p>
+     * <p>
+     * NOTE: This method should be called before starting to batching.
+     */
+    public void begin() {
+        mDescriptor.acquire();
+
+        //!
+        //! Acquire a pointer to the vertices of the mesh.
+        //!
+        mStorage.acquire();
+
+        mVertices = mStorage.map();
+    }
+
+    /**
+     * <p>Finalise the batch</p>
+     * <p>
+     * NOTE: This method should be called after finishing batching.
+     */
+    public void end() {
+        //!
+        //! Flush all vertices before ending the batch.
+        //!
+        flush(false);
+
+        mDescriptor.release();
+    }
+
+    /**
+     * <p>Change the states of the batch</p>
+     * <p>
+     * NOTE: The batch will be flushed if the states are different.
+     *
+     * @param state the new states of the batch
+     */
+    public void setState(RenderState state) {
+        if (mState != state) {
+            flush(true);
+
+            mState = state;
+        }
+    }
+
+    /**
+     * <p>Draw a texture</p>
+     */
+    public void draw(Texture texture,
+            float x1, float y1,
+            float x2, float y2,
+            float tx1, float ty1,
+            float tx2, float ty2, Colour colour) {
+        final float c0 = colour.toPackedFloat32FormatABGR();
+
+        draw(texture, x1, y1, x2, y2, tx1, ty1, tx2, ty2, c0, c0, c0, c0);
+    }
+
+    /**
+     * <p>Draw a texture</p>
+     *
+     * @param x1 the x coordinate of the quad
+     * @param y1 the y coordinate of the quad
+     * @param x2 the width of the quad
+     * @param y2 the height of the quad
+     */
+    public void draw(Texture texture,
+            float x1, float y1,
+            float x2, float y2,
+            float tx1, float ty1,
+            float tx2, float ty2,
+            float c1, float c2,
+            float c3, float c4) {
+        final float x3 = x1 + x2;
+        final float y3 = y1 + y2;
+
+        //!
+        //! Check whenever the batch need to change context.
+        //!
+        final float slot = getSlot(texture);
+
+        mVertices.write(x1).write(y1).write(c1).write(tx1).write(ty1).write(slot);
+        mVertices.write(x1).write(y3).write(c2).write(tx1).write(ty2).write(slot);
+        mVertices.write(x3).write(y3).write(c3).write(tx2).write(ty2).write(slot);
+        mVertices.write(x3).write(y1).write(c4).write(tx2).write(ty1).write(slot);
+        mCount++;
+    }
+
+    /**
+     * <p>Flush the batch</p>
+     *
+     * @param restore <code>true</code> if the render should be restore after, <code>false</code> otherwise
+     */
+    public void flush(boolean restore) {
+        if (mCount > 0) {
+            //!
+            //! We need to stop using the storage before rendering.
+            //!
+            mStorage.unmap();
+            mStorage.update();
+
+            //!
+            //! Bind every texture into its own stage (the render will discard any redundant change).
+            //!
+            for (int i = 0; i < mSlotsCount; ++i) {
+                QKRender.acquire(mSlots[i], i);
+            }
+
+            if (mState != null) {
+                QKRender.apply(mState);
+            }
+            draw(Primitive.TRIANGLES, 0, mCount * 6, VertexFormat.UNSIGNED_SHORT);
+        }
+
+        if (restore) {
+            //!
+            //! Acquire the storage again if required for rendering.
+            //!
+            if (mCount > 0) {
+                mVertices = mStorage.map();
+            }
+        } else if (mCount == 0) {
+            //!
+            //! We need to stop using the storage before finish the batch.
+            //!
+            mStorage.unmap();
+        }
+
+        for (int i = 0; i < mSlotsCount; ++i) {
+            mSlots[i] = null;
+        }
+        mSlotsCount = 0;
+        mCount = 0;
+    }
+
+    /**
+     * <p>Get the slot of the given texture (flush the batch automatically if required)</p>
+     */
+    private int getSlot(Texture texture) {
+        if (mCount == mCapacity) {
+            //!
+            //! NOTE: Handle when the storage is full.
+            //!
+            flush(true);
+        }
+
+        for (int i = 0; i < mSlotsCount; ++i) {
+            if (mSlots[i] == texture) {
+                return i;
+            }
+        }
+
+        if (mSlotsCount == mSlots.length) {
+            //!
+            //! NOTE: Handle when all slot(s) are exhausted.
+            //!
+            flush(true);
+        }
+        final int slot = mSlotsCount++;
+
+        if (texture.getHandle() == Manageable.INVALID_HANDLE) {
+            //!
+            //! NOTE: Some texture(s) may be loaded asynchronous and requires to update.
+            //!
+            texture.create();
+            texture.acquire(slot);
+            texture.update();
+        }
+        mSlots[slot] = texture;
+        return slot;
+    }
+}
@@ -0,0 +1,487 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render;
+
+import ar.com.quark.mathematic.Matrix4f;
+import ar.com.quark.mathematic.MutableVector4f;
+import ar.com.quark.render.storage.*;
+import ar.com.quark.render.storage.factory.FactoryArrayStorage;
+import ar.com.quark.render.storage.factory.FactoryElementStorage;
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.array.Array;
+import ar.com.quark.system.utility.array.ArrayFactory;
+import ar.com.quark.system.utility.array.Int32Array;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>StaticBatch</code> encapsulate many static {@link Mesh} (that share the same vertex layout) merged into a
+ * single pre-transformed vertices and indices storage.
+ * <p>
+ * Each mesh merged keep its own range of indices (and bounds), so culling still happen per mesh. Every visible
+ * range is coalesced with its contiguous neighbour(s) and submitted with a single multi-draw call (or a call per
+ * contiguous run if {@link RenderCapabilities.Extension#VERTEX_ARRAY_MULTI_DRAW} isn't supported).
+ */
+public final class StaticBatch extends Mesh implements Disposable {
+    private final VertexFormat mFormat;
+
+    /**
+     * Hold the first index and number of indices of every mesh merged.
+     */
+    private final int[] mRanges;
+
+    /**
+     * Hold the bounds (minimum and maximum) of every mesh merged.
+     */
+    private final float[] mBounds;
+
+    /**
+     * Hold the offset and count of every draw being submitted.
+     */
+    private Int32Array mOffsets;
+    private Int32Array mCounts;
+
+    /**
+     * <p>Constructor</p>
+     */
+    private StaticBatch(FactoryArrayStorage<?> vertices, FactoryElementStorage<?> indices, int[] ranges,
+            float[] bounds) {
+        super(vertices, indices);
+
+        mFormat = indices.getFormat();
+        mRanges = ranges;
+        mBounds = bounds;
+        mOffsets = ArrayFactory.allocateInt32Array(Math.max(1, ranges.length >> 1));
+        mCounts = ArrayFactory.allocateInt32Array(Math.max(1, ranges.length >> 1));
+    }
+
+    /**
+     * <p>Get the number of mesh(es) merged</p>
+     *
+     * @return the number of mesh(es) merged
+     */
+    public int getCount() {
+        return mRanges.length >> 1;
+    }
+
+    /**
+     * <p>Allocate the descriptor (and storage(s)) of the batch</p>
+     */
+    public void create() {
+        mDescriptor.create();
+    }
+
+    /**
+     * <p>Draw every mesh merged</p>
+     *
+     * @param primitive the render primitive
+     */
+    public void draw(Primitive primitive) {
+        final int count = getCount();
+
+        if (count > 0) {
+            draw(primitive, 0, mRanges[(count << 1) - 2] + mRanges[(count << 1) - 1], mFormat);
+        }
+    }
+
+    /**
+     * <p>Draw every mesh merged that is visible</p>
+     *
+     * @param primitive the render primitive
+     * @param culler    the culler that decide if each mesh is visible
+     */
+    public void draw(Primitive primitive, Culler culler) {
+        mOffsets.clear();
+        mCounts.clear();
+
+        //!
+        //! Coalesce every visible range with its contiguous neighbour(s).
+        //!
+        int first = -1;
+        int last = -1;
+        int runs = 0;
+
+        for (int i = 0, count = getCount(); i < count; ++i) {
+            final int j = i * 6;
+
+            if (!culler.isVisible(mBounds[j], mBounds[j + 1], mBounds[j + 2],
+                    mBounds[j + 3], mBounds[j + 4], mBounds[j + 5])) {
+                continue;
+            }
+            final int start = mRanges[i << 1];
+            final int end = start + mRanges[(i << 1) + 1];
+
+            if (start != last) {
+                if (first >= 0) {
+                    mOffsets.writeInt32(first * mFormat.eLength);
+                    mCounts.writeInt32(last - first);
+                    runs++;
+                }
+                first = start;
+            }
+            last = end;
+        }
+
+        if (first >= 0) {
+            mOffsets.writeInt32(first * mFormat.eLength);
+            mCounts.writeInt32(last - first);
+            runs++;
+        }
+
+        if (runs == 1) {
+            draw(primitive, first * mFormat.eLength, last - first, mFormat);
+        } else if (runs > 1) {
+            mDescriptor.acquire();
+
+            QKRender.draw(primitive, mOffsets.flip(), mCounts.flip(), mFormat);
+        }
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        mOffsets = ArrayFactory.free(mOffsets);
+        mCounts = ArrayFactory.free(mCounts);
+
+        mDescriptor.dispose();
+        getVertices(0).dispose();
+        getIndices().dispose();
+    }
+
+    /**
+     * <code>Culler</code> encapsulate the visibility test of each mesh merged.
+     */
+    public interface Culler {
+        /**
+         * <p>Check if the given bounds are visible</p>
+         *
+         * @return <code>true</code> if the bounds are visible, <code>false</code> otherwise
+         */
+        boolean isVisible(float minX, float minY, float minZ, float maxX, float maxY, float maxZ);
+    }
+
+    /**
+     * <code>Builder</code> encapsulate a builder for {@link StaticBatch}.
+     */
+    public final static class Builder {
+        private final List<Vertex> mAttributes;
+        private final int mStride;
+        private final int mPosition;
+        private final int mNormal;
+
+        /**
+         * Hold the vertices (as raw word(s)) and indices merged.
+         */
+        private int[] mVertices = new int[1024];
+        private int mVerticesCount;
+        private int[] mIndices = new int[1024];
+        private int mIndicesCount;
+
+        /**
+         * Hold the range and bounds of every mesh merged.
+         */
+        private int[] mRanges = new int[32];
+        private float[] mBounds = new float[96];
+        private int mCount;
+
+        private final MutableVector4f mTemporary = new MutableVector4f(0.0f, 0.0f, 0.0f, 0.0f);
+
+        /**
+         * <p>Constructor</p>
+         *
+         * @param attributes the attribute(s) of every mesh (every attribute must be 4-byte aligned)
+         * @param position   the id of the position attribute (3 component(s) of {@link VertexFormat#FLOAT})
+         * @param normal     the id of the normal attribute (3 component(s) of {@link VertexFormat#FLOAT}) or
+         *                   <code>-1</code> if there isn't any
+         */
+        public Builder(List<Vertex> attributes, int position, int normal) {
+            final Vertex positionAttribute = getAttribute(attributes, position);
+            final Vertex normalAttribute = (normal >= 0 ? getAttribute(attributes, normal) : null);
+
+            if (positionAttribute == null || !isVector(positionAttribute)) {
+                throw new IllegalArgumentException("The position attribute must have 3 FLOAT component(s)");
+            }
+            if (normal >= 0 && (normalAttribute == null || !isVector(normalAttribute))) {
+                throw new IllegalArgumentException("The normal attribute must have 3 FLOAT component(s)");
+            }
+
+            int length = 0;
+
+            for (final Vertex attribute : attributes) {
+                if ((attribute.getOffset() & 0x03) != 0) {
+                    throw new IllegalArgumentException("Every attribute must be 4-byte aligned");
+                }
+                length = Math.max(length, attribute.getOffset() + ((attribute.getLength() + 0x03) & ~0x03));
+            }
+
+            mAttributes = attributes;
+            mStride = length >> 2;
+            mPosition = positionAttribute.getOffset() >> 2;
+            mNormal = (normalAttribute != null ? normalAttribute.getOffset() >> 2 : -1);
+        }
+
+        /**
+         * <p>Merge the given mesh</p>
+         * <p>
+         * NOTE: The content of the mesh must still be in memory (created with {@link StorageType#CLIENT}, or not yet
+         *       created with {@link StorageType#SERVER}).
+         *
+         * <p>
+         * NOTE: Only the given number of vertices and indices are read (from the start of each storage), the storage(s)
+         *       may have a greater capacity than the data written into them.
+         *
+         * @param mesh      the mesh (with a single vertices storage and an indices storage)
+         * @param vertices  the number of vertices written into the mesh
+         * @param indices   the number of indices written into the mesh
+         * @param transform the transformation applied to the vertices of the mesh
+         *
+         * @return a reference to this builder
+         */
+        public Builder add(Mesh mesh, int vertices, int indices, Matrix4f transform) {
+            if (mesh.getVertices().size() != 1 || mesh.getIndices() == null) {
+                throw new IllegalArgumentException("The mesh must have a single vertices storage and indices");
+            }
+            final FactoryArrayStorage<?> vertexStorage = mesh.getVertices(0);
+            final FactoryElementStorage<?> indexStorage = mesh.getIndices();
+            final VertexFormat format = indexStorage.getFormat();
+
+            if (vertexStorage.getAttributesLength() != (mStride << 2)) {
+                throw new IllegalArgumentException("The mesh doesn't have the same vertex layout of the batch");
+            }
+            if (vertices < 0 || vertices * (mStride << 2) > vertexStorage.getCapacity()) {
+                throw new IllegalArgumentException("The number of vertices exceeds the capacity of the mesh");
+            }
+            if (indices < 0 || indices * format.eLength > indexStorage.getCapacity()) {
+                throw new IllegalArgumentException("The number of indices exceeds the capacity of the mesh");
+            }
+
+            //!
+            //! Read the content of the mesh (only the range written).
+            //!
+            //! NOTE: Each storage is unmapped with the range read as its content, so its position and limit are the
+            //!       same as after writing it.
+            //!
+            final int[] vertexWords = new int[vertices * mStride];
+            final Array<?> vertexData = vertexStorage.map(0, 0, vertexWords.length << 2);
+
+            for (int i = 0; i < vertexWords.length; ++i) {
+                vertexWords[i] = vertexData.readInt32(i << 2);
+            }
+            vertexData.position(vertexData.limit());
+            vertexStorage.unmap();
+
+            final int[] indexValues = new int[indices];
+            final Array<?> indexData = indexStorage.map(0, 0, indices * format.eLength);
+
+            for (int i = 0; i < indexValues.length; ++i) {
+                switch (format) {
+                    case UNSIGNED_BYTE:
+                        indexValues[i] = indexData.readInt8(i) & 0xFF;
+                        break;
+                    case UNSIGNED_SHORT:
+                        indexValues[i] = indexData.readInt16(i << 1) & 0xFFFF;
+                        break;
+                    default:
+                        indexValues[i] = indexData.readInt32(i << 2);
+                        break;
+                }
+            }
+            indexData.position(indexData.limit());
+            indexStorage.unmap();
+
+            return onMerge(vertexWords, vertices, indexValues, transform);
+        }
+
+        /**
+         * <p>Merge the given vertices and indices</p>
+         *
+         * @param vertices  the vertices (interleaved with the layout of the batch)
+         * @param indices   the indices (relative to the first vertex given)
+         * @param transform the transformation applied to the vertices
+         *
+         * @return a reference to this builder
+         */
+        public Builder add(float[] vertices, int[] indices, Matrix4f transform) {
+            final int[] vertexWords = new int[vertices.length];
+
+            for (int i = 0; i < vertices.length; ++i) {
+                vertexWords[i] = Float.floatToRawIntBits(vertices[i]);
+            }
+            return onMerge(vertexWords, vertices.length / mStride, indices, transform);
+        }
+
+        /**
+         * <p>Build the batch</p>
+         *
+         * @return a new batch with every mesh merged
+         */
+        public StaticBatch build() {
+            final int vertices = mVerticesCount / mStride;
+
+            //!
+            //! Create the vertices storage.
+            //!
+            final FactoryArrayStorage.Float32 vertexStorage = new FactoryArrayStorage.Float32(
+                    StorageType.SERVER, StorageMode.STATIC_DRAW, Math.max(1, mVerticesCount), mAttributes);
+
+            final Array<?> vertexData = vertexStorage.map();
+
+            for (int i = 0; i < mVerticesCount; ++i) {
+                vertexData.writeInt32(i << 2, mVertices[i]);
+            }
+            vertexStorage.unmap();
+
+            //!
+            //! Create the indices storage (with the smallest format possible).
+            //!
+            final FactoryElementStorage<?> indexStorage = (vertices <= 0x10000
+                    ? new FactoryElementStorage.UInt16(StorageType.SERVER, StorageMode.STATIC_DRAW,
+                    Math.max(1, mIndicesCount))
+                    : new FactoryElementStorage.UInt32(StorageType.SERVER, StorageMode.STATIC_DRAW,
+                    Math.max(1, mIndicesCount)));
+
+            final Array<?> indexData = indexStorage.map();
+
+            for (int i = 0; i < mIndicesCount; ++i) {
+                if (vertices <= 0x10000) {
+                    indexData.writeInt16(i << 1, mIndices[i]);
+                } else {
+                    indexData.writeInt32(i << 2, mIndices[i]);
+                }
+            }
+            indexStorage.unmap();
+
+            return new StaticBatch(vertexStorage, indexStorage,
+                    Arrays.copyOf(mRanges, mCount << 1), Arrays.copyOf(mBounds, mCount * 6));
+        }
+
+        /**
+         * <p>Merge the given vertices (pre-transformed) and indices (rebased)</p>
+         */
+        private Builder onMerge(int[] vertices, int count, int[] indices, Matrix4f transform) {
+            final int base = mVerticesCount / mStride;
+
+            if (mVerticesCount + count * mStride > mVertices.length) {
+                mVertices = Arrays.copyOf(mVertices, Math.max(mVertices.length << 1, mVerticesCount + count * mStride));
+            }
+            if (mIndicesCount + indices.length > mIndices.length) {
+                mIndices = Arrays.copyOf(mIndices, Math.max(mIndices.length << 1, mIndicesCount + indices.length));
+            }
+            if ((mCount + 1) * 6 > mBounds.length) {
+                mRanges = Arrays.copyOf(mRanges, mRanges.length << 1);
+                mBounds = Arrays.copyOf(mBounds, mBounds.length << 1);
+            }
+
+            float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+            float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+
+            for (int i = 0; i < count; ++i) {
+                final int source = i * mStride;
+                final int destination = mVerticesCount + source;
+
+                System.arraycopy(vertices, source, mVertices, destination, mStride);
+
+                //!
+                //! Transform the position (and expand the bounds).
+                //!
+                transform.transform(
+                        Float.intBitsToFloat(vertices[source + mPosition]),
+                        Float.intBitsToFloat(vertices[source + mPosition + 1]),
+                        Float.intBitsToFloat(vertices[source + mPosition + 2]), 1.0f, mTemporary);
+
+                mVertices[destination + mPosition] = Float.floatToRawIntBits(mTemporary.getX());
+                mVertices[destination + mPosition + 1] = Float.floatToRawIntBits(mTemporary.getY());
+                mVertices[destination + mPosition + 2] = Float.floatToRawIntBits(mTemporary.getZ());
+
+                minX = Math.min(minX, mTemporary.getX());
+                minY = Math.min(minY, mTemporary.getY());
+                minZ = Math.min(minZ, mTemporary.getZ());
+                maxX = Math.max(maxX, mTemporary.getX());
+                maxY = Math.max(maxY, mTemporary.getY());
+                maxZ = Math.max(maxZ, mTemporary.getZ());
+
+                //!
+                //! Transform the normal (NOTE: assume the transformation doesn't have a non-uniform scale).
+                //!
+                if (mNormal >= 0) {
+                    transform.transform(
+                            Float.intBitsToFloat(vertices[source + mNormal]),
+                            Float.intBitsToFloat(vertices[source + mNormal + 1]),
+                            Float.intBitsToFloat(vertices[source + mNormal + 2]), 0.0f, mTemporary);
+
+                    final float x = mTemporary.getX();
+                    final float y = mTemporary.getY();
+                    final float z = mTemporary.getZ();
+                    final float length = (float) Math.sqrt(x * x + y * y + z * z);
+                    final float inverse = (length > 0.0f ? 1.0f / length : 0.0f);
+
+                    mVertices[destination + mNormal] = Float.floatToRawIntBits(x * inverse);
+                    mVertices[destination + mNormal + 1] = Float.floatToRawIntBits(y * inverse);
+                    mVertices[destination + mNormal + 2] = Float.floatToRawIntBits(z * inverse);
+                }
+            }
+
+            for (int i = 0; i < indices.length; ++i) {
+                if (indices[i] < 0 || indices[i] >= count) {
+                    throw new IllegalArgumentException("The index " + indices[i] + " is out of bounds");
+                }
+                mIndices[mIndicesCount + i] = base + indices[i];
+            }
+
+            mRanges[mCount << 1] = mIndicesCount;
+            mRanges[(mCount << 1) + 1] = indices.length;
+
+            final int bounds = mCount * 6;
+            mBounds[bounds] = minX;
+            mBounds[bounds + 1] = minY;
+            mBounds[bounds + 2] = minZ;
+            mBounds[bounds + 3] = maxX;
+            mBounds[bounds + 4] = maxY;
+            mBounds[bounds + 5] = maxZ;
+
+            mVerticesCount += count * mStride;
+            mIndicesCount += indices.length;
+            mCount++;
+            return this;
+        }
+
+        /**
+         * <p>Find the attribute with the given id</p>
+         */
+        private static Vertex getAttribute(List<Vertex> attributes, int id) {
+            for (final Vertex attribute : attributes) {
+                if (attribute.getID() == id) {
+                    return attribute;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * <p>Check if the given attribute is a vector of 3 floating point component(s)</p>
+         */
+        private static boolean isVector(Vertex attribute) {
+            return attribute.getType() == VertexFormat.FLOAT && attribute.getComponent() >= 3;
+        }
+    }
+}
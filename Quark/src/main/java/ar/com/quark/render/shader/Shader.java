@@ -17,11 +17,11 @@
  */
 package ar.com.quark.render.shader;
 
+import ar.com.quark.render.CommandBuffer;
 import ar.com.quark.render.Render;
 import ar.com.quark.resource.AssetDescriptor;
 import ar.com.quark.system.utility.Disposable;
 import ar.com.quark.system.utility.Manageable;
-import ar.com.quark.system.utility.emulation.Emulation;
 
 import java.util.Collections;
 import java.util.List;
@@ -42,14 +42,39 @@ public final class Shader extends Manageable implements Disposable {
     private final List<Stage> mStages;
     private final Map<String, Attribute> mAttributes;
     private final Map<String, Uniform> mUniforms;
+    private final Map<String, Integer> mBlocks;
+
+    /**
+     * Hold all {@link Uniform}(s) that requires to update (dirty list).
+     */
+    private final Uniform[] mUniformsDirty;
+    private int mUniformsDirtyCount;
 
     /**
      * <p>Constructor</p>
      */
     public Shader(List<Stage> stages, Map<String, Attribute> attributes, Map<String, Uniform> uniforms) {
+        this(stages, attributes, uniforms, Collections.emptyMap());
+    }
+
+    /**
+     * <p>Constructor</p>
+     */
+    public Shader(List<Stage> stages, Map<String, Attribute> attributes, Map<String, Uniform> uniforms,
+            Map<String, Integer> blocks) {
         mStages = stages;
         mAttributes = attributes;
         mUniforms = uniforms;
+        mBlocks = blocks;
+        mUniformsDirty = new Uniform[uniforms.size()];
+
+        for (final Uniform uniform : uniforms.values()) {
+            uniform.setOwner(this);
+
+            if (uniform.hasUpdate()) {
+                onUniformUpdate(uniform);
+            }
+        }
     }
 
     /**
@@ -131,6 +156,26 @@ public final class Shader extends Manageable implements Disposable {
         return mUniforms;
     }
 
+    /**
+     * <p>Check if the given {@link UniformBlock} is present</p>
+     *
+     * @param name the name of the block
+     *
+     * @return <code>true</code> if the block is present, <code>false</code> otherwise
+     */
+    public boolean hasBlock(String name) {
+        return mBlocks.containsKey(name);
+    }
+
+    /**
+     * <p>Get the {@link UniformBlock}(s) declared by the pipeline</p>
+     *
+     * @return a map that contain(s) the blocks expressed as (name, binding point)
+     */
+    public Map<String, Integer> getBlocks() {
+        return mBlocks;
+    }
+
     /**
      * @see Render#create(Shader)
      */
@@ -154,12 +199,36 @@ public final class Shader extends Manageable implements Disposable {
     }
 
     /**
-     * <p>Update all {@link Uniform} that belong to the shader</p>
+     * <p>Update all {@link Uniform} that belong to the shader (only those that has been modified)</p>
      *
      * @see Render#update(Uniform)
      */
     public void update() {
-        Emulation.forEach(mUniforms.values(), Uniform::update);
+        for (int i = 0; i < mUniformsDirtyCount; ++i) {
+            final Uniform uniform = mUniformsDirty[i];
+
+            mUniformsDirty[i] = null;
+
+            uniform.mQueued = false;
+            uniform.update();
+        }
+        mUniformsDirtyCount = 0;
+    }
+
+    /**
+     * <p>Record the update of all {@link Uniform} that belong to the shader</p>
+     * <p>
+     * NOTE: The value of every uniform is copied when recorded (even if it hasn't been modified), so the buffer
+     *       doesn't depend on any other buffer. The dirty list of the shader is neither read nor modified.
+     *
+     * @param buffer the buffer to record into
+     *
+     * @see CommandBuffer#update(Uniform)
+     */
+    public void update(CommandBuffer buffer) {
+        for (final Uniform uniform : mUniforms.values()) {
+            buffer.update(uniform);
+        }
     }
 
     /**
@@ -177,6 +246,15 @@ public final class Shader extends Manageable implements Disposable {
         QKRender.dispose(this);
     }
 
+    /**
+     * <p>Handle when an {@link Uniform} that belong to the shader has been modified</p>
+     */
+    void onUniformUpdate(Uniform uniform) {
+        uniform.mQueued = true;
+
+        mUniformsDirty[mUniformsDirtyCount++] = uniform;
+    }
+
     /**
      * <code>Descriptor</code> encapsulate an {@link AssetDescriptor} for {@link Shader}.
      */
@@ -201,10 +279,18 @@ public final class Shader extends Manageable implements Disposable {
         /**
          * <p>Get the pre-processor for the shader</p>
          *
-         * @return the pre-processor for the shader
+         * @return the pre-processor for the shader (the define(s) injected into every stage)
          */
         public Map<String, String> getProcessor() {
             return mProcessor;
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getVariant() {
+            return ShaderTemplate.getKey(mProcessor);
+        }
     }
 }
@@ -0,0 +1,404 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.shader;
+
+import ar.com.quark.render.RenderCapabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+
+/**
+ * <code>ShaderCache</code> encapsulate a cache (on disk) of linked program binaries of {@link Shader}(s).
+ * <p>
+ * Every binary is keyed by a hash of the source of every {@link Stage}, every {@link Attribute} bound, the vendor,
+ * renderer and version of the driver, and the {@link RenderCapabilities} of the context. Once the cache exceed its
+ * capacity, the least recently used binaries are evicted.
+ * <p>
+ * NOTE: Requires {@link RenderCapabilities.Extension#GLSL_PROGRAM_BINARY}, otherwise the cache is never used.
+ * NOTE: A driver may still reject a binary (after an update), in which case the binary is removed and the shader is
+ *       compiled from source.
+ */
+public final class ShaderCache {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>ShaderCache</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(ShaderCache.class);
+
+    /**
+     * Represent the default capacity of the cache (in bytes).
+     */
+    public final static long DEFAULT_CAPACITY = 32L * 1024L * 1024L;
+
+    /**
+     * Represent the magic number at the beginning of every binary ("QKSC").
+     */
+    private final static int MAGIC = 0x514B5343;
+
+    /**
+     * Represent the version of the binary format.
+     */
+    private final static int VERSION = 1;
+
+    /**
+     * Represent the extension of every binary.
+     */
+    private final static String EXTENSION = ".bin";
+
+    /**
+     * Hold the directory of the cache.
+     */
+    private final Path mDirectory;
+
+    /**
+     * Hold the length of every binary (by key, in access order).
+     */
+    private final Map<String, Long> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Hold the capacity and the length of the cache (in bytes).
+     */
+    private long mCapacity;
+    private long mLength;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @see #ShaderCache(Path, long)
+     */
+    public ShaderCache(Path directory) {
+        this(directory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param directory the directory where every binary is stored
+     * @param capacity  the maximum number of byte(s) stored
+     */
+    public ShaderCache(Path directory, long capacity) {
+        mDirectory = directory;
+        mCapacity = capacity;
+
+        try {
+            Files.createDirectories(directory);
+
+            //!
+            //! Find every binary already stored (the least recently used first).
+            //!
+            final List<Path> files = new ArrayList<>();
+
+            try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+                stream.forEach(files::add);
+            }
+
+            final Map<Path, FileTime> times = new HashMap<>();
+
+            for (final Path file : files) {
+                times.put(file, Files.getLastModifiedTime(file));
+            }
+            files.sort((first, second) -> times.get(first).compareTo(times.get(second)));
+
+            for (final Path file : files) {
+                final String name = file.getFileName().toString();
+                final long length = Files.size(file);
+
+                mEntries.put(name.substring(0, name.length() - EXTENSION.length()), length);
+                mLength += length;
+            }
+        } catch (IOException exception) {
+            LOGGER.warn("Failed to open shader cache '{}'", directory); /* WARNING */
+        }
+        onEvict();
+    }
+
+    /**
+     * <p>Change the maximum number of byte(s) stored</p>
+     *
+     * @param capacity the maximum number of byte(s) stored
+     */
+    public void setCapacity(long capacity) {
+        mCapacity = capacity;
+
+        onEvict();
+    }
+
+    /**
+     * <p>Get the directory where every binary is stored</p>
+     *
+     * @return the directory where every binary is stored
+     */
+    public Path getDirectory() {
+        return mDirectory;
+    }
+
+    /**
+     * <p>Get the number of byte(s) stored</p>
+     *
+     * @return the number of byte(s) stored
+     */
+    public long getLength() {
+        return mLength;
+    }
+
+    /**
+     * <p>Get the number of binaries stored</p>
+     *
+     * @return the number of binaries stored
+     */
+    public int getCount() {
+        return mEntries.size();
+    }
+
+    /**
+     * <p>Read the binary of a shader</p>
+     *
+     * @param key the key of the shader
+     *
+     * @return the binary of the shader (or <code>null</code> if it isn't stored or it isn't valid)
+     */
+    public Binary read(String key) {
+        //!
+        //! NOTE: Getting the entry (instead of checking it) promote it as the most recently used.
+        //!
+        if (mEntries.get(key) == null) {
+            return null;
+        }
+        final Path file = mDirectory.resolve(key + EXTENSION);
+
+        try (final DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file, StandardOpenOption.READ)))) {
+            //!
+            //! Validate the header of the binary.
+            //!
+            if (input.readInt() != MAGIC || input.readUnsignedShort() != VERSION || !key.equals(input.readUTF())) {
+                throw new IOException("Invalid header");
+            }
+            final int format = input.readInt();
+            final byte[] data = new byte[input.readInt()];
+
+            input.readFully(data);
+
+            if (input.read() != -1) {
+                throw new IOException("Invalid length");
+            }
+
+            //!
+            //! Touch the binary (so it's evicted last, even after restarting).
+            //!
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+
+            return new Binary(format, data);
+        } catch (IOException exception) {
+            LOGGER.warn("Failed to read shader binary '{}'", key); /* WARNING */
+
+            remove(key);
+        }
+        return null;
+    }
+
+    /**
+     * <p>Write the binary of a shader</p>
+     *
+     * @param key    the key of the shader
+     * @param format the format of the binary (as reported by the driver)
+     * @param data   the binary of the shader
+     */
+    public void write(String key, int format, byte[] data) {
+        final Path file = mDirectory.resolve(key + EXTENSION);
+        final Path temporary = mDirectory.resolve(key + ".tmp");
+
+        try {
+            //!
+            //! Write the binary into a temporary file (so a binary is never stored partially).
+            //!
+            try (final DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(MAGIC);
+                output.writeShort(VERSION);
+                output.writeUTF(key);
+                output.writeInt(format);
+                output.writeInt(data.length);
+                output.write(data);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+
+            final long length = Files.size(file);
+            final Long previous = mEntries.put(key, length);
+
+            mLength += length - (previous != null ? previous : 0L);
+        } catch (IOException exception) {
+            LOGGER.warn("Failed to write shader binary '{}'", key); /* WARNING */
+
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException ignored) {
+            }
+        }
+        onEvict();
+    }
+
+    /**
+     * <p>Remove the binary of a shader</p>
+     *
+     * @param key the key of the shader
+     */
+    public void remove(String key) {
+        final Long length = mEntries.remove(key);
+
+        if (length != null) {
+            mLength -= length;
+        }
+
+        try {
+            Files.deleteIfExists(mDirectory.resolve(key + EXTENSION));
+        } catch (IOException exception) {
+            LOGGER.warn("Failed to remove shader binary '{}'", key); /* WARNING */
+        }
+    }
+
+    /**
+     * <p>Remove every binary</p>
+     */
+    public void clear() {
+        for (final String key : new ArrayList<>(mEntries.keySet())) {
+            remove(key);
+        }
+    }
+
+    /**
+     * <p>Evict the least recently used binaries until the cache fit its capacity</p>
+     */
+    private void onEvict() {
+        final Iterator<Map.Entry<String, Long>> iterator = mEntries.entrySet().iterator();
+
+        while (mLength > mCapacity && iterator.hasNext()) {
+            final Map.Entry<String, Long> entry = iterator.next();
+            final String key = entry.getKey();
+
+            mLength -= entry.getValue();
+
+            iterator.remove();
+
+            try {
+                Files.deleteIfExists(mDirectory.resolve(key + EXTENSION));
+            } catch (IOException exception) {
+                LOGGER.warn("Failed to evict shader binary '{}'", key); /* WARNING */
+            }
+        }
+    }
+
+    /**
+     * <p>Get the key of a shader</p>
+     *
+     * @param shader       the shader
+     * @param capabilities the capabilities of the context
+     * @param vendor       the vendor of the driver
+     * @param renderer     the renderer of the driver
+     * @param version      the version of the driver
+     *
+     * @return the key of the shader
+     */
+    public static String getKey(Shader shader, RenderCapabilities capabilities,
+            String vendor, String renderer, String version) {
+        long hash = 0xCBF29CE484222325L;
+
+        hash = onHash(hash, vendor);
+        hash = onHash(hash, renderer);
+        hash = onHash(hash, version);
+        hash = onHash(hash, capabilities.getVersion().name());
+
+        for (final RenderCapabilities.Extension extension : RenderCapabilities.Extension.values()) {
+            hash = onHash(hash, capabilities.hasExtension(extension) ? 1 : 0);
+        }
+
+        for (final Stage stage : shader.getStages()) {
+            hash = onHash(hash, stage.getType().eValue);
+            hash = onHash(hash, stage.getSource());
+        }
+
+        //!
+        //! Every attribute bound is part of the binary (sorted, since the order of a map isn't stable).
+        //!
+        for (final String name : new TreeSet<>(shader.getAttributes().keySet())) {
+            hash = onHash(hash, name);
+            hash = onHash(hash, shader.getAttribute(name).getID());
+        }
+        return String.format("%016x", hash);
+    }
+
+    /**
+     * <p>Hash a string (using FNV-1a)</p>
+     */
+    private static long onHash(long hash, String value) {
+        if (value != null) {
+            for (int i = 0, j = value.length(); i < j; ++i) {
+                hash = onHash(hash, value.charAt(i));
+            }
+        }
+        return onHash(hash, -1);
+    }
+
+    /**
+     * <p>Hash an integer (using FNV-1a)</p>
+     */
+    private static long onHash(long hash, int value) {
+        for (int i = 0; i < 4; ++i) {
+            hash ^= (value >>> (i << 3)) & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * <code>Binary</code> encapsulate a linked program binary.
+     */
+    public final static class Binary {
+        private final int mFormat;
+        private final byte[] mData;
+
+        /**
+         * <p>Constructor</p>
+         */
+        public Binary(int format, byte[] data) {
+            mFormat = format;
+            mData = data;
+        }
+
+        /**
+         * <p>Get the format of the binary</p>
+         *
+         * @return the format of the binary (as reported by the driver)
+         */
+        public int getFormat() {
+            return mFormat;
+        }
+
+        /**
+         * <p>Get the data of the binary</p>
+         *
+         * @return the data of the binary
+         */
+        public byte[] getData() {
+            return mData;
+        }
+    }
+}
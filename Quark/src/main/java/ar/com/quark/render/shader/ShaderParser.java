@@ -23,10 +23,7 @@ import ar.com.quark.render.RenderCapabilities;
 import ar.com.quark.system.utility.array.Int8Array;
 import ar.com.quark.system.utility.array.ArrayFactory;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * <code>ShaderParser</code> encapsulate an utility class to create {@link Shader} from any source.
@@ -55,6 +52,7 @@ public final class ShaderParser {
         mGenerator.put(Builder.OP_OUTPUT, new OnOutputGenerator());
         mGenerator.put(Builder.OP_UNIFORM, new OnUniformGenerator());
         mGenerator.put(Builder.OP_CODE, new OnCodeGenerator());
+        mGenerator.put(Builder.OP_BLOCK, new OnBlockGenerator());
     }
 
     /**
@@ -96,30 +94,148 @@ public final class ShaderParser {
      * @return <code>Shader</code> generated
      */
     public Shader generate(Int8Array array) {
+        return parse(array).create(Collections.emptyMap());
+    }
+
+    /**
+     * <p>Create a {@link Shader} from all instruction(s) in the given {@link Int8Array}</p>
+     *
+     * @param array   the array that contain(s) all instruction(s)
+     * @param defines the define(s) injected into every stage
+     *
+     * @return <code>Shader</code> generated
+     */
+    public Shader generate(Int8Array array, Map<String, String> defines) {
+        return parse(array).create(defines);
+    }
+
+    /**
+     * <p>Create a {@link ShaderTemplate} from all instruction(s) in the given {@link Int8Array}</p>
+     *
+     * @param array the array that contain(s) all instruction(s)
+     *
+     * @return <code>ShaderTemplate</code> generated (which create every variant of the shader)
+     */
+    public ShaderTemplate parse(Int8Array array) {
         //!
         //! Build the process for the operation.
         //!
         final Generator.Process process = new Generator.Process(mCapabilities);
 
+        final List<StageType> types = new ArrayList<>();
+        final List<String> headers = new ArrayList<>();
+        final List<String> bodies = new ArrayList<>();
+
         array.flip();
 
         while (array.hasRemaining()) {
             final StringBuffer output = new StringBuffer(64);
 
             //!
-            //! Parse each instruction.
+            //! Parse the header of the stage (define(s) are injected right after it).
             //!
-            int op;
+            int op = array.readInt8();
 
+            mGenerator.get(op).generate(process, array, output.append('\n'));
+
+            final int header = output.length();
+
+            //!
+            //! Parse each instruction.
+            //!
             while ((op = array.readInt8()) != (byte) Builder.OP_BLOCK_END) {
                 mGenerator.get(op).generate(process, array, output.append('\n'));
             }
-            process.stages.add(new Stage(output.toString(), process.stage));
+            types.add(process.stage);
+            headers.add(output.substring(0, header));
+            bodies.add(output.substring(header));
         }
 
         array.clear();
 
-        return new Shader(process.stages, process.attributes, process.uniforms);
+        return new ShaderTemplate(types, headers, bodies, process.attributes, process.uniforms, process.lengths,
+                process.blocks);
+    }
+
+    /**
+     * <p>Create an {@link Uniform}</p>
+     *
+     * @param type   the type of the uniform
+     * @param length the number of element(s) of the uniform
+     *
+     * @return <code>Uniform</code> created (or <code>null</code> if the type isn't supported)
+     */
+    public static Uniform createUniform(UniformType type, int length) {
+        switch (type) {
+            case Float:
+                return length == 1 ? new UniformFloat(0.0f) : new UniformFloatArray(length);
+            case Float2:
+                return new UniformFloat2(MutableVector2f.zero());
+            case Float3:
+                return new UniformFloat3(MutableVector3f.zero());
+            case Float4:
+                return new UniformFloat4(MutableVector4f.zero());
+            case FloatArray:
+                return new UniformFloatArray(length);
+            case Int:
+                return length == 1 ? new UniformInt(0) : new UniformIntArray(length);
+            case Int2:
+                return new UniformInt2(MutableVector2i.zero());
+            case Int3:
+                return new UniformInt3(MutableVector3i.zero());
+            case Int4:
+                return new UniformInt4(MutableVector4i.zero());
+            case IntArray:
+                return new UniformIntArray(length);
+            case UInt:
+                return length == 1 ? new UniformUnsignedInt(0) : new UniformUnsignedIntArray(length);
+            case UInt2:
+                return new UniformUnsignedInt2(MutableVector2i.zero());
+            case UInt3:
+                return new UniformUnsignedInt3(MutableVector3i.zero());
+            case UInt4:
+                return new UniformUnsignedInt4(MutableVector4i.zero());
+            case UIntArray:
+                return new UniformUnsignedIntArray(length);
+            case Matrix3x3:
+                return new UniformMatrix3();
+            case Matrix4x4:
+                return new UniformMatrix4();
+            case Sampler1D:
+            case Sampler1DArray:
+            case Sampler1DShadow:
+            case Sampler1DShadowArray:
+            case Sampler2D:
+            case Sampler2DArray:
+            case Sampler2DShadow:
+            case sampler2DShadowArray:
+            case Sampler2DMultisample:
+            case Sampler2DMultisampleArray:
+            case Sampler3D:
+            case SamplerCube:
+            case SamplerCubeShadow:
+            case SamplerInt1D:
+            case SamplerInt1DArray:
+            case SamplerInt2D:
+            case SamplerInt2DArray:
+            case SamplerInt2DMultisample:
+            case SamplerInt2DMultisampleArray:
+            case SamplerInt3D:
+            case SamplerIntCube:
+            case SamplerUInt1D:
+            case SamplerUInt1DArray:
+            case SamplerUInt2D:
+            case SamplerUInt2DArray:
+            case SamplerUInt2DMultisample:
+            case SamplerUInt2DMultisampleArray:
+            case SamplerUInt3D:
+            case SamplerUIntCube:
+            case SamplerBuffer:
+            case SamplerIntBuffer:
+            case SamplerUIntBuffer:
+                return new UniformInt(0);
+        }
+        return null;
     }
 
     /**
@@ -164,6 +280,7 @@ public final class ShaderParser {
         public final static int OP_OUTPUT = 0x02;
         public final static int OP_UNIFORM = 0x03;
         public final static int OP_CODE = 0x04;
+        public final static int OP_BLOCK = 0x05;
 
         /**
          * Hold the array that will contain(s) all information for generating stage(s).
@@ -236,6 +353,15 @@ public final class ShaderParser {
             return (A) this;
         }
 
+        public A block(int binding, String id, String members) {
+            mArray.writeInt8(OP_BLOCK);
+            mArray.writeInt8(binding);
+            mArray.writeString(id);
+            mArray.writeString(members);
+
+            return (A) this;
+        }
+
         public A code(String code) {
             mArray.writeInt8(OP_CODE);
             mArray.writeString(code);
@@ -317,6 +443,20 @@ public final class ShaderParser {
              */
             public final Map<String, Uniform> uniforms = new HashMap<>();
 
+            /**
+             * Hold the number of element(s) of every {@link Uniform} parsed from the instruction(s).
+             * <p>
+             * NOTE: Exposed to {@link Generator}
+             */
+            public final Map<String, Integer> lengths = new HashMap<>();
+
+            /**
+             * Hold all {@link UniformBlock} (and their binding point) parsed from the instruction(s).
+             * <p>
+             * NOTE: Exposed to {@link Generator}
+             */
+            public final Map<String, Integer> blocks = new HashMap<>();
+
             /**
              * Hold current {@link StageType} being parsed.
              * <p>
@@ -498,95 +638,11 @@ public final class ShaderParser {
             final int length
                     = input.readInt8();
 
-            switch (uniform) {
-                case Float:
-                    if (length == 1) {
-                        process.uniforms.put(name, new UniformFloat(0.0f));
-                    } else {
-                        process.uniforms.put(name, new UniformFloatArray(length));
-                    }
-                    break;
-                case Float2:
-                    process.uniforms.put(name, new UniformFloat2(MutableVector2f.zero()));
-                    break;
-                case Float3:
-                    process.uniforms.put(name, new UniformFloat3(MutableVector3f.zero()));
-                    break;
-                case Float4:
-                    process.uniforms.put(name, new UniformFloat4(MutableVector4f.zero()));
-                    break;
-                case Int:
-                    if (length == 1) {
-                        process.uniforms.put(name, new UniformInt(0));
-                    } else {
-                        process.uniforms.put(name, new UniformIntArray(length));
-                    }
-                    break;
-                case Int2:
-                    process.uniforms.put(name, new UniformInt2(MutableVector2i.zero()));
-                    break;
-                case Int3:
-                    process.uniforms.put(name, new UniformInt3(MutableVector3i.zero()));
-                    break;
-                case Int4:
-                    process.uniforms.put(name, new UniformInt4(MutableVector4i.zero()));
-                    break;
-                case UInt:
-                    if (length == 1) {
-                        process.uniforms.put(name, new UniformUnsignedInt(0));
-                    } else {
-                        process.uniforms.put(name, new UniformUnsignedIntArray(length));
-                    }
-                    break;
-                case UInt2:
-                    process.uniforms.put(name, new UniformUnsignedInt2(MutableVector2i.zero()));
-                    break;
-                case UInt3:
-                    process.uniforms.put(name, new UniformUnsignedInt3(MutableVector3i.zero()));
-                    break;
-                case UInt4:
-                    process.uniforms.put(name, new UniformUnsignedInt4(MutableVector4i.zero()));
-                    break;
-                case Matrix3x3:
-                    process.uniforms.put(name, new UniformMatrix3());
-                    break;
-                case Matrix4x4:
-                    process.uniforms.put(name, new UniformMatrix4());
-                    break;
-                case Sampler1D:
-                case Sampler1DArray:
-                case Sampler1DShadow:
-                case Sampler1DShadowArray:
-                case Sampler2D:
-                case Sampler2DArray:
-                case Sampler2DShadow:
-                case sampler2DShadowArray:
-                case Sampler2DMultisample:
-                case Sampler2DMultisampleArray:
-                case Sampler3D:
-                case SamplerCube:
-                case SamplerCubeShadow:
-                case SamplerInt1D:
-                case SamplerInt1DArray:
-                case SamplerInt2D:
-                case SamplerInt2DArray:
-                case SamplerInt2DMultisample:
-                case SamplerInt2DMultisampleArray:
-                case SamplerInt3D:
-                case SamplerIntCube:
-                case SamplerUInt1D:
-                case SamplerUInt1DArray:
-                case SamplerUInt2D:
-                case SamplerUInt2DArray:
-                case SamplerUInt2DMultisample:
-                case SamplerUInt2DMultisampleArray:
-                case SamplerUInt3D:
-                case SamplerUIntCube:
-                case SamplerBuffer:
-                case SamplerIntBuffer:
-                case SamplerUIntBuffer:
-                    process.uniforms.put(name, new UniformInt(0));
-                    break;
+            final Uniform data = createUniform(uniform, length);
+
+            if (data != null) {
+                process.uniforms.put(name, data);
+                process.lengths.put(name, length);
             }
 
             if (process.capabilities.hasExtension(RenderCapabilities.Extension.GLSL_EXPLICIT_UNIFORM)) {
@@ -608,6 +664,33 @@ public final class ShaderParser {
         }
     }
 
+    /**
+     * <code>OnBlockGenerator</code> encapsulate a {@link Generator} for {@link UniformBlock}(s).
+     */
+    private final static class OnBlockGenerator implements Generator {
+        private final static String BLOCK_LAYOUT = "layout(std140) uniform";
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void generate(Process process, Int8Array input, StringBuffer output) {
+            final int binding
+                    = input.readInt8();
+            final String name
+                    = input.readString();
+            final String members
+                    = input.readString();
+
+            if (!process.capabilities.hasExtension(RenderCapabilities.Extension.UNIFORM_BUFFER)) {
+                throw new IllegalStateException("Uniform block(s) are not supported");
+            }
+            process.blocks.put(name, binding);
+
+            output.append(BLOCK_LAYOUT).append(" ").append(name).append(" {").append(members).append("};");
+        }
+    }
+
     /**
      * <code>OnCodeGenerator</code> encapsulate a {@link Generator} for generating plain code.
      */
@@ -652,6 +735,16 @@ public final class ShaderParser {
             if (process.capabilities.hasExtension(RenderCapabilities.Extension.GLSL_EXPLICIT_UNIFORM)) {
                 output.append("#extension GL_ARB_explicit_uniform_location : require").append("\n");
             }
+            final RenderCapabilities.ShaderLanguageVersion version = process.capabilities.getShaderLanguageVersion();
+
+            if (process.capabilities.hasExtension(RenderCapabilities.Extension.UNIFORM_BUFFER)
+                    && (version == RenderCapabilities.ShaderLanguageVersion.GLSL210
+                    || version == RenderCapabilities.ShaderLanguageVersion.GLSL300)) {
+                //!
+                //! NOTE: Uniform block(s) are core since GLSL 1.40.
+                //!
+                output.append("#extension GL_ARB_uniform_buffer_object : require").append("\n");
+            }
             output.append("\n");
 
             //!
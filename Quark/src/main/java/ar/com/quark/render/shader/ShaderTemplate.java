@@ -0,0 +1,142 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.shader;
+
+import java.util.*;
+
+/**
+ * <code>ShaderTemplate</code> encapsulate a parsed {@link Shader} that create every variant (permutation) of it.
+ * <p>
+ * A variant is the same shader with a set of define(s) injected right after the header of every {@link Stage}, so
+ * the metadata of every variant ({@link Attribute}(s), {@link Uniform}(s) and {@link UniformBlock}(s)) is parsed
+ * once and shared between them.
+ */
+public final class ShaderTemplate {
+    private final List<StageType> mTypes;
+    private final List<String> mHeaders;
+    private final List<String> mBodies;
+
+    /**
+     * Hold the metadata shared between every variant.
+     */
+    private final Map<String, Attribute> mAttributes;
+    private final Map<String, UniformType> mUniforms = new HashMap<>();
+    private final Map<String, Integer> mLengths;
+    private final Map<String, Integer> mBlocks;
+
+    /**
+     * <p>Constructor</p>
+     */
+    ShaderTemplate(List<StageType> types, List<String> headers, List<String> bodies,
+            Map<String, Attribute> attributes, Map<String, Uniform> uniforms, Map<String, Integer> lengths,
+            Map<String, Integer> blocks) {
+        mTypes = types;
+        mHeaders = headers;
+        mBodies = bodies;
+        mAttributes = Collections.unmodifiableMap(attributes);
+        mLengths = lengths;
+        mBlocks = Collections.unmodifiableMap(blocks);
+
+        for (final Map.Entry<String, Uniform> entry : uniforms.entrySet()) {
+            mUniforms.put(entry.getKey(), entry.getValue().getType());
+        }
+    }
+
+    /**
+     * <p>Get the type of every {@link Uniform} declared</p>
+     *
+     * @return the type of every uniform declared (by name)
+     */
+    public Map<String, UniformType> getUniforms() {
+        return Collections.unmodifiableMap(mUniforms);
+    }
+
+    /**
+     * <p>Create a variant of the shader</p>
+     * <p>
+     * NOTE: Every variant has its own {@link Uniform}(s), since each one is a different program.
+     *
+     * @param defines the define(s) injected into every stage (a define without value use an empty string)
+     *
+     * @return <code>Shader</code> created
+     */
+    public Shader create(Map<String, String> defines) {
+        //!
+        //! Build the define(s) sorted by name (so the source of a variant is always the same).
+        //!
+        final StringBuilder prelude = new StringBuilder();
+
+        for (final Map.Entry<String, String> entry : new TreeMap<>(defines).entrySet()) {
+            final String name = entry.getKey();
+
+            if (!name.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+                throw new IllegalArgumentException("Invalid define '" + name + "'");
+            }
+            prelude.append("#define ").append(name);
+
+            if (entry.getValue() != null && !entry.getValue().isEmpty()) {
+                prelude.append(' ').append(entry.getValue());
+            }
+            prelude.append('\n');
+        }
+
+        //!
+        //! Build each stage of the variant.
+        //!
+        final List<Stage> stages = new ArrayList<>(mTypes.size());
+
+        for (int i = 0, j = mTypes.size(); i < j; ++i) {
+            stages.add(new Stage(mHeaders.get(i) + prelude + mBodies.get(i), mTypes.get(i)));
+        }
+
+        //!
+        //! Build each uniform of the variant.
+        //!
+        final Map<String, Uniform> uniforms = new HashMap<>(mUniforms.size());
+
+        for (final Map.Entry<String, UniformType> entry : mUniforms.entrySet()) {
+            uniforms.put(entry.getKey(), ShaderParser.createUniform(entry.getValue(), mLengths.get(entry.getKey())));
+        }
+        return new Shader(stages, mAttributes, uniforms, mBlocks);
+    }
+
+    /**
+     * <p>Get the canonical key of a set of define(s)</p>
+     * <p>
+     * NOTE: Two set(s) of define(s) with the same key create the same variant.
+     *
+     * @param defines the define(s)
+     *
+     * @return the canonical key of the define(s) (or an empty string if there is none)
+     */
+    public static String getKey(Map<String, String> defines) {
+        final StringBuilder key = new StringBuilder();
+
+        for (final Map.Entry<String, String> entry : new TreeMap<>(defines).entrySet()) {
+            if (key.length() > 0) {
+                key.append(';');
+            }
+            key.append(entry.getKey());
+
+            if (entry.getValue() != null && !entry.getValue().isEmpty()) {
+                key.append('=').append(entry.getValue());
+            }
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.shader;
+
+import ar.com.quark.render.CommandBuffer;
+import ar.com.quark.resource.AssetCallback;
+
+import java.util.*;
+
+import static ar.com.quark.Quark.QKRender;
+import static ar.com.quark.Quark.QKResources;
+
+/**
+ * <code>ShaderVariants</code> encapsulate a declared set of variant(s) (permutation(s)) of a {@link Shader} asset.
+ * <p>
+ * Every variant declared can be pre-warmed while loading, which load the variant asynchronously and create it (on
+ * the thread that owns the context) before its first use.
+ */
+public final class ShaderVariants {
+    private final String mFilename;
+
+    /**
+     * Hold every variant declared (by canonical key).
+     */
+    private final Map<String, Shader.Descriptor> mVariants = new LinkedHashMap<>();
+
+    /**
+     * Hold every variant pre-warmed.
+     */
+    private final List<Shader> mShaders = new ArrayList<>();
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param filename the name of the shader asset
+     */
+    public ShaderVariants(String filename) {
+        mFilename = filename;
+    }
+
+    /**
+     * <p>Declare a variant</p>
+     *
+     * @param defines the define(s) of the variant
+     *
+     * @return a reference to <code>this</code>
+     */
+    public ShaderVariants add(Map<String, String> defines) {
+        mVariants.putIfAbsent(ShaderTemplate.getKey(defines), new Shader.Descriptor(new HashMap<>(defines)));
+        return this;
+    }
+
+    /**
+     * <p>Declare a variant</p>
+     *
+     * @param names the name of every define of the variant (defined as <code>1</code>)
+     *
+     * @return a reference to <code>this</code>
+     */
+    public ShaderVariants add(String... names) {
+        final Map<String, String> defines = new HashMap<>(names.length);
+
+        for (final String name : names) {
+            defines.put(name, "1");
+        }
+        return add(defines);
+    }
+
+    /**
+     * <p>Get the number of variant(s) declared</p>
+     *
+     * @return the number of variant(s) declared
+     */
+    public int getCount() {
+        return mVariants.size();
+    }
+
+    /**
+     * <p>Get a variant</p>
+     *
+     * @param defines the define(s) of the variant
+     *
+     * @return the variant (loaded if it wasn't pre-warmed)
+     */
+    public Shader get(Map<String, String> defines) {
+        final Shader.Descriptor descriptor = mVariants.get(ShaderTemplate.getKey(defines));
+
+        return QKResources.load(mFilename, descriptor != null ? descriptor : new Shader.Descriptor(defines));
+    }
+
+    /**
+     * <p>Pre-warm every variant declared</p>
+     *
+     * @see #prewarm(AssetCallback)
+     */
+    public void prewarm() {
+        prewarm(null);
+    }
+
+    /**
+     * <p>Pre-warm every variant declared</p>
+     * <p>
+     * NOTE: The callback is notified once the variant has been loaded, and its creation has been queued.
+     *
+     * @param callback the callback notified for every variant (or <code>null</code>)
+     */
+    public void prewarm(AssetCallback<Shader> callback) {
+        for (final Shader.Descriptor descriptor : mVariants.values()) {
+            final Shader shader = QKResources.loadAsynchronous(mFilename, descriptor, new AssetCallback<Shader>() {
+                @Override
+                public void onSuccess(Shader asset) {
+                    onPrewarm(asset, callback);
+                }
+
+                @Override
+                public void onFail() {
+                    if (callback != null) {
+                        callback.onFail();
+                    }
+                }
+            });
+
+            if (shader != null) {
+                onPrewarm(shader, callback);
+            }
+        }
+    }
+
+    /**
+     * <p>Unload every variant pre-warmed</p>
+     */
+    public void unload() {
+        synchronized (mShaders) {
+            for (final Shader shader : mShaders) {
+                QKResources.unload(shader);
+            }
+            mShaders.clear();
+        }
+    }
+
+    /**
+     * <p>Handle when a variant has been loaded</p>
+     */
+    private void onPrewarm(Shader shader, AssetCallback<Shader> callback) {
+        synchronized (mShaders) {
+            mShaders.add(shader);
+        }
+
+        //!
+        //! Create the variant on the thread that owns the context.
+        //!
+        final CommandBuffer buffer = new CommandBuffer(1);
+        buffer.create(shader);
+
+        QKRender.submit(buffer);
+
+        if (callback != null) {
+            callback.onSuccess(shader);
+        }
+    }
+}
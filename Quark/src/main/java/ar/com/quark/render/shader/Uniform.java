@@ -30,6 +30,16 @@ public abstract class Uniform extends Manageable {
 
     private final UniformType mType;
 
+    /**
+     * Hold the shader that owns the data (if any).
+     */
+    private Shader mOwner;
+
+    /**
+     * Indicates if the data is in the dirty list of its owner.
+     */
+    boolean mQueued;
+
     /**
      * <p>Constructor</p>
      */
@@ -46,10 +56,48 @@ public abstract class Uniform extends Manageable {
         return mType;
     }
 
+    /**
+     * <p>Get the number of component(s) of the data</p>
+     *
+     * @return the number of component(s) of the data
+     */
+    public abstract int getLength();
+
+    /**
+     * <p>Copy the raw value of the data (every component as a 32-bit integer)</p>
+     *
+     * @param buffer the buffer to copy the value into (must hold at least {@link #getLength()} component(s))
+     * @param offset the offset (in component(s)) of the buffer
+     */
+    public abstract void read(int[] buffer, int offset);
+
     /**
      * @see Render#update(Uniform)
      */
     public final void update() {
         QKRender.update(this);
     }
+
+    /**
+     * <p>Change the shader that owns the data</p>
+     *
+     * @param owner the shader that owns the data
+     */
+    final void setOwner(Shader owner) {
+        if (mOwner != null && mOwner != owner) {
+            throw new IllegalStateException("Uniform already belongs to another shader");
+        }
+        mOwner = owner;
+    }
+
+    /**
+     * <p>Indicates the value of the data requires to update (and notify its owner)</p>
+     */
+    protected final void setValueUpdate() {
+        setUpdate(CONCEPT_VALUE);
+
+        if (mOwner != null && !mQueued) {
+            mOwner.onUniformUpdate(this);
+        }
+    }
 }
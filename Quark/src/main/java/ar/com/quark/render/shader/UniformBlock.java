@@ -0,0 +1,118 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.shader;
+
+import ar.com.quark.render.Render;
+import ar.com.quark.render.storage.*;
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.array.Float32Array;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>UniformBlock</code> encapsulate a group of {@link Uniform}(s) backed by a {@link Storage} that can be
+ * shared between multiple {@link Shader}(s).
+ * <p>
+ * Each block is attached to a binding point, every shader that declare a block with the same name will read
+ * from it. The data must follow the std140 layout rule(s), and only need to be uploaded once per frame.
+ */
+public final class UniformBlock implements Disposable {
+    private final String mName;
+    private final int mBinding;
+    private final Storage<Float32Array> mStorage;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param name     the name of the block (as declared in the shader)
+     * @param binding  the binding point of the block
+     * @param capacity the capacity of the block (expressed in float(s))
+     */
+    public UniformBlock(String name, int binding, int capacity) {
+        if (binding < 0) {
+            throw new IllegalArgumentException("Binding point of the block cannot be negative");
+        }
+        mName = name;
+        mBinding = binding;
+        mStorage = new Storage<>(
+                StorageType.CLIENT, StorageTarget.UNIFORM, StorageMode.DYNAMIC_DRAW, VertexFormat.FLOAT, capacity);
+    }
+
+    /**
+     * <p>Get the name of the block</p>
+     *
+     * @return the name of the block
+     */
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * <p>Get the binding point of the block</p>
+     *
+     * @return the binding point of the block
+     */
+    public int getBinding() {
+        return mBinding;
+    }
+
+    /**
+     * <p>Get the storage of the block</p>
+     *
+     * @return the storage of the block
+     */
+    public Storage<Float32Array> getStorage() {
+        return mStorage;
+    }
+
+    /**
+     * @see Storage#create()
+     */
+    public void create() {
+        mStorage.create();
+    }
+
+    /**
+     * @see Storage#map()
+     */
+    public Float32Array map() {
+        return mStorage.map();
+    }
+
+    /**
+     * @see Storage#unmap()
+     */
+    public void unmap() {
+        mStorage.unmap();
+    }
+
+    /**
+     * @see Render#update(UniformBlock)
+     */
+    public void update() {
+        QKRender.update(this);
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        mStorage.dispose();
+    }
+}
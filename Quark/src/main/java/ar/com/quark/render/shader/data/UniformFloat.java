@@ -51,7 +51,23 @@ public final class UniformFloat extends Uniform {
     public void setValue(float newValue) {
         if (mValue != newValue) {
             mValue = newValue;
-            setUpdate(CONCEPT_VALUE);
+            setValueUpdate();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        buffer[offset] = Float.floatToIntBits(mValue);
+    }
 }
\ No newline at end of file
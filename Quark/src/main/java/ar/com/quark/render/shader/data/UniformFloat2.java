@@ -63,7 +63,24 @@ public final class UniformFloat2 extends Uniform {
     public void setValue(float newX, float newY) {
         if (mValue.getX() != newX || mValue.getY() != newY) {
             mValue.setXY(newX, newY);
-            setUpdate(CONCEPT_VALUE);
+            setValueUpdate();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        buffer[offset] = Float.floatToIntBits(mValue.getX());
+        buffer[offset + 1] = Float.floatToIntBits(mValue.getY());
+    }
 }
@@ -64,7 +64,25 @@ public final class UniformFloat3 extends Uniform {
     public void setValue(float newX, float newY, float newZ) {
         if (mValue.getX() != newX || mValue.getY() != newY || mValue.getZ() != newZ) {
             mValue.setXYZ(newX, newY, newZ);
-            setUpdate(CONCEPT_VALUE);
+            setValueUpdate();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return 3;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        buffer[offset] = Float.floatToIntBits(mValue.getX());
+        buffer[offset + 1] = Float.floatToIntBits(mValue.getY());
+        buffer[offset + 2] = Float.floatToIntBits(mValue.getZ());
+    }
 }
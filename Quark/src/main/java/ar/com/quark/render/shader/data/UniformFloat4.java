@@ -75,7 +75,26 @@ public final class UniformFloat4 extends Uniform {
     public void setValue(float newX, float newY, float newZ, float newW) {
         if (mValue.getX() != newX || mValue.getY() != newY || mValue.getZ() != newZ || mValue.getW() != newW) {
             mValue.setXYZW(newX, newY, newZ, newW);
-            setUpdate(CONCEPT_VALUE);
+            setValueUpdate();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return 4;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        buffer[offset] = Float.floatToIntBits(mValue.getX());
+        buffer[offset + 1] = Float.floatToIntBits(mValue.getY());
+        buffer[offset + 2] = Float.floatToIntBits(mValue.getZ());
+        buffer[offset + 3] = Float.floatToIntBits(mValue.getW());
+    }
 }
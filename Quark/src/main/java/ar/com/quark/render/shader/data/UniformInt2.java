@@ -63,7 +63,24 @@ public final class UniformInt2 extends Uniform {
     public void setValue(int newX, int newY) {
         if (mValue.getX() != newX || mValue.getY() != newY) {
             mValue.setXY(newX, newY);
-            setUpdate(CONCEPT_VALUE);
+            setValueUpdate();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        buffer[offset] = mValue.getX();
+        buffer[offset + 1] = mValue.getY();
+    }
 }
@@ -64,7 +64,25 @@ public final class UniformInt3 extends Uniform {
     public void setValue(int newX, int newY, int newZ) {
         if (mValue.getX() != newX || mValue.getY() != newY || mValue.getZ() != newZ) {
             mValue.setXYZ(newX, newY, newZ);
-            setUpdate(CONCEPT_VALUE);
+            setValueUpdate();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return 3;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        buffer[offset] = mValue.getX();
+        buffer[offset + 1] = mValue.getY();
+        buffer[offset + 2] = mValue.getZ();
+    }
 }
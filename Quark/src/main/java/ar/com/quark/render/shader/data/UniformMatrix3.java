@@ -44,7 +44,7 @@ public final class UniformMatrix3 extends Uniform {
         super(UniformType.Matrix3x3);
         matrix.store(mBuffer);
 
-        setUpdate(CONCEPT_VALUE);
+        setValueUpdate();
     }
 
     /**
@@ -76,6 +76,24 @@ public final class UniformMatrix3 extends Uniform {
         mBuffer.rewind();
 
         newValue.store(mBuffer);
-        setUpdate(CONCEPT_VALUE);
+        setValueUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return mBuffer.capacity() >> 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        for (int i = 0, j = mBuffer.capacity() >> 2; i < j; ++i) {
+            buffer[offset + i] = mBuffer.readInt32(i << 2);
+        }
     }
 }
\ No newline at end of file
@@ -44,7 +44,7 @@ public final class UniformMatrix4 extends Uniform {
         super(UniformType.Matrix4x4);
         matrix.store(mBuffer);
 
-        setUpdate(CONCEPT_VALUE);
+        setValueUpdate();
     }
 
     /**
@@ -77,6 +77,24 @@ public final class UniformMatrix4 extends Uniform {
 
         newValue.store(mBuffer);
 
-        setUpdate(CONCEPT_VALUE);
+        setValueUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return mBuffer.capacity() >> 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        for (int i = 0, j = mBuffer.capacity() >> 2; i < j; ++i) {
+            buffer[offset + i] = mBuffer.readInt32(i << 2);
+        }
     }
 }
\ No newline at end of file
@@ -51,7 +51,23 @@ public final class UniformUnsignedInt extends Uniform {
     public void setValue(int newValue) {
         if (mValue != newValue) {
             mValue = newValue;
-            setUpdate(CONCEPT_VALUE);
+            setValueUpdate();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        buffer[offset] = mValue;
+    }
 }
\ No newline at end of file
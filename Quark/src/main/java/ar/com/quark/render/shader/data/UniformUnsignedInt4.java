@@ -65,7 +65,26 @@ public final class UniformUnsignedInt4 extends Uniform {
     public void setValue(int newX, int newY, int newZ, int newW) {
         if (mValue.getX() != newX || mValue.getY() != newY || mValue.getZ() != newZ || mValue.getW() != newW) {
             mValue.setXYZW(newX, newY, newZ, newW);
-            setUpdate(CONCEPT_VALUE);
+            setValueUpdate();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return 4;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        buffer[offset] = mValue.getX();
+        buffer[offset + 1] = mValue.getY();
+        buffer[offset + 2] = mValue.getZ();
+        buffer[offset + 3] = mValue.getW();
+    }
 }
@@ -35,7 +35,7 @@ public final class UniformUnsignedIntArray extends Uniform {
         super(UniformType.UIntArray);
         mValue = buffer;
 
-        setUpdate(CONCEPT_VALUE);
+        setValueUpdate();
     }
 
     /**
@@ -73,6 +73,24 @@ public final class UniformUnsignedIntArray extends Uniform {
     public void setValue(long[] newValue, int offset, int length) {
         mValue.rewind();
         mValue.write(newValue, offset, length);
-        setUpdate(CONCEPT_VALUE);
+        setValueUpdate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return mValue.capacity() >> 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int[] buffer, int offset) {
+        for (int i = 0, j = mValue.capacity() >> 2; i < j; ++i) {
+            buffer[offset + i] = mValue.readInt32(i << 2);
+        }
     }
 }
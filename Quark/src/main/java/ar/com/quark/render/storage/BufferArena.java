@@ -0,0 +1,500 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.storage;
+
+import ar.com.quark.render.RenderCapabilities;
+import ar.com.quark.render.storage.factory.FactoryArrayStorage;
+import ar.com.quark.render.storage.factory.FactoryElementStorage;
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.array.Array;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>BufferArena</code> encapsulate a large vertices (and optionally indices) {@link Storage} that is shared
+ * by many small mesh(es), each one owning a {@link Slice} of it.
+ * <p>
+ * Every slice share the same {@link VertexDescriptor} (and therefore the same vertex layout), so drawing many
+ * slice(s) one after another doesn't require binding any storage. Each slice is drawn with its base vertex, or
+ * its indices are rebased when written if {@link RenderCapabilities.Extension#VERTEX_ARRAY_BASE_VERTEX} isn't
+ * supported.
+ * <p>
+ * NOTE: Only {@link StorageType#CLIENT} and {@link StorageType#SERVER} storage(s) are supported, a slice only map
+ *       its own range so a {@link StorageType#SERVER} storage (whose cpu-side copy is removed after the first
+ *       upload) only upload the range(s) written, its dirty range(s) are never merged across slice(s) not written.
+ */
+public final class BufferArena implements Disposable {
+    private final FactoryArrayStorage<?> mVertices;
+    private final FactoryElementStorage<?> mIndices;
+    private final VertexDescriptor mDescriptor;
+    private final int mStride;
+
+    /**
+     * Hold the free space of each storage (in vertices and indices).
+     */
+    private final FreeList mVerticesFree;
+    private final FreeList mIndicesFree;
+
+    /**
+     * Hold the storage(s) written since the last draw.
+     */
+    private boolean mVerticesChanged;
+    private boolean mIndicesChanged;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param vertices the storage of the vertices (its attribute(s) define the layout of every slice)
+     * @param indices  the storage of the indices (or <code>null</code> if slice(s) are drawn without indices)
+     */
+    public BufferArena(FactoryArrayStorage<?> vertices, FactoryElementStorage<?> indices) {
+        if (!isSupported(vertices) || (indices != null && !isSupported(indices))) {
+            throw new IllegalArgumentException("The storage(s) of the arena must be CLIENT or SERVER");
+        }
+        mVertices = vertices;
+        mIndices = indices;
+        mStride = vertices.getAttributesLength();
+        mDescriptor = new VertexDescriptor(Collections.singletonList(vertices), indices);
+
+        mVerticesFree = new FreeList(vertices.getCapacity() / mStride);
+        mIndicesFree = new FreeList(indices != null ? indices.getCapacity() / indices.getFormat().eLength : 0);
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param vertices the storage of the vertices (its attribute(s) define the layout of every slice)
+     */
+    public BufferArena(FactoryArrayStorage<?> vertices) {
+        this(vertices, null);
+    }
+
+    /**
+     * <p>Get the descriptor shared by every slice of the arena</p>
+     *
+     * @return the descriptor shared by every slice of the arena
+     */
+    public VertexDescriptor getDescriptor() {
+        return mDescriptor;
+    }
+
+    /**
+     * <p>Get the length of each vertex (in bytes)</p>
+     *
+     * @return the length of each vertex (in bytes)
+     */
+    public int getStride() {
+        return mStride;
+    }
+
+    /**
+     * <p>Get the number of vertices that aren't allocated</p>
+     *
+     * @return the number of vertices that aren't allocated
+     */
+    public int getAvailableVertices() {
+        return mVerticesFree.mAvailable;
+    }
+
+    /**
+     * <p>Get the number of indices that aren't allocated</p>
+     *
+     * @return the number of indices that aren't allocated
+     */
+    public int getAvailableIndices() {
+        return mIndicesFree.mAvailable;
+    }
+
+    /**
+     * <p>Allocate a slice from the arena</p>
+     *
+     * @param vertices the number of vertices of the slice
+     * @param indices  the number of indices of the slice (or <code>0</code> if drawn without indices)
+     *
+     * @return the slice or <code>null</code> if the arena doesn't have a contiguous space for it
+     */
+    public Slice allocate(int vertices, int indices) {
+        if (vertices <= 0 || indices < 0) {
+            throw new IllegalArgumentException("The number of vertices and indices of a slice must be positive");
+        }
+        if (indices > 0 && mIndices == null) {
+            throw new IllegalArgumentException("Cannot allocate indices from an arena without an indices storage");
+        }
+        final int vertexOffset = mVerticesFree.allocate(vertices);
+
+        if (vertexOffset < 0) {
+            return null;
+        }
+        final int indexOffset = (indices > 0 ? mIndicesFree.allocate(indices) : 0);
+
+        if (indexOffset < 0) {
+            mVerticesFree.free(vertexOffset, vertices);
+            return null;
+        }
+        return new Slice(vertexOffset, vertices, indexOffset, indices);
+    }
+
+    /**
+     * @see VertexDescriptor#create()
+     */
+    public void create() {
+        mDescriptor.create();
+    }
+
+    /**
+     * <p>Bind the descriptor of the arena and upload every slice written since the last call</p>
+     */
+    public void acquire() {
+        mDescriptor.acquire();
+
+        if (mVerticesChanged) {
+            mVertices.acquire();
+            mVertices.update();
+            mVerticesChanged = false;
+        }
+        if (mIndicesChanged) {
+            mIndices.acquire();
+            mIndices.update();
+            mIndicesChanged = false;
+        }
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        mDescriptor.dispose();
+        mVertices.dispose();
+
+        if (mIndices != null) {
+            mIndices.dispose();
+        }
+    }
+
+    /**
+     * <p>Check if the given storage can be sub-allocated</p>
+     * <p>
+     * NOTE: A {@link StorageType#SERVER} storage is safe to write partially since {@link Storage} never merge the
+     *       dirty range(s) of a storage whose cpu-side copy has been removed.
+     */
+    private static boolean isSupported(Storage<?> storage) {
+        return storage.getType() == StorageType.CLIENT || storage.getType() == StorageType.SERVER;
+    }
+
+    /**
+     * <code>Slice</code> encapsulate a range of vertices (and indices) of a {@link BufferArena}.
+     */
+    public final class Slice implements Disposable {
+        private final int mVertexOffset;
+        private final int mVertexCount;
+        private final int mIndexOffset;
+        private final int mIndexCount;
+        private boolean mReleased;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Slice(int vertexOffset, int vertexCount, int indexOffset, int indexCount) {
+            mVertexOffset = vertexOffset;
+            mVertexCount = vertexCount;
+            mIndexOffset = indexOffset;
+            mIndexCount = indexCount;
+        }
+
+        /**
+         * <p>Get the arena of the slice</p>
+         *
+         * @return the arena of the slice
+         */
+        public BufferArena getArena() {
+            return BufferArena.this;
+        }
+
+        /**
+         * <p>Get the index of the first vertex of the slice (the base vertex of every index)</p>
+         *
+         * @return the index of the first vertex of the slice
+         */
+        public int getBaseVertex() {
+            return mVertexOffset;
+        }
+
+        /**
+         * <p>Get the offset of the vertices of the slice (in bytes)</p>
+         *
+         * @return the offset of the vertices of the slice (in bytes)
+         */
+        public int getVertexOffset() {
+            return mVertexOffset * mStride;
+        }
+
+        /**
+         * <p>Get the length of the vertices of the slice (in bytes)</p>
+         *
+         * @return the length of the vertices of the slice (in bytes)
+         */
+        public int getVertexLength() {
+            return mVertexCount * mStride;
+        }
+
+        /**
+         * <p>Get the number of vertices of the slice</p>
+         *
+         * @return the number of vertices of the slice
+         */
+        public int getVertexCount() {
+            return mVertexCount;
+        }
+
+        /**
+         * <p>Get the offset of the indices of the slice (in bytes)</p>
+         *
+         * @return the offset of the indices of the slice (in bytes)
+         */
+        public int getIndexOffset() {
+            return mIndices != null ? mIndexOffset * mIndices.getFormat().eLength : 0;
+        }
+
+        /**
+         * <p>Get the length of the indices of the slice (in bytes)</p>
+         *
+         * @return the length of the indices of the slice (in bytes)
+         */
+        public int getIndexLength() {
+            return mIndices != null ? mIndexCount * mIndices.getFormat().eLength : 0;
+        }
+
+        /**
+         * <p>Get the number of indices of the slice</p>
+         *
+         * @return the number of indices of the slice
+         */
+        public int getIndexCount() {
+            return mIndexCount;
+        }
+
+        /**
+         * <p>Map the vertices of the slice</p>
+         *
+         * @return the array positioned at the first vertex of the slice
+         */
+        public Array<?> mapVertices() {
+            return mVertices.map(0, getVertexOffset(), getVertexLength());
+        }
+
+        /**
+         * <p>Un-map the vertices of the slice</p>
+         */
+        public void unmapVertices() {
+            mVertices.unmap();
+
+            mVerticesChanged = true;
+        }
+
+        /**
+         * <p>Map the indices of the slice</p>
+         * <p>
+         * NOTE: Indices are relative to the first vertex of the slice.
+         *
+         * @return the array positioned at the first index of the slice
+         */
+        public Array<?> mapIndices() {
+            if (mIndexCount == 0) {
+                throw new IllegalStateException("Cannot map the indices of a slice without indices");
+            }
+            return mIndices.map(0, getIndexOffset(), getIndexLength());
+        }
+
+        /**
+         * <p>Un-map the indices of the slice</p>
+         * <p>
+         * NOTE: Every index of the slice must be written before, since they may be rebased.
+         *
+         * @param indices the array returned by {@link #mapIndices()}
+         */
+        public void unmapIndices(Array<?> indices) {
+            if (mVertexOffset != 0 && !isBaseVertexSupported()) {
+                onRebase(indices);
+            }
+            mIndices.unmap();
+
+            mIndicesChanged = true;
+        }
+
+        /**
+         * <p>Draw every vertex (or index) of the slice</p>
+         *
+         * @param primitive the render primitive
+         */
+        public void draw(Primitive primitive) {
+            draw(primitive, 0, mIndexCount > 0 ? mIndexCount : mVertexCount);
+        }
+
+        /**
+         * <p>Draw a range of vertices (or indices) of the slice</p>
+         *
+         * @param primitive the render primitive
+         * @param first     the first vertex (or index) relative to the slice
+         * @param count     the number of vertices (or indices)
+         */
+        public void draw(Primitive primitive, int first, int count) {
+            if (mReleased) {
+                throw new IllegalStateException("Cannot draw a slice that has been disposed");
+            }
+            acquire();
+
+            if (mIndexCount > 0) {
+                final VertexFormat format = mIndices.getFormat();
+
+                QKRender.draw(primitive, (mIndexOffset + first) * format.eLength, count, format,
+                        isBaseVertexSupported() ? mVertexOffset : 0);
+            } else {
+                QKRender.draw(primitive, mVertexOffset + first, count);
+            }
+        }
+
+        /**
+         * @see Disposable#dispose()
+         */
+        @Override
+        public void dispose() {
+            if (!mReleased) {
+                mVerticesFree.free(mVertexOffset, mVertexCount);
+
+                if (mIndexCount > 0) {
+                    mIndicesFree.free(mIndexOffset, mIndexCount);
+                }
+                mReleased = true;
+            }
+        }
+
+        /**
+         * <p>Add the base vertex of the slice into every index of the slice</p>
+         */
+        private void onRebase(Array<?> indices) {
+            final VertexFormat format = mIndices.getFormat();
+            final long limit = (1L << (format.eLength * 8)) - 1L;
+
+            if (mVertexOffset + mVertexCount - 1L > limit) {
+                throw new IllegalStateException("Cannot rebase the indices of the slice (the format is too small)");
+            }
+
+            for (int i = getIndexOffset(), end = i + getIndexLength(); i < end; i += format.eLength) {
+                switch (format) {
+                    case UNSIGNED_BYTE:
+                        indices.writeInt8(i, (indices.readInt8(i) & 0xFF) + mVertexOffset);
+                        break;
+                    case UNSIGNED_SHORT:
+                        indices.writeInt16(i, (indices.readInt16(i) & 0xFFFF) + mVertexOffset);
+                        break;
+                    default:
+                        indices.writeInt32(i, indices.readInt32(i) + mVertexOffset);
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Check if the render can draw with a base vertex</p>
+     */
+    private static boolean isBaseVertexSupported() {
+        return QKRender.getCapabilities().hasExtension(RenderCapabilities.Extension.VERTEX_ARRAY_BASE_VERTEX);
+    }
+
+    /**
+     * <code>FreeList</code> encapsulate a first-fit allocator of contiguous range(s) that merge adjacent free
+     * range(s) when released.
+     */
+    private final static class FreeList {
+        /**
+         * Hold every free range (offset to length), ordered by offset.
+         */
+        private final TreeMap<Integer, Integer> mRanges = new TreeMap<>();
+        private int mAvailable;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private FreeList(int capacity) {
+            if (capacity > 0) {
+                mRanges.put(0, capacity);
+            }
+            mAvailable = capacity;
+        }
+
+        /**
+         * <p>Allocate a contiguous range</p>
+         *
+         * @return the offset of the range or <code>-1</code> if there isn't a free range large enough
+         */
+        private int allocate(int length) {
+            for (final Map.Entry<Integer, Integer> entry : mRanges.entrySet()) {
+                if (entry.getValue() >= length) {
+                    final int offset = entry.getKey();
+                    final int remaining = entry.getValue() - length;
+
+                    mRanges.remove(offset);
+
+                    if (remaining > 0) {
+                        mRanges.put(offset + length, remaining);
+                    }
+                    mAvailable -= length;
+                    return offset;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * <p>Release a range previously allocated</p>
+         */
+        private void free(int offset, int length) {
+            mAvailable += length;
+
+            //!
+            //! Merge with the range that end right where this one begin.
+            //!
+            final Map.Entry<Integer, Integer> previous = mRanges.floorEntry(offset);
+
+            if (previous != null && previous.getKey() + previous.getValue() == offset) {
+                mRanges.remove(previous.getKey());
+
+                offset = previous.getKey();
+                length += previous.getValue();
+            }
+
+            //!
+            //! Merge with the range that begin right where this one end.
+            //!
+            final Integer next = mRanges.get(offset + length);
+
+            if (next != null) {
+                mRanges.remove(offset + length);
+
+                length += next;
+            }
+            mRanges.put(offset, length);
+        }
+    }
+}
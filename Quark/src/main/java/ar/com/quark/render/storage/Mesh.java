@@ -140,4 +140,42 @@ public class Mesh {
         //!
         QKRender.draw(primitive, offset, count, format);
     }
+
+    /**
+     * <p>Draw multiple instance(s) of the mesh</p>
+     *
+     * @param primitive the render primitive
+     * @param offset    the render offset
+     * @param count     the render primitive count
+     * @param instances the number of instance(s)
+     */
+    public final void drawInstanced(Primitive primitive, int offset, int count, int instances) {
+        mDescriptor.acquire();
+
+        //!
+        //! Draw multiple instance(s) of the mesh using vertices only.
+        //!
+        QKRender.drawInstanced(primitive, offset, count, instances);
+    }
+
+    /**
+     * <p>Draw multiple instance(s) of the mesh (using indices)</p>
+     *
+     * @param primitive the render primitive
+     * @param offset    the render offset
+     * @param count     the render primitive count
+     * @param format    the indices format
+     * @param instances the number of instance(s)
+     */
+    public final void drawInstanced(Primitive primitive, int offset, int count, VertexFormat format, int instances) {
+        if (!mDescriptor.hasIndices()) {
+            throw new IllegalStateException("Cannot draw the mesh without an indices storage");
+        }
+        mDescriptor.acquire();
+
+        //!
+        //! Draw multiple instance(s) of the mesh using indices.
+        //!
+        QKRender.drawInstanced(primitive, offset, count, format, instances);
+    }
 }
@@ -23,6 +23,8 @@ import ar.com.quark.system.utility.Manageable;
 import ar.com.quark.system.utility.array.Array;
 import ar.com.quark.system.utility.array.ArrayFactory;
 
+import java.util.Arrays;
+
 import static ar.com.quark.Quark.QKRender;
 
 /**
@@ -49,6 +51,24 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
      */
     public final static int ACCESS_UNSYNCHRONIZED = Render.GLES3.GL_ACCESS_UNSYNCHRONIZED;
 
+    /**
+     * Represent the number of segment(s) of a {@link StorageType#STREAMING} storage (frame(s) in flight).
+     */
+    public final static int STREAMING_SEGMENT = 3;
+
+    /**
+     * Represent the time to wait for a segment of a {@link StorageType#STREAMING} storage (expressed in ns).
+     */
+    public final static long STREAMING_TIMEOUT = 1000000L;
+
+    /**
+     * Represent the maximum number of dirty range(s) tracked before merging the closest one(s).
+     * <p>
+     * NOTE: Range(s) of a storage whose cpu-side copy has been removed are never merged (the gap between them
+     *       doesn't hold the content of the storage).
+     */
+    public final static int MAX_RANGE = 8;
+
     private final Factory<A> mFactory;
     private final StorageType mType;
     private final StorageTarget mTarget;
@@ -56,15 +76,28 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
     private final VertexFormat mFormat;
     private final int mCapacity;
 
+    /**
+     * Hold the dirty range(s) of the storage as sorted [start, end) pair(s) (expressed in bytes).
+     */
+    private int[] mRanges = new int[(MAX_RANGE + 1) * 2];
+    private int mRangesCount;
+
     /**
      * <p>Constructor</p>
+     * <p>
+     * NOTE: The capacity of a {@link StorageType#STREAMING} storage is the capacity of each segment.
+     * <p>
+     * NOTE: A {@link StorageType#STREAMING} storage cannot be readable (it's always mapped unsynchronized).
      */
     public Storage(StorageType type, StorageTarget target, StorageMode mode, VertexFormat format, int capacity) {
+        if (type == StorageType.STREAMING && mode.eReadable) {
+            throw new IllegalArgumentException("A streaming storage cannot be readable");
+        }
         mType = type;
         mTarget = target;
         mMode = mode;
         mFormat = format;
-        mCapacity = format.eLength * capacity;
+        mCapacity = format.eLength * capacity * (type == StorageType.STREAMING ? STREAMING_SEGMENT : 1);
 
         switch (type) {
             case CLIENT:
@@ -76,6 +109,9 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
             case SERVER_MAPPED:
                 mFactory = new BufferServerMappedFactory();
                 break;
+            case STREAMING:
+                mFactory = new BufferStreamingFactory();
+                break;
             default:
                 throw new IllegalArgumentException("Storage type not supported.");
         }
@@ -119,6 +155,57 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         return mCapacity;
     }
 
+    /**
+     * <p>Get the offset of the segment being written (in bytes)</p>
+     * <p>
+     * NOTE: Only {@link StorageType#STREAMING} storage(s) have more than one segment, the render apply the offset of
+     *       every storage of the {@link VertexDescriptor} acquired (to its attribute(s) and to the offset of every
+     *       draw call), so the offset given to a draw call is relative to the segment.
+     *
+     * @return the offset of the segment being written (in bytes)
+     */
+    public final int getOffset() {
+        return mFactory.getOffset();
+    }
+
+    /**
+     * <p>Get the number of dirty range(s) of the storage</p>
+     *
+     * @return the number of dirty range(s) of the storage
+     */
+    public final int getRangeCount() {
+        return mRangesCount;
+    }
+
+    /**
+     * <p>Get the offset of a dirty range of the storage (in bytes)</p>
+     *
+     * @param index the index of the range
+     *
+     * @return the offset of the dirty range (in bytes)
+     */
+    public final int getRangeOffset(int index) {
+        return mRanges[index << 1];
+    }
+
+    /**
+     * <p>Get the length of a dirty range of the storage (in bytes)</p>
+     *
+     * @param index the index of the range
+     *
+     * @return the length of the dirty range (in bytes)
+     */
+    public final int getRangeLength(int index) {
+        return mRanges[(index << 1) + 1] - mRanges[index << 1];
+    }
+
+    /**
+     * <p>Discard every dirty range of the storage (once uploaded)</p>
+     */
+    public final void setRangeUpdated() {
+        mRangesCount = 0;
+    }
+
     /**
      * <p>Get the format of the storage</p>
      *
@@ -221,6 +308,14 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         void unmap(Render gl);
 
         void dispose();
+
+        default int getOffset() {
+            return 0;
+        }
+
+        default boolean isComplete() {
+            return true;
+        }
     }
 
     /**
@@ -228,6 +323,8 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
      */
     private final class BufferClientFactory implements Factory<A> {
         private A mData;
+        private int mOffset;
+        private int mLength;
 
         /**
          * <p>Constructor</p>
@@ -263,7 +360,10 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
                 //!
                 mData.clear();
             }
-            mData.position(offset).limit(length);
+            mData.limit(offset + length).position(offset);
+
+            mOffset = offset;
+            mLength = length;
 
             return mData;
         }
@@ -275,6 +375,7 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         public void unmap(Render gl) {
             mData.flip();
 
+            Storage.this.onRangeUpdate(mOffset, mOffset + mLength);
             Storage.this.setUpdate(CONCEPT_DATA_CHANGE);
         }
 
@@ -292,6 +393,13 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
      */
     private final class BufferServerFactory implements Factory<A> {
         private A mData;
+        private int mOffset;
+        private int mLength;
+
+        /**
+         * Hold whether the cpu-side copy hold the content of the entire storage (until it has been removed once).
+         */
+        private boolean mComplete = true;
 
         /**
          * <p>Constructor</p>
@@ -322,7 +430,12 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         @Override
         public A map(Render gl, int access, int offset, int length) {
             if (mData == null) {
-                mData = create(length, Storage.this.mFormat);
+                mData = create(Storage.this.mCapacity, Storage.this.mFormat);
+
+                //!
+                //! NOTE: The new copy only hold the range(s) written from now on.
+                //!
+                mComplete = false;
             }
 
             if ((access & ACCESS_INVALIDATE_ALL) != 0) {
@@ -331,7 +444,10 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
                 //!
                 mData.clear();
             }
-            mData.position(offset).limit(length);
+            mData.limit(offset + length).position(offset);
+
+            mOffset = offset;
+            mLength = length;
 
             return mData;
         }
@@ -343,6 +459,7 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         public void unmap(Render gl) {
             mData.flip();
 
+            Storage.this.onRangeUpdate(mOffset, mOffset + mLength);
             Storage.this.setUpdate(CONCEPT_DATA_CHANGE);
         }
 
@@ -353,6 +470,14 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         public void dispose() {
             mData = ArrayFactory.free(mData);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isComplete() {
+            return mComplete;
+        }
     }
 
     /**
@@ -399,6 +524,169 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         }
     }
 
+    /**
+     * Specialised implementation for {@link StorageType#STREAMING}
+     */
+    private final class BufferStreamingFactory implements Factory<A> {
+        private final int mSegmentCapacity = Storage.this.mCapacity / STREAMING_SEGMENT;
+
+        /**
+         * Hold the fence of each segment (signalled once the GPU finish reading from it).
+         */
+        private final long[] mFences = new long[STREAMING_SEGMENT];
+
+        /**
+         * Hold the segment being written.
+         */
+        private int mSegment = STREAMING_SEGMENT - 1;
+
+        /**
+         * Hold whether any segment has been mapped.
+         */
+        private boolean mMapped;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public A map(Render gl) {
+            return map(gl, 0, 0, mSegmentCapacity);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public A map(Render gl, int access) {
+            return map(gl, access, 0, mSegmentCapacity);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * NOTE: Each mapping advance to the next segment, the offset is relative to the segment.
+         */
+        @Override
+        public A map(Render gl, int access, int offset, int length) {
+            //!
+            //! The previous segment has been fully issued, guard it with a fence.
+            //!
+            if (mMapped) {
+                mFences[mSegment] = gl.createFence();
+            }
+            mMapped = true;
+
+            mSegment = (mSegment + 1) % STREAMING_SEGMENT;
+
+            //!
+            //! Wait until the GPU finish reading from the segment being written.
+            //!
+            final long fence = mFences[mSegment];
+
+            if (fence != 0L) {
+                while (!gl.waitFence(fence, STREAMING_TIMEOUT)) {
+                    //!
+                    //! NOTE: The CPU is more than STREAMING_SEGMENT frame(s) ahead of the GPU.
+                    //!
+                }
+                gl.deleteFence(fence);
+
+                mFences[mSegment] = 0L;
+            }
+            return gl.map(Storage.this,
+                    access | ACCESS_UNSYNCHRONIZED, getOffset() + offset, Math.min(length, mSegmentCapacity - offset));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void unmap(Render gl) {
+            gl.unmap(Storage.this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void dispose() {
+            for (int i = 0; i < mFences.length; ++i) {
+                if (mFences[i] != 0L) {
+                    QKRender.deleteFence(mFences[i]);
+
+                    mFences[i] = 0L;
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getOffset() {
+            return mSegment * mSegmentCapacity;
+        }
+    }
+
+    /**
+     * <p>Merge a range into the dirty range(s) of the storage</p>
+     */
+    private void onRangeUpdate(int start, int end) {
+        if (start >= end) {
+            return;
+        }
+
+        //!
+        //! Find the first range that overlap (or touch) the new range.
+        //!
+        int first = 0;
+
+        while (first < mRangesCount && mRanges[(first << 1) + 1] < start) {
+            first++;
+        }
+
+        //!
+        //! Absorb every range that overlap (or touch) the new range.
+        //!
+        int last = first;
+
+        while (last < mRangesCount && mRanges[last << 1] <= end) {
+            start = Math.min(start, mRanges[last << 1]);
+            end = Math.max(end, mRanges[(last << 1) + 1]);
+            last++;
+        }
+
+        System.arraycopy(mRanges, last << 1, mRanges, (first + 1) << 1, (mRangesCount - last) << 1);
+
+        mRanges[first << 1] = start;
+        mRanges[(first << 1) + 1] = end;
+        mRangesCount += 1 - (last - first);
+
+        //!
+        //! Merge the two closest range(s) when there are too many of them (only if the gap between them can be
+        //! uploaded, otherwise grow the range(s)).
+        //!
+        if (mRangesCount > MAX_RANGE && !mFactory.isComplete()) {
+            if ((mRangesCount + 1) << 1 > mRanges.length) {
+                mRanges = Arrays.copyOf(mRanges, mRanges.length << 1);
+            }
+        } else if (mRangesCount > MAX_RANGE) {
+            int closest = 0;
+
+            for (int i = 1; i < mRangesCount - 1; ++i) {
+                if (mRanges[(i + 1) << 1] - mRanges[(i << 1) + 1]
+                        < mRanges[(closest + 1) << 1] - mRanges[(closest << 1) + 1]) {
+                    closest = i;
+                }
+            }
+            mRanges[(closest << 1) + 1] = mRanges[((closest + 1) << 1) + 1];
+
+            System.arraycopy(mRanges, (closest + 2) << 1,
+                    mRanges, (closest + 1) << 1, (mRangesCount - closest - 2) << 1);
+            mRangesCount--;
+        }
+    }
+
     /**
      * <p>Create an {@link Array} that matches the given {@link VertexFormat}</p>
      */
@@ -34,5 +34,11 @@ public enum StorageType {
     /**
      * The buffer of the storage is located in the server-side (and access though mapping).
      */
-    SERVER_MAPPED
+    SERVER_MAPPED,
+
+    /**
+     * The buffer of the storage is located in the server-side as a ring of segment(s), one per frame in flight
+     * (and access though unsynchronized mapping guarded by fence(s)).
+     */
+    STREAMING
 }
@@ -50,15 +50,28 @@ public final class Vertex {
      */
     private final boolean mNormalised;
 
+    /**
+     * Hold the instance divisor of the attribute.
+     */
+    private final int mDivisor;
+
     /**
      * <p>Constructor</p>
      */
-    public Vertex(int id, int component, int offset, VertexFormat type, boolean normalised) {
+    public Vertex(int id, int component, int offset, VertexFormat type, boolean normalised, int divisor) {
         mID = id;
         mComponent = component;
         mOffset = offset;
         mType = type;
         mNormalised = normalised;
+        mDivisor = divisor;
+    }
+
+    /**
+     * <p>Constructor</p>
+     */
+    public Vertex(int id, int component, int offset, VertexFormat type, boolean normalised) {
+        this(id, component, offset, type, normalised, 0);
     }
 
     /**
@@ -122,6 +135,24 @@ public final class Vertex {
         return mNormalised;
     }
 
+    /**
+     * <p>Get the instance divisor of the attribute</p>
+     *
+     * @return the number of instance(s) that share the same value (<code>0</code> if the attribute is per-vertex)
+     */
+    public int getDivisor() {
+        return mDivisor;
+    }
+
+    /**
+     * <p>Check if the attribute is per-instance</p>
+     *
+     * @return <code>true</code> if the attribute advance per instance, <code>false</code> otherwise
+     */
+    public boolean isInstanced() {
+        return mDivisor != 0;
+    }
+
     /**
      * <code>Builder</code> build a collection of {@link Vertex} easily.
      */
@@ -144,7 +175,19 @@ public final class Vertex {
          * @return <code>this</code> for chain operation(s)
          */
         public Builder add(int index, int component, VertexFormat format, boolean normalised) {
-            mCollection.add(new Vertex(index, component, mLength, format, normalised));
+            return add(index, component, format, normalised, 0);
+        }
+
+        /**
+         * <p>Register a new {@link Vertex} (per-instance)</p>
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Builder add(int index, int component, VertexFormat format, boolean normalised, int divisor) {
+            if (divisor < 0) {
+                throw new IllegalArgumentException("Divisor must be zero or positive");
+            }
+            mCollection.add(new Vertex(index, component, mLength, format, normalised, divisor));
             mLength += (component * format.eLength);
             return this;
         }
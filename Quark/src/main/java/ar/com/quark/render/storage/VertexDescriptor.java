@@ -34,12 +34,18 @@ public final class VertexDescriptor extends Manageable implements Disposable {
     private final List<FactoryArrayStorage<?>> mFactoryVertices;
     private final FactoryElementStorage<?> mFactoryIndices;
 
+    /**
+     * Hold the segment offset (in bytes) the attribute(s) of each vertices storage were specified with.
+     */
+    private final int[] mOffsets;
+
     /**
      * <p>Constructor</p>
      */
     public VertexDescriptor(List<FactoryArrayStorage<?>> vertices, FactoryElementStorage<?> indices) {
         mFactoryVertices = vertices;
         mFactoryIndices = indices;
+        mOffsets = new int[vertices != null ? vertices.size() : 0];
     }
 
     /**
@@ -67,6 +73,27 @@ public final class VertexDescriptor extends Manageable implements Disposable {
         return mFactoryIndices;
     }
 
+    /**
+     * <p>Get the segment offset the attribute(s) of a vertices storage were specified with</p>
+     *
+     * @param index the index of the vertices storage
+     *
+     * @return the segment offset (in bytes) of the vertices storage
+     */
+    public int getOffset(int index) {
+        return mOffsets[index];
+    }
+
+    /**
+     * <p>Change the segment offset the attribute(s) of a vertices storage were specified with</p>
+     *
+     * @param index  the index of the vertices storage
+     * @param offset the segment offset (in bytes) of the vertices storage
+     */
+    public void setOffset(int index, int offset) {
+        mOffsets[index] = offset;
+    }
+
     /**
      * <p>Check if the descriptor has vertices</p>
      *
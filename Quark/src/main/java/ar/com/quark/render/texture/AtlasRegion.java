@@ -0,0 +1,211 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.texture;
+
+import ar.com.quark.resource.AssetDescriptor;
+import ar.com.quark.system.utility.Disposable;
+
+/**
+ * <code>AtlasRegion</code> encapsulate a rectangle of a {@link Texture} (usually a page of a {@link TextureAtlas}).
+ */
+public final class AtlasRegion implements Disposable {
+    private final Texture mTexture;
+    private final boolean mOwner;
+    private final int mX;
+    private final int mY;
+    private final int mWidth;
+    private final int mHeight;
+    private final float mU1;
+    private final float mV1;
+    private final float mU2;
+    private final float mV2;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param texture the texture of the region
+     * @param owner   <code>true</code> if the region owns the texture, <code>false</code> otherwise
+     */
+    public AtlasRegion(Texture texture, boolean owner, int x, int y, int width, int height) {
+        mTexture = texture;
+        mOwner = owner;
+        mX = x;
+        mY = y;
+        mWidth = width;
+        mHeight = height;
+
+        final float textureWidth = texture.getImage().getWidth();
+        final float textureHeight = texture.getImage().getHeight();
+
+        mU1 = x / textureWidth;
+        mV1 = y / textureHeight;
+        mU2 = (x + width) / textureWidth;
+        mV2 = (y + height) / textureHeight;
+    }
+
+    /**
+     * <p>Get the texture of the region</p>
+     *
+     * @return the texture of the region
+     */
+    public Texture getTexture() {
+        return mTexture;
+    }
+
+    /**
+     * <p>Get the x coordinate of the region (expressed in px)</p>
+     *
+     * @return the x coordinate of the region (expressed in px)
+     */
+    public int getX() {
+        return mX;
+    }
+
+    /**
+     * <p>Get the y coordinate of the region (expressed in px)</p>
+     *
+     * @return the y coordinate of the region (expressed in px)
+     */
+    public int getY() {
+        return mY;
+    }
+
+    /**
+     * <p>Get the width of the region (expressed in px)</p>
+     *
+     * @return the width of the region (expressed in px)
+     */
+    public int getWidth() {
+        return mWidth;
+    }
+
+    /**
+     * <p>Get the height of the region (expressed in px)</p>
+     *
+     * @return the height of the region (expressed in px)
+     */
+    public int getHeight() {
+        return mHeight;
+    }
+
+    /**
+     * <p>Get the left texture coordinate of the region</p>
+     *
+     * @return the left texture coordinate of the region
+     */
+    public float getU1() {
+        return mU1;
+    }
+
+    /**
+     * <p>Get the top texture coordinate of the region</p>
+     *
+     * @return the top texture coordinate of the region
+     */
+    public float getV1() {
+        return mV1;
+    }
+
+    /**
+     * <p>Get the right texture coordinate of the region</p>
+     *
+     * @return the right texture coordinate of the region
+     */
+    public float getU2() {
+        return mU2;
+    }
+
+    /**
+     * <p>Get the bottom texture coordinate of the region</p>
+     *
+     * @return the bottom texture coordinate of the region
+     */
+    public float getV2() {
+        return mV2;
+    }
+
+    /**
+     * <p>Check if the region owns the texture (not shared with any other region)</p>
+     *
+     * @return <code>true</code> if the region owns the texture, <code>false</code> otherwise
+     */
+    public boolean isOwner() {
+        return mOwner;
+    }
+
+    /**
+     * <p>Dispose the texture of the region (only if the region owns the texture)</p>
+     *
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        if (mOwner) {
+            mTexture.dispose();
+        }
+    }
+
+    /**
+     * <code>Descriptor</code> represent the {@link AssetDescriptor} for {@link AtlasRegion}.
+     * <p>
+     * NOTE: The texture is read by the loader of its format, and then packed into the atlas.
+     */
+    public final static class Descriptor extends AssetDescriptor {
+        private final Texture.Descriptor mTexture;
+        private final TextureAtlas mAtlas;
+
+        /**
+         * <p>Constructor</p>
+         *
+         * @param atlas the atlas where small image(s) are packed into
+         */
+        public Descriptor(TextureFormat format, TextureFilter filter, TextureAtlas atlas) {
+            super(true, true);
+            mTexture = new Texture.Descriptor(format, filter, TextureBorder.CLAMP_TO_EDGE);
+            mAtlas = atlas;
+        }
+
+        /**
+         * <p>Get the descriptor of the texture being packed</p>
+         *
+         * @return the descriptor of the texture being packed
+         */
+        public Texture.Descriptor getTexture() {
+            return mTexture;
+        }
+
+        /**
+         * <p>Get the atlas where the texture is packed into</p>
+         *
+         * @return the atlas where the texture is packed into
+         */
+        public TextureAtlas getAtlas() {
+            return mAtlas;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * NOTE: A region is cached per atlas (and never shares the cache with the texture itself).
+         */
+        @Override
+        public String getVariant() {
+            return "atlas@" + Integer.toHexString(System.identityHashCode(mAtlas));
+        }
+    }
+}
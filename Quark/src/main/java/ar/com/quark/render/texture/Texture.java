@@ -22,8 +22,12 @@ import ar.com.quark.render.Render;
 import ar.com.quark.resource.AssetDescriptor;
 import ar.com.quark.system.utility.Disposable;
 import ar.com.quark.system.utility.Manageable;
+import ar.com.quark.system.utility.array.Int8Array;
 import ar.com.quark.system.utility.emulation.Emulation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * <code>Texture</code> encapsulate a texture that contains one or more {@link Image}(s).
  * <p>
@@ -35,12 +39,30 @@ public abstract class Texture extends Manageable implements Disposable {
     public final static int CONCEPT_CLAMP_Y = (1 << 2);
     public final static int CONCEPT_CLAMP_Z = (1 << 3);
     public final static int CONCEPT_IMAGE = (1 << 4);
+    public final static int CONCEPT_REGION = (1 << 5);
+    public final static int CONCEPT_LEVEL = (1 << 6);
 
     protected final Image mImage;
     protected final TextureType mType;
     protected final TextureFormat mFormat;
     protected TextureFilter mFilter;
 
+    /**
+     * Hold every region of the image that has been modified since the last update.
+     */
+    private final List<Region> mRegions = new ArrayList<>();
+
+    /**
+     * Hold the highest mip-map level that should be resident and the highest mip-map level that is resident.
+     */
+    private int mBaseLevel;
+    private int mResidentLevel;
+
+    /**
+     * Hold a flag that indicates if the image is kept in memory (to stream its mip-map level(s)).
+     */
+    private boolean mStreaming;
+
     /**
      * <p>Constructor</p>
      */
@@ -64,6 +86,164 @@ public abstract class Texture extends Manageable implements Disposable {
         }
     }
 
+    /**
+     * <p>Change the highest mip-map level of the texture that should be resident</p>
+     * <p>
+     * NOTE: Level(s) above the base level are not uploaded (or are evicted) and are never sampled.
+     *
+     * @param level the new base level of the texture (<code>0</code> is the full image)
+     */
+    public final void setBaseLevel(int level) {
+        if (level < 0 || level >= getLevels()) {
+            throw new IllegalArgumentException("The level " + level + " is outside the image of the texture");
+        }
+        if (mBaseLevel != level) {
+            mBaseLevel = level;
+            setUpdate(CONCEPT_LEVEL);
+        }
+    }
+
+    /**
+     * <p>Change the highest mip-map level of the texture that is resident</p>
+     * <p>
+     * NOTE: This method is called by {@link Render} once the level(s) are uploaded or evicted.
+     *
+     * @param level the new resident level of the texture
+     */
+    public final void setResidentLevel(int level) {
+        mResidentLevel = level;
+    }
+
+    /**
+     * <p>Change if the image of the texture is kept in memory once uploaded</p>
+     * <p>
+     * NOTE: The image must be kept in memory to stream (or to re-stream once evicted) its mip-map level(s).
+     *
+     * @param streaming <code>true</code> if the image is kept in memory, <code>false</code> otherwise
+     */
+    public final void setStreaming(boolean streaming) {
+        mStreaming = streaming;
+    }
+
+    /**
+     * <p>Update a region of the image of the texture (uploaded on the next update)</p>
+     *
+     * @see #updateRegion(int, int, int, int, int, int, Int8Array)
+     */
+    public final void updateRegion(int x, int y, int width, int height, Int8Array data) {
+        updateRegion(x, y, 0, width, height, 1, data);
+    }
+
+    /**
+     * <p>Update a region of the image of the texture (uploaded on the next update)</p>
+     * <p>
+     * NOTE: The pixel(s) are copied from the position of the data (tightly packed, one byte per component) and
+     *       region(s) that overlap or touch are coalesced so each update upload as few rectangle(s) as possible.
+     *
+     * @param x      the x coordinate of the region (expressed in px)
+     * @param y      the y coordinate of the region (expressed in px)
+     * @param z      the z coordinate of the region (expressed in px, or the face of a cube texture)
+     * @param width  the width of the region (expressed in px)
+     * @param height the height of the region (expressed in px)
+     * @param depth  the depth of the region (expressed in px)
+     * @param data   the pixel(s) of the region
+     */
+    public final void updateRegion(int x, int y, int z, int width, int height, int depth, Int8Array data) {
+        if (mImage.getFormat().eCompressed) {
+            throw new IllegalStateException("Cannot update a region of a compressed texture");
+        }
+        final int limit = (mType == TextureType.TEXTURE_CUBE ? 6 : Math.max(1, mImage.getDepth()));
+
+        if (x < 0 || y < 0 || z < 0 || width <= 0 || height <= 0 || depth <= 0
+                || x + width > mImage.getWidth() || y + height > mImage.getHeight() || z + depth > limit) {
+            throw new IllegalArgumentException("The region is outside the image of the texture");
+        }
+        final int length = width * height * depth * mImage.getFormat().eComponent;
+
+        if (data.remaining() < length) {
+            throw new IllegalArgumentException("The data of the region is smaller than the region");
+        }
+        final Region region = new Region(x, y, z, width, height, depth, new byte[length]);
+
+        final int position = data.position();
+        data.read(region.data, 0, length);
+        data.position(position);
+
+        onInsertRegion(region);
+
+        setUpdate(CONCEPT_REGION);
+    }
+
+    /**
+     * <p>Get every region of the image that has been modified since the last update</p>
+     *
+     * @return every region of the image that has been modified since the last update
+     */
+    public final List<Region> getRegion() {
+        return mRegions;
+    }
+
+    /**
+     * <p>Delete every region of the image (once uploaded)</p>
+     */
+    public final void deleteRegion() {
+        mRegions.clear();
+    }
+
+    /**
+     * <p>Get the highest mip-map level of the texture that should be resident</p>
+     *
+     * @return the highest mip-map level of the texture that should be resident
+     */
+    public final int getBaseLevel() {
+        return mBaseLevel;
+    }
+
+    /**
+     * <p>Get the highest mip-map level of the texture that is resident</p>
+     *
+     * @return the highest mip-map level of the texture that is resident
+     */
+    public final int getResidentLevel() {
+        return mResidentLevel;
+    }
+
+    /**
+     * <p>Get the number of mip-map level(s) of the image of the texture</p>
+     *
+     * @return the number of mip-map level(s) of the image of the texture
+     */
+    public final int getLevels() {
+        return mImage.getLayer().get(0).images.length;
+    }
+
+    /**
+     * <p>Get the length of a mip-map level of the image of the texture (including every layer)</p>
+     *
+     * @param level the mip-map level
+     *
+     * @return the length of the mip-map level (in bytes)
+     */
+    public final long getLevelLength(int level) {
+        final List<Image.Layer> layers = mImage.getLayer();
+
+        long length = 0L;
+
+        for (int i = 0, j = layers.size(); i < j; ++i) {
+            length += layers.get(i).images[level];
+        }
+        return length;
+    }
+
+    /**
+     * <p>Check if the image of the texture is kept in memory once uploaded</p>
+     *
+     * @return <code>true</code> if the image is kept in memory, <code>false</code> otherwise
+     */
+    public final boolean isStreaming() {
+        return mStreaming;
+    }
+
     /**
      * <p>Get the type of the texture</p>
      *
@@ -168,6 +348,160 @@ public abstract class Texture extends Manageable implements Disposable {
         Quark.QKRender.dispose(this);
     }
 
+    /**
+     * <p>Insert a region coalescing it with any previous region</p>
+     */
+    private void onInsertRegion(Region region) {
+        for (int i = mRegions.size() - 1; i >= 0; --i) {
+            final Region previous = mRegions.get(i);
+
+            if (region.contains(previous)) {
+                //!
+                //! The previous region will be fully overwritten.
+                //!
+                mRegions.remove(i);
+            } else if (region.isCoalescable(previous) && !isOverlapped(i)) {
+                //!
+                //! Merge both region(s) into a single rectangle (the newest pixel(s) win).
+                //!
+                region = Region.merge(previous, region, mImage.getFormat().eComponent);
+
+                mRegions.remove(i);
+
+                i = mRegions.size();
+            }
+        }
+        mRegions.add(region);
+    }
+
+    /**
+     * <p>Check if a region is overlapped by any newer region</p>
+     */
+    private boolean isOverlapped(int index) {
+        final Region region = mRegions.get(index);
+
+        for (int i = index + 1, j = mRegions.size(); i < j; ++i) {
+            if (region.intersects(mRegions.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <code>Region</code> encapsulate a modified box of an {@link Image}.
+     */
+    public final static class Region {
+        public final int x;
+        public final int y;
+        public final int z;
+        public final int width;
+        public final int height;
+        public final int depth;
+
+        /**
+         * Hold the pixel(s) of the region (tightly packed).
+         */
+        public final byte[] data;
+
+        /**
+         * <p>Constructor</p>
+         */
+        public Region(int x, int y, int z, int width, int height, int depth, byte[] data) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.width = width;
+            this.height = height;
+            this.depth = depth;
+            this.data = data;
+        }
+
+        /**
+         * <p>Check if the region fully contains another region</p>
+         */
+        public boolean contains(Region other) {
+            return other.x >= x && other.x + other.width <= x + width
+                    && other.y >= y && other.y + other.height <= y + height
+                    && other.z >= z && other.z + other.depth <= z + depth;
+        }
+
+        /**
+         * <p>Check if the region intersects with another region</p>
+         */
+        public boolean intersects(Region other) {
+            return getOverlap(x, width, other.x, other.width) > 0
+                    && getOverlap(y, height, other.y, other.height) > 0
+                    && getOverlap(z, depth, other.z, other.depth) > 0;
+        }
+
+        /**
+         * <p>Check if the union of both region(s) is fully covered by them (no pixel outside of them)</p>
+         */
+        public boolean isCoalescable(Region other) {
+            final long unionW = Math.max(x + width, other.x + other.width) - Math.min(x, other.x);
+            final long unionH = Math.max(y + height, other.y + other.height) - Math.min(y, other.y);
+            final long unionD = Math.max(z + depth, other.z + other.depth) - Math.min(z, other.z);
+
+            final long overlap = (long) Math.max(0, getOverlap(x, width, other.x, other.width))
+                    * Math.max(0, getOverlap(y, height, other.y, other.height))
+                    * Math.max(0, getOverlap(z, depth, other.z, other.depth));
+
+            return unionW * unionH * unionD == getVolume() + other.getVolume() - overlap;
+        }
+
+        /**
+         * <p>Get the volume of the region (expressed in px)</p>
+         */
+        public long getVolume() {
+            return (long) width * height * depth;
+        }
+
+        /**
+         * <p>Merge two region(s) into a new region</p>
+         */
+        public static Region merge(Region older, Region newer, int component) {
+            final int x = Math.min(older.x, newer.x);
+            final int y = Math.min(older.y, newer.y);
+            final int z = Math.min(older.z, newer.z);
+            final int width = Math.max(older.x + older.width, newer.x + newer.width) - x;
+            final int height = Math.max(older.y + older.height, newer.y + newer.height) - y;
+            final int depth = Math.max(older.z + older.depth, newer.z + newer.depth) - z;
+
+            final Region region = new Region(x, y, z, width, height, depth,
+                    new byte[width * height * depth * component]);
+
+            region.copy(older, component);
+            region.copy(newer, component);
+
+            return region;
+        }
+
+        /**
+         * <p>Copy the pixel(s) of a region contained by this region</p>
+         */
+        private void copy(Region source, int component) {
+            final int row = source.width * component;
+
+            for (int k = 0; k < source.depth; ++k) {
+                for (int j = 0; j < source.height; ++j) {
+                    final int from = (k * source.height + j) * row;
+                    final int to = (((source.z - z + k) * height + (source.y - y + j)) * width + (source.x - x))
+                            * component;
+
+                    System.arraycopy(source.data, from, data, to, row);
+                }
+            }
+        }
+
+        /**
+         * <p>Get the overlap of two segment(s)</p>
+         */
+        private static int getOverlap(int start1, int length1, int start2, int length2) {
+            return Math.min(start1 + length1, start2 + length2) - Math.max(start1, start2);
+        }
+    }
+
     /**
      * <code>Descriptor</code> represent the {@link AssetDescriptor} for {@link Texture}.
      */
@@ -0,0 +1,407 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.texture;
+
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.Manageable;
+import ar.com.quark.system.utility.array.ArrayFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <code>TextureAtlas</code> encapsulate a packer of multiple {@link Image}(s) into large {@link Texture}(s) (pages).
+ * <p>
+ * Image(s) are packed incrementally using a skyline (bottom-left) algorithm, a new page is allocated when an image
+ * doesn't fit into any existing page. Insertion(s) can be done from any thread, while {@link #update()} must be
+ * called from the render thread to upload the region(s) of every modified page.
+ * <p>
+ * NOTE: The space of a region is never returned to its page (disposing a region packed into a page doesn't free
+ *       it), the space of every page is only released once the atlas is disposed.
+ */
+public final class TextureAtlas implements Disposable {
+    private final TextureFormat mFormat;
+    private final TextureFilter mFilter;
+    private final int mWidth;
+    private final int mHeight;
+    private final int mPadding;
+    private final int mThreshold;
+
+    /**
+     * Hold all page(s) of the atlas.
+     */
+    private final List<Page> mPages = new ArrayList<>();
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param format    the format of each page
+     * @param filter    the filter of each page
+     * @param width     the width of each page (expressed in px)
+     * @param height    the height of each page (expressed in px)
+     * @param padding   the space between each region (expressed in px)
+     * @param threshold the maximum width or height of an image that can be packed (expressed in px)
+     */
+    public TextureAtlas(TextureFormat format, TextureFilter filter,
+            int width, int height, int padding, int threshold) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("The size of the atlas must be positive");
+        }
+        mFormat = format;
+        mFilter = filter;
+        mWidth = width;
+        mHeight = height;
+        mPadding = Math.max(0, padding);
+        mThreshold = Math.min(threshold, Math.min(width, height) - mPadding);
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param format the format of each page
+     * @param filter the filter of each page
+     * @param width  the width of each page (expressed in px)
+     * @param height the height of each page (expressed in px)
+     */
+    public TextureAtlas(TextureFormat format, TextureFilter filter, int width, int height) {
+        this(format, filter, width, height, 1, Math.min(width, height) / 4);
+    }
+
+    /**
+     * <p>Get all page(s) of the atlas</p>
+     *
+     * @return all page(s) of the atlas
+     */
+    public synchronized List<Texture> getPages() {
+        final List<Texture> pages = new ArrayList<>(mPages.size());
+
+        for (final Page page : mPages) {
+            pages.add(page.mTexture);
+        }
+        return pages;
+    }
+
+    /**
+     * <p>Check if the given image can be packed into the atlas</p>
+     *
+     * @param image the image
+     *
+     * @return <code>true</code> if the image can be packed, <code>false</code> otherwise
+     */
+    public boolean isPackable(Image image) {
+        if (image.getFormat().eCompressed || image.getDepth() > 1 || image.getLayer().size() != 1) {
+            return false;
+        }
+        final Image.Layer layer = image.getLayer().get(0);
+
+        return layer.hasData() && !layer.hasMipmap()
+                && image.getWidth() <= mThreshold && image.getHeight() <= mThreshold;
+    }
+
+    /**
+     * <p>Insert an image into the atlas</p>
+     *
+     * @param image the image
+     *
+     * @return the region of the image inside the atlas or <code>null</code> if the image cannot be packed
+     */
+    public synchronized AtlasRegion insert(Image image) {
+        if (!isPackable(image)) {
+            return null;
+        }
+        final int width = image.getWidth() + mPadding;
+        final int height = image.getHeight() + mPadding;
+
+        //!
+        //! Find a page with the same format that can hold the image.
+        //!
+        Page page = null;
+        int index = -1;
+
+        for (int i = 0; i < mPages.size() && index == -1; ++i) {
+            page = mPages.get(i);
+
+            if (page.mFormat == image.getFormat()) {
+                index = page.find(width, height);
+            }
+        }
+
+        //!
+        //! Allocate a new page if the image doesn't fit in any existing page.
+        //!
+        if (index == -1) {
+            page = new Page(image.getFormat());
+            index = page.find(width, height);
+
+            mPages.add(page);
+        }
+
+        final int x = page.mX[index];
+        final int y = page.mFoundY;
+
+        page.insert(index, x, y, width, height);
+        page.write(image, x, y);
+
+        return new AtlasRegion(page.mTexture, false, x, y, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * <p>Insert a texture into the atlas</p>
+     * <p>
+     * NOTE: If the texture cannot be packed, the region will own the texture.
+     *
+     * @param texture the texture (not created)
+     *
+     * @return the region of the texture (inside the atlas or covering the whole texture)
+     */
+    public AtlasRegion insert(Texture texture) {
+        final Image image = texture.getImage();
+
+        if (texture.getType() == TextureType.TEXTURE_2D && texture.getHandle() == Manageable.INVALID_HANDLE) {
+            final AtlasRegion region = insert(image);
+
+            if (region != null) {
+                //!
+                //! The pixel(s) has been copied, the texture can be released.
+                //!
+                texture.deleteAllMemory();
+
+                return region;
+            }
+        }
+        return new AtlasRegion(texture, true, 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * <p>Upload every page that has been modified</p>
+     * <p>
+     * NOTE: This method must be called from the render thread.
+     */
+    public synchronized void update() {
+        for (final Page page : mPages) {
+            if (page.mDirty) {
+                page.upload();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void dispose() {
+        for (final Page page : mPages) {
+            page.dispose();
+        }
+        mPages.clear();
+    }
+
+    /**
+     * <code>Page</code> encapsulate a single texture of the atlas and its skyline.
+     */
+    private final class Page {
+        private final ImageFormat mFormat;
+        private final Texture2D mTexture;
+        private boolean mDirty;
+
+        /**
+         * Hold each segment of the skyline.
+         */
+        private int[] mX = new int[16], mY = new int[16], mW = new int[16];
+        private int mCount;
+
+        /**
+         * Hold the y coordinate of the last segment found.
+         */
+        private int mFoundY;
+
+        /**
+         * <p>Constructor</p>
+         */
+        public Page(ImageFormat format) {
+            mFormat = format;
+
+            //!
+            //! NOTE: The page is cleared once, every image is uploaded as a region of it afterward.
+            //!
+            final int length = mWidth * mHeight * format.eComponent;
+
+            final Image image = new Image(format, mWidth, mHeight, 0,
+                    new Image.Layer(ArrayFactory.allocateInt8Array(length), new int[]{length}));
+
+            mTexture = new Texture2D(TextureAtlas.this.mFormat, mFilter,
+                    TextureBorder.CLAMP_TO_EDGE, TextureBorder.CLAMP_TO_EDGE, image);
+
+            mX[0] = 0;
+            mY[0] = 0;
+            mW[0] = mWidth;
+            mCount = 1;
+        }
+
+        /**
+         * <p>Find the best segment of the skyline for a rectangle (bottom-left heuristic)</p>
+         *
+         * @return the index of the segment or <code>-1</code> if the rectangle doesn't fit
+         */
+        public int find(int width, int height) {
+            int bestIndex = -1, bestBottom = Integer.MAX_VALUE, bestWidth = Integer.MAX_VALUE;
+
+            for (int i = 0; i < mCount; ++i) {
+                final int y = fit(i, width, height);
+
+                if (y >= 0) {
+                    final int bottom = y + height;
+
+                    if (bottom < bestBottom || (bottom == bestBottom && mW[i] < bestWidth)) {
+                        bestIndex = i;
+                        bestBottom = bottom;
+                        bestWidth = mW[i];
+                        mFoundY = y;
+                    }
+                }
+            }
+            return bestIndex;
+        }
+
+        /**
+         * <p>Check if a rectangle fit at the given segment</p>
+         *
+         * @return the y coordinate of the rectangle or <code>-1</code> if the rectangle doesn't fit
+         */
+        private int fit(int index, int width, int height) {
+            if (mX[index] + width > mWidth) {
+                return -1;
+            }
+            int y = mY[index];
+
+            for (int i = index, remaining = width; remaining > 0; ++i) {
+                y = Math.max(y, mY[i]);
+
+                if (y + height > mHeight) {
+                    return -1;
+                }
+                remaining -= mW[i];
+            }
+            return y;
+        }
+
+        /**
+         * <p>Insert a rectangle into the skyline</p>
+         */
+        public void insert(int index, int x, int y, int width, int height) {
+            onInsertSegment(index, x, y + height, width);
+
+            //!
+            //! Shrink or remove every segment covered by the new segment.
+            //!
+            for (int i = index + 1; i < mCount; ) {
+                final int end = mX[i - 1] + mW[i - 1];
+
+                if (mX[i] >= end) {
+                    break;
+                }
+                final int shrink = end - mX[i];
+
+                mX[i] += shrink;
+                mW[i] -= shrink;
+
+                if (mW[i] > 0) {
+                    break;
+                }
+                onRemoveSegment(i);
+            }
+
+            //!
+            //! Merge every segment with the same height.
+            //!
+            for (int i = 0; i < mCount - 1; ) {
+                if (mY[i] == mY[i + 1]) {
+                    mW[i] += mW[i + 1];
+                    onRemoveSegment(i + 1);
+                } else {
+                    ++i;
+                }
+            }
+        }
+
+        /**
+         * <p>Copy the pixel(s) of the image into the page</p>
+         */
+        public void write(Image image, int x, int y) {
+            mTexture.updateRegion(x, y, image.getWidth(), image.getHeight(), image.getLayer().get(0).data);
+
+            mDirty = true;
+        }
+
+        /**
+         * <p>Upload the page</p>
+         */
+        public void upload() {
+            if (mTexture.getHandle() == Manageable.INVALID_HANDLE) {
+                mTexture.create();
+            }
+            mTexture.acquire();
+            mTexture.update();
+
+            //!
+            //! NOTE: The image of the page is only required to clear it, every region hold its own pixel(s).
+            //!
+            mTexture.deleteAllMemory();
+
+            mDirty = false;
+        }
+
+        /**
+         * <p>Dispose the page (and the image of the page, if it hasn't been uploaded)</p>
+         */
+        public void dispose() {
+            mTexture.deleteAllMemory();
+            mTexture.dispose();
+        }
+
+        /**
+         * <p>Insert a new segment into the skyline</p>
+         */
+        private void onInsertSegment(int index, int x, int y, int width) {
+            if (mCount == mX.length) {
+                mX = Arrays.copyOf(mX, mCount << 1);
+                mY = Arrays.copyOf(mY, mCount << 1);
+                mW = Arrays.copyOf(mW, mCount << 1);
+            }
+            System.arraycopy(mX, index, mX, index + 1, mCount - index);
+            System.arraycopy(mY, index, mY, index + 1, mCount - index);
+            System.arraycopy(mW, index, mW, index + 1, mCount - index);
+
+            mX[index] = x;
+            mY[index] = y;
+            mW[index] = width;
+            mCount++;
+        }
+
+        /**
+         * <p>Remove a segment from the skyline</p>
+         */
+        private void onRemoveSegment(int index) {
+            System.arraycopy(mX, index + 1, mX, index, mCount - index - 1);
+            System.arraycopy(mY, index + 1, mY, index, mCount - index - 1);
+            System.arraycopy(mW, index + 1, mW, index, mCount - index - 1);
+            mCount--;
+        }
+    }
+}
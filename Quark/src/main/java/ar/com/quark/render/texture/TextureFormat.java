@@ -149,4 +149,42 @@ public enum TextureFormat {
         eCompressed = compressed;
         eType = type;
     }
+
+    /**
+     * <p>Get the number of byte(s) of each pixel</p>
+     * <p>
+     * NOTE: The length of compressed format(s) is estimated as a byte per pixel.
+     *
+     * @return the number of byte(s) of each pixel
+     */
+    public int getLength() {
+        switch (this) {
+            case R8:
+            case COMPRESSED_RED:
+            case COMPRESSED_RG:
+            case COMPRESSED_RGB:
+            case COMPRESSED_RGBA:
+                return 1;
+            case R16:
+            case R16F:
+            case RG8:
+            case DEPTH_COMPONENT16:
+                return 2;
+            case RGB16:
+            case RGB16F:
+            case RG32F:
+            case RGBA16:
+            case RGBA16F:
+                return 8;
+            case RGB32F:
+                return 12;
+            case RGBA32F:
+                return 16;
+            default:
+                //!
+                //! NOTE: RGB8 and DEPTH_COMPONENT24 are padded to 4 byte(s) by most driver(s).
+                //!
+                return 4;
+        }
+    }
 }
@@ -0,0 +1,355 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.texture;
+
+import ar.com.quark.render.RenderCapabilities;
+import ar.com.quark.system.utility.Manageable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <code>TextureStreamer</code> encapsulate a manager that stream the mip-map level(s) of many {@link Texture}(s).
+ * <p>
+ * Every texture starts with only its lowest mip-map level(s) resident, the highest level(s) are streamed in (a level
+ * per frame, and within the upload budget) based on the on-screen size (and priority) requested for it. Once the
+ * resident level(s) exceed the memory budget, the highest level(s) of the least recently used texture(s) are evicted.
+ * <p>
+ * NOTE: Requires {@link RenderCapabilities.Extension#TEXTURE_LEVEL_CLAMP}, otherwise every level is resident.
+ * NOTE: Every method must be called from the thread that owns the context.
+ */
+public final class TextureStreamer {
+    /**
+     * Represent the default size (expressed in px) of the highest mip-map level resident when a texture is added.
+     */
+    public final static int DEFAULT_RESIDENT_SIZE = 64;
+
+    /**
+     * Hold every texture being streamed.
+     */
+    private final Map<Texture, Entry> mEntries = new HashMap<>();
+    private final List<Entry> mCandidates = new ArrayList<>();
+
+    /**
+     * Hold the budget(s) of the streamer (in bytes).
+     */
+    private long mBudget;
+    private long mUploadBudget;
+
+    /**
+     * Hold the size (expressed in px) of the highest mip-map level resident when a texture is added.
+     */
+    private int mResidentSize = DEFAULT_RESIDENT_SIZE;
+
+    /**
+     * Hold the number of byte(s) resident.
+     */
+    private long mResident;
+
+    /**
+     * Hold the current frame of the streamer.
+     */
+    private long mFrame;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param budget       the maximum number of byte(s) resident of every texture
+     * @param uploadBudget the maximum number of byte(s) streamed in every frame
+     */
+    public TextureStreamer(long budget, long uploadBudget) {
+        mBudget = budget;
+        mUploadBudget = uploadBudget;
+    }
+
+    /**
+     * <p>Change the maximum number of byte(s) resident of every texture</p>
+     *
+     * @param budget the maximum number of byte(s) resident of every texture
+     */
+    public void setBudget(long budget) {
+        mBudget = budget;
+    }
+
+    /**
+     * <p>Change the maximum number of byte(s) streamed in every frame</p>
+     *
+     * @param budget the maximum number of byte(s) streamed in every frame
+     */
+    public void setUploadBudget(long budget) {
+        mUploadBudget = budget;
+    }
+
+    /**
+     * <p>Change the size of the highest mip-map level resident when a texture is added</p>
+     *
+     * @param size the size (expressed in px) of the highest mip-map level resident when a texture is added
+     */
+    public void setResidentSize(int size) {
+        mResidentSize = size;
+    }
+
+    /**
+     * <p>Get the number of byte(s) resident of every texture</p>
+     *
+     * @return the number of byte(s) resident of every texture
+     */
+    public long getResident() {
+        return mResident;
+    }
+
+    /**
+     * <p>Add a texture to the streamer</p>
+     * <p>
+     * NOTE: The texture must be added before it has been created, so only its lowest level(s) are uploaded.
+     *
+     * @param texture the texture
+     */
+    public void add(Texture texture) {
+        if (texture.getHandle() != Manageable.INVALID_HANDLE) {
+            throw new IllegalStateException("Trying to stream a texture that has been created");
+        }
+        final Image image = texture.getImage();
+        final int levels = texture.getLevels();
+
+        //!
+        //! Find the highest level that fit the resident size.
+        //!
+        int level = 0;
+
+        while (level < levels - 1
+                && Math.max(image.getWidth(), image.getHeight()) >> level > mResidentSize) {
+            level++;
+        }
+
+        final Entry entry = new Entry(texture, level);
+
+        texture.setStreaming(true);
+        texture.setBaseLevel(level);
+
+        mEntries.put(texture, entry);
+
+        mResident += entry.getLength(level, levels);
+    }
+
+    /**
+     * <p>Remove a texture from the streamer</p>
+     *
+     * @param texture the texture
+     */
+    public void remove(Texture texture) {
+        final Entry entry = mEntries.remove(texture);
+
+        if (entry != null) {
+            mResident -= entry.getLength(texture.getBaseLevel(), texture.getLevels());
+
+            texture.setStreaming(false);
+        }
+    }
+
+    /**
+     * <p>Request a texture being rendered during the current frame</p>
+     *
+     * @see #request(Texture, float, int)
+     */
+    public void request(Texture texture, float size) {
+        request(texture, size, 0);
+    }
+
+    /**
+     * <p>Request a texture being rendered during the current frame</p>
+     *
+     * @param texture  the texture
+     * @param size     the size (expressed in px) the texture cover on screen
+     * @param priority the priority of the texture (texture(s) with higher priority are streamed first and evicted last)
+     */
+    public void request(Texture texture, float size, int priority) {
+        final Entry entry = mEntries.get(texture);
+
+        if (entry == null) {
+            throw new IllegalArgumentException("Trying to request a texture that isn't being streamed");
+        }
+        final Image image = texture.getImage();
+        final int dimension = Math.max(image.getWidth(), image.getHeight());
+
+        //!
+        //! Find the level whose size match the size on screen (the highest one requested during the frame).
+        //!
+        int level = 0;
+
+        while (level < texture.getLevels() - 1 && (dimension >> (level + 1)) >= size) {
+            level++;
+        }
+
+        if (entry.mFrame != mFrame) {
+            entry.mFrame = mFrame;
+            entry.mLevel = level;
+            entry.mPriority = priority;
+        } else {
+            entry.mLevel = Math.min(entry.mLevel, level);
+            entry.mPriority = Math.max(entry.mPriority, priority);
+        }
+    }
+
+    /**
+     * <p>Stream (and evict) the level(s) of every texture requested during the current frame</p>
+     * <p>
+     * NOTE: This method must be called once per frame, after every texture has been requested.
+     */
+    public void update() {
+        //!
+        //! Find every texture requested that need higher level(s) (the highest priority first).
+        //!
+        for (final Entry entry : mEntries.values()) {
+            if (entry.mFrame == mFrame && entry.mLevel < entry.mTexture.getBaseLevel()) {
+                mCandidates.add(entry);
+            }
+        }
+        mCandidates.sort((first, second) -> first.mPriority != second.mPriority
+                ? Integer.compare(second.mPriority, first.mPriority)
+                : Integer.compare(second.mTexture.getBaseLevel() - second.mLevel,
+                        first.mTexture.getBaseLevel() - first.mLevel));
+
+        //!
+        //! Stream a level of every candidate (until the upload budget is exhausted).
+        //!
+        long uploaded = 0L;
+
+        for (int i = 0, j = mCandidates.size(); i < j && uploaded < mUploadBudget; ++i) {
+            final Entry entry = mCandidates.get(i);
+            final int level = entry.mTexture.getBaseLevel() - 1;
+            final long length = entry.mTexture.getLevelLength(level);
+
+            while (mResident + length > mBudget && onEvict(entry)) {
+                //!
+                //! Evict level(s) of other texture(s) until the level fit the budget.
+                //!
+            }
+
+            if (mResident + length <= mBudget) {
+                entry.mTexture.setBaseLevel(level);
+
+                mResident += length;
+                uploaded += length;
+            }
+        }
+        mCandidates.clear();
+
+        //!
+        //! Evict level(s) if the budget has been reduced.
+        //!
+        while (mResident > mBudget && onEvict(null)) {
+            //!
+            //! Evict level(s) of any texture until every level fit the budget.
+            //!
+        }
+
+        //!
+        //! Update every texture that has changed its level(s).
+        //!
+        for (final Entry entry : mEntries.values()) {
+            final Texture texture = entry.mTexture;
+
+            if (texture.hasUpdate(Texture.CONCEPT_LEVEL) && texture.getHandle() != Manageable.INVALID_HANDLE) {
+                texture.acquire();
+                texture.update();
+            }
+        }
+        mFrame++;
+    }
+
+    /**
+     * <p>Evict the highest level of the least recently used texture</p>
+     *
+     * @param requester the texture that requested the eviction (or <code>null</code>)
+     *
+     * @return <code>true</code> if a level has been evicted, <code>false</code> otherwise
+     */
+    private boolean onEvict(Entry requester) {
+        Entry victim = null;
+
+        for (final Entry entry : mEntries.values()) {
+            if (entry == requester || entry.mTexture.getBaseLevel() >= entry.mMinimum) {
+                continue;
+            }
+
+            //!
+            //! Never evict a texture requested during the frame with a higher (or the same) priority.
+            //!
+            if (requester != null && entry.mFrame == mFrame && entry.mPriority >= requester.mPriority) {
+                continue;
+            }
+
+            if (victim == null || entry.mFrame < victim.mFrame
+                    || (entry.mFrame == victim.mFrame && entry.mPriority < victim.mPriority)) {
+                victim = entry;
+            }
+        }
+
+        if (victim != null) {
+            final int level = victim.mTexture.getBaseLevel();
+
+            victim.mTexture.setBaseLevel(level + 1);
+
+            mResident -= victim.mTexture.getLevelLength(level);
+        }
+        return victim != null;
+    }
+
+    /**
+     * <code>Entry</code> encapsulate the streaming state of a {@link Texture}.
+     */
+    private final static class Entry {
+        private final Texture mTexture;
+
+        /**
+         * Hold the lowest level that is always resident.
+         */
+        private final int mMinimum;
+
+        /**
+         * Hold the level, priority and last frame requested.
+         */
+        private int mLevel;
+        private int mPriority;
+        private long mFrame = -1L;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Entry(Texture texture, int minimum) {
+            mTexture = texture;
+            mMinimum = minimum;
+            mLevel = minimum;
+        }
+
+        /**
+         * <p>Get the length of a range of level(s)</p>
+         */
+        private long getLength(int first, int last) {
+            long length = 0L;
+
+            for (int i = first; i < last; ++i) {
+                length += mTexture.getLevelLength(i);
+            }
+            return length;
+        }
+    }
+}
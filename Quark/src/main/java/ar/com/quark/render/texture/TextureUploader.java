@@ -0,0 +1,300 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.texture;
+
+import ar.com.quark.render.RenderCapabilities;
+import ar.com.quark.render.storage.*;
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.Manageable;
+import ar.com.quark.system.utility.array.Int8Array;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>TextureUploader</code> encapsulate a pool of pixel unpack {@link Storage}(s) used to upload the pixel(s) of
+ * {@link Texture}(s) without blocking the render thread.
+ * <p>
+ * Loader thread(s) acquire a mapped buffer, write the decoded pixel(s) into it and submit it. The render thread
+ * (through {@link #update()}) source each submitted region from its buffer, and recycle every buffer once the GPU
+ * finish reading from it.
+ * <p>
+ * NOTE: Buffer(s) are not persistently mapped, each one cycle through map (render thread), write (loader thread),
+ *       unmap and upload (render thread), and is only mapped again once the fence issued after its upload has
+ *       been signaled.
+ */
+public final class TextureUploader implements Disposable {
+    private final int mCapacity;
+    private final Buffer[] mBuffers;
+
+    /**
+     * Hold every buffer that is mapped and ready to be written.
+     */
+    private final Queue<Buffer> mAvailable = new LinkedBlockingDeque<>();
+
+    /**
+     * Hold every buffer that has been written (in submission order).
+     */
+    private final Queue<Buffer> mSubmitted = new LinkedBlockingDeque<>();
+
+    /**
+     * Hold every buffer that is being read by the GPU.
+     */
+    private final List<Buffer> mPending = new ArrayList<>();
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param count    the number of buffer(s) of the pool
+     * @param capacity the capacity of each buffer (in bytes)
+     */
+    public TextureUploader(int count, int capacity) {
+        if (count <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("The size of the pool must be positive");
+        }
+        mCapacity = capacity;
+        mBuffers = new Buffer[count];
+    }
+
+    /**
+     * <p>Get the capacity of each buffer (in bytes)</p>
+     *
+     * @return the capacity of each buffer (in bytes)
+     */
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    /**
+     * <p>Check if the pool is supported by the render</p>
+     *
+     * @return <code>true</code> if the pool is supported, <code>false</code> otherwise
+     */
+    public boolean isSupported() {
+        return QKRender.getCapabilities().hasExtension(RenderCapabilities.Extension.PIXEL_BUFFER);
+    }
+
+    /**
+     * <p>Create every buffer of the pool</p>
+     * <p>
+     * NOTE: This method must be called from the render thread, if the pool isn't supported no buffer is created
+     *       (and {@link #acquire(int)} always return <code>null</code>).
+     */
+    public void create() {
+        if (!isSupported()) {
+            return;
+        }
+
+        for (int i = 0; i < mBuffers.length; ++i) {
+            if (mBuffers[i] == null) {
+                final Storage<Int8Array> storage = new Storage<>(StorageType.SERVER_MAPPED,
+                        StorageTarget.PIXEL_UNPACK, StorageMode.STREAM_DRAW, VertexFormat.BYTE, mCapacity);
+
+                storage.create();
+                storage.acquire();
+                storage.update();
+
+                onMap(mBuffers[i] = new Buffer(storage));
+            }
+        }
+    }
+
+    /**
+     * <p>Acquire a mapped buffer of the pool</p>
+     * <p>
+     * NOTE: This method can be called from any thread.
+     *
+     * @param length the number of byte(s) to write
+     *
+     * @return a mapped buffer or <code>null</code> if none is available (the pixel(s) must be uploaded directly)
+     */
+    public Buffer acquire(int length) {
+        return length <= mCapacity ? mAvailable.poll() : null;
+    }
+
+    /**
+     * <p>Return a buffer of the pool without uploading it</p>
+     * <p>
+     * NOTE: This method can be called from any thread.
+     *
+     * @param buffer the buffer
+     */
+    public void discard(Buffer buffer) {
+        mAvailable.add(buffer);
+    }
+
+    /**
+     * <p>Submit a buffer to be uploaded into a region of a 2D texture</p>
+     *
+     * @see #submit(Buffer, Texture, int, int, int, int, int, int)
+     */
+    public void submit(Buffer buffer, Texture texture, int x, int y, int width, int height) {
+        submit(buffer, texture, x, y, 0, width, height, 1);
+    }
+
+    /**
+     * <p>Submit a buffer to be uploaded into a region of a texture</p>
+     * <p>
+     * NOTE: This method can be called from any thread, the buffer cannot be written after being submitted.
+     *
+     * @param buffer  the buffer that contain(s) the pixel(s) of the region (tightly packed)
+     * @param texture the texture
+     * @param x       the x coordinate of the region (expressed in px)
+     * @param y       the y coordinate of the region (expressed in px)
+     * @param z       the z coordinate of the region (expressed in px, or the face of a cube texture)
+     * @param width   the width of the region (expressed in px)
+     * @param height  the height of the region (expressed in px)
+     * @param depth   the depth of the region (expressed in px)
+     */
+    public void submit(Buffer buffer, Texture texture, int x, int y, int z, int width, int height, int depth) {
+        final ImageFormat format = texture.getImage().getFormat();
+
+        if (format.eCompressed) {
+            throw new IllegalStateException("Cannot upload a compressed texture through a pixel buffer");
+        }
+        if ((long) width * height * depth * format.eComponent > mCapacity) {
+            throw new IllegalArgumentException("The region is bigger than the capacity of the buffer");
+        }
+        buffer.mTexture = texture;
+        buffer.mX = x;
+        buffer.mY = y;
+        buffer.mZ = z;
+        buffer.mWidth = width;
+        buffer.mHeight = height;
+        buffer.mDepth = depth;
+
+        mSubmitted.add(buffer);
+    }
+
+    /**
+     * <p>Upload every submitted buffer and recycle those the GPU finished reading</p>
+     * <p>
+     * NOTE: This method must be called from the render thread (once per frame).
+     */
+    public void update() {
+        //!
+        //! Re-map every buffer the GPU finished reading from (without waiting for any of them).
+        //!
+        for (int i = mPending.size() - 1; i >= 0; --i) {
+            final Buffer buffer = mPending.get(i);
+
+            if (QKRender.waitFence(buffer.mFence, 0L)) {
+                QKRender.deleteFence(buffer.mFence);
+
+                buffer.mFence = 0L;
+
+                mPending.remove(i);
+
+                onMap(buffer);
+            }
+        }
+
+        //!
+        //! Issue every submitted buffer, the copy is done by the GPU asynchronously.
+        //!
+        for (Buffer buffer; (buffer = mSubmitted.poll()) != null; ) {
+            final Texture texture = buffer.mTexture;
+
+            buffer.mStorage.acquire();
+            buffer.mStorage.unmap();
+
+            if (texture.getHandle() == Manageable.INVALID_HANDLE) {
+                texture.create();
+            }
+            QKRender.update(texture, buffer.mStorage, 0,
+                    buffer.mX, buffer.mY, buffer.mZ, buffer.mWidth, buffer.mHeight, buffer.mDepth);
+
+            buffer.mTexture = null;
+            buffer.mFence = QKRender.createFence();
+
+            mPending.add(buffer);
+        }
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        mAvailable.clear();
+        mSubmitted.clear();
+        mPending.clear();
+
+        for (int i = 0; i < mBuffers.length; ++i) {
+            final Buffer buffer = mBuffers[i];
+
+            if (buffer != null) {
+                QKRender.deleteFence(buffer.mFence);
+
+                buffer.mStorage.dispose();
+
+                mBuffers[i] = null;
+            }
+        }
+    }
+
+    /**
+     * <p>Map a buffer and make it available to be written</p>
+     */
+    private void onMap(Buffer buffer) {
+        buffer.mStorage.acquire();
+        buffer.mData = buffer.mStorage.map(Storage.ACCESS_INVALIDATE_ALL);
+
+        //!
+        //! NOTE: Leaving the storage bound would make every other upload source pixel(s) from it.
+        //!
+        buffer.mStorage.release();
+
+        mAvailable.add(buffer);
+    }
+
+    /**
+     * <code>Buffer</code> encapsulate a pixel unpack {@link Storage} of the pool.
+     */
+    public final static class Buffer {
+        private final Storage<Int8Array> mStorage;
+        private Int8Array mData;
+        private long mFence;
+
+        /**
+         * Hold the region being uploaded.
+         */
+        private Texture mTexture;
+        private int mX, mY, mZ, mWidth, mHeight, mDepth;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Buffer(Storage<Int8Array> storage) {
+            mStorage = storage;
+        }
+
+        /**
+         * <p>Get the (mapped) data of the buffer</p>
+         *
+         * @return the data of the buffer
+         */
+        public Int8Array getData() {
+            return mData;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.texture.frame;
+
+import ar.com.quark.render.RenderCapabilities;
+import ar.com.quark.render.storage.*;
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.array.ArrayFactory;
+import ar.com.quark.system.utility.array.Int8Array;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>FrameCapture</code> encapsulate a non-blocking capture of the colour pixel(s) of a {@link Frame}.
+ * <p>
+ * Each capture is read into a ring of pixel pack {@link Storage}(s) and only mapped once the GPU finished writing
+ * it (a few frame(s) later). The pixel(s) are then handed to an {@link Encoder} running on an {@link Executor}.
+ * <p>
+ * The memory is bounded by the number of frame(s) that can be encoded at the same time, a frame is dropped
+ * (instead of stalling the render thread) when the GPU or the encoder(s) fall behind.
+ */
+public final class FrameCapture implements Disposable {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>FrameCapture</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(FrameCapture.class);
+
+    private final int mWidth;
+    private final int mHeight;
+    private final int mBudget;
+    private final Executor mExecutor;
+    private final Encoder mEncoder;
+
+    /**
+     * Hold the ring of storage(s) being written by the GPU.
+     */
+    private final Slot[] mRing;
+    private int mRingIndex;
+
+    /**
+     * Hold every pixel array that isn't being encoded.
+     */
+    private final Queue<byte[]> mAvailable = new LinkedBlockingDeque<>();
+    private int mAllocated;
+
+    /**
+     * Hold the array used when pixel pack storage(s) are not supported.
+     */
+    private Int8Array mScratch;
+
+    private long mFrame;
+    private long mCaptured;
+    private long mDropped;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param width    the width of the capture (expressed in px)
+     * @param height   the height of the capture (expressed in px)
+     * @param latency  the number of frame(s) between reading a frame and encoding it
+     * @param budget   the maximum number of frame(s) being encoded at the same time
+     * @param executor the executor where the encoder run
+     * @param encoder  the encoder of each frame
+     */
+    public FrameCapture(int width, int height, int latency, int budget, Executor executor, Encoder encoder) {
+        if (width <= 0 || height <= 0 || latency <= 0 || budget <= 0) {
+            throw new IllegalArgumentException("The size of the capture must be positive");
+        }
+        mWidth = width;
+        mHeight = height;
+        mBudget = budget;
+        mExecutor = executor;
+        mEncoder = encoder;
+        mRing = new Slot[latency];
+    }
+
+    /**
+     * <p>Get the number of frame(s) handed to the encoder</p>
+     *
+     * @return the number of frame(s) handed to the encoder
+     */
+    public long getCaptured() {
+        return mCaptured;
+    }
+
+    /**
+     * <p>Get the number of frame(s) dropped (because the GPU or the encoder(s) fall behind)</p>
+     *
+     * @return the number of frame(s) dropped
+     */
+    public long getDropped() {
+        return mDropped;
+    }
+
+    /**
+     * <p>Create the ring of the capture</p>
+     * <p>
+     * NOTE: This method must be called from the render thread, if pixel pack storage(s) are not supported every
+     *       capture will read the frame synchronously.
+     */
+    public void create() {
+        if (!QKRender.getCapabilities().hasExtension(RenderCapabilities.Extension.PIXEL_BUFFER)) {
+            return;
+        }
+
+        for (int i = 0; i < mRing.length; ++i) {
+            if (mRing[i] == null) {
+                final Storage<Int8Array> storage = new Storage<>(StorageType.SERVER_MAPPED,
+                        StorageTarget.PIXEL_PACK, StorageMode.STREAM_READ, VertexFormat.BYTE, mWidth * mHeight * 4);
+
+                storage.create();
+                storage.acquire();
+                storage.update();
+                storage.release();
+
+                mRing[i] = new Slot(storage);
+            }
+        }
+    }
+
+    /**
+     * <p>Capture the frame given</p>
+     * <p>
+     * NOTE: This method must be called from the render thread (once the frame has been rendered).
+     *
+     * @param frame the frame (<code>null</code> for the default frame)
+     */
+    public void capture(Frame frame) {
+        final long index = mFrame++;
+
+        if (mRing[0] == null) {
+            onCaptureImmediately(frame, index);
+            return;
+        }
+        final Slot slot = mRing[mRingIndex];
+
+        if (slot.mPending) {
+            //!
+            //! Drop the frame if the GPU is still writing the oldest capture.
+            //!
+            if (!QKRender.waitFence(slot.mFence, 0L)) {
+                mDropped++;
+                return;
+            }
+            onResolve(slot);
+        }
+        QKRender.read(frame, slot.mStorage, 0, 0, mWidth, mHeight);
+
+        slot.mFence = QKRender.createFence();
+        slot.mFrame = index;
+        slot.mPending = true;
+
+        mRingIndex = (mRingIndex + 1) % mRing.length;
+    }
+
+    /**
+     * <p>Hand every pending capture to the encoder (waiting for the GPU if required)</p>
+     * <p>
+     * NOTE: This method must be called from the render thread.
+     */
+    public void flush() {
+        for (int i = 0; i < mRing.length; ++i) {
+            //!
+            //! Resolve in capture order (starting from the oldest).
+            //!
+            final Slot slot = mRing[(mRingIndex + i) % mRing.length];
+
+            if (slot != null && slot.mPending) {
+                while (!QKRender.waitFence(slot.mFence, Storage.STREAMING_TIMEOUT)) {
+                    //!
+                    //! NOTE: Only wait when explicitly requested.
+                    //!
+                }
+                onResolve(slot);
+            }
+        }
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        for (int i = 0; i < mRing.length; ++i) {
+            final Slot slot = mRing[i];
+
+            if (slot != null) {
+                QKRender.deleteFence(slot.mFence);
+
+                slot.mStorage.dispose();
+
+                mRing[i] = null;
+            }
+        }
+        mScratch = ArrayFactory.free(mScratch);
+    }
+
+    /**
+     * <p>Capture the frame given synchronously (pixel pack storage(s) are not supported)</p>
+     */
+    private void onCaptureImmediately(Frame frame, long index) {
+        final byte[] pixels = onAcquirePixels();
+
+        if (pixels == null) {
+            mDropped++;
+            return;
+        }
+
+        if (mScratch == null) {
+            mScratch = ArrayFactory.allocateInt8Array(mWidth * mHeight * 4);
+        }
+        mScratch.clear();
+
+        QKRender.read(frame, mScratch, 0, 0, mWidth, mHeight);
+
+        onEncode(mScratch, pixels, index);
+    }
+
+    /**
+     * <p>Map a capture written by the GPU and hand it to the encoder</p>
+     */
+    private void onResolve(Slot slot) {
+        QKRender.deleteFence(slot.mFence);
+
+        slot.mFence = 0L;
+        slot.mPending = false;
+
+        final byte[] pixels = onAcquirePixels();
+
+        if (pixels == null) {
+            //!
+            //! Drop the frame if every encoder is busy (the memory is bounded).
+            //!
+            mDropped++;
+            return;
+        }
+        slot.mStorage.acquire();
+
+        onEncode(slot.mStorage.map(0), pixels, slot.mFrame);
+
+        slot.mStorage.unmap();
+        slot.mStorage.release();
+    }
+
+    /**
+     * <p>Copy the pixel(s) of a capture (flipping it vertically) and submit them to the encoder</p>
+     */
+    private void onEncode(Int8Array data, byte[] pixels, long index) {
+        final int row = mWidth * 4;
+
+        for (int j = 0; j < mHeight; ++j) {
+            data.position((mHeight - 1 - j) * row);
+            data.read(pixels, j * row, row);
+        }
+        mCaptured++;
+
+        mExecutor.execute(() -> {
+            try {
+                mEncoder.encode(index, mWidth, mHeight, pixels);
+            } catch (IOException exception) {
+                LOGGER.warn(exception.getMessage()); /* WARNING */
+            } finally {
+                mAvailable.add(pixels);
+            }
+        });
+    }
+
+    /**
+     * <p>Acquire an array that can hold a capture (<code>null</code> if the budget is exhausted)</p>
+     */
+    private byte[] onAcquirePixels() {
+        final byte[] pixels = mAvailable.poll();
+
+        if (pixels == null && mAllocated < mBudget) {
+            mAllocated++;
+
+            return new byte[mWidth * mHeight * 4];
+        }
+        return pixels;
+    }
+
+    /**
+     * <code>Slot</code> encapsulate a pixel pack {@link Storage} of the ring.
+     */
+    private final static class Slot {
+        private final Storage<Int8Array> mStorage;
+        private long mFence;
+        private long mFrame;
+        private boolean mPending;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Slot(Storage<Int8Array> storage) {
+            mStorage = storage;
+        }
+    }
+
+    /**
+     * <code>Encoder</code> encapsulate the destination of each captured frame.
+     */
+    public interface Encoder {
+        /**
+         * <p>Encode a captured frame</p>
+         * <p>
+         * NOTE: This method is called from the executor of the capture (possibly from multiple thread(s)).
+         *
+         * @param frame  the index of the frame
+         * @param width  the width of the frame (expressed in px)
+         * @param height the height of the frame (expressed in px)
+         * @param pixels the RGBA pixel(s) of the frame (from the top row to the bottom row)
+         *
+         * @throws IOException indicates failing encoding the frame
+         */
+        void encode(long frame, int width, int height, byte[] pixels) throws IOException;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.texture.frame;
+
+import java.io.*;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * <code>FramePNGEncoder</code> encapsulate a {@link FrameCapture.Encoder} that write each frame as a PNG file.
+ */
+public final class FramePNGEncoder implements FrameCapture.Encoder {
+    private final File mDirectory;
+    private final String mPrefix;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param directory the directory where each file is written
+     * @param prefix    the prefix of each file (followed by the index of the frame)
+     */
+    public FramePNGEncoder(File directory, String prefix) {
+        mDirectory = directory;
+        mPrefix = prefix;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encode(long frame, int width, int height, byte[] pixels) throws IOException {
+        final File file = new File(mDirectory, String.format("%s%06d.png", mPrefix, frame));
+
+        try (final DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)))) {
+            output.writeLong(0x89504E470D0A1A0AL);
+
+            //!
+            //! Write the header (8-bit RGBA, no interlace).
+            //!
+            final ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+
+            try (final DataOutputStream stream = new DataOutputStream(header)) {
+                stream.writeInt(width);
+                stream.writeInt(height);
+                stream.writeByte(8);
+                stream.writeByte(6);
+                stream.writeByte(0);
+                stream.writeByte(0);
+                stream.writeByte(0);
+            }
+            writeChunk(output, 0x49484452, header.toByteArray());
+
+            //!
+            //! Write the data (each row is prefixed with filter type none).
+            //!
+            final ByteArrayOutputStream data = new ByteArrayOutputStream(pixels.length / 2);
+
+            try (final DeflaterOutputStream stream = new DeflaterOutputStream(data)) {
+                final int row = width * 4;
+
+                for (int j = 0; j < height; ++j) {
+                    stream.write(0);
+                    stream.write(pixels, j * row, row);
+                }
+            }
+            writeChunk(output, 0x49444154, data.toByteArray());
+
+            writeChunk(output, 0x49454E44, new byte[0]);
+        }
+    }
+
+    /**
+     * <p>Write a chunk into the {@link DataOutputStream} given</p>
+     */
+    private void writeChunk(DataOutputStream output, int type, byte[] data) throws IOException {
+        final CRC32 crc = new CRC32();
+
+        crc.update(type >>> 24);
+        crc.update(type >>> 16);
+        crc.update(type >>> 8);
+        crc.update(type);
+        crc.update(data);
+
+        output.writeInt(data.length);
+        output.writeInt(type);
+        output.write(data);
+        output.writeInt((int) crc.getValue());
+    }
+}
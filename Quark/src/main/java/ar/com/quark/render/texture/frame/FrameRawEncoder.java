@@ -0,0 +1,54 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.texture.frame;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <code>FrameRawEncoder</code> encapsulate a {@link FrameCapture.Encoder} that write every frame into a single
+ * raw sequence.
+ * <p>
+ * Each frame is written as its index (int64), width (int32), height (int32) followed by its RGBA pixel(s). Frame(s)
+ * may be written out of order when the executor run more than one encoder at the same time.
+ */
+public final class FrameRawEncoder implements FrameCapture.Encoder {
+    private final DataOutputStream mOutput;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param output the output-stream where the sequence is written (owned by the caller)
+     */
+    public FrameRawEncoder(OutputStream output) {
+        mOutput = new DataOutputStream(output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void encode(long frame, int width, int height, byte[] pixels) throws IOException {
+        mOutput.writeLong(frame);
+        mOutput.writeInt(width);
+        mOutput.writeInt(height);
+        mOutput.write(pixels, 0, width * height * 4);
+        mOutput.flush();
+    }
+}
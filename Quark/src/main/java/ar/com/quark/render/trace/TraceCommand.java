@@ -0,0 +1,191 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.trace;
+
+/**
+ * <code>TraceCommand</code> enumerate every command that can be written into a trace.
+ * <p>
+ * Each command is written as its ordinal (uint8) followed by the argument(s) of the call (in declaration order),
+ * and the value returned by the call if it's a name that must be translated when replayed.
+ */
+enum TraceCommand {
+    //!
+    //! Marker written at the end of each frame.
+    //!
+    FRAME,
+
+    //!
+    //! Command(s) of Render.GLES2.
+    //!
+    ENABLE,
+    DISABLE,
+    BLEND_FUNC,
+    BLEND_EQUATION_SEPARATE,
+    CULL_FACE,
+    DEPTH_MASK,
+    DEPTH_RANGE,
+    DEPTH_FUNC,
+    COLOR_MASK,
+    SCISSOR,
+    STENCIL_OP_SEPARATE,
+    STENCIL_FUNC_SEPARATE,
+    CLEAR,
+    CLEAR_COLOR,
+    VIEWPORT,
+    GEN_TEXTURES,
+    GEN_BUFFERS,
+    CREATE_PROGRAM,
+    CREATE_SHADER,
+    GEN_FRAMEBUFFERS,
+    GEN_RENDERBUFFERS,
+    DELETE_TEXTURES,
+    DELETE_BUFFERS,
+    DELETE_TEXTURES_ARRAY,
+    DELETE_BUFFERS_ARRAY,
+    DELETE_PROGRAM,
+    DELETE_FRAMEBUFFERS,
+    DELETE_RENDERBUFFERS,
+    DELETE_SHADER,
+    ACTIVE_TEXTURE,
+    BIND_TEXTURE,
+    BIND_BUFFER,
+    USE_PROGRAM,
+    BIND_FRAMEBUFFER,
+    BIND_RENDERBUFFER,
+    DRAW_ARRAYS,
+    DRAW_ELEMENTS,
+    BUFFER_DATA_CAPACITY,
+    BUFFER_DATA,
+    BUFFER_SUB_DATA,
+    UNMAP_BUFFER,
+    MAP_BUFFER,
+    TEX_PARAMETER_INT,
+    TEX_PARAMETER_FLOAT,
+    TEX_IMAGE_2D,
+    COMPRESSED_TEX_IMAGE_2D,
+    TEX_SUB_IMAGE_2D,
+    READ_PIXELS,
+    GENERATE_MIPMAP,
+    FRAMEBUFFER_TEXTURE_2D,
+    ENABLE_VERTEX_ATTRIB_ARRAY,
+    DISABLE_VERTEX_ATTRIB_ARRAY,
+    VERTEX_ATTRIB_POINTER,
+    LINK_PROGRAM,
+    GET_PROGRAM,
+    SHADER_SOURCE,
+    COMPILE_SHADER,
+    ATTACH_SHADER,
+    BIND_ATTRIB_LOCATION,
+    GET_UNIFORM_LOCATION,
+    GET_PROGRAM_INFO_LOG,
+    RENDERBUFFER_STORAGE,
+    UNIFORM_1F,
+    UNIFORM_2F,
+    UNIFORM_3F,
+    UNIFORM_4F,
+    UNIFORM_1FV,
+    UNIFORM_1I,
+    UNIFORM_2I,
+    UNIFORM_3I,
+    UNIFORM_4I,
+    UNIFORM_1IV,
+    UNIFORM_MATRIX_3FV,
+    UNIFORM_MATRIX_4FV,
+
+    //!
+    //! Command(s) of Render.GLES3.
+    //!
+    GEN_VERTEX_ARRAYS,
+    DELETE_VERTEX_ARRAYS,
+    BIND_VERTEX_ARRAY,
+    MAP_BUFFER_RANGE,
+    TEX_IMAGE_3D,
+    COMPRESSED_TEX_IMAGE_3D,
+    TEX_SUB_IMAGE_3D,
+    RENDERBUFFER_STORAGE_MULTISAMPLE,
+    UNIFORM_1UI,
+    UNIFORM_2UI,
+    UNIFORM_3UI,
+    UNIFORM_4UI,
+    UNIFORM_1UIV,
+    DRAW_ARRAYS_INSTANCED,
+    DRAW_ELEMENTS_INSTANCED,
+    VERTEX_ATTRIB_DIVISOR,
+    BIND_BUFFER_BASE,
+    GET_UNIFORM_BLOCK_INDEX,
+    UNIFORM_BLOCK_BINDING,
+    FENCE_SYNC,
+    CLIENT_WAIT_SYNC,
+    DELETE_SYNC,
+    TEX_SUB_IMAGE_2D_OFFSET,
+    TEX_SUB_IMAGE_3D_OFFSET,
+    READ_PIXELS_OFFSET,
+    GEN_QUERIES,
+    DELETE_QUERIES,
+    BEGIN_QUERY,
+    END_QUERY,
+    GET_QUERY_OBJECT_I,
+    GET_QUERY_OBJECT_UI64,
+    BEGIN_CONDITIONAL_RENDER,
+    END_CONDITIONAL_RENDER,
+    PROGRAM_PARAMETER_I,
+    GET_PROGRAM_BINARY,
+    PROGRAM_BINARY,
+
+    //!
+    //! Command(s) of Render.GLES32.
+    //!
+    DRAW_ELEMENTS_BASE_VERTEX,
+
+    //!
+    //! Command(s) of Render.GLESExtension.
+    //!
+    BIND_FRAG_DATA_LOCATION,
+    MULTI_DRAW_ELEMENTS,
+    MAX_SHADER_COMPILER_THREADS;
+
+    /**
+     * Represent the magic number at the beginning of every trace ("QKTR").
+     */
+    static final int MAGIC = 0x514B5452;
+
+    /**
+     * Represent the version of the trace format.
+     */
+    static final int VERSION = 4;
+
+    /**
+     * Represent an absent data argument (<code>null</code>).
+     */
+    static final int DATA_NULL = 0;
+
+    /**
+     * Represent a data argument followed by its content.
+     */
+    static final int DATA_COPY = 1;
+
+    /**
+     * Represent a data argument referenced by its hash (its content was written before or wasn't captured).
+     */
+    static final int DATA_HASH = 2;
+
+    /**
+     * Hold every command (indexed by its ordinal).
+     */
+    static final TraceCommand[] VALUES = values();
+}
@@ -0,0 +1,1296 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.trace;
+
+import ar.com.quark.render.Render;
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.array.*;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <code>TraceReplayer</code> encapsulate the replay of a trace (written by {@link TracingGLES32}) into any
+ * {@link Render.GLES32}.
+ * <p>
+ * Every name (texture, buffer, program, etc) written into the trace is translated into the name created by the
+ * implementation being replayed, so the trace can be replayed into a different context (or without a GPU).
+ */
+public final class TraceReplayer implements Disposable {
+    private final Render.GLES32 mGL;
+    private final DataInputStream mInput;
+    private long mFrames;
+    private long mCommands;
+
+    /**
+     * Hold the translation of every name (from the trace into the implementation).
+     */
+    private final Map<Integer, Integer> mTextures = new HashMap<>();
+    private final Map<Integer, Integer> mBuffers = new HashMap<>();
+    private final Map<Integer, Integer> mPrograms = new HashMap<>();
+    private final Map<Integer, Integer> mShaders = new HashMap<>();
+    private final Map<Integer, Integer> mFramebuffers = new HashMap<>();
+    private final Map<Integer, Integer> mRenderbuffers = new HashMap<>();
+    private final Map<Integer, Integer> mVertexArrays = new HashMap<>();
+    private final Map<Integer, Integer> mQueries = new HashMap<>();
+    private final Map<Long, Integer> mUniforms = new HashMap<>();
+    private final Map<Long, Integer> mBlocks = new HashMap<>();
+    private final Map<Long, Long> mSyncs = new HashMap<>();
+
+    /**
+     * Hold the program being used (as written into the trace).
+     */
+    private int mProgram;
+
+    /**
+     * Hold the content of every buffer argument (by hash).
+     */
+    private final Map<Long, byte[]> mContents = new HashMap<>();
+
+    /**
+     * Hold the array of every buffer being mapped (by target).
+     */
+    private final Map<Integer, Array<?>> mMapped = new HashMap<>();
+
+    /**
+     * Hold the array(s) used to forward every buffer argument.
+     */
+    private Int8Array mInt8;
+    private Int32Array mInt32;
+    private UInt32Array mUInt32;
+    private Float32Array mFloat32;
+    private Int8Array mOutput;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param input the input-stream where the trace is read (owned by the caller)
+     * @param gl    the implementation where every call is replayed
+     *
+     * @throws IOException indicates failing reading the header of the trace
+     */
+    public TraceReplayer(InputStream input, Render.GLES32 gl) throws IOException {
+        mGL = gl;
+        mInput = new DataInputStream(new BufferedInputStream(input));
+
+        if (mInput.readInt() != TraceCommand.MAGIC) {
+            throw new IOException("The stream is not a trace");
+        }
+        if (mInput.readUnsignedShort() != TraceCommand.VERSION) {
+            throw new IOException("The version of the trace is not supported");
+        }
+        mInput.readBoolean();
+    }
+
+    /**
+     * <p>Get the number of frame(s) replayed</p>
+     *
+     * @return the number of frame(s) replayed
+     */
+    public long getFrames() {
+        return mFrames;
+    }
+
+    /**
+     * <p>Get the number of command(s) replayed</p>
+     *
+     * @return the number of command(s) replayed
+     */
+    public long getCommands() {
+        return mCommands;
+    }
+
+    /**
+     * <p>Replay every command of the trace</p>
+     *
+     * @throws IOException indicates failing reading the trace
+     */
+    public void replay() throws IOException {
+        while (replayFrame()) {
+            //!
+            //! NOTE: Replay until the end of the trace.
+            //!
+        }
+    }
+
+    /**
+     * <p>Replay every command of the next frame of the trace</p>
+     * <p>
+     * NOTE: This method must be called from the thread that own the context of the implementation.
+     *
+     * @return <code>true</code> if any command was replayed, <code>false</code> if the trace ended
+     *
+     * @throws IOException indicates failing reading the trace
+     */
+    public boolean replayFrame() throws IOException {
+        boolean replayed = false;
+
+        for (int id; (id = mInput.read()) != -1; ) {
+            if (id >= TraceCommand.VALUES.length) {
+                throw new IOException("Unknown command " + id + " in the trace");
+            }
+            final TraceCommand command = TraceCommand.VALUES[id];
+
+            if (command == TraceCommand.FRAME) {
+                mFrames++;
+                return true;
+            }
+            onReplay(command);
+
+            mCommands++;
+            replayed = true;
+        }
+        return replayed;
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        mInt8 = ArrayFactory.free(mInt8);
+        mInt32 = ArrayFactory.free(mInt32);
+        mUInt32 = ArrayFactory.free(mUInt32);
+        mFloat32 = ArrayFactory.free(mFloat32);
+        mOutput = ArrayFactory.free(mOutput);
+
+        mContents.clear();
+        mMapped.clear();
+    }
+
+    /**
+     * <p>Replay a command of the trace</p>
+     */
+    private void onReplay(TraceCommand command) throws IOException {
+        switch (command) {
+            case ENABLE: {
+                final int value = mInput.readInt();
+
+                mGL.glEnable(value);
+            }
+            break;
+            case DISABLE: {
+                final int value = mInput.readInt();
+
+                mGL.glDisable(value);
+            }
+            break;
+            case BLEND_FUNC: {
+                final int source = mInput.readInt();
+                final int destination = mInput.readInt();
+
+                mGL.glBlendFunc(source, destination);
+            }
+            break;
+            case BLEND_EQUATION_SEPARATE: {
+                final int rgb = mInput.readInt();
+                final int alpha = mInput.readInt();
+
+                mGL.glBlendEquationSeparate(rgb, alpha);
+            }
+            break;
+            case CULL_FACE: {
+                final int mode = mInput.readInt();
+
+                mGL.glCullFace(mode);
+            }
+            break;
+            case DEPTH_MASK: {
+                final boolean activate = mInput.readBoolean();
+
+                mGL.glDepthMask(activate);
+            }
+            break;
+            case DEPTH_RANGE: {
+                final float near = mInput.readFloat();
+                final float far = mInput.readFloat();
+
+                mGL.glDepthRange(near, far);
+            }
+            break;
+            case DEPTH_FUNC: {
+                final int mode = mInput.readInt();
+
+                mGL.glDepthFunc(mode);
+            }
+            break;
+            case COLOR_MASK: {
+                final boolean red = mInput.readBoolean();
+                final boolean green = mInput.readBoolean();
+                final boolean blue = mInput.readBoolean();
+                final boolean alpha = mInput.readBoolean();
+
+                mGL.glColorMask(red, green, blue, alpha);
+            }
+            break;
+            case SCISSOR: {
+                final int x1 = mInput.readInt();
+                final int y1 = mInput.readInt();
+                final int x2 = mInput.readInt();
+                final int y2 = mInput.readInt();
+
+                mGL.glScissor(x1, y1, x2, y2);
+            }
+            break;
+            case STENCIL_OP_SEPARATE: {
+                final int face = mInput.readInt();
+                final int stencilFail = mInput.readInt();
+                final int depthFail = mInput.readInt();
+                final int depthPass = mInput.readInt();
+
+                mGL.glStencilOpSeparate(face, stencilFail, depthFail, depthPass);
+            }
+            break;
+            case STENCIL_FUNC_SEPARATE: {
+                final int face = mInput.readInt();
+                final int func = mInput.readInt();
+                final int ref = mInput.readInt();
+                final int mask = mInput.readInt();
+
+                mGL.glStencilFuncSeparate(face, func, ref, mask);
+            }
+            break;
+            case CLEAR: {
+                final int value = mInput.readInt();
+
+                mGL.glClear(value);
+            }
+            break;
+            case CLEAR_COLOR: {
+                final float red = mInput.readFloat();
+                final float green = mInput.readFloat();
+                final float blue = mInput.readFloat();
+                final float alpha = mInput.readFloat();
+
+                mGL.glClearColor(red, green, blue, alpha);
+            }
+            break;
+            case VIEWPORT: {
+                final int x = mInput.readInt();
+                final int y = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+
+                mGL.glViewport(x, y, width, height);
+            }
+            break;
+            case GEN_TEXTURES: {
+                mTextures.put(mInput.readInt(), mGL.glGenTextures());
+            }
+            break;
+            case GEN_BUFFERS: {
+                mBuffers.put(mInput.readInt(), mGL.glGenBuffers());
+            }
+            break;
+            case CREATE_PROGRAM: {
+                mPrograms.put(mInput.readInt(), mGL.glCreateProgram());
+            }
+            break;
+            case CREATE_SHADER: {
+                final int type = mInput.readInt();
+
+                mShaders.put(mInput.readInt(), mGL.glCreateShader(type));
+            }
+            break;
+            case GEN_FRAMEBUFFERS: {
+                mFramebuffers.put(mInput.readInt(), mGL.glGenFramebuffers());
+            }
+            break;
+            case GEN_RENDERBUFFERS: {
+                mRenderbuffers.put(mInput.readInt(), mGL.glGenRenderbuffers());
+            }
+            break;
+            case DELETE_TEXTURES: {
+                final int name = mInput.readInt();
+
+                mGL.glDeleteTextures(onName(mTextures, name));
+
+                mTextures.remove(name);
+            }
+            break;
+            case DELETE_BUFFERS: {
+                final int name = mInput.readInt();
+
+                mGL.glDeleteBuffers(onName(mBuffers, name));
+
+                mBuffers.remove(name);
+            }
+            break;
+            case DELETE_TEXTURES_ARRAY: {
+                final Int32Array names = onReadNames(mTextures);
+
+                mGL.glDeleteTextures(names);
+
+                ArrayFactory.free(names);
+            }
+            break;
+            case DELETE_BUFFERS_ARRAY: {
+                final Int32Array names = onReadNames(mBuffers);
+
+                mGL.glDeleteBuffers(names);
+
+                ArrayFactory.free(names);
+            }
+            break;
+            case DELETE_PROGRAM: {
+                final int name = mInput.readInt();
+
+                mGL.glDeleteProgram(onName(mPrograms, name));
+
+                mPrograms.remove(name);
+            }
+            break;
+            case DELETE_FRAMEBUFFERS: {
+                final int name = mInput.readInt();
+
+                mGL.glDeleteFramebuffers(onName(mFramebuffers, name));
+
+                mFramebuffers.remove(name);
+            }
+            break;
+            case DELETE_RENDERBUFFERS: {
+                final int name = mInput.readInt();
+
+                mGL.glDeleteRenderbuffers(onName(mRenderbuffers, name));
+
+                mRenderbuffers.remove(name);
+            }
+            break;
+            case DELETE_SHADER: {
+                final int name = mInput.readInt();
+
+                mGL.glDeleteShader(onName(mShaders, name));
+
+                mShaders.remove(name);
+            }
+            break;
+            case ACTIVE_TEXTURE: {
+                final int stage = mInput.readInt();
+
+                mGL.glActiveTexture(stage);
+            }
+            break;
+            case BIND_TEXTURE: {
+                final int target = mInput.readInt();
+                final int name = onName(mTextures, mInput.readInt());
+
+                mGL.glBindTexture(target, name);
+            }
+            break;
+            case BIND_BUFFER: {
+                final int target = mInput.readInt();
+                final int name = onName(mBuffers, mInput.readInt());
+
+                mGL.glBindBuffer(target, name);
+            }
+            break;
+            case USE_PROGRAM: {
+                mProgram = mInput.readInt();
+
+                mGL.glUseProgram(onName(mPrograms, mProgram));
+            }
+            break;
+            case BIND_FRAMEBUFFER: {
+                final int type = mInput.readInt();
+                final int name = onName(mFramebuffers, mInput.readInt());
+
+                mGL.glBindFramebuffer(type, name);
+            }
+            break;
+            case BIND_RENDERBUFFER: {
+                final int type = mInput.readInt();
+                final int name = onName(mRenderbuffers, mInput.readInt());
+
+                mGL.glBindRenderbuffer(type, name);
+            }
+            break;
+            case DRAW_ARRAYS: {
+                final int primitive = mInput.readInt();
+                final int offset = mInput.readInt();
+                final int count = mInput.readInt();
+
+                mGL.glDrawArrays(primitive, offset, count);
+            }
+            break;
+            case DRAW_ELEMENTS: {
+                final int primitive = mInput.readInt();
+                final int count = mInput.readInt();
+                final int format = mInput.readInt();
+                final int offset = mInput.readInt();
+
+                mGL.glDrawElements(primitive, count, format, offset);
+            }
+            break;
+            case BUFFER_DATA_CAPACITY: {
+                final int target = mInput.readInt();
+                final int capacity = mInput.readInt();
+                final int usage = mInput.readInt();
+
+                mGL.glBufferData(target, capacity, usage);
+            }
+            break;
+            case BUFFER_DATA: {
+                final int target = mInput.readInt();
+                final Int8Array data = onInt8(onReadContent());
+                final int usage = mInput.readInt();
+
+                mGL.glBufferData(target, data, usage);
+            }
+            break;
+            case BUFFER_SUB_DATA: {
+                final int target = mInput.readInt();
+                final int offset = mInput.readInt();
+                final Int8Array data = onInt8(onReadContent());
+
+                mGL.glBufferSubData(target, offset, data);
+            }
+            break;
+            case UNMAP_BUFFER: {
+                final int target = mInput.readInt();
+
+                onWriteMapped(mMapped.remove(target), onReadContent());
+                mGL.glUnmapBuffer(target);
+            }
+            break;
+            case MAP_BUFFER: {
+                final int target = mInput.readInt();
+                final int access = mInput.readInt();
+                final int format = mInput.readInt();
+
+                mMapped.put(target, mGL.glMapBuffer(target, access, format));
+            }
+            break;
+            case TEX_PARAMETER_INT: {
+                final int target = mInput.readInt();
+                final int type = mInput.readInt();
+                final int value = mInput.readInt();
+
+                mGL.glTexParameter(target, type, value);
+            }
+            break;
+            case TEX_PARAMETER_FLOAT: {
+                final int target = mInput.readInt();
+                final int type = mInput.readInt();
+                final float value = mInput.readFloat();
+
+                mGL.glTexParameter(target, type, value);
+            }
+            break;
+            case TEX_IMAGE_2D: {
+                final int target = mInput.readInt();
+                final int level = mInput.readInt();
+                final int internal = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int border = mInput.readInt();
+                final int format = mInput.readInt();
+                final int type = mInput.readInt();
+                final Int8Array data = onInt8(onReadContent());
+
+                mGL.glTexImage2D(target, level, internal, width, height, border, format, type, data);
+            }
+            break;
+            case COMPRESSED_TEX_IMAGE_2D: {
+                final int target = mInput.readInt();
+                final int level = mInput.readInt();
+                final int internal = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int border = mInput.readInt();
+                final Int8Array data = onInt8(onReadContent());
+
+                mGL.glCompressedTexImage2D(target, level, internal, width, height, border, data);
+            }
+            break;
+            case TEX_SUB_IMAGE_2D: {
+                final int target = mInput.readInt();
+                final int level = mInput.readInt();
+                final int x = mInput.readInt();
+                final int y = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int format = mInput.readInt();
+                final int type = mInput.readInt();
+                final Int8Array data = onInt8(onReadContent());
+
+                mGL.glTexSubImage2D(target, level, x, y, width, height, format, type, data);
+            }
+            break;
+            case READ_PIXELS: {
+                final int x = mInput.readInt();
+                final int y = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int format = mInput.readInt();
+                final int type = mInput.readInt();
+                final Int8Array data = onOutput(mInput.readInt());
+
+                mGL.glReadPixels(x, y, width, height, format, type, data);
+            }
+            break;
+            case GENERATE_MIPMAP: {
+                final int target = mInput.readInt();
+
+                mGL.glGenerateMipmap(target);
+            }
+            break;
+            case FRAMEBUFFER_TEXTURE_2D: {
+                final int target = mInput.readInt();
+                final int attachment = mInput.readInt();
+                final int texture = mInput.readInt();
+                final int name = onName(mTextures, mInput.readInt());
+                final int level = mInput.readInt();
+
+                mGL.glFramebufferTexture2D(target, attachment, texture, name, level);
+            }
+            break;
+            case ENABLE_VERTEX_ATTRIB_ARRAY: {
+                final int name = mInput.readInt();
+
+                mGL.glEnableVertexAttribArray(name);
+            }
+            break;
+            case DISABLE_VERTEX_ATTRIB_ARRAY: {
+                final int name = mInput.readInt();
+
+                mGL.glDisableVertexAttribArray(name);
+            }
+            break;
+            case VERTEX_ATTRIB_POINTER: {
+                final int name = mInput.readInt();
+                final int component = mInput.readInt();
+                final int type = mInput.readInt();
+                final boolean normalised = mInput.readBoolean();
+                final int stride = mInput.readInt();
+                final int offset = mInput.readInt();
+
+                mGL.glVertexAttribPointer(name, component, type, normalised, stride, offset);
+            }
+            break;
+            case LINK_PROGRAM: {
+                final int name = onName(mPrograms, mInput.readInt());
+
+                mGL.glLinkProgram(name);
+            }
+            break;
+            case GET_PROGRAM: {
+                final int name = onName(mPrograms, mInput.readInt());
+                final int property = mInput.readInt();
+
+                mGL.glGetProgram(name, property);
+            }
+            break;
+            case SHADER_SOURCE: {
+                final int name = onName(mShaders, mInput.readInt());
+                final String source = onReadString();
+
+                mGL.glShaderSource(name, source);
+            }
+            break;
+            case COMPILE_SHADER: {
+                final int name = onName(mShaders, mInput.readInt());
+
+                mGL.glCompileShader(name);
+            }
+            break;
+            case ATTACH_SHADER: {
+                final int name = onName(mPrograms, mInput.readInt());
+                final int shader = onName(mShaders, mInput.readInt());
+
+                mGL.glAttachShader(name, shader);
+            }
+            break;
+            case BIND_ATTRIB_LOCATION: {
+                final int name = onName(mPrograms, mInput.readInt());
+                final int id = mInput.readInt();
+                final String attribute = onReadString();
+
+                mGL.glBindAttribLocation(name, id, attribute);
+            }
+            break;
+            case GET_UNIFORM_LOCATION: {
+                final int program = mInput.readInt();
+                final String uniform = onReadString();
+                final int location = mInput.readInt();
+
+                mUniforms.put(getKey(program, location), mGL.glGetUniformLocation(onName(mPrograms, program), uniform));
+            }
+            break;
+            case GET_PROGRAM_INFO_LOG: {
+                final int name = onName(mPrograms, mInput.readInt());
+
+                mGL.glGetProgramInfoLog(name);
+            }
+            break;
+            case RENDERBUFFER_STORAGE: {
+                final int target = mInput.readInt();
+                final int format = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+
+                mGL.glRenderbufferStorage(target, format, width, height);
+            }
+            break;
+            case UNIFORM_1F: {
+                final int name = onUniform(mInput.readInt());
+                final float i1 = mInput.readFloat();
+
+                mGL.glUniform1f(name, i1);
+            }
+            break;
+            case UNIFORM_2F: {
+                final int name = onUniform(mInput.readInt());
+                final float i1 = mInput.readFloat();
+                final float i2 = mInput.readFloat();
+
+                mGL.glUniform2f(name, i1, i2);
+            }
+            break;
+            case UNIFORM_3F: {
+                final int name = onUniform(mInput.readInt());
+                final float i1 = mInput.readFloat();
+                final float i2 = mInput.readFloat();
+                final float i3 = mInput.readFloat();
+
+                mGL.glUniform3f(name, i1, i2, i3);
+            }
+            break;
+            case UNIFORM_4F: {
+                final int name = onUniform(mInput.readInt());
+                final float i1 = mInput.readFloat();
+                final float i2 = mInput.readFloat();
+                final float i3 = mInput.readFloat();
+                final float i4 = mInput.readFloat();
+
+                mGL.glUniform4f(name, i1, i2, i3, i4);
+            }
+            break;
+            case UNIFORM_1FV: {
+                final int name = onUniform(mInput.readInt());
+                final Float32Array buffer = onFloat32(onReadContent());
+
+                mGL.glUniform1fv(name, buffer);
+            }
+            break;
+            case UNIFORM_1I: {
+                final int name = onUniform(mInput.readInt());
+                final int i1 = mInput.readInt();
+
+                mGL.glUniform1i(name, i1);
+            }
+            break;
+            case UNIFORM_2I: {
+                final int name = onUniform(mInput.readInt());
+                final int i1 = mInput.readInt();
+                final int i2 = mInput.readInt();
+
+                mGL.glUniform2i(name, i1, i2);
+            }
+            break;
+            case UNIFORM_3I: {
+                final int name = onUniform(mInput.readInt());
+                final int i1 = mInput.readInt();
+                final int i2 = mInput.readInt();
+                final int i3 = mInput.readInt();
+
+                mGL.glUniform3i(name, i1, i2, i3);
+            }
+            break;
+            case UNIFORM_4I: {
+                final int name = onUniform(mInput.readInt());
+                final int i1 = mInput.readInt();
+                final int i2 = mInput.readInt();
+                final int i3 = mInput.readInt();
+                final int i4 = mInput.readInt();
+
+                mGL.glUniform4i(name, i1, i2, i3, i4);
+            }
+            break;
+            case UNIFORM_1IV: {
+                final int name = onUniform(mInput.readInt());
+                final Int32Array buffer = onInt32(onReadContent());
+
+                mGL.glUniform1iv(name, buffer);
+            }
+            break;
+            case UNIFORM_MATRIX_3FV: {
+                final int name = onUniform(mInput.readInt());
+                final boolean transpose = mInput.readBoolean();
+                final Float32Array buffer = onFloat32(onReadContent());
+
+                mGL.glUniformMatrix3fv(name, transpose, buffer);
+            }
+            break;
+            case UNIFORM_MATRIX_4FV: {
+                final int name = onUniform(mInput.readInt());
+                final boolean transpose = mInput.readBoolean();
+                final Float32Array buffer = onFloat32(onReadContent());
+
+                mGL.glUniformMatrix4fv(name, transpose, buffer);
+            }
+            break;
+            case GEN_VERTEX_ARRAYS: {
+                mVertexArrays.put(mInput.readInt(), mGL.glGenVertexArrays());
+            }
+            break;
+            case DELETE_VERTEX_ARRAYS: {
+                final int name = mInput.readInt();
+
+                mGL.glDeleteVertexArrays(onName(mVertexArrays, name));
+
+                mVertexArrays.remove(name);
+            }
+            break;
+            case BIND_VERTEX_ARRAY: {
+                final int name = onName(mVertexArrays, mInput.readInt());
+
+                mGL.glBindVertexArray(name);
+            }
+            break;
+            case MAP_BUFFER_RANGE: {
+                final int target = mInput.readInt();
+                final int offset = mInput.readInt();
+                final int size = mInput.readInt();
+                final int access = mInput.readInt();
+                final int format = mInput.readInt();
+
+                mMapped.put(target, mGL.glMapBufferRange(target, offset, size, access, format));
+            }
+            break;
+            case TEX_IMAGE_3D: {
+                final int target = mInput.readInt();
+                final int level = mInput.readInt();
+                final int internal = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int depth = mInput.readInt();
+                final int border = mInput.readInt();
+                final int format = mInput.readInt();
+                final int type = mInput.readInt();
+                final Int8Array data = onInt8(onReadContent());
+
+                mGL.glTexImage3D(target, level, internal, width, height, depth, border, format, type, data);
+            }
+            break;
+            case COMPRESSED_TEX_IMAGE_3D: {
+                final int target = mInput.readInt();
+                final int level = mInput.readInt();
+                final int internal = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int depth = mInput.readInt();
+                final int border = mInput.readInt();
+                final Int8Array data = onInt8(onReadContent());
+
+                mGL.glCompressedTexImage3D(target, level, internal, width, height, depth, border, data);
+            }
+            break;
+            case TEX_SUB_IMAGE_3D: {
+                final int target = mInput.readInt();
+                final int level = mInput.readInt();
+                final int x = mInput.readInt();
+                final int y = mInput.readInt();
+                final int z = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int depth = mInput.readInt();
+                final int format = mInput.readInt();
+                final int type = mInput.readInt();
+                final Int8Array data = onInt8(onReadContent());
+
+                mGL.glTexSubImage3D(target, level, x, y, z, width, height, depth, format, type, data);
+            }
+            break;
+            case RENDERBUFFER_STORAGE_MULTISAMPLE: {
+                final int target = mInput.readInt();
+                final int samples = mInput.readInt();
+                final int format = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+
+                mGL.glRenderbufferStorageMultisample(target, samples, format, width, height);
+            }
+            break;
+            case UNIFORM_1UI: {
+                final int name = onUniform(mInput.readInt());
+                final int i1 = mInput.readInt();
+
+                mGL.glUniform1ui(name, i1);
+            }
+            break;
+            case UNIFORM_2UI: {
+                final int name = onUniform(mInput.readInt());
+                final int i1 = mInput.readInt();
+                final int i2 = mInput.readInt();
+
+                mGL.glUniform2ui(name, i1, i2);
+            }
+            break;
+            case UNIFORM_3UI: {
+                final int name = onUniform(mInput.readInt());
+                final int i1 = mInput.readInt();
+                final int i2 = mInput.readInt();
+                final int i3 = mInput.readInt();
+
+                mGL.glUniform3ui(name, i1, i2, i3);
+            }
+            break;
+            case UNIFORM_4UI: {
+                final int name = onUniform(mInput.readInt());
+                final int i1 = mInput.readInt();
+                final int i2 = mInput.readInt();
+                final int i3 = mInput.readInt();
+                final int i4 = mInput.readInt();
+
+                mGL.glUniform4ui(name, i1, i2, i3, i4);
+            }
+            break;
+            case UNIFORM_1UIV: {
+                final int name = onUniform(mInput.readInt());
+                final UInt32Array buffer = onUInt32(onReadContent());
+
+                mGL.glUniform1uiv(name, buffer);
+            }
+            break;
+            case DRAW_ARRAYS_INSTANCED: {
+                final int primitive = mInput.readInt();
+                final int offset = mInput.readInt();
+                final int count = mInput.readInt();
+                final int instances = mInput.readInt();
+
+                mGL.glDrawArraysInstanced(primitive, offset, count, instances);
+            }
+            break;
+            case DRAW_ELEMENTS_INSTANCED: {
+                final int primitive = mInput.readInt();
+                final int count = mInput.readInt();
+                final int format = mInput.readInt();
+                final int offset = mInput.readInt();
+                final int instances = mInput.readInt();
+
+                mGL.glDrawElementsInstanced(primitive, count, format, offset, instances);
+            }
+            break;
+            case VERTEX_ATTRIB_DIVISOR: {
+                final int name = mInput.readInt();
+                final int divisor = mInput.readInt();
+
+                mGL.glVertexAttribDivisor(name, divisor);
+            }
+            break;
+            case BIND_BUFFER_BASE: {
+                final int target = mInput.readInt();
+                final int index = mInput.readInt();
+                final int name = onName(mBuffers, mInput.readInt());
+
+                mGL.glBindBufferBase(target, index, name);
+            }
+            break;
+            case GET_UNIFORM_BLOCK_INDEX: {
+                final int program = mInput.readInt();
+                final String block = onReadString();
+                final int index = mInput.readInt();
+
+                mBlocks.put(getKey(program, index), mGL.glGetUniformBlockIndex(onName(mPrograms, program), block));
+            }
+            break;
+            case UNIFORM_BLOCK_BINDING: {
+                final int program = mInput.readInt();
+                final int block = onBlock(program, mInput.readInt());
+                final int binding = mInput.readInt();
+
+                mGL.glUniformBlockBinding(onName(mPrograms, program), block, binding);
+            }
+            break;
+            case FENCE_SYNC: {
+                final int condition = mInput.readInt();
+                final int flags = mInput.readInt();
+
+                mSyncs.put(mInput.readLong(), mGL.glFenceSync(condition, flags));
+            }
+            break;
+            case CLIENT_WAIT_SYNC: {
+                final long sync = onSync(mInput.readLong());
+                final int flags = mInput.readInt();
+                final long timeout = mInput.readLong();
+
+                mGL.glClientWaitSync(sync, flags, timeout);
+            }
+            break;
+            case DELETE_SYNC: {
+                final long sync = mInput.readLong();
+
+                mGL.glDeleteSync(onSync(sync));
+
+                mSyncs.remove(sync);
+            }
+            break;
+            case TEX_SUB_IMAGE_2D_OFFSET: {
+                final int target = mInput.readInt();
+                final int level = mInput.readInt();
+                final int x = mInput.readInt();
+                final int y = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int format = mInput.readInt();
+                final int type = mInput.readInt();
+                final long offset = mInput.readLong();
+
+                mGL.glTexSubImage2D(target, level, x, y, width, height, format, type, offset);
+            }
+            break;
+            case TEX_SUB_IMAGE_3D_OFFSET: {
+                final int target = mInput.readInt();
+                final int level = mInput.readInt();
+                final int x = mInput.readInt();
+                final int y = mInput.readInt();
+                final int z = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int depth = mInput.readInt();
+                final int format = mInput.readInt();
+                final int type = mInput.readInt();
+                final long offset = mInput.readLong();
+
+                mGL.glTexSubImage3D(target, level, x, y, z, width, height, depth, format, type, offset);
+            }
+            break;
+            case READ_PIXELS_OFFSET: {
+                final int x = mInput.readInt();
+                final int y = mInput.readInt();
+                final int width = mInput.readInt();
+                final int height = mInput.readInt();
+                final int format = mInput.readInt();
+                final int type = mInput.readInt();
+                final long offset = mInput.readLong();
+
+                mGL.glReadPixels(x, y, width, height, format, type, offset);
+            }
+            break;
+            case GEN_QUERIES: {
+                mQueries.put(mInput.readInt(), mGL.glGenQueries());
+            }
+            break;
+            case DELETE_QUERIES: {
+                final int name = mInput.readInt();
+
+                mGL.glDeleteQueries(onName(mQueries, name));
+
+                mQueries.remove(name);
+            }
+            break;
+            case BEGIN_QUERY: {
+                final int target = mInput.readInt();
+                final int name = onName(mQueries, mInput.readInt());
+
+                mGL.glBeginQuery(target, name);
+            }
+            break;
+            case END_QUERY: {
+                final int target = mInput.readInt();
+
+                mGL.glEndQuery(target);
+            }
+            break;
+            case GET_QUERY_OBJECT_I: {
+                final int name = onName(mQueries, mInput.readInt());
+                final int parameter = mInput.readInt();
+
+                mGL.glGetQueryObjecti(name, parameter);
+            }
+            break;
+            case GET_QUERY_OBJECT_UI64: {
+                final int name = onName(mQueries, mInput.readInt());
+                final int parameter = mInput.readInt();
+
+                mGL.glGetQueryObjectui64(name, parameter);
+            }
+            break;
+            case BEGIN_CONDITIONAL_RENDER: {
+                final int name = onName(mQueries, mInput.readInt());
+                final int mode = mInput.readInt();
+
+                mGL.glBeginConditionalRender(name, mode);
+            }
+            break;
+            case END_CONDITIONAL_RENDER: {
+                mGL.glEndConditionalRender();
+            }
+            break;
+            case PROGRAM_PARAMETER_I: {
+                final int name = onName(mPrograms, mInput.readInt());
+                final int property = mInput.readInt();
+                final int value = mInput.readInt();
+
+                mGL.glProgramParameteri(name, property, value);
+            }
+            break;
+            case GET_PROGRAM_BINARY: {
+                final int name = onName(mPrograms, mInput.readInt());
+                final int length = mInput.readInt();
+
+                mGL.glGetProgramBinary(name, onInt8(new byte[length]));
+            }
+            break;
+            case PROGRAM_BINARY: {
+                final int name = onName(mPrograms, mInput.readInt());
+                final int format = mInput.readInt();
+                final Int8Array binary = onInt8(onReadContent());
+
+                //!
+                //! NOTE: A binary is only accepted by the same driver (and version) that has been traced.
+                //!
+                mGL.glProgramBinary(name, format, binary);
+            }
+            break;
+            case DRAW_ELEMENTS_BASE_VERTEX: {
+                final int primitive = mInput.readInt();
+                final int count = mInput.readInt();
+                final int format = mInput.readInt();
+                final int offset = mInput.readInt();
+                final int base = mInput.readInt();
+
+                mGL.glDrawElementsBaseVertex(primitive, count, format, offset, base);
+            }
+            break;
+            case BIND_FRAG_DATA_LOCATION: {
+                final int name = onName(mPrograms, mInput.readInt());
+                final int index = mInput.readInt();
+                final String attribute = onReadString();
+
+                mGL.glBindFragDataLocation(name, index, attribute);
+            }
+            break;
+            case MULTI_DRAW_ELEMENTS: {
+                final int primitive = mInput.readInt();
+                final int format = mInput.readInt();
+                final int length = mInput.readInt();
+
+                final Int32Array count = ArrayFactory.allocateInt32Array(length);
+                final Int32Array offset = ArrayFactory.allocateInt32Array(length);
+
+                for (int i = 0; i < length; ++i) {
+                    count.writeInt32(mInput.readInt());
+                    offset.writeInt32(mInput.readInt());
+                }
+                mGL.glMultiDrawElements(primitive, count.flip(), format, offset.flip());
+
+                ArrayFactory.free(count);
+                ArrayFactory.free(offset);
+            }
+            break;
+            case MAX_SHADER_COMPILER_THREADS: {
+                final int count = mInput.readInt();
+
+                mGL.glMaxShaderCompilerThreads(count);
+            }
+            break;
+        }
+    }
+
+    /**
+     * <p>Read (and translate) an array of name(s) written into the trace</p>
+     */
+    private Int32Array onReadNames(Map<Integer, Integer> names) throws IOException {
+        final int length = mInput.readInt();
+        final Int32Array array = ArrayFactory.allocateInt32Array(Math.max(1, length));
+
+        for (int i = 0; i < length; ++i) {
+            final int name = mInput.readInt();
+
+            array.writeInt32(onName(names, name));
+
+            names.remove(name);
+        }
+        return array.flip();
+    }
+
+    /**
+     * <p>Translate a name written into the trace</p>
+     */
+    private int onName(Map<Integer, Integer> names, int name) {
+        final Integer value = names.get(name);
+        return value != null ? value : name;
+    }
+
+    /**
+     * <p>Translate a uniform location (of the program being used) written into the trace</p>
+     */
+    private int onUniform(int location) {
+        final Integer value = (location >= 0 ? mUniforms.get(getKey(mProgram, location)) : null);
+        return value != null ? value : location;
+    }
+
+    /**
+     * <p>Translate a uniform block index (of the given program) written into the trace</p>
+     */
+    private int onBlock(int program, int index) {
+        final Integer value = mBlocks.get(getKey(program, index));
+        return value != null ? value : index;
+    }
+
+    /**
+     * <p>Translate a sync object written into the trace</p>
+     */
+    private long onSync(long sync) {
+        final Long value = mSyncs.get(sync);
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * <p>Read a string argument from the trace</p>
+     */
+    private String onReadString() throws IOException {
+        final byte[] bytes = new byte[mInput.readInt()];
+
+        mInput.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * <p>Read a buffer argument from the trace</p>
+     * <p>
+     * NOTE: A content that was never written (only its hash) is replayed as zeroed content of the same length.
+     */
+    private byte[] onReadContent() throws IOException {
+        final int type = mInput.readUnsignedByte();
+
+        if (type == TraceCommand.DATA_NULL) {
+            return null;
+        }
+        final long hash = mInput.readLong();
+        final int length = mInput.readInt();
+
+        byte[] content = mContents.get(hash);
+
+        if (type == TraceCommand.DATA_COPY) {
+            content = new byte[length];
+
+            mInput.readFully(content);
+
+            mContents.put(hash, content);
+        } else if (content == null || content.length != length) {
+            mContents.put(hash, content = new byte[length]);
+        }
+        return content;
+    }
+
+    /**
+     * <p>Write the content of a mapped buffer (written into the trace) into the mapped array</p>
+     */
+    private void onWriteMapped(Array<?> data, byte[] content) {
+        if (data != null && content != null) {
+            data.clear();
+            data.writeInt8(content, 0, Math.min(content.length, data.capacity()));
+            data.clear();
+        }
+    }
+
+    /**
+     * <p>Forward a buffer argument as {@link Int8Array}</p>
+     */
+    private Int8Array onInt8(byte[] content) {
+        if (content == null) {
+            return null;
+        }
+        if (mInt8 == null || mInt8.capacity() < content.length) {
+            ArrayFactory.free(mInt8);
+
+            mInt8 = ArrayFactory.allocateInt8Array(content.length);
+        }
+        mInt8.clear();
+        return mInt8.writeInt8(content).flip();
+    }
+
+    /**
+     * <p>Forward a buffer argument as {@link Int32Array}</p>
+     */
+    private Int32Array onInt32(byte[] content) {
+        if (content == null) {
+            return null;
+        }
+        if (mInt32 == null || mInt32.capacity() < content.length) {
+            ArrayFactory.free(mInt32);
+
+            mInt32 = ArrayFactory.allocateInt32Array((content.length + 3) / 4);
+        }
+        mInt32.clear();
+        return mInt32.writeInt8(content).flip();
+    }
+
+    /**
+     * <p>Forward a buffer argument as {@link UInt32Array}</p>
+     */
+    private UInt32Array onUInt32(byte[] content) {
+        if (content == null) {
+            return null;
+        }
+        if (mUInt32 == null || mUInt32.capacity() < content.length) {
+            ArrayFactory.free(mUInt32);
+
+            mUInt32 = ArrayFactory.allocateUInt32Array((content.length + 3) / 4);
+        }
+        mUInt32.clear();
+        return mUInt32.writeInt8(content).flip();
+    }
+
+    /**
+     * <p>Forward a buffer argument as {@link Float32Array}</p>
+     */
+    private Float32Array onFloat32(byte[] content) {
+        if (content == null) {
+            return null;
+        }
+        if (mFloat32 == null || mFloat32.capacity() < content.length) {
+            ArrayFactory.free(mFloat32);
+
+            mFloat32 = ArrayFactory.allocateFloat32Array((content.length + 3) / 4);
+        }
+        mFloat32.clear();
+        return mFloat32.writeInt8(content).flip();
+    }
+
+    /**
+     * <p>Get an array where the implementation can write the given number of byte(s)</p>
+     */
+    private Int8Array onOutput(int length) {
+        if (length == 0) {
+            return null;
+        }
+        if (mOutput == null || mOutput.capacity() < length) {
+            ArrayFactory.free(mOutput);
+
+            mOutput = ArrayFactory.allocateInt8Array(length);
+        }
+        mOutput.clear();
+        return mOutput.limit(length);
+    }
+
+    /**
+     * <p>Get the key of a name that belong to a program</p>
+     */
+    private static long getKey(int program, int name) {
+        return ((long) program << 32) | (name & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,2009 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.trace;
+
+import ar.com.quark.render.Render;
+import ar.com.quark.render.RenderCapabilities;
+import ar.com.quark.system.utility.array.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <code>TracingGLES32</code> encapsulate a {@link Render.GLES32} that write every call (and its argument(s)) into a
+ * binary trace before forwarding it.
+ * <p>
+ * The content of every buffer argument is identified by its hash, and only written the first time it's seen when
+ * the trace copy the content (otherwise the replay use zeroed content of the same length). The trace can be fed
+ * into any {@link Render.GLES32} through {@link TraceReplayer}.
+ * <p>
+ * NOTE: If the trace fail to be written the error is logged and the tracing stop (every call is still forwarded).
+ */
+public final class TracingGLES32 implements Render.GLES32 {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>TracingGLES32</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(TracingGLES32.class);
+
+    private final Render.GLES32 mGL;
+    private final boolean mCopy;
+    private DataOutputStream mOutput;
+
+    /**
+     * Hold the hash of every content written into the trace.
+     */
+    private final Set<Long> mContents = new HashSet<>();
+
+    /**
+     * Hold the array of every buffer being mapped (by target).
+     */
+    private final Map<Integer, Array<?>> mMapped = new HashMap<>();
+
+    /**
+     * Hold the array used to read the content of every buffer argument.
+     */
+    private byte[] mScratch = new byte[4096];
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param gl     the implementation where every call is forwarded
+     * @param output the output-stream where the trace is written (owned by the caller)
+     * @param copy   <code>true</code> to write the content of every buffer, <code>false</code> to write only its hash
+     *
+     * @throws IOException indicates failing writing the header of the trace
+     */
+    public TracingGLES32(Render.GLES32 gl, OutputStream output, boolean copy) throws IOException {
+        mGL = gl;
+        mCopy = copy;
+        mOutput = new DataOutputStream(new BufferedOutputStream(output));
+        mOutput.writeInt(TraceCommand.MAGIC);
+        mOutput.writeShort(TraceCommand.VERSION);
+        mOutput.writeBoolean(copy);
+    }
+
+    /**
+     * <p>Check if the trace is being written</p>
+     *
+     * @return <code>true</code> if the trace is being written, <code>false</code> if it failed
+     */
+    public boolean isTracing() {
+        return mOutput != null;
+    }
+
+    /**
+     * <p>Mark the end of a frame and flush the trace</p>
+     * <p>
+     * NOTE: This method must be called from the render thread (once per frame).
+     */
+    public void frame() {
+        onCommand(TraceCommand.FRAME);
+
+        if (mOutput != null) {
+            try {
+                mOutput.flush();
+            } catch (IOException exception) {
+                onFailure(exception);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderCapabilities glCapabilities() {
+        return mGL.glCapabilities();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String glGetString(int property) {
+        return mGL.glGetString(property);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEnable(int value) {
+        onCommand(TraceCommand.ENABLE);
+        onWrite(value);
+
+        mGL.glEnable(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDisable(int value) {
+        onCommand(TraceCommand.DISABLE);
+        onWrite(value);
+
+        mGL.glDisable(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBlendFunc(int source, int destination) {
+        onCommand(TraceCommand.BLEND_FUNC);
+        onWrite(source);
+        onWrite(destination);
+
+        mGL.glBlendFunc(source, destination);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBlendEquationSeparate(int rgb, int alpha) {
+        onCommand(TraceCommand.BLEND_EQUATION_SEPARATE);
+        onWrite(rgb);
+        onWrite(alpha);
+
+        mGL.glBlendEquationSeparate(rgb, alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCullFace(int mode) {
+        onCommand(TraceCommand.CULL_FACE);
+        onWrite(mode);
+
+        mGL.glCullFace(mode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDepthMask(boolean activate) {
+        onCommand(TraceCommand.DEPTH_MASK);
+        onWrite(activate);
+
+        mGL.glDepthMask(activate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDepthRange(float near, float far) {
+        onCommand(TraceCommand.DEPTH_RANGE);
+        onWrite(near);
+        onWrite(far);
+
+        mGL.glDepthRange(near, far);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDepthFunc(int mode) {
+        onCommand(TraceCommand.DEPTH_FUNC);
+        onWrite(mode);
+
+        mGL.glDepthFunc(mode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glColorMask(boolean red, boolean green, boolean blue, boolean alpha) {
+        onCommand(TraceCommand.COLOR_MASK);
+        onWrite(red);
+        onWrite(green);
+        onWrite(blue);
+        onWrite(alpha);
+
+        mGL.glColorMask(red, green, blue, alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glScissor(int x1, int y1, int x2, int y2) {
+        onCommand(TraceCommand.SCISSOR);
+        onWrite(x1);
+        onWrite(y1);
+        onWrite(x2);
+        onWrite(y2);
+
+        mGL.glScissor(x1, y1, x2, y2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glStencilOpSeparate(int face, int stencilFail, int depthFail, int depthPass) {
+        onCommand(TraceCommand.STENCIL_OP_SEPARATE);
+        onWrite(face);
+        onWrite(stencilFail);
+        onWrite(depthFail);
+        onWrite(depthPass);
+
+        mGL.glStencilOpSeparate(face, stencilFail, depthFail, depthPass);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glStencilFuncSeparate(int face, int func, int ref, int mask) {
+        onCommand(TraceCommand.STENCIL_FUNC_SEPARATE);
+        onWrite(face);
+        onWrite(func);
+        onWrite(ref);
+        onWrite(mask);
+
+        mGL.glStencilFuncSeparate(face, func, ref, mask);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glClear(int value) {
+        onCommand(TraceCommand.CLEAR);
+        onWrite(value);
+
+        mGL.glClear(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glClearColor(float red, float green, float blue, float alpha) {
+        onCommand(TraceCommand.CLEAR_COLOR);
+        onWrite(red);
+        onWrite(green);
+        onWrite(blue);
+        onWrite(alpha);
+
+        mGL.glClearColor(red, green, blue, alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glViewport(int x, int y, int width, int height) {
+        onCommand(TraceCommand.VIEWPORT);
+        onWrite(x);
+        onWrite(y);
+        onWrite(width);
+        onWrite(height);
+
+        mGL.glViewport(x, y, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenTextures() {
+        final int name = mGL.glGenTextures();
+
+        onCommand(TraceCommand.GEN_TEXTURES);
+        onWrite(name);
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenBuffers() {
+        final int name = mGL.glGenBuffers();
+
+        onCommand(TraceCommand.GEN_BUFFERS);
+        onWrite(name);
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glCreateProgram() {
+        final int name = mGL.glCreateProgram();
+
+        onCommand(TraceCommand.CREATE_PROGRAM);
+        onWrite(name);
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glCreateShader(int type) {
+        final int name = mGL.glCreateShader(type);
+
+        onCommand(TraceCommand.CREATE_SHADER);
+        onWrite(type);
+        onWrite(name);
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenFramebuffers() {
+        final int name = mGL.glGenFramebuffers();
+
+        onCommand(TraceCommand.GEN_FRAMEBUFFERS);
+        onWrite(name);
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenRenderbuffers() {
+        final int name = mGL.glGenRenderbuffers();
+
+        onCommand(TraceCommand.GEN_RENDERBUFFERS);
+        onWrite(name);
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteTextures(int name) {
+        onCommand(TraceCommand.DELETE_TEXTURES);
+        onWrite(name);
+
+        mGL.glDeleteTextures(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteBuffers(int name) {
+        onCommand(TraceCommand.DELETE_BUFFERS);
+        onWrite(name);
+
+        mGL.glDeleteBuffers(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteTextures(Int32Array names) {
+        onCommand(TraceCommand.DELETE_TEXTURES_ARRAY);
+        onWriteNames(names);
+
+        mGL.glDeleteTextures(names);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteBuffers(Int32Array names) {
+        onCommand(TraceCommand.DELETE_BUFFERS_ARRAY);
+        onWriteNames(names);
+
+        mGL.glDeleteBuffers(names);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteProgram(int name) {
+        onCommand(TraceCommand.DELETE_PROGRAM);
+        onWrite(name);
+
+        mGL.glDeleteProgram(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteFramebuffers(int name) {
+        onCommand(TraceCommand.DELETE_FRAMEBUFFERS);
+        onWrite(name);
+
+        mGL.glDeleteFramebuffers(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteRenderbuffers(int name) {
+        onCommand(TraceCommand.DELETE_RENDERBUFFERS);
+        onWrite(name);
+
+        mGL.glDeleteRenderbuffers(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteShader(int name) {
+        onCommand(TraceCommand.DELETE_SHADER);
+        onWrite(name);
+
+        mGL.glDeleteShader(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glActiveTexture(int stage) {
+        onCommand(TraceCommand.ACTIVE_TEXTURE);
+        onWrite(stage);
+
+        mGL.glActiveTexture(stage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindTexture(int target, int name) {
+        onCommand(TraceCommand.BIND_TEXTURE);
+        onWrite(target);
+        onWrite(name);
+
+        mGL.glBindTexture(target, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBuffer(int target, int name) {
+        onCommand(TraceCommand.BIND_BUFFER);
+        onWrite(target);
+        onWrite(name);
+
+        mGL.glBindBuffer(target, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUseProgram(int name) {
+        onCommand(TraceCommand.USE_PROGRAM);
+        onWrite(name);
+
+        mGL.glUseProgram(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindFramebuffer(int type, int name) {
+        onCommand(TraceCommand.BIND_FRAMEBUFFER);
+        onWrite(type);
+        onWrite(name);
+
+        mGL.glBindFramebuffer(type, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindRenderbuffer(int type, int name) {
+        onCommand(TraceCommand.BIND_RENDERBUFFER);
+        onWrite(type);
+        onWrite(name);
+
+        mGL.glBindRenderbuffer(type, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawArrays(int primitive, int offset, int count) {
+        onCommand(TraceCommand.DRAW_ARRAYS);
+        onWrite(primitive);
+        onWrite(offset);
+        onWrite(count);
+
+        mGL.glDrawArrays(primitive, offset, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElements(int primitive, int count, int format, int offset) {
+        onCommand(TraceCommand.DRAW_ELEMENTS);
+        onWrite(primitive);
+        onWrite(count);
+        onWrite(format);
+        onWrite(offset);
+
+        mGL.glDrawElements(primitive, count, format, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, int capacity, int usage) {
+        onCommand(TraceCommand.BUFFER_DATA_CAPACITY);
+        onWrite(target);
+        onWrite(capacity);
+        onWrite(usage);
+
+        mGL.glBufferData(target, capacity, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Int8Array data, int usage) {
+        onCommand(TraceCommand.BUFFER_DATA);
+        onWrite(target);
+        onWrite(data);
+        onWrite(usage);
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Int16Array data, int usage) {
+        onCommand(TraceCommand.BUFFER_DATA);
+        onWrite(target);
+        onWrite(data);
+        onWrite(usage);
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Int32Array data, int usage) {
+        onCommand(TraceCommand.BUFFER_DATA);
+        onWrite(target);
+        onWrite(data);
+        onWrite(usage);
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, UInt8Array data, int usage) {
+        onCommand(TraceCommand.BUFFER_DATA);
+        onWrite(target);
+        onWrite(data);
+        onWrite(usage);
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, UInt16Array data, int usage) {
+        onCommand(TraceCommand.BUFFER_DATA);
+        onWrite(target);
+        onWrite(data);
+        onWrite(usage);
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, UInt32Array data, int usage) {
+        onCommand(TraceCommand.BUFFER_DATA);
+        onWrite(target);
+        onWrite(data);
+        onWrite(usage);
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Float16Array data, int usage) {
+        onCommand(TraceCommand.BUFFER_DATA);
+        onWrite(target);
+        onWrite(data);
+        onWrite(usage);
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Float32Array data, int usage) {
+        onCommand(TraceCommand.BUFFER_DATA);
+        onWrite(target);
+        onWrite(data);
+        onWrite(usage);
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Int8Array data) {
+        onCommand(TraceCommand.BUFFER_SUB_DATA);
+        onWrite(target);
+        onWrite(offset);
+        onWrite(data);
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Int16Array data) {
+        onCommand(TraceCommand.BUFFER_SUB_DATA);
+        onWrite(target);
+        onWrite(offset);
+        onWrite(data);
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Int32Array data) {
+        onCommand(TraceCommand.BUFFER_SUB_DATA);
+        onWrite(target);
+        onWrite(offset);
+        onWrite(data);
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, UInt8Array data) {
+        onCommand(TraceCommand.BUFFER_SUB_DATA);
+        onWrite(target);
+        onWrite(offset);
+        onWrite(data);
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, UInt16Array data) {
+        onCommand(TraceCommand.BUFFER_SUB_DATA);
+        onWrite(target);
+        onWrite(offset);
+        onWrite(data);
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, UInt32Array data) {
+        onCommand(TraceCommand.BUFFER_SUB_DATA);
+        onWrite(target);
+        onWrite(offset);
+        onWrite(data);
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Float16Array data) {
+        onCommand(TraceCommand.BUFFER_SUB_DATA);
+        onWrite(target);
+        onWrite(offset);
+        onWrite(data);
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Float32Array data) {
+        onCommand(TraceCommand.BUFFER_SUB_DATA);
+        onWrite(target);
+        onWrite(offset);
+        onWrite(data);
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUnmapBuffer(int target) {
+        onCommand(TraceCommand.UNMAP_BUFFER);
+        onWrite(target);
+        onWriteMapped(mMapped.remove(target));
+
+        mGL.glUnmapBuffer(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Array<?>> T glMapBuffer(int target, int access, int format) {
+        final T data = mGL.glMapBuffer(target, access, format);
+
+        onCommand(TraceCommand.MAP_BUFFER);
+        onWrite(target);
+        onWrite(access);
+        onWrite(format);
+
+        mMapped.put(target, data);
+        return data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexParameter(int target, int type, int value) {
+        onCommand(TraceCommand.TEX_PARAMETER_INT);
+        onWrite(target);
+        onWrite(type);
+        onWrite(value);
+
+        mGL.glTexParameter(target, type, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexParameter(int target, int type, float value) {
+        onCommand(TraceCommand.TEX_PARAMETER_FLOAT);
+        onWrite(target);
+        onWrite(type);
+        onWrite(value);
+
+        mGL.glTexParameter(target, type, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexImage2D(int target, int level, int internal, int width, int height, int border, int format, int type, Int8Array data) {
+        onCommand(TraceCommand.TEX_IMAGE_2D);
+        onWrite(target);
+        onWrite(level);
+        onWrite(internal);
+        onWrite(width);
+        onWrite(height);
+        onWrite(border);
+        onWrite(format);
+        onWrite(type);
+        onWrite(data);
+
+        mGL.glTexImage2D(target, level, internal, width, height, border, format, type, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompressedTexImage2D(int target, int level, int internal, int width, int height, int border, Int8Array data) {
+        onCommand(TraceCommand.COMPRESSED_TEX_IMAGE_2D);
+        onWrite(target);
+        onWrite(level);
+        onWrite(internal);
+        onWrite(width);
+        onWrite(height);
+        onWrite(border);
+        onWrite(data);
+
+        mGL.glCompressedTexImage2D(target, level, internal, width, height, border, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format, int type, Int8Array data) {
+        onCommand(TraceCommand.TEX_SUB_IMAGE_2D);
+        onWrite(target);
+        onWrite(level);
+        onWrite(x);
+        onWrite(y);
+        onWrite(width);
+        onWrite(height);
+        onWrite(format);
+        onWrite(type);
+        onWrite(data);
+
+        mGL.glTexSubImage2D(target, level, x, y, width, height, format, type, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, Int8Array data) {
+        onCommand(TraceCommand.READ_PIXELS);
+        onWrite(x);
+        onWrite(y);
+        onWrite(width);
+        onWrite(height);
+        onWrite(format);
+        onWrite(type);
+        onWrite(data != null ? data.remaining() : 0);
+
+        mGL.glReadPixels(x, y, width, height, format, type, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glGenerateMipmap(int target) {
+        onCommand(TraceCommand.GENERATE_MIPMAP);
+        onWrite(target);
+
+        mGL.glGenerateMipmap(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glFramebufferTexture2D(int target, int attachment, int texture, int name, int level) {
+        onCommand(TraceCommand.FRAMEBUFFER_TEXTURE_2D);
+        onWrite(target);
+        onWrite(attachment);
+        onWrite(texture);
+        onWrite(name);
+        onWrite(level);
+
+        mGL.glFramebufferTexture2D(target, attachment, texture, name, level);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEnableVertexAttribArray(int name) {
+        onCommand(TraceCommand.ENABLE_VERTEX_ATTRIB_ARRAY);
+        onWrite(name);
+
+        mGL.glEnableVertexAttribArray(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDisableVertexAttribArray(int name) {
+        onCommand(TraceCommand.DISABLE_VERTEX_ATTRIB_ARRAY);
+        onWrite(name);
+
+        mGL.glDisableVertexAttribArray(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glVertexAttribPointer(int name, int component, int type, boolean normalised, int stride, int offset) {
+        onCommand(TraceCommand.VERTEX_ATTRIB_POINTER);
+        onWrite(name);
+        onWrite(component);
+        onWrite(type);
+        onWrite(normalised);
+        onWrite(stride);
+        onWrite(offset);
+
+        mGL.glVertexAttribPointer(name, component, type, normalised, stride, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glLinkProgram(int name) {
+        onCommand(TraceCommand.LINK_PROGRAM);
+        onWrite(name);
+
+        mGL.glLinkProgram(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetProgram(int name, int property) {
+        final int result = mGL.glGetProgram(name, property);
+
+        onCommand(TraceCommand.GET_PROGRAM);
+        onWrite(name);
+        onWrite(property);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glShaderSource(int name, String source) {
+        onCommand(TraceCommand.SHADER_SOURCE);
+        onWrite(name);
+        onWrite(source);
+
+        mGL.glShaderSource(name, source);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompileShader(int name) {
+        onCommand(TraceCommand.COMPILE_SHADER);
+        onWrite(name);
+
+        mGL.glCompileShader(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glAttachShader(int name, int shader) {
+        onCommand(TraceCommand.ATTACH_SHADER);
+        onWrite(name);
+        onWrite(shader);
+
+        mGL.glAttachShader(name, shader);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindAttribLocation(int name, int id, String attribute) {
+        onCommand(TraceCommand.BIND_ATTRIB_LOCATION);
+        onWrite(name);
+        onWrite(id);
+        onWrite(attribute);
+
+        mGL.glBindAttribLocation(name, id, attribute);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetUniformLocation(int name, String uniform) {
+        final int location = mGL.glGetUniformLocation(name, uniform);
+
+        onCommand(TraceCommand.GET_UNIFORM_LOCATION);
+        onWrite(name);
+        onWrite(uniform);
+        onWrite(location);
+        return location;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String glGetProgramInfoLog(int name) {
+        final String result = mGL.glGetProgramInfoLog(name);
+
+        onCommand(TraceCommand.GET_PROGRAM_INFO_LOG);
+        onWrite(name);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glRenderbufferStorage(int target, int format, int width, int height) {
+        onCommand(TraceCommand.RENDERBUFFER_STORAGE);
+        onWrite(target);
+        onWrite(format);
+        onWrite(width);
+        onWrite(height);
+
+        mGL.glRenderbufferStorage(target, format, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1f(int name, float i1) {
+        onCommand(TraceCommand.UNIFORM_1F);
+        onWrite(name);
+        onWrite(i1);
+
+        mGL.glUniform1f(name, i1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform2f(int name, float i1, float i2) {
+        onCommand(TraceCommand.UNIFORM_2F);
+        onWrite(name);
+        onWrite(i1);
+        onWrite(i2);
+
+        mGL.glUniform2f(name, i1, i2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform3f(int name, float i1, float i2, float i3) {
+        onCommand(TraceCommand.UNIFORM_3F);
+        onWrite(name);
+        onWrite(i1);
+        onWrite(i2);
+        onWrite(i3);
+
+        mGL.glUniform3f(name, i1, i2, i3);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform4f(int name, float i1, float i2, float i3, float i4) {
+        onCommand(TraceCommand.UNIFORM_4F);
+        onWrite(name);
+        onWrite(i1);
+        onWrite(i2);
+        onWrite(i3);
+        onWrite(i4);
+
+        mGL.glUniform4f(name, i1, i2, i3, i4);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1fv(int name, Float32Array buffer) {
+        onCommand(TraceCommand.UNIFORM_1FV);
+        onWrite(name);
+        onWrite(buffer);
+
+        mGL.glUniform1fv(name, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1i(int name, int i1) {
+        onCommand(TraceCommand.UNIFORM_1I);
+        onWrite(name);
+        onWrite(i1);
+
+        mGL.glUniform1i(name, i1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform2i(int name, int i1, int i2) {
+        onCommand(TraceCommand.UNIFORM_2I);
+        onWrite(name);
+        onWrite(i1);
+        onWrite(i2);
+
+        mGL.glUniform2i(name, i1, i2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform3i(int name, int i1, int i2, int i3) {
+        onCommand(TraceCommand.UNIFORM_3I);
+        onWrite(name);
+        onWrite(i1);
+        onWrite(i2);
+        onWrite(i3);
+
+        mGL.glUniform3i(name, i1, i2, i3);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform4i(int name, int i1, int i2, int i3, int i4) {
+        onCommand(TraceCommand.UNIFORM_4I);
+        onWrite(name);
+        onWrite(i1);
+        onWrite(i2);
+        onWrite(i3);
+        onWrite(i4);
+
+        mGL.glUniform4i(name, i1, i2, i3, i4);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1iv(int name, Int32Array buffer) {
+        onCommand(TraceCommand.UNIFORM_1IV);
+        onWrite(name);
+        onWrite(buffer);
+
+        mGL.glUniform1iv(name, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformMatrix3fv(int name, boolean transpose, Float32Array buffer) {
+        onCommand(TraceCommand.UNIFORM_MATRIX_3FV);
+        onWrite(name);
+        onWrite(transpose);
+        onWrite(buffer);
+
+        mGL.glUniformMatrix3fv(name, transpose, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformMatrix4fv(int name, boolean transpose, Float32Array buffer) {
+        onCommand(TraceCommand.UNIFORM_MATRIX_4FV);
+        onWrite(name);
+        onWrite(transpose);
+        onWrite(buffer);
+
+        mGL.glUniformMatrix4fv(name, transpose, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenVertexArrays() {
+        final int name = mGL.glGenVertexArrays();
+
+        onCommand(TraceCommand.GEN_VERTEX_ARRAYS);
+        onWrite(name);
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteVertexArrays(int name) {
+        onCommand(TraceCommand.DELETE_VERTEX_ARRAYS);
+        onWrite(name);
+
+        mGL.glDeleteVertexArrays(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindVertexArray(int name) {
+        onCommand(TraceCommand.BIND_VERTEX_ARRAY);
+        onWrite(name);
+
+        mGL.glBindVertexArray(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Array<?>> T glMapBufferRange(int target, int offset, int size, int access, int format) {
+        final T data = mGL.glMapBufferRange(target, offset, size, access, format);
+
+        onCommand(TraceCommand.MAP_BUFFER_RANGE);
+        onWrite(target);
+        onWrite(offset);
+        onWrite(size);
+        onWrite(access);
+        onWrite(format);
+
+        mMapped.put(target, data);
+        return data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexImage3D(int target, int level, int internal, int width, int height, int depth, int border, int format, int type, Int8Array data) {
+        onCommand(TraceCommand.TEX_IMAGE_3D);
+        onWrite(target);
+        onWrite(level);
+        onWrite(internal);
+        onWrite(width);
+        onWrite(height);
+        onWrite(depth);
+        onWrite(border);
+        onWrite(format);
+        onWrite(type);
+        onWrite(data);
+
+        mGL.glTexImage3D(target, level, internal, width, height, depth, border, format, type, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompressedTexImage3D(int target, int level, int internal, int width, int height, int depth, int border, Int8Array data) {
+        onCommand(TraceCommand.COMPRESSED_TEX_IMAGE_3D);
+        onWrite(target);
+        onWrite(level);
+        onWrite(internal);
+        onWrite(width);
+        onWrite(height);
+        onWrite(depth);
+        onWrite(border);
+        onWrite(data);
+
+        mGL.glCompressedTexImage3D(target, level, internal, width, height, depth, border, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth, int format, int type, Int8Array data) {
+        onCommand(TraceCommand.TEX_SUB_IMAGE_3D);
+        onWrite(target);
+        onWrite(level);
+        onWrite(x);
+        onWrite(y);
+        onWrite(z);
+        onWrite(width);
+        onWrite(height);
+        onWrite(depth);
+        onWrite(format);
+        onWrite(type);
+        onWrite(data);
+
+        mGL.glTexSubImage3D(target, level, x, y, z, width, height, depth, format, type, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glRenderbufferStorageMultisample(int target, int samples, int format, int width, int height) {
+        onCommand(TraceCommand.RENDERBUFFER_STORAGE_MULTISAMPLE);
+        onWrite(target);
+        onWrite(samples);
+        onWrite(format);
+        onWrite(width);
+        onWrite(height);
+
+        mGL.glRenderbufferStorageMultisample(target, samples, format, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1ui(int name, int i1) {
+        onCommand(TraceCommand.UNIFORM_1UI);
+        onWrite(name);
+        onWrite(i1);
+
+        mGL.glUniform1ui(name, i1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform2ui(int name, int i1, int i2) {
+        onCommand(TraceCommand.UNIFORM_2UI);
+        onWrite(name);
+        onWrite(i1);
+        onWrite(i2);
+
+        mGL.glUniform2ui(name, i1, i2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform3ui(int name, int i1, int i2, int i3) {
+        onCommand(TraceCommand.UNIFORM_3UI);
+        onWrite(name);
+        onWrite(i1);
+        onWrite(i2);
+        onWrite(i3);
+
+        mGL.glUniform3ui(name, i1, i2, i3);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform4ui(int name, int i1, int i2, int i3, int i4) {
+        onCommand(TraceCommand.UNIFORM_4UI);
+        onWrite(name);
+        onWrite(i1);
+        onWrite(i2);
+        onWrite(i3);
+        onWrite(i4);
+
+        mGL.glUniform4ui(name, i1, i2, i3, i4);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1uiv(int name, UInt32Array buffer) {
+        onCommand(TraceCommand.UNIFORM_1UIV);
+        onWrite(name);
+        onWrite(buffer);
+
+        mGL.glUniform1uiv(name, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawArraysInstanced(int primitive, int offset, int count, int instances) {
+        onCommand(TraceCommand.DRAW_ARRAYS_INSTANCED);
+        onWrite(primitive);
+        onWrite(offset);
+        onWrite(count);
+        onWrite(instances);
+
+        mGL.glDrawArraysInstanced(primitive, offset, count, instances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElementsInstanced(int primitive, int count, int format, int offset, int instances) {
+        onCommand(TraceCommand.DRAW_ELEMENTS_INSTANCED);
+        onWrite(primitive);
+        onWrite(count);
+        onWrite(format);
+        onWrite(offset);
+        onWrite(instances);
+
+        mGL.glDrawElementsInstanced(primitive, count, format, offset, instances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glVertexAttribDivisor(int name, int divisor) {
+        onCommand(TraceCommand.VERTEX_ATTRIB_DIVISOR);
+        onWrite(name);
+        onWrite(divisor);
+
+        mGL.glVertexAttribDivisor(name, divisor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBufferBase(int target, int index, int name) {
+        onCommand(TraceCommand.BIND_BUFFER_BASE);
+        onWrite(target);
+        onWrite(index);
+        onWrite(name);
+
+        mGL.glBindBufferBase(target, index, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetUniformBlockIndex(int name, String block) {
+        final int index = mGL.glGetUniformBlockIndex(name, block);
+
+        onCommand(TraceCommand.GET_UNIFORM_BLOCK_INDEX);
+        onWrite(name);
+        onWrite(block);
+        onWrite(index);
+        return index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformBlockBinding(int name, int block, int binding) {
+        onCommand(TraceCommand.UNIFORM_BLOCK_BINDING);
+        onWrite(name);
+        onWrite(block);
+        onWrite(binding);
+
+        mGL.glUniformBlockBinding(name, block, binding);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long glFenceSync(int condition, int flags) {
+        final long sync = mGL.glFenceSync(condition, flags);
+
+        onCommand(TraceCommand.FENCE_SYNC);
+        onWrite(condition);
+        onWrite(flags);
+        onWrite(sync);
+        return sync;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glClientWaitSync(long sync, int flags, long timeout) {
+        final int result = mGL.glClientWaitSync(sync, flags, timeout);
+
+        onCommand(TraceCommand.CLIENT_WAIT_SYNC);
+        onWrite(sync);
+        onWrite(flags);
+        onWrite(timeout);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteSync(long sync) {
+        onCommand(TraceCommand.DELETE_SYNC);
+        onWrite(sync);
+
+        mGL.glDeleteSync(sync);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage2D(int target, int level, int x, int y, int width, int height, int format, int type, long offset) {
+        onCommand(TraceCommand.TEX_SUB_IMAGE_2D_OFFSET);
+        onWrite(target);
+        onWrite(level);
+        onWrite(x);
+        onWrite(y);
+        onWrite(width);
+        onWrite(height);
+        onWrite(format);
+        onWrite(type);
+        onWrite(offset);
+
+        mGL.glTexSubImage2D(target, level, x, y, width, height, format, type, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexSubImage3D(int target, int level, int x, int y, int z, int width, int height, int depth, int format, int type, long offset) {
+        onCommand(TraceCommand.TEX_SUB_IMAGE_3D_OFFSET);
+        onWrite(target);
+        onWrite(level);
+        onWrite(x);
+        onWrite(y);
+        onWrite(z);
+        onWrite(width);
+        onWrite(height);
+        onWrite(depth);
+        onWrite(format);
+        onWrite(type);
+        onWrite(offset);
+
+        mGL.glTexSubImage3D(target, level, x, y, z, width, height, depth, format, type, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, long offset) {
+        onCommand(TraceCommand.READ_PIXELS_OFFSET);
+        onWrite(x);
+        onWrite(y);
+        onWrite(width);
+        onWrite(height);
+        onWrite(format);
+        onWrite(type);
+        onWrite(offset);
+
+        mGL.glReadPixels(x, y, width, height, format, type, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenQueries() {
+        final int name = mGL.glGenQueries();
+
+        onCommand(TraceCommand.GEN_QUERIES);
+        onWrite(name);
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteQueries(int name) {
+        onCommand(TraceCommand.DELETE_QUERIES);
+        onWrite(name);
+
+        mGL.glDeleteQueries(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginQuery(int target, int name) {
+        onCommand(TraceCommand.BEGIN_QUERY);
+        onWrite(target);
+        onWrite(name);
+
+        mGL.glBeginQuery(target, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndQuery(int target) {
+        onCommand(TraceCommand.END_QUERY);
+        onWrite(target);
+
+        mGL.glEndQuery(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetQueryObjecti(int name, int parameter) {
+        final int result = mGL.glGetQueryObjecti(name, parameter);
+
+        onCommand(TraceCommand.GET_QUERY_OBJECT_I);
+        onWrite(name);
+        onWrite(parameter);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long glGetQueryObjectui64(int name, int parameter) {
+        final long result = mGL.glGetQueryObjectui64(name, parameter);
+
+        onCommand(TraceCommand.GET_QUERY_OBJECT_UI64);
+        onWrite(name);
+        onWrite(parameter);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginConditionalRender(int name, int mode) {
+        onCommand(TraceCommand.BEGIN_CONDITIONAL_RENDER);
+        onWrite(name);
+        onWrite(mode);
+
+        mGL.glBeginConditionalRender(name, mode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndConditionalRender() {
+        onCommand(TraceCommand.END_CONDITIONAL_RENDER);
+
+        mGL.glEndConditionalRender();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glProgramParameteri(int name, int property, int value) {
+        onCommand(TraceCommand.PROGRAM_PARAMETER_I);
+        onWrite(name);
+        onWrite(property);
+        onWrite(value);
+
+        mGL.glProgramParameteri(name, property, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetProgramBinary(int name, Int8Array binary) {
+        final int result = mGL.glGetProgramBinary(name, binary);
+
+        onCommand(TraceCommand.GET_PROGRAM_BINARY);
+        onWrite(name);
+        onWrite(binary.remaining());
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glProgramBinary(int name, int format, Int8Array binary) {
+        onCommand(TraceCommand.PROGRAM_BINARY);
+        onWrite(name);
+        onWrite(format);
+        onWrite(binary);
+
+        mGL.glProgramBinary(name, format, binary);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElementsBaseVertex(int primitive, int count, int format, int offset, int base) {
+        onCommand(TraceCommand.DRAW_ELEMENTS_BASE_VERTEX);
+        onWrite(primitive);
+        onWrite(count);
+        onWrite(format);
+        onWrite(offset);
+        onWrite(base);
+
+        mGL.glDrawElementsBaseVertex(primitive, count, format, offset, base);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindFragDataLocation(int name, int index, String attribute) {
+        onCommand(TraceCommand.BIND_FRAG_DATA_LOCATION);
+        onWrite(name);
+        onWrite(index);
+        onWrite(attribute);
+
+        mGL.glBindFragDataLocation(name, index, attribute);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glMultiDrawElements(int primitive, Int32Array count, int format, Int32Array offset) {
+        final int length = count.remaining() >> 2;
+
+        onCommand(TraceCommand.MULTI_DRAW_ELEMENTS);
+        onWrite(primitive);
+        onWrite(format);
+        onWrite(length);
+
+        for (int i = 0; i < length; ++i) {
+            onWrite(count.readInt32(count.position() + (i << 2)));
+            onWrite(offset.readInt32(offset.position() + (i << 2)));
+        }
+        mGL.glMultiDrawElements(primitive, count, format, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glMaxShaderCompilerThreads(int count) {
+        onCommand(TraceCommand.MAX_SHADER_COMPILER_THREADS);
+        onWrite(count);
+
+        mGL.glMaxShaderCompilerThreads(count);
+    }
+
+    /**
+     * <p>Write an array of name(s) into the trace</p>
+     */
+    private void onWriteNames(Int32Array names) {
+        final int length = names.remaining() >> 2;
+
+        onWrite(length);
+
+        for (int i = 0; i < length; ++i) {
+            onWrite(names.readInt32(names.position() + (i << 2)));
+        }
+    }
+
+    /**
+     * <p>Write a command into the trace</p>
+     */
+    private void onCommand(TraceCommand command) {
+        if (mOutput != null) {
+            try {
+                mOutput.writeByte(command.ordinal());
+            } catch (IOException exception) {
+                onFailure(exception);
+            }
+        }
+    }
+
+    /**
+     * <p>Write a boolean argument into the trace</p>
+     */
+    private void onWrite(boolean value) {
+        if (mOutput != null) {
+            try {
+                mOutput.writeBoolean(value);
+            } catch (IOException exception) {
+                onFailure(exception);
+            }
+        }
+    }
+
+    /**
+     * <p>Write an integer argument into the trace</p>
+     */
+    private void onWrite(int value) {
+        if (mOutput != null) {
+            try {
+                mOutput.writeInt(value);
+            } catch (IOException exception) {
+                onFailure(exception);
+            }
+        }
+    }
+
+    /**
+     * <p>Write a long argument into the trace</p>
+     */
+    private void onWrite(long value) {
+        if (mOutput != null) {
+            try {
+                mOutput.writeLong(value);
+            } catch (IOException exception) {
+                onFailure(exception);
+            }
+        }
+    }
+
+    /**
+     * <p>Write a float argument into the trace</p>
+     */
+    private void onWrite(float value) {
+        if (mOutput != null) {
+            try {
+                mOutput.writeFloat(value);
+            } catch (IOException exception) {
+                onFailure(exception);
+            }
+        }
+    }
+
+    /**
+     * <p>Write a string argument into the trace</p>
+     */
+    private void onWrite(String value) {
+        if (mOutput != null) {
+            try {
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+                mOutput.writeInt(bytes.length);
+                mOutput.write(bytes);
+            } catch (IOException exception) {
+                onFailure(exception);
+            }
+        }
+    }
+
+    /**
+     * <p>Write a buffer argument (from its position to its limit) into the trace</p>
+     */
+    private void onWrite(Array<?> value) {
+        if (mOutput == null) {
+            return;
+        }
+        if (value == null) {
+            onWriteContent(null, 0);
+            return;
+        }
+        final int position = value.position();
+        final int length = value.remaining();
+
+        onWriteContent(onRead(value, length), length);
+
+        value.position(position);
+    }
+
+    /**
+     * <p>Write the content of a mapped buffer (from its beginning to its capacity) into the trace</p>
+     */
+    private void onWriteMapped(Array<?> value) {
+        if (mOutput == null) {
+            return;
+        }
+        if (value == null) {
+            onWriteContent(null, 0);
+            return;
+        }
+        final int position = value.position();
+        final int limit = value.limit();
+
+        value.clear();
+
+        onWriteContent(onRead(value, value.capacity()), value.capacity());
+
+        value.limit(limit);
+        value.position(position);
+    }
+
+    /**
+     * <p>Read the content of a buffer argument into the scratch array</p>
+     */
+    private byte[] onRead(Array<?> value, int length) {
+        if (mScratch.length < length) {
+            mScratch = new byte[Math.max(length, mScratch.length * 2)];
+        }
+        value.read(mScratch, 0, length);
+        return mScratch;
+    }
+
+    /**
+     * <p>Write the content of a buffer argument into the trace (or only its hash if was written before)</p>
+     */
+    private void onWriteContent(byte[] content, int length) {
+        try {
+            if (content == null) {
+                mOutput.writeByte(TraceCommand.DATA_NULL);
+                return;
+            }
+            final long hash = getHash(content, length);
+
+            if (mCopy && mContents.add(hash)) {
+                mOutput.writeByte(TraceCommand.DATA_COPY);
+                mOutput.writeLong(hash);
+                mOutput.writeInt(length);
+                mOutput.write(content, 0, length);
+            } else {
+                mOutput.writeByte(TraceCommand.DATA_HASH);
+                mOutput.writeLong(hash);
+                mOutput.writeInt(length);
+            }
+        } catch (IOException exception) {
+            onFailure(exception);
+        }
+    }
+
+    /**
+     * <p>Handle when the trace fail to be written</p>
+     */
+    private void onFailure(IOException exception) {
+        LOGGER.warn("Failed writing the trace, tracing stopped: {}", exception.getMessage()); /* WARNING */
+
+        mOutput = null;
+    }
+
+    /**
+     * <p>Calculate the hash (FNV-1a) of the given content</p>
+     */
+    static long getHash(byte[] content, int length) {
+        long hash = 0xCBF29CE484222325L;
+
+        for (int i = 0; i < length; ++i) {
+            hash ^= content[i] & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash ^ length;
+    }
+}
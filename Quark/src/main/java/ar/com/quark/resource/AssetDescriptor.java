@@ -49,4 +49,15 @@ public class AssetDescriptor {
     public final boolean isCloseable() {
         return mCloseable;
     }
+
+    /**
+     * <p>Get the variant of the asset</p>
+     * <p>
+     * NOTE: Asset(s) with the same name but a different variant are cached separately.
+     *
+     * @return the variant of the asset (or an empty string if the asset has no variant)
+     */
+    public String getVariant() {
+        return "";
+    }
 }
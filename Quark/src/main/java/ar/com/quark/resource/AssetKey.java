@@ -134,12 +134,25 @@ public final class AssetKey<A, B extends AssetDescriptor> {
      * @return true if the asset has no more reference, false otherwise
      */
     public boolean release() {
-        final boolean isDisposed = --mReferences <= 0;
+        return release(true);
+    }
+
+    /**
+     * <p>Release the key</p>
+     * <p>
+     * NOTE: This method is for key management.
+     *
+     * @param dispose true if the key should be disposed once the reference reach zero, false otherwise
+     *
+     * @return true if the asset has no more reference, false otherwise
+     */
+    public boolean release(boolean dispose) {
+        final boolean isReleased = --mReferences <= 0;
 
-        if (isDisposed) {
+        if (isReleased && dispose) {
             dispose();
         }
-        return isDisposed;
+        return isReleased;
     }
 
     /**
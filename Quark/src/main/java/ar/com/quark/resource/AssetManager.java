@@ -17,6 +17,8 @@
  */
 package ar.com.quark.resource;
 
+import ar.com.quark.render.MemoryReport;
+
 import java.io.InputStream;
 
 /**
@@ -59,6 +61,17 @@ public interface AssetManager {
      */
     void registerAssetLoader(AssetLoader loader, String... extensions);
 
+    /**
+     * <p>Register an {@link AssetLoader} for a type of {@link AssetDescriptor}</p>
+     * <p>
+     * NOTE: The loader take precedence over the loader of the extension (only for the type of descriptor given).
+     *
+     * @param loader     the unique instance of the loader
+     * @param descriptor the type of descriptor being handled by the loader
+     * @param extensions the unique extension(s) being handled by the loader
+     */
+    void registerAssetLoader(AssetLoader loader, Class<? extends AssetDescriptor> descriptor, String... extensions);
+
     /**
      * <p>Remove an {@link AssetListener}</p>
      *
@@ -80,6 +93,14 @@ public interface AssetManager {
      */
     void removeAssetLoader(String... extensions);
 
+    /**
+     * <p>Remove an {@link AssetLoader} for a type of {@link AssetDescriptor}</p>
+     *
+     * @param descriptor the type of descriptor being handled by the loader
+     * @param extensions the unique extension(s) being handled by the loader
+     */
+    void removeAssetLoader(Class<? extends AssetDescriptor> descriptor, String... extensions);
+
     /**
      * <p>Tries to find an asset from any of the {@link AssetLocator} registered</p>
      *
@@ -172,4 +193,21 @@ public interface AssetManager {
      * <p>Unload all asset(s)</p>
      */
     void unloadAll();
+
+    /**
+     * <p>Get a report of the memory allocated (GPU-side memory) by every asset</p>
+     *
+     * @return a report of the memory allocated by every asset
+     */
+    MemoryReport getMemoryReport();
+
+    /**
+     * <p>Change the budget of memory (GPU-side memory) under which unreferenced asset(s) are kept in cache</p>
+     * <p>
+     * NOTE: Once a cached asset has no more reference it isn't disposed until the memory allocated exceed the
+     *       budget, then unreferenced asset(s) are disposed in least recently used order.
+     *
+     * @param budget the budget (in bytes), or <code>0</code> to dispose every asset once it has no more reference
+     */
+    void setMemoryBudget(long budget);
 }
@@ -17,6 +17,8 @@
  */
 package ar.com.quark.resource;
 
+import ar.com.quark.render.MemoryReport;
+import ar.com.quark.system.utility.Manageable;
 import ar.com.quark.system.utility.emulation.Emulation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +28,8 @@ import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.Executor;
 
+import static ar.com.quark.Quark.QKRender;
+
 /**
  * <b>Default</b> implementation for {@link AssetManager}.
  */
@@ -43,6 +47,17 @@ public final class DefaultAssetManager implements AssetManager {
     private final Map<Object, String> mCacheNames = new HashMap<>();
     private final Map<String, AssetKey> mCache = new HashMap<>();
 
+    /**
+     * Hold every cached asset that has no more reference (in least recently used order).
+     */
+    private final Map<String, AssetKey> mUnreferenced = new LinkedHashMap<>();
+
+    /**
+     * Hold the budget of memory (GPU-side memory) under which unreferenced asset(s) are kept in cache.
+     */
+    private long mBudget;
+    private boolean mEvicting;
+
     /**
      * <p>Constructor</p>
      */
@@ -83,6 +98,17 @@ public final class DefaultAssetManager implements AssetManager {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void registerAssetLoader(AssetLoader loader, Class<? extends AssetDescriptor> descriptor,
+            String... extensions) {
+        for (final String extension : extensions) {
+            mLoaders.put(getLoaderName(extension.toLowerCase(), descriptor), loader);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -115,6 +141,18 @@ public final class DefaultAssetManager implements AssetManager {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeAssetLoader(Class<? extends AssetDescriptor> descriptor, String... extensions) {
+        for (final String extension : extensions) {
+            if (mLoaders.remove(getLoaderName(extension.toLowerCase(), descriptor)) == null) {
+                throw new IllegalStateException("An <AssetLoader> with the provided extension doesn't exist.");
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -213,6 +251,7 @@ public final class DefaultAssetManager implements AssetManager {
             if (input != null) {
                 key = loadAssetFrom(filename, descriptor, input);
 
+                onEvict();
             } else {
                 LOGGER.warn("Failed to find Asset '{}'", filename); /* WARNING */
 
@@ -272,19 +311,17 @@ public final class DefaultAssetManager implements AssetManager {
     public synchronized void unload(String filename) {
         final AssetKey<?, ?> key = mCache.get(filename);
 
-        if (key != null && key.release()) {
-            mCache.remove(filename);
-            mCacheNames.remove(key.getAsset());
-
-            //!
-            //! Dispose and remove a reference to each dependency of the asset.
-            //!
-            Emulation.forEach(key.getDependencies(), this::unload);
+        if (key != null && key.release(mBudget == 0L)) {
+            if (mBudget == 0L) {
+                onUnload(filename, key);
+            } else {
+                //!
+                //! Keep the asset in cache (until the budget is exceeded).
+                //!
+                mUnreferenced.put(filename, key);
 
-            //!
-            //! Notify the asset has been disposed.
-            //!
-            Emulation.forEach(mListeners, (listener) -> listener.onAssetDisposed(filename));
+                onEvict();
+            }
         }
     }
 
@@ -295,9 +332,91 @@ public final class DefaultAssetManager implements AssetManager {
     public void unloadAll() {
         Emulation.forEach(mCache.values(), AssetKey::dispose);
 
+        //!
+        //! Notify every asset has been disposed.
+        //!
+        for (final String filename : mCache.keySet()) {
+            Emulation.forEach(mListeners, (listener) -> listener.onAssetDisposed(filename));
+        }
+
         mCache.clear();
 
         mCacheNames.clear();
+
+        mUnreferenced.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized MemoryReport getMemoryReport() {
+        final MemoryReport report = QKRender.getMemoryReport();
+
+        for (final Map.Entry<String, AssetKey> entry : mCache.entrySet()) {
+            final Object asset = entry.getValue().getAsset();
+
+            if (asset instanceof Manageable) {
+                report.record(entry.getKey(), (Manageable) asset);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void setMemoryBudget(long budget) {
+        mBudget = budget;
+
+        onEvict();
+    }
+
+    /**
+     * <p>Remove an asset (that has no more reference) from the cache</p>
+     */
+    private void onUnload(String filename, AssetKey<?, ?> key) {
+        mCache.remove(filename);
+        mCacheNames.remove(key.getAsset());
+
+        //!
+        //! Dispose and remove a reference to each dependency of the asset.
+        //!
+        Emulation.forEach(key.getDependencies(), this::unload);
+
+        //!
+        //! Notify the asset has been disposed.
+        //!
+        Emulation.forEach(mListeners, (listener) -> listener.onAssetDisposed(filename));
+    }
+
+    /**
+     * <p>Dispose unreferenced asset(s) (least recently used first) until the memory fit the budget</p>
+     */
+    private void onEvict() {
+        if (mEvicting || mUnreferenced.isEmpty()) {
+            return;
+        }
+        mEvicting = true;
+
+        //!
+        //! NOTE: The memory is released on the next frame, so the memory of every asset disposed is subtracted.
+        //!
+        long memory = (mBudget > 0L ? QKRender.getMemoryReport().getMemory() : Long.MAX_VALUE);
+
+        while (memory > mBudget && !mUnreferenced.isEmpty()) {
+            final String filename = mUnreferenced.keySet().iterator().next();
+            final AssetKey<?, ?> key = mUnreferenced.remove(filename);
+
+            if (key.getAsset() instanceof Manageable) {
+                memory -= ((Manageable) key.getAsset()).getMemory();
+            }
+            key.dispose();
+
+            onUnload(filename, key);
+        }
+        mEvicting = false;
     }
 
     /**
@@ -312,9 +431,13 @@ public final class DefaultAssetManager implements AssetManager {
         final String extension = filename.replaceAll("^.*\\.([^.]+)$", "$1").toLowerCase();
 
         //!
-        //! Tries to find a suitable AssetLoader for the given extension.
+        //! Tries to find a suitable AssetLoader for the given extension (and type of descriptor).
         //!
-        final AssetLoader<A, B> loader = (AssetLoader<A, B>) mLoaders.get(extension);
+        AssetLoader<A, B> loader = (AssetLoader<A, B>) mLoaders.get(getLoaderName(extension, descriptor.getClass()));
+
+        if (loader == null) {
+            loader = (AssetLoader<A, B>) mLoaders.get(extension);
+        }
 
         if (loader != null) {
             try {
@@ -337,8 +460,10 @@ public final class DefaultAssetManager implements AssetManager {
                 //! Check if the asset can be cached.
                 //!
                 if (descriptor.isCacheable()) {
-                    mCache.put(filename, key);
-                    mCacheNames.put(key.getAsset(), filename);
+                    final String name = getCacheName(filename, descriptor);
+
+                    mCache.put(name, key);
+                    mCacheNames.put(key.getAsset(), name);
                 }
 
                 Emulation.forEach(
@@ -357,14 +482,33 @@ public final class DefaultAssetManager implements AssetManager {
      * <p>Request an asset from the cache</p>
      */
     private <A, B extends AssetDescriptor> AssetKey<A, B> loadAssetFromCache(String filename, B descriptor) {
-        final AssetKey<A, B> key = descriptor.isCacheable() ? (AssetKey<A, B>) mCache.get(filename) : null;
+        final String name = getCacheName(filename, descriptor);
+        final AssetKey<A, B> key = descriptor.isCacheable() ? (AssetKey<A, B>) mCache.get(name) : null;
 
         if (key != null) {
             key.acquire();
+
+            mUnreferenced.remove(name);
         }
         return key;
     }
 
+    /**
+     * <p>Get the name of a loader registered for a type of descriptor</p>
+     */
+    private static String getLoaderName(String extension, Class<?> descriptor) {
+        return extension + "#" + descriptor.getName();
+    }
+
+    /**
+     * <p>Get the name of an asset in the cache (which include its variant)</p>
+     */
+    private static String getCacheName(String filename, AssetDescriptor descriptor) {
+        final String variant = descriptor.getVariant();
+
+        return variant.isEmpty() ? filename : filename + "#" + variant;
+    }
+
     /**
      * Encapsulate a threading service.
      */
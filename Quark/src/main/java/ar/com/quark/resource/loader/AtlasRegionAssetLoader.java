@@ -0,0 +1,63 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.resource.loader;
+
+import ar.com.quark.render.texture.AtlasRegion;
+import ar.com.quark.render.texture.Texture;
+import ar.com.quark.resource.AssetKey;
+import ar.com.quark.resource.AssetLoader;
+import ar.com.quark.resource.AssetManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <code>AtlasRegionAssetLoader</code> encapsulate an {@link AssetLoader} for packing texture(s) into an atlas.
+ * <p>
+ * The texture is read by the {@link AssetLoader} of its format, and then inserted into the atlas of the
+ * {@link AtlasRegion.Descriptor}.
+ */
+public final class AtlasRegionAssetLoader implements AssetLoader<AtlasRegion, AtlasRegion.Descriptor> {
+    private final AssetLoader<Texture, Texture.Descriptor> mLoader;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param loader the loader of the texture being packed
+     */
+    public AtlasRegionAssetLoader(AssetLoader<Texture, Texture.Descriptor> loader) {
+        mLoader = loader;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(AssetManager manager, AssetKey<AtlasRegion, AtlasRegion.Descriptor> key, InputStream input)
+            throws IOException {
+        final AssetKey<Texture, Texture.Descriptor> texture
+                = new AssetKey<>(key.getFolder() + key.getFilename(), key.getDescriptor().getTexture());
+
+        mLoader.load(manager, texture, input);
+
+        if (texture.getAsset() == null) {
+            throw new IOException("Failed to read the texture of the region '" + key.getFilename() + "'");
+        }
+        key.setAsset(key.getDescriptor().getAtlas().insert(texture.getAsset()));
+    }
+}
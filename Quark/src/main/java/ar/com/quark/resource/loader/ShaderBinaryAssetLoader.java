@@ -20,21 +20,50 @@ package ar.com.quark.resource.loader;
 import ar.com.quark.render.RenderCapabilities;
 import ar.com.quark.render.shader.Shader;
 import ar.com.quark.render.shader.ShaderParser;
+import ar.com.quark.render.shader.ShaderTemplate;
+import ar.com.quark.resource.AssetDescriptor;
 import ar.com.quark.resource.AssetManager;
 import ar.com.quark.resource.AssetKey;
+import ar.com.quark.resource.AssetListener;
 import ar.com.quark.resource.AssetLoader;
 import ar.com.quark.system.utility.array.Int8Array;
 import ar.com.quark.system.utility.array.ArrayFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * <code>ShaderAssetLoader</code> encapsulate an {@link AssetLoader} for loading shader(s).
+ * <p>
+ * Every variant of a shader (one per set of define(s) of {@link Shader.Descriptor}) is created from the same
+ * {@link ShaderTemplate}, so a shader is only parsed once.
+ * <p>
+ * NOTE: The loader must be registered as an {@link AssetListener} so the template of a shader is removed once every
+ *       variant created from it has been disposed.
  */
-public final class ShaderBinaryAssetLoader implements AssetLoader<Shader, Shader.Descriptor> {
+public final class ShaderBinaryAssetLoader implements AssetLoader<Shader, Shader.Descriptor>, AssetListener {
     private final ShaderParser mParser;
 
+    /**
+     * Hold the template of every shader parsed (by name).
+     */
+    private final Map<String, ShaderTemplate> mTemplates = new HashMap<>();
+
+    /**
+     * Hold the name (in cache) of every variant alive of each template (by name).
+     */
+    private final Map<String, Set<String>> mVariants = new HashMap<>();
+
+    /**
+     * Hold the name of the template of every variant alive (by name in cache).
+     */
+    private final Map<String, String> mOwners = new HashMap<>();
+
     /**
      * <p>Constructor</p>
      */
@@ -48,25 +77,114 @@ public final class ShaderBinaryAssetLoader implements AssetLoader<Shader, Shader
     @Override
     public void load(AssetManager manager, AssetKey<Shader, Shader.Descriptor> key, InputStream input)
             throws IOException {
-        //!
-        //! Allocate an array and load the entire content in it.
-        //!
-        final Int8Array content = ArrayFactory.allocateInt8Array(input.available());
+        final String name = key.getFolder() + key.getFilename();
+        final AssetDescriptor descriptor = ((AssetKey<?, ?>) key).getDescriptor();
+
+        ShaderTemplate template;
+
+        synchronized (mTemplates) {
+            template = mTemplates.get(name);
 
-        byte[] bytes = new byte[1024];
+            if (template == null) {
+                //!
+                //! Allocate an array and load the entire content in it.
+                //!
+                final Int8Array content = ArrayFactory.allocateInt8Array(input.available());
 
-        while (input.available() > 0) {
-            content.write(bytes, 0, input.read(bytes));
+                byte[] bytes = new byte[1024];
+
+                while (input.available() > 0) {
+                    content.write(bytes, 0, input.read(bytes));
+                }
+
+                //!
+                //! Parse the shader.
+                //!
+                template = mParser.parse(content);
+
+                //!
+                //! Dispose the array.
+                //!
+                ArrayFactory.free(content);
+            }
         }
 
         //!
-        //! Parse the shader.
+        //! Create the variant of the shader.
+        //!
+        //! NOTE: A shader loaded without a descriptor of its own has no define(s).
         //!
-        key.setAsset(mParser.generate(content));
+        key.setAsset(template.create(descriptor instanceof Shader.Descriptor
+                ? ((Shader.Descriptor) descriptor).getProcessor()
+                : Collections.emptyMap()));
 
         //!
-        //! Dispose the array.
+        //! Keep the template only while a variant (in cache) created from it is alive, a variant that isn't
+        //! cacheable is never notified as disposed.
         //!
-        ArrayFactory.free(content);
+        if (descriptor.isCacheable()) {
+            final String variant = descriptor.getVariant();
+            final String owner = (variant.isEmpty() ? name : name + "#" + variant);
+
+            synchronized (mTemplates) {
+                if (!mTemplates.containsKey(name)) {
+                    mTemplates.put(name, template);
+                    mVariants.put(name, new HashSet<>());
+                }
+                mVariants.get(name).add(owner);
+                mOwners.put(owner, name);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onAssetRequested(String filename) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onAssetLoaded(String filename) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onAssetFailed(String filename) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onAssetDisposed(String filename) {
+        synchronized (mTemplates) {
+            final String name = mOwners.remove(filename);
+
+            if (name != null) {
+                final Set<String> variants = mVariants.get(name);
+
+                if (variants.remove(filename) && variants.isEmpty()) {
+                    mVariants.remove(name);
+                    mTemplates.remove(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Remove every template parsed (so the shader(s) are parsed again)</p>
+     */
+    public void clear() {
+        synchronized (mTemplates) {
+            mTemplates.clear();
+            mVariants.clear();
+            mOwners.clear();
+        }
     }
 }
@@ -29,6 +29,11 @@ public abstract class Manageable {
     protected int mHandle;
     protected int mFlag;
 
+    /**
+     * Hold the number of byte(s) allocated by the component (GPU-side memory).
+     */
+    protected long mMemory;
+
     /**
      * <p>Constructor</p>
      * <p>
@@ -73,6 +78,28 @@ public abstract class Manageable {
         return mHandle;
     }
 
+    /**
+     * <p>Change the number of byte(s) allocated by the component (GPU-side memory)</p>
+     *
+     * @param memory the new number of byte(s) allocated by the component
+     *
+     * @return the previous number of byte(s) allocated by the component
+     */
+    public final long setMemory(long memory) {
+        final long lastMemory = mMemory;
+        mMemory = memory;
+        return lastMemory;
+    }
+
+    /**
+     * <p>Get the number of byte(s) allocated by the component (GPU-side memory)</p>
+     *
+     * @return the number of byte(s) allocated by the component
+     */
+    public final long getMemory() {
+        return mMemory;
+    }
+
     /**
      * <p>Indicates the component has been updated</p>
      */